@@ -20,6 +20,8 @@
 import jakarta.persistence.metamodel.Attribute;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.collection.internal.PagedList;
+import org.hibernate.collection.internal.PagedMap;
 import org.hibernate.collection.spi.PersistentBag;
 import org.hibernate.collection.spi.PersistentList;
 import org.hibernate.collection.spi.PersistentMap;
@@ -27,13 +29,19 @@
 import org.hibernate.collection.spi.PersistentSortedMap;
 import org.hibernate.collection.spi.PersistentSortedSet;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.BulkInitializer;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndexRange;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.collection.spi.LazyInitializable;
 
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
@@ -139,6 +147,33 @@ else if ( isPersistentAttributeInterceptable( proxy ) ) {
 		}
 	}
 
+	/**
+	 * Force initialization of the given proxies and persistent collections,
+	 * and then of the associations reachable from them along the given paths.
+	 * Uninitialized proxies are grouped by entity type, and uninitialized
+	 * collections by collection role, and each group is loaded using a batch
+	 * loader, so that a graph of detached objects may be initialized in a
+	 * few round trips before the session is closed.
+	 * <p>
+	 * For example, if {@code orders} is a list of {@code Order} entities,
+	 * this initializes the line items of every order, and the product of
+	 * every line item, using one select for the line items and one for the
+	 * products:
+	 * <pre>
+	 * Hibernate.initializeAll(session, orders, "lineItems.product");
+	 * </pre>
+	 *
+	 * @param session the session with which the objects are associated
+	 * @param objects entity instances, proxies, or persistent collections
+	 * @param paths paths of association names separated by dots
+	 * @throws HibernateException if a proxy or collection cannot be initialized
+	 *
+	 * @since 7.0.1
+	 */
+	public static void initializeAll(Session session, Collection<?> objects, String... paths) {
+		new BulkInitializer( (SharedSessionContractImplementor) session ).initializeAll( objects, paths );
+	}
+
 	/**
 	 * Determines if the given proxy or persistent collection is initialized.
 	 * <p>
@@ -246,6 +281,92 @@ public static <T> T get(List<T> list, int key) {
 				: list.get( key );
 	}
 
+	/**
+	 * Obtain a read-only view of the given persistent list which fetches the
+	 * elements of the list from the database in pages of the given size, as
+	 * they are accessed, without fetching the whole state of the list. Only
+	 * the most recently fetched page is held by the view. The size of the
+	 * list is obtained using a {@code count} query.
+	 * <p>
+	 * If the elements of the list are entities, each fetched element becomes
+	 * managed by the session, which holds it until it is evicted, or until
+	 * the session is closed. To iterate a very large list of entities using
+	 * bounded memory, the caller must {@linkplain Session#evict evict} each
+	 * element once it is done with it.
+	 * <p>
+	 * If the given list is not an uninitialized persistent list, an
+	 * unmodifiable view of the list is returned.
+	 *
+	 * @param list a persistent list associated with an open session
+	 * @param pageSize the number of elements to fetch at once
+	 * @return a read-only view of the list
+	 *
+	 * @throws IllegalArgumentException if the list is a bag, or its
+	 *                                  index is not mapped to a single column
+	 *
+	 * @since 7.0.1
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> paged(List<T> list, int pageSize) {
+		if ( list instanceof PersistentCollection<?> persistentCollection
+				&& !persistentCollection.wasInitialized() ) {
+			checkPageable( persistentCollection );
+			return new PagedList<>( (PersistentCollection<T>) persistentCollection, pageSize );
+		}
+		else {
+			return unmodifiableList( list );
+		}
+	}
+
+	/**
+	 * Obtain a read-only view of the given persistent map which, when iterated,
+	 * fetches the entries of the map from the database in pages of the given
+	 * size, in the order of their keys, without fetching the whole state of
+	 * the map. Only the current page is held by the view. The size of the
+	 * map is obtained using a {@code count} query.
+	 * <p>
+	 * If the values of the map are entities, each fetched value becomes
+	 * managed by the session, which holds it until it is evicted, or until
+	 * the session is closed.
+	 * <p>
+	 * If the given map is not an uninitialized persistent map, an unmodifiable
+	 * view of the map is returned.
+	 *
+	 * @param map a persistent map associated with an open session
+	 * @param pageSize the number of entries to fetch at once
+	 * @return a read-only view of the map
+	 *
+	 * @throws IllegalArgumentException if the key of the map is not
+	 *                                  mapped to a single basic column
+	 *
+	 * @since 7.0.1
+	 */
+	public static <K,V> Map<K,V> paged(Map<K,V> map, int pageSize) {
+		if ( map instanceof PersistentCollection<?> persistentCollection
+				&& !persistentCollection.wasInitialized() ) {
+			checkPageable( persistentCollection );
+			return new PagedMap<>( persistentCollection, pageSize );
+		}
+		else {
+			return unmodifiableMap( map );
+		}
+	}
+
+	private static void checkPageable(PersistentCollection<?> collection) {
+		final SharedSessionContractImplementor session = collection.getSession();
+		// a detached collection fails when first accessed
+		if ( session != null && collection.getRole() != null ) {
+			final PluralAttributeMapping attributeMapping =
+					session.getFactory().getMappingMetamodel()
+							.getCollectionDescriptor( collection.getRole() )
+							.getAttributeMapping();
+			if ( !CollectionElementLoaderByIndexRange.supports( attributeMapping ) ) {
+				throw new IllegalArgumentException( "Collection '" + collection.getRole()
+						+ "' cannot be paged, since it does not have an index mapped to a single basic column" );
+			}
+		}
+	}
+
 	/**
 	 * Get the true, underlying class of a proxied entity. This operation will
 	 * initialize a proxy by side effect.
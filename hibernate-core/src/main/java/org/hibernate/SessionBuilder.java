@@ -212,4 +212,19 @@ public interface SessionBuilder {
 	 * @since 7.0
 	 */
 	SessionBuilder identifierRollback(boolean identifierRollback);
+
+	/**
+	 * Should the session be read-only? In a read-only session, every
+	 * entity is loaded in {@linkplain Session#setDefaultReadOnly read-only
+	 * mode}, so that no snapshot of its state is kept, the session is never
+	 * flushed, and any attempt to persist, merge, or remove an entity, or to
+	 * execute a mutation query, is rejected.
+	 *
+	 * @param readOnly Should the session be read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 7.0.1
+	 */
+	SessionBuilder readOnly(boolean readOnly);
 }
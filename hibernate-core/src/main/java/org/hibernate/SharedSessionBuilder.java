@@ -122,4 +122,7 @@ public interface SharedSessionBuilder extends SessionBuilder {
 
 	@Override
 	SharedSessionBuilder identifierRollback(boolean identifierRollback);
+
+	@Override
+	SharedSessionBuilder readOnly(boolean readOnly);
 }
@@ -160,8 +160,12 @@ public void doAfterTransactionCompletion(boolean success, SharedSessionContractI
 
 	protected void postInsert() {
 		if ( isDelayed ) {
-			getSession().getPersistenceContextInternal()
-					.replaceDelayedEntityIdentityInsertKeys( delayedEntityKey, generatedId );
+			final PersistenceContext persistenceContext = getSession().getPersistenceContextInternal();
+			persistenceContext.replaceDelayedEntityIdentityInsertKeys( delayedEntityKey, generatedId );
+			if ( !isVeto() ) {
+				// the entity now exists in the database, just as after any other executed insert
+				persistenceContext.getEntry( getInstance() ).postInsert( getState() );
+			}
 		}
 		getEventListenerGroups().eventListenerGroup_POST_INSERT
 				.fireLazyEventOnEachListener( this::newPostInsertEvent, PostInsertEventListener::onPostInsert );
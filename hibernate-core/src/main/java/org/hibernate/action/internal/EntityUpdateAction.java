@@ -4,6 +4,8 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.Arrays;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
@@ -12,6 +14,7 @@
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
+import org.hibernate.engine.spi.ComparableExecutable;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -139,6 +142,35 @@ protected NaturalIdMapping getNaturalIdMapping() {
 		return naturalIdMapping;
 	}
 
+	@Override
+	public int compareTo(ComparableExecutable o) {
+		if ( o instanceof EntityUpdateAction that
+				&& getEntityName().equals( that.getEntityName() )
+				&& getPersister().getEntityMetamodel().isDynamicUpdate()
+				&& getSession().getFactory().getSessionFactoryOptions().isOrderUpdatesByShapeEnabled() ) {
+			// with dynamic update, the SQL depends on the dirty fields,
+			// so group together updates of the same fields, which may
+			// then be batched, at the cost of no longer acquiring the
+			// row locks in primary key order
+			final int shapeComparison = compareUpdateShape( that );
+			if ( shapeComparison != 0 ) {
+				return shapeComparison;
+			}
+		}
+		return super.compareTo( o );
+	}
+
+	private int compareUpdateShape(EntityUpdateAction that) {
+		if ( dirtyFields == null || that.dirtyFields == null ) {
+			// unknown dirtiness means that all fields are updated
+			return dirtyFields == that.dirtyFields ? 0 : dirtyFields == null ? -1 : 1;
+		}
+		final int dirtyFieldsComparison = Arrays.compare( dirtyFields, that.dirtyFields );
+		return dirtyFieldsComparison != 0
+				? dirtyFieldsComparison
+				: Boolean.compare( hasDirtyCollection, that.hasDirtyCollection );
+	}
+
 	protected Object getPreviousNaturalIdValues() {
 		return previousNaturalIdValues;
 	}
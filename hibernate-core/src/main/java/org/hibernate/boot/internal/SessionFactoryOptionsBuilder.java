@@ -14,6 +14,7 @@
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -168,10 +169,20 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean checkNullability;
 	private boolean initializeLazyStateOutsideTransactions;
 	private int defaultBatchFetchSize;
+	private final boolean adaptiveBatchFetchEnabled;
+	private final boolean fetchPlanLearningEnabled;
+	private final boolean offHeapEntitySnapshotsEnabled;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private final boolean subselectFetchTemporaryTableEnabled;
+	private final boolean parallelCollectionFetchEnabled;
+	private final Executor parallelCollectionFetchExecutor;
+	private final int parallelCollectionFetchMaxConnections;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
+	private final boolean orderUpdatesByShapeEnabled;
+	private final boolean setBasedUpdatesEnabled;
+	private final boolean writeBehindInsertsEnabled;
 	private boolean orderInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
@@ -217,6 +228,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private Integer jdbcFetchSize;
+	private boolean adaptiveFetchSizeEnabled;
+	private int maximumAdaptiveFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -240,12 +253,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final boolean inClauseArrayParameterEnabled;
+	private final int parallelHydrationBatchSize;
+	private final Executor parallelHydrationExecutor;
 
 	private final boolean portableIntegerDivisionEnabled;
 	private final boolean jsonFunctionsEnabled;
 	private final boolean xmlFunctionsEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final boolean queryPhaseStatisticsEnabled;
 
 	private final Map<String, Object> defaultSessionProperties;
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -371,12 +388,24 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
+		adaptiveBatchFetchEnabled = getBoolean( ADAPTIVE_BATCH_FETCH, settings );
+		fetchPlanLearningEnabled = getBoolean( FETCH_PLAN_LEARNING, settings );
+		offHeapEntitySnapshotsEnabled = getBoolean( OFF_HEAP_ENTITY_SNAPSHOTS, settings );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
+		subselectFetchTemporaryTableEnabled = getBoolean( SUBSELECT_FETCH_TEMPORARY_TABLE, settings );
+		parallelCollectionFetchEnabled = getBoolean( PARALLEL_COLLECTION_FETCH, settings );
+		parallelCollectionFetchExecutor =
+				strategySelector.resolveStrategy( Executor.class,
+						settings.get( PARALLEL_COLLECTION_FETCH_EXECUTOR ) );
+		parallelCollectionFetchMaxConnections = getInt( PARALLEL_COLLECTION_FETCH_MAX_CONNECTIONS, settings, 4 );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
 
 		orderUpdatesEnabled = getBoolean( ORDER_UPDATES, settings );
+		orderUpdatesByShapeEnabled = getBoolean( ORDER_UPDATES_BY_SHAPE, settings );
+		setBasedUpdatesEnabled = getBoolean( SET_BASED_UPDATES, settings );
+		writeBehindInsertsEnabled = getBoolean( WRITE_BEHIND_INSERTS, settings );
 		orderInsertsEnabled = getBoolean( ORDER_INSERTS, settings );
 
 		callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, settings, true );
@@ -479,6 +508,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		adaptiveFetchSizeEnabled = getBoolean( ADAPTIVE_FETCH_SIZE, settings );
+		maximumAdaptiveFetchSize = getInt( MAX_FETCH_SIZE, settings, 1000 );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -518,6 +549,11 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		defaultSchema = getString( DEFAULT_SCHEMA, settings );
 
 		inClauseParameterPaddingEnabled = getBoolean( IN_CLAUSE_PARAMETER_PADDING, settings );
+		inClauseArrayParameterEnabled = getBoolean( IN_CLAUSE_ARRAY_PARAMETER, settings );
+		parallelHydrationBatchSize = getInt( PARALLEL_HYDRATION_BATCH_SIZE, settings, 0 );
+		parallelHydrationExecutor =
+				strategySelector.resolveStrategy( Executor.class,
+						settings.get( PARALLEL_HYDRATION_EXECUTOR ) );
 
 		portableIntegerDivisionEnabled = getBoolean( PORTABLE_INTEGER_DIVISION, settings );
 
@@ -526,6 +562,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 
 		queryStatisticsMaxSize =
 				getInt( QUERY_STATISTICS_MAX_SIZE, settings, Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE );
+		queryPhaseStatisticsEnabled = getBoolean( QUERY_PHASE_STATISTICS, settings );
 
 		unownedAssociationTransientCheck =
 				getBoolean( UNOWNED_ASSOCIATION_TRANSIENT_CHECK, settings, isJpaBootstrap() );
@@ -964,6 +1001,41 @@ public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	@Override
+	public boolean isFetchPlanLearningEnabled() {
+		return fetchPlanLearningEnabled;
+	}
+
+	@Override
+	public boolean isOffHeapEntitySnapshotsEnabled() {
+		return offHeapEntitySnapshotsEnabled;
+	}
+
+	@Override
+	public boolean isSubselectFetchTemporaryTableEnabled() {
+		return subselectFetchTemporaryTableEnabled;
+	}
+
+	@Override
+	public boolean isParallelCollectionFetchEnabled() {
+		return parallelCollectionFetchEnabled;
+	}
+
+	@Override
+	public Executor getParallelCollectionFetchExecutor() {
+		return parallelCollectionFetchExecutor;
+	}
+
+	@Override
+	public int getParallelCollectionFetchMaxConnections() {
+		return parallelCollectionFetchMaxConnections;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -984,6 +1056,21 @@ public boolean isOrderUpdatesEnabled() {
 		return orderUpdatesEnabled;
 	}
 
+	@Override
+	public boolean isOrderUpdatesByShapeEnabled() {
+		return orderUpdatesByShapeEnabled;
+	}
+
+	@Override
+	public boolean isSetBasedUpdatesEnabled() {
+		return setBasedUpdatesEnabled;
+	}
+
+	@Override
+	public boolean isWriteBehindInsertsEnabled() {
+		return writeBehindInsertsEnabled;
+	}
+
 	@Override
 	public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
@@ -1079,6 +1166,16 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveFetchSizeEnabled() {
+		return adaptiveFetchSizeEnabled;
+	}
+
+	@Override
+	public int getMaximumAdaptiveFetchSize() {
+		return maximumAdaptiveFetchSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1179,6 +1276,21 @@ public boolean inClauseParameterPaddingEnabled() {
 		return inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return inClauseArrayParameterEnabled;
+	}
+
+	@Override
+	public int getParallelHydrationBatchSize() {
+		return parallelHydrationBatchSize;
+	}
+
+	@Override
+	public Executor getParallelHydrationExecutor() {
+		return parallelHydrationExecutor;
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return jsonFunctionsEnabled;
@@ -1204,6 +1316,11 @@ public int getQueryStatisticsMaxSize() {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public boolean isQueryPhaseStatisticsEnabled() {
+		return queryPhaseStatisticsEnabled;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
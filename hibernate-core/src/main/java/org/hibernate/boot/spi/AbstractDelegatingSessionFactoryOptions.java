@@ -6,6 +6,7 @@
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -209,6 +210,11 @@ public boolean isOrderUpdatesEnabled() {
 		return delegate.isOrderUpdatesEnabled();
 	}
 
+	@Override
+	public boolean isOrderUpdatesByShapeEnabled() {
+		return delegate.isOrderUpdatesByShapeEnabled();
+	}
+
 	@Override
 	public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
@@ -319,6 +325,16 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveFetchSizeEnabled() {
+		return delegate.isAdaptiveFetchSizeEnabled();
+	}
+
+	@Override
+	public int getMaximumAdaptiveFetchSize() {
+		return delegate.getMaximumAdaptiveFetchSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -438,6 +454,11 @@ public boolean inClauseParameterPaddingEnabled() {
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return delegate.inClauseArrayParameterEnabled();
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return delegate.isJsonFunctionsEnabled();
@@ -458,6 +479,11 @@ public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public boolean isQueryPhaseStatisticsEnabled() {
+		return delegate.isQueryPhaseStatisticsEnabled();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -577,4 +603,59 @@ public FlushMode getInitialSessionFlushMode() {
 	public LockOptions getDefaultLockOptions() {
 		return delegate.getDefaultLockOptions();
 	}
+
+	@Override
+	public int getParallelHydrationBatchSize() {
+		return delegate.getParallelHydrationBatchSize();
+	}
+
+	@Override
+	public Executor getParallelHydrationExecutor() {
+		return delegate.getParallelHydrationExecutor();
+	}
+
+	@Override
+	public boolean isSetBasedUpdatesEnabled() {
+		return delegate.isSetBasedUpdatesEnabled();
+	}
+
+	@Override
+	public boolean isWriteBehindInsertsEnabled() {
+		return delegate.isWriteBehindInsertsEnabled();
+	}
+
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
+	@Override
+	public boolean isFetchPlanLearningEnabled() {
+		return delegate.isFetchPlanLearningEnabled();
+	}
+
+	@Override
+	public boolean isOffHeapEntitySnapshotsEnabled() {
+		return delegate.isOffHeapEntitySnapshotsEnabled();
+	}
+
+	@Override
+	public boolean isSubselectFetchTemporaryTableEnabled() {
+		return delegate.isSubselectFetchTemporaryTableEnabled();
+	}
+
+	@Override
+	public boolean isParallelCollectionFetchEnabled() {
+		return delegate.isParallelCollectionFetchEnabled();
+	}
+
+	@Override
+	public Executor getParallelCollectionFetchExecutor() {
+		return delegate.getParallelCollectionFetchExecutor();
+	}
+
+	@Override
+	public int getParallelCollectionFetchMaxConnections() {
+		return delegate.getParallelCollectionFetchMaxConnections();
+	}
 }
@@ -6,6 +6,7 @@
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -290,6 +291,15 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isOrderUpdatesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#ORDER_UPDATES_BY_SHAPE
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isOrderUpdatesByShapeEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.BatchSettings#ORDER_INSERTS
 	 */
@@ -423,6 +433,20 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE
+	 */
+	default boolean isAdaptiveFetchSizeEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#MAX_FETCH_SIZE
+	 */
+	default int getMaximumAdaptiveFetchSize() {
+		return 1000;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 *
@@ -571,6 +595,13 @@ default boolean inClauseParameterPaddingEnabled() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER
+	 */
+	default boolean inClauseArrayParameterEnabled() {
+		return false;
+	}
+
 	/**
 	 * The number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that should be stored by {@link org.hibernate.stat.Statistics}.
@@ -579,6 +610,18 @@ default boolean inClauseParameterPaddingEnabled() {
 	 */
 	int getQueryStatisticsMaxSize();
 
+	/**
+	 * Should the time spent in each phase of the execution of a query be
+	 * collected by {@link org.hibernate.stat.Statistics}?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#QUERY_PHASE_STATISTICS
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isQueryPhaseStatisticsEnabled() {
+		return false;
+	}
+
 	/**
 	 * Should JPA entity lifecycle callbacks be processed by
 	 * the {@link org.hibernate.event.spi.EventEngine} and
@@ -777,4 +820,103 @@ default JavaType<Object> getDefaultTenantIdentifierJavaType() {
 	 * @see org.hibernate.Session#setProperty(String, Object)
 	 */
 	Map<String, Object> getDefaultSessionProperties();
+
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_BATCH_SIZE
+	 *
+	 * @since 7.0.1
+	 */
+	default int getParallelHydrationBatchSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_EXECUTOR
+	 *
+	 * @since 7.0.1
+	 */
+	default Executor getParallelHydrationExecutor() {
+		return null;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#SET_BASED_UPDATES
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isSetBasedUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#WRITE_BEHIND_INSERTS
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isWriteBehindInsertsEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#FETCH_PLAN_LEARNING
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isFetchPlanLearningEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#OFF_HEAP_ENTITY_SNAPSHOTS
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isOffHeapEntitySnapshotsEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_TEMPORARY_TABLE
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isSubselectFetchTemporaryTableEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#PARALLEL_COLLECTION_FETCH
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isParallelCollectionFetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#PARALLEL_COLLECTION_FETCH_EXECUTOR
+	 *
+	 * @since 7.0.1
+	 */
+	default Executor getParallelCollectionFetchExecutor() {
+		return null;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#PARALLEL_COLLECTION_FETCH_MAX_CONNECTIONS
+	 *
+	 * @since 7.0.1
+	 */
+	default int getParallelCollectionFetchMaxConnections() {
+		return 4;
+	}
 }
@@ -21,6 +21,7 @@
 import org.hibernate.bytecode.spi.BasicProxyFactory;
 import org.hibernate.engine.spi.PrimeAmongSecondarySupertypes;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyConfiguration;
 import org.hibernate.proxy.ProxyFactory;
 
@@ -34,12 +35,16 @@
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bind.annotation.Pipe;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.pool.TypePool;
 
 import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.isEquals;
 import static net.bytebuddy.matcher.ElementMatchers.isFinalizer;
+import static net.bytebuddy.matcher.ElementMatchers.isHashCode;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.isSynthetic;
 import static net.bytebuddy.matcher.ElementMatchers.isVirtual;
 import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
@@ -260,6 +265,23 @@ public Unloaded<?> make(TypePool typePool, Function<ByteBuddy, DynamicType.Build
 		return make( typePool, makeProxyFunction.apply( byteBuddy ) );
 	}
 
+	/**
+	 * Make, without loading it, a class generated by ByteBuddy, under the name
+	 * which {@link #load(Class, String, BiFunction)} would give it. This allows
+	 * the class to be generated at build time.
+	 *
+	 * @param typePool The ByteBuddy TypePool used to resolve the types involved.
+	 * @param className The name under which the class shall be created.
+	 * @param makeClassFunction A function building the class.
+	 * @return The unloaded generated class.
+	 *
+	 * @since 7.0.1
+	 */
+	public Unloaded<?> make(TypePool typePool, String className,
+			BiFunction<ByteBuddy, NamingStrategy, DynamicType.Builder<?>> makeClassFunction) {
+		return make( typePool, makeClassFunction.apply( byteBuddy, new FixedNamingStrategy( className ) ) );
+	}
+
 	private Unloaded<?> make(DynamicType.Builder<?> builder) {
 		return make( null, builder );
 	}
@@ -296,8 +318,10 @@ public static class ProxyDefinitionHelpers {
 		private final ElementMatcher<? super MethodDescription> groovyGetMetaClassFilter;
 		private final ElementMatcher<? super MethodDescription> virtualNotFinalizerFilter;
 		private final ElementMatcher<? super MethodDescription> proxyNonInterceptedMethodFilter;
+		private final ElementMatcher<? super MethodDescription> proxyForwardedMethodFilter;
 		private final List<ElementMatcher<? super MethodDescription>> toFullyIgnore = new ArrayList<>();
 		private final MethodDelegation delegateToInterceptorDispatcherMethodDelegation;
+		private final MethodDelegation delegateToForwardingInterceptorDispatcherMethodDelegation;
 		private final FieldAccessor.PropertyConfigurable interceptorFieldAccessor;
 
 		private ProxyDefinitionHelpers() {
@@ -309,6 +333,16 @@ private ProxyDefinitionHelpers() {
 					// those need to be executed on the actual entity.
 					.and( not( nameStartsWith( EnhancerConstants.PERSISTENT_FIELD_READER_PREFIX ) ) )
 					.and( not( nameStartsWith( EnhancerConstants.PERSISTENT_FIELD_WRITER_PREFIX ) ) );
+			// The methods which an initialized proxy may forward to the proxied object without
+			// reflection: the forwarder is generated in the package of the proxy class, so the
+			// method must be accessible from anywhere. The interceptor still decides whether a
+			// call is forwarded, since the identifier getter and setter are only known at runtime.
+			this.proxyForwardedMethodFilter = isVirtual().and( not( isFinalizer() ) )
+					.and( isPublic() ).and( isDeclaredBy( isPublic() ) )
+					.and( not( isDeclaredBy( Object.class ) ) )
+					.and( not( isDeclaredBy( HibernateProxy.class ) ) )
+					.and( not( isEquals() ) ).and( not( isHashCode() ) )
+					.and( not( named( "writeReplace" ) ) );
 
 			// Populate the toFullyIgnore list
 			for ( Method m : PrimeAmongSecondarySupertypes.class.getMethods() ) {
@@ -319,6 +353,9 @@ private ProxyDefinitionHelpers() {
 			}
 
 			this.delegateToInterceptorDispatcherMethodDelegation = MethodDelegation.to( ProxyConfiguration.InterceptorDispatcher.class );
+			this.delegateToForwardingInterceptorDispatcherMethodDelegation = MethodDelegation.withDefaultConfiguration()
+					.withBinders( Pipe.Binder.install( ProxyConfiguration.Forwarder.class ) )
+					.to( ProxyConfiguration.ForwardingInterceptorDispatcher.class );
 
 			this.interceptorFieldAccessor = FieldAccessor.ofField( ProxyConfiguration.INTERCEPTOR_FIELD_NAME )
 					.withAssigner( Assigner.DEFAULT, Assigner.Typing.DYNAMIC );
@@ -340,6 +377,20 @@ public MethodDelegation getDelegateToInterceptorDispatcherMethodDelegation() {
 			return delegateToInterceptorDispatcherMethodDelegation;
 		}
 
+		/**
+		 * @since 7.0.1
+		 */
+		public ElementMatcher<? super MethodDescription> getProxyForwardedMethodFilter() {
+			return proxyForwardedMethodFilter;
+		}
+
+		/**
+		 * @since 7.0.1
+		 */
+		public MethodDelegation getDelegateToForwardingInterceptorDispatcherMethodDelegation() {
+			return delegateToForwardingInterceptorDispatcherMethodDelegation;
+		}
+
 		public FieldAccessor.PropertyConfigurable getInterceptorFieldAccessor() {
 			return interceptorFieldAccessor;
 		}
@@ -35,16 +35,74 @@ public interface BatchSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * Enable adaptive sizing of JDBC batches. When enabled, the number of statements
+	 * batched together is tuned separately for each distinct statement, based on the
+	 * observed size of the bound parameter values and the time taken to execute the
+	 * batch. Statements with wide rows, for example rows with LOB values, are batched
+	 * in smaller groups, while statements with narrow rows are batched in larger groups.
+	 * <p>
+	 * Batching must still be enabled using {@link #STATEMENT_BATCH_SIZE}, whose value
+	 * is the initial size of the batches of each statement. The size is always between
+	 * {@link #MIN_BATCH_SIZE} and {@link #MAX_BATCH_SIZE}.
+	 * <p>
+	 * This setting has no effect when an explicit {@link #BUILDER} is specified.
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchBuilder
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 */
+	String ADAPTIVE_BATCH_SIZE = "hibernate.jdbc.batch.adaptive_size";
+
+	/**
+	 * The smallest size of a batch chosen by {@linkplain #ADAPTIVE_BATCH_SIZE adaptive
+	 * batch sizing}.
+	 *
+	 * @settingDefault 1
+	 *
+	 * @since 7.0.1
+	 */
+	String MIN_BATCH_SIZE = "hibernate.jdbc.batch.min_size";
+
+	/**
+	 * The largest size of a batch chosen by {@linkplain #ADAPTIVE_BATCH_SIZE adaptive
+	 * batch sizing}.
+	 *
+	 * @settingDefault 1000
+	 *
+	 * @since 7.0.1
+	 */
+	String MAX_BATCH_SIZE = "hibernate.jdbc.batch.max_size";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyOrderingOfUpdates
+	 * @see #ORDER_UPDATES_BY_SHAPE
 	 *
 	 * @settingDefault {@code false}
 	 */
 	String ORDER_UPDATES = "hibernate.order_updates";
 
+	/**
+	 * When {@linkplain #ORDER_UPDATES ordering of updates} is enabled, order the updates
+	 * of an entity with {@linkplain org.hibernate.annotations.DynamicUpdate dynamic updates}
+	 * by the columns they set before ordering them by primary key value, so that updates
+	 * which set the same columns end up next to each other, and may be batched.
+	 * <p>
+	 * This gives up the guarantee that concurrent transactions updating the same rows
+	 * acquire their row locks in the same order, which ordering by primary key value
+	 * alone provides, and may therefore lead to deadlocks.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 */
+	String ORDER_UPDATES_BY_SHAPE = "hibernate.order_updates_by_shape";
+
 	/**
 	 * Enable ordering of insert statements by primary key value, for the purpose of more
 	 * efficient JDBC batching.
@@ -55,6 +113,51 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable set-based execution of batched updates. When enabled, the updates of
+	 * an entity which are batched together are not sent to the database row by row.
+	 * Instead, the new column values and the identifiers, versions, and partition keys
+	 * of all rows in the batch are passed as array parameters to a single statement
+	 * per table, which updates all the rows at once.
+	 * <p>
+	 * This requires a dialect which {@linkplain org.hibernate.dialect.Dialect#getSetBasedUpdateString
+	 * supports such statements}, and has no effect on updates which would otherwise not
+	 * be batched. Updates of entities with custom SQL, custom column write expressions,
+	 * converted column values, or a row id are always executed row by row. When a version
+	 * check fails, the exception reports the failure for the whole batch rather than for
+	 * a particular entity.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 * @see #ORDER_UPDATES
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 */
+	String SET_BASED_UPDATES = "hibernate.jdbc.set_based_updates";
+
+	/**
+	 * Enable merging of changes made to a newly-persistent entity into its pending
+	 * insert. When enabled, and an entity whose insert has not yet been executed is
+	 * modified before a flush, the modified state is written by the {@code INSERT}
+	 * statement itself, instead of by a subsequent {@code UPDATE} statement. Together
+	 * with the deferral of inserts across {@linkplain org.hibernate.FlushMode#AUTO
+	 * automatic flushes} which do not affect the tables being queried, this allows a
+	 * batch process to modify a new entity many times while sending just one statement
+	 * for it to the database.
+	 * <p>
+	 * Only changes to basic attributes are merged. A change to an association, an
+	 * embedded attribute, or a collection, or to an entity with a natural id, is
+	 * always written by an {@code UPDATE} statement. The
+	 * {@link org.hibernate.Interceptor#onFlushDirty onFlushDirty()} callback is not
+	 * called for a merged change.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 */
+	String WRITE_BEHIND_INSERTS = "hibernate.jdbc.write_behind_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
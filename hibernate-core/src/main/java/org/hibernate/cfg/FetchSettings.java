@@ -46,4 +46,135 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * When enabled, Hibernate detects lazy fetching which results in "N+1 selects",
+	 * that is, when the uninitialized proxies or collections of a certain entity or
+	 * collection role are fetched one at a time, and switches to batch fetching for
+	 * that role.
+	 * <p>
+	 * A role is recognized as causing N+1 selects when, within one session, several
+	 * proxies or collections of the role are fetched one at a time while other ones
+	 * are waiting to be fetched. From then on, the proxies and collections of that
+	 * role are batch fetched, in every session, using a batch size learned from the
+	 * number of proxies or collections waiting to be fetched. Each detection is
+	 * reported to the {@linkplain org.hibernate.stat.Statistics#getNPlusOneDetectionCount
+	 * statistics}, to the {@linkplain org.hibernate.event.monitor.spi.EventMonitor
+	 * event monitor}, and to the log.
+	 * <p>
+	 * Entities and collections with an explicit {@linkplain BatchSize batch size}, or
+	 * with a {@linkplain #DEFAULT_BATCH_FETCH_SIZE default batch size}, are not affected.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 */
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
+	/**
+	 * When enabled, Hibernate learns a fetch plan for each HQL query returning
+	 * entities, from the lazy associations and attributes of its results which are
+	 * initialized after the query executes, and applies the learned fetch plan as a
+	 * {@linkplain org.hibernate.graph.GraphSemantic#LOAD load graph} to subsequent
+	 * executions of the query.
+	 * <p>
+	 * The learned fetch plans may be listed, and learning may be switched off at
+	 * runtime, via the {@link org.hibernate.engine.spi.FetchPlanLearner}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.spi.SessionFactoryImplementor#getFetchPlanLearner()
+	 *
+	 * @since 7.0.1
+	 */
+	String FETCH_PLAN_LEARNING = "hibernate.fetch_plan_learning";
+
+	/**
+	 * When enabled, {@linkplain org.hibernate.annotations.FetchMode#SUBSELECT subselect
+	 * fetching} stores the identifiers of the owners of the collections in a temporary
+	 * table, the first time a collection is subselect fetched within a transaction, and
+	 * every collection subsequently subselect fetched for the same owners is restricted
+	 * by a subquery against this table. The query which loaded the owners is therefore
+	 * executed again only once, no matter how many collection roles are fetched, instead
+	 * of once for each collection role. The table holds the owners loaded by a single
+	 * query per entity hierarchy and transaction, and collections of owners loaded by
+	 * any other query are subselect fetched as usual.
+	 * <p>
+	 * The temporary tables are of the {@linkplain org.hibernate.dialect.Dialect#getSupportedTemporaryTableKind
+	 * kind supported by the dialect}, and are created and dropped according to the same
+	 * settings as the temporary tables used for multi-table mutation queries. Outside a
+	 * transaction, subselect fetching is not affected.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 */
+	String SUBSELECT_FETCH_TEMPORARY_TABLE = "hibernate.subselect_fetch_temporary_table";
+
+	/**
+	 * When enabled, the collections which must be initialized immediately after a
+	 * load, for example, the collections fetched by subsequent select according to
+	 * an {@linkplain jakarta.persistence.EntityGraph entity graph}, are fetched in
+	 * parallel when they belong to more than one collection role. The selects are
+	 * executed by the {@linkplain #PARALLEL_COLLECTION_FETCH_EXECUTOR executor},
+	 * each on a connection obtained from the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}, and by
+	 * the thread which owns the session, on the connection of the session. The
+	 * results are then attached to the session by the thread which owns it.
+	 * <p>
+	 * The thread which owns the session never waits for a connection from the pool:
+	 * if the executor or the pool cannot provide what is needed, that thread fetches
+	 * the remaining collections itself, just as if they were not fetched in parallel.
+	 * <p>
+	 * Since these connections do not participate in the transaction of the session,
+	 * they do not see changes it made. Collections are therefore only fetched in
+	 * parallel in a {@linkplain org.hibernate.SessionBuilder#readOnly read-only session},
+	 * which never writes to the database, for collections which are not cached in the
+	 * second-level cache, when JTA transactions and multi-tenancy are not used, and
+	 * when an executor is specified.
+	 * <p>
+	 * The SQL is passed to the {@linkplain JdbcSettings#STATEMENT_INSPECTOR statement
+	 * inspector}, logged, and executed with the remaining transaction timeout and the
+	 * {@linkplain JdbcSettings#STATEMENT_FETCH_SIZE fetch size}. However, the parallel
+	 * selects are not reported to the JDBC statistics, or to the
+	 * {@link org.hibernate.engine.jdbc.spi.JdbcCoordinator} of the session.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #PARALLEL_COLLECTION_FETCH_EXECUTOR
+	 * @see #PARALLEL_COLLECTION_FETCH_MAX_CONNECTIONS
+	 *
+	 * @since 7.0.1
+	 */
+	String PARALLEL_COLLECTION_FETCH = "hibernate.parallel_collection_fetch";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} which executes the selects
+	 * of a {@linkplain #PARALLEL_COLLECTION_FETCH parallel collection fetch}, either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor}, for example, a container-managed
+	 *         {@code ManagedExecutorService},
+	 *     <li>a {@link Class} representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * There is no point in the executor having more threads than the
+	 * {@linkplain #PARALLEL_COLLECTION_FETCH_MAX_CONNECTIONS maximum number of connections}.
+	 * If no executor is specified, collections are not fetched in parallel.
+	 *
+	 * @since 7.0.1
+	 */
+	String PARALLEL_COLLECTION_FETCH_EXECUTOR = "hibernate.parallel_collection_fetch_executor";
+
+	/**
+	 * The maximum number of connections used at the same time by one
+	 * {@linkplain #PARALLEL_COLLECTION_FETCH parallel collection fetch}, including
+	 * the connection of the session. At most one less connection is obtained from
+	 * the pool.
+	 *
+	 * @settingDefault {@code 4}
+	 *
+	 * @since 7.0.1
+	 */
+	String PARALLEL_COLLECTION_FETCH_MAX_CONNECTIONS = "hibernate.parallel_collection_fetch_max_connections";
 }
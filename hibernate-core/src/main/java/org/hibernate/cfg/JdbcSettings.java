@@ -404,6 +404,38 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * When enabled, Hibernate remembers how many rows recent executions of a
+	 * query returned, and uses the 90th percentile of those row counts as the
+	 * JDBC fetch size of the next execution of the same query, so that the whole
+	 * result can usually be retrieved in a single round trip. The fetch size is
+	 * never smaller than the one the statement would otherwise use, that is, the
+	 * one given by {@value #STATEMENT_FETCH_SIZE} or the default of the driver,
+	 * and never larger than {@value #MAX_FETCH_SIZE}. When the fetch size of the
+	 * driver is {@code 0}, meaning that the driver decides by itself, it is left
+	 * alone.
+	 * <p>
+	 * A fetch size explicitly requested for a query always takes precedence.
+	 *
+	 * @see java.sql.PreparedStatement#setFetchSize(int)
+	 * @see org.hibernate.query.SelectionQuery#setFetchSize(int)
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 */
+	String ADAPTIVE_FETCH_SIZE = "hibernate.jdbc.adaptive_fetch_size";
+
+	/**
+	 * The largest JDBC fetch size which may be chosen when
+	 * {@value #ADAPTIVE_FETCH_SIZE} is enabled.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 7.0.1
+	 */
+	String MAX_FETCH_SIZE = "hibernate.jdbc.max_fetch_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results:
 	 * <ul>
@@ -176,6 +176,26 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the loaded state of a managed entity, against which it is
+	 * dirty-checked during flush, is kept in a compact encoding outside the Java
+	 * heap instead of in an array on the heap, and is decoded when needed. This
+	 * reduces the heap used by a session which loads a very large number of
+	 * entities, at the cost of decoding the state of each entity it flushes.
+	 * <p>
+	 * Only the state of an entity whose attributes are all of basic type is kept
+	 * off-heap, and the memory is released only when the session is cleared or
+	 * closed.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.internal.OffHeapEntitySnapshotStore
+	 *
+	 * @since 7.0.1
+	 */
+	@Incubating
+	String OFF_HEAP_ENTITY_SNAPSHOTS = "hibernate.off_heap_entity_snapshots";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
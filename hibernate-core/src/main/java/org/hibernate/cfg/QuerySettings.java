@@ -270,6 +270,77 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, specifies that a multi-valued parameter occurring in a SQL
+	 * {@code IN} predicate, for example {@code where id in (:ids)}, should be
+	 * bound as a single parameter of SQL array type, for example
+	 * {@code where id = any(?)}, when the dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 * prefers arrays for multi-valued parameters}.
+	 * <p>
+	 * The SQL then no longer depends on the number of arguments bound to the
+	 * parameter, so a single execution plan is used for any list size, and the
+	 * {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit limit}
+	 * on the number of bind parameters does not apply.
+	 * <p>
+	 * The array form is only used for basic-valued predicates without a
+	 * {@linkplain org.hibernate.type.descriptor.converter.spi.BasicValueConverter
+	 * value converter}, and when no {@code null} value is bound. Otherwise, the
+	 * parameter is expanded as usual, and {@value #IN_CLAUSE_PARAMETER_PADDING}
+	 * still applies.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#inClauseArrayParameterEnabled()
+	 *
+	 * @since 7.0.1
+	 */
+	String IN_CLAUSE_ARRAY_PARAMETER = "hibernate.query.in_clause_array_parameter";
+
+	/**
+	 * When set to a positive value, and an {@linkplain #PARALLEL_HYDRATION_EXECUTOR
+	 * executor} is specified, the results of read-only queries which return only
+	 * scalar values, for example, projections of basic attributes, possibly packaged
+	 * by a dynamic instantiation or a tuple transformer, are hydrated in parallel, in
+	 * batches of the given number of rows.
+	 * <p>
+	 * The JDBC {@link java.sql.ResultSet} is still read by the calling thread, and
+	 * so is every value extracted from it, including the parsing of values mapped
+	 * as JSON or XML, which happens during extraction. Only value conversion and
+	 * assembly of the result objects is delegated to the executor. The order of the
+	 * results is preserved. Any {@link org.hibernate.query.TupleTransformer} or
+	 * {@link jakarta.persistence.AttributeConverter} involved must therefore be
+	 * thread-safe.
+	 * <p>
+	 * Queries returning entities, embeddables, or collections, queries which are
+	 * not read-only, and queries whose results are cached are always hydrated on
+	 * the calling thread.
+	 *
+	 * @settingDefault {@code 0}, that is, disabled
+	 *
+	 * @see org.hibernate.query.SelectionQuery#setReadOnly(boolean)
+	 *
+	 * @since 7.0.1
+	 */
+	String PARALLEL_HYDRATION_BATCH_SIZE = "hibernate.query.parallel_hydration_batch_size";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} which hydrates the batches
+	 * of a {@linkplain #PARALLEL_HYDRATION_BATCH_SIZE parallel hydration}, either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor}, for example, a container-managed
+	 *         {@code ManagedExecutorService},
+	 *     <li>a {@link Class} representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * A batch the executor rejects is hydrated by the calling thread. If no executor
+	 * is specified, results are not hydrated in parallel.
+	 *
+	 * @since 7.0.1
+	 */
+	String PARALLEL_HYDRATION_EXECUTOR = "hibernate.query.parallel_hydration_executor";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -41,4 +41,18 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When statistics are {@linkplain #GENERATE_STATISTICS enabled}, specifies
+	 * that the time spent in each {@linkplain org.hibernate.stat.QueryPhase phase}
+	 * of the execution of a query should also be collected: parsing, translation
+	 * to SQL, rendering, JDBC execution, and hydration of the results.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0.1
+	 *
+	 * @see org.hibernate.stat.QueryStatistics#getPhaseHistogram(org.hibernate.stat.QueryPhase)
+	 */
+	String QUERY_PHASE_STATISTICS = "hibernate.statistics.query_phases";
 }
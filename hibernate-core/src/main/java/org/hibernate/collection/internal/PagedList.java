@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.internal;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.hibernate.collection.spi.PersistentCollection;
+
+/**
+ * A read-only view of an uninitialized persistent list which fetches its
+ * elements from the database one window at a time, keeping only the most
+ * recently fetched window. The size of the list is obtained using a
+ * {@code count} query. Elements which are entities are managed by the
+ * session, and are held by its persistence context, not by this view, until
+ * they are evicted.
+ *
+ * @see org.hibernate.Hibernate#paged(List, int)
+ *
+ * @since 7.0.1
+ */
+public class PagedList<E> extends AbstractList<E> implements RandomAccess {
+	private final PersistentCollection<E> collection;
+	private final int pageSize;
+
+	private Object[] window;
+	private int windowStart;
+
+	public PagedList(PersistentCollection<E> collection, int pageSize) {
+		if ( pageSize < 1 ) {
+			throw new IllegalArgumentException( "Page size must be positive" );
+		}
+		this.collection = collection;
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public int size() {
+		return collection.getSize();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		if ( index < 0 || index >= size() ) {
+			throw new IndexOutOfBoundsException( "Index " + index + " out of bounds for length " + size() );
+		}
+		if ( window == null || index < windowStart || index >= windowStart + pageSize ) {
+			fetchWindow( index - index % pageSize );
+		}
+		return (E) window[index - windowStart];
+	}
+
+	private void fetchWindow(int start) {
+		final List<Object[]> entries =
+				collection.elementsAfterIndex( start == 0 ? null : start - 1, pageSize );
+		// an index with no entry is a null element
+		final Object[] elements = new Object[pageSize];
+		for ( Object[] entry : entries ) {
+			final int position = (Integer) entry[0] - start;
+			if ( position < pageSize ) {
+				elements[position] = entry[1];
+			}
+		}
+		window = elements;
+		windowStart = start;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+
+/**
+ * A read-only view of an uninitialized persistent map which, when iterated,
+ * fetches its entries from the database one page at a time, in the order of
+ * their keys, keeping only the current page. The size of the map is
+ * obtained using a {@code count} query, and the value associated with a
+ * key is fetched by a query for that single entry. Values which are entities
+ * are managed by the session, and are held by its persistence context, not
+ * by this view, until they are evicted.
+ *
+ * @see org.hibernate.Hibernate#paged(Map, int)
+ *
+ * @since 7.0.1
+ */
+public class PagedMap<K,V> extends AbstractMap<K,V> {
+	private final PersistentCollection<?> collection;
+	private final int pageSize;
+
+	public PagedMap(PersistentCollection<?> collection, int pageSize) {
+		if ( pageSize < 1 ) {
+			throw new IllegalArgumentException( "Page size must be positive" );
+		}
+		this.collection = collection;
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public int size() {
+		return collection.getSize();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		return (V) collection.elementByIndex( key );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		// a persistent map never associates a key with null
+		return get( key ) != null;
+	}
+
+	@Override
+	public Set<Entry<K,V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<K,V>> iterator() {
+				return new PageIterator();
+			}
+
+			@Override
+			public int size() {
+				return PagedMap.this.size();
+			}
+		};
+	}
+
+	private class PageIterator implements Iterator<Entry<K,V>> {
+		private List<Object[]> page;
+		private int position;
+		private Object lastKey;
+
+		@Override
+		public boolean hasNext() {
+			if ( page == null ) {
+				page = collection.elementsAfterIndex( null, pageSize );
+			}
+			else if ( position == page.size() && page.size() == pageSize ) {
+				page = collection.elementsAfterIndex( lastKey, pageSize );
+				position = 0;
+			}
+			return position < page.size();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<K,V> next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final Object[] entry = page.get( position++ );
+			lastKey = entry[0];
+			return new SimpleImmutableEntry<>( (K) entry[0], (V) entry[1] );
+		}
+	}
+}
@@ -438,6 +438,23 @@ public Object elementByIndex(Object index) {
 		}
 	}
 
+	@Override
+	public List<Object[]> elementsAfterIndex(Object afterIndex, int maxResults) {
+		final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry( this );
+		if ( entry == null ) {
+			throwLazyInitializationExceptionIfNotConnected();
+			throwLazyInitializationException("collection not associated with session");
+			throw new AssertionFailure("impossible");
+		}
+		else {
+			if ( hasQueuedOperations() ) {
+				session.flush();
+			}
+			return entry.getLoadedPersister()
+					.getElementsAfterIndex( entry.getLoadedKey(), afterIndex, maxResults, session );
+		}
+	}
+
 	protected int getCachedSize() {
 		return cachedSize;
 	}
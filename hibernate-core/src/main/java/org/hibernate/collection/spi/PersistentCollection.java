@@ -509,6 +509,22 @@ default boolean isDirectlyProvidedCollection(Object collection) {
 	 */
 	Object elementByIndex(Object index);
 
+	/**
+	 * Obtain the entries of this indexed collection whose index is greater than
+	 * the given index, in the order of their index, without initializing it.
+	 *
+	 * @param afterIndex The index after which to start, or {@code null} to
+	 *                   start with the first entry
+	 * @param maxResults The maximum number of entries to return
+	 *
+	 * @return The entries, each an array holding the index and the element
+	 *
+	 * @since 7.0.1
+	 */
+	default List<Object[]> elementsAfterIndex(Object afterIndex, int maxResults) {
+		throw new UnsupportedOperationException( "Collection does not support paging" );
+	}
+
 	void initializeEmptyCollection(CollectionPersister persister);
 
 	/**
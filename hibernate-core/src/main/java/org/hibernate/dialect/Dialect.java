@@ -4471,6 +4471,25 @@ public boolean supportsInsertReturningGeneratedKeys() {
 		return false;
 	}
 
+	/**
+	 * Does the JDBC driver return the generated keys of every row inserted by a
+	 * batch of statements from {@link java.sql.PreparedStatement#getGeneratedKeys()},
+	 * once the batch was executed via {@link java.sql.PreparedStatement#executeBatch()}?
+	 * <p>
+	 * When this is the case, entities with an identifier generated by the database
+	 * may be inserted by a single batch of statements.
+	 *
+	 * @return {@code true} if the generated keys of a whole batch may be retrieved,
+	 *         {@code false} if they may only be retrieved one statement at a time
+	 *
+	 * @see org.hibernate.id.insert.GetGeneratedKeysDelegate#performBatchedMutation
+	 *
+	 * @since 7.0.1
+	 */
+	public boolean supportsBatchedInsertReturningGeneratedKeys() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect require unquoting identifiers when passing them to the
 	 * {@link Connection#prepareStatement(String, String[])} JDBC method.
@@ -4825,6 +4844,37 @@ public boolean supportsFromClauseInUpdate() {
 		return false;
 	}
 
+	/**
+	 * The SQL statement which updates multiple rows of the given table at once,
+	 * or {@code null} if this dialect does not support such statements.
+	 * <p>
+	 * The statement has one parameter for each given column, in order, first for
+	 * the assigned columns, and then for the restricted columns. Each parameter
+	 * is bound to an array holding the values of the column for all rows to be
+	 * updated, and the statement updates every row whose restricted columns are
+	 * equal to the corresponding elements of the arrays, assigning to it the
+	 * elements at the same index of the arrays of assigned columns. A nullable
+	 * restricted column, for example, a column checked by {@linkplain
+	 * org.hibernate.annotations.OptimisticLockType#ALL optimistic locking}, must
+	 * also match a null element when its value is null.
+	 *
+	 * @param tableName The name of the table to update
+	 * @param assignedColumns The columns assigned by the update
+	 * @param restrictedColumns The columns identifying the rows to update
+	 * @param nullableRestrictedColumns Whether each restricted column may be null
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#SET_BASED_UPDATES
+	 *
+	 * @since 7.0.1
+	 */
+	public String getSetBasedUpdateString(
+			String tableName,
+			String[] assignedColumns,
+			String[] restrictedColumns,
+			boolean[] nullableRestrictedColumns) {
+		return null;
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
@@ -1309,6 +1309,11 @@ public IdentityColumnSupport getIdentityColumnSupport() {
 		return MySQLIdentityColumnSupport.INSTANCE;
 	}
 
+	@Override
+	public boolean supportsBatchedInsertReturningGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean isJdbcLogWarningsEnabledByDefault() {
 		return false;
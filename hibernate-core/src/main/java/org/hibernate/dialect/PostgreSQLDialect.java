@@ -1408,6 +1408,11 @@ public boolean supportsInsertReturning() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsBatchedInsertReturningGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return true;
@@ -1623,6 +1628,41 @@ public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
 
+	@Override
+	public String getSetBasedUpdateString(
+			String tableName,
+			String[] assignedColumns,
+			String[] restrictedColumns,
+			boolean[] nullableRestrictedColumns) {
+		final int columnCount = assignedColumns.length + restrictedColumns.length;
+		final StringBuilder sql = new StringBuilder( "update " ).append( tableName ).append( " t_ set " );
+		for ( int i = 0; i < assignedColumns.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( assignedColumns[i] ).append( "=v_.c" ).append( i + 1 );
+		}
+		sql.append( " from unnest(" );
+		for ( int i = 0; i < columnCount; i++ ) {
+			sql.append( i == 0 ? "?" : ",?" );
+		}
+		sql.append( ") v_(" );
+		for ( int i = 0; i < columnCount; i++ ) {
+			sql.append( i == 0 ? "c" : ",c" ).append( i + 1 );
+		}
+		sql.append( ") where " );
+		for ( int i = 0; i < restrictedColumns.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( " and " );
+			}
+			// '=' never matches a null, and 'is not distinct from' can't use an index
+			sql.append( "t_." ).append( restrictedColumns[i] )
+					.append( nullableRestrictedColumns[i] ? " is not distinct from v_.c" : "=v_.c" )
+					.append( assignedColumns.length + i + 1 );
+		}
+		return sql.toString();
+	}
+
 	@Override
 	public boolean supportsBindingNullSqlTypeForSetNull() {
 		return true;
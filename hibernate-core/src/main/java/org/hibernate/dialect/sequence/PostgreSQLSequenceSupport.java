@@ -25,6 +25,11 @@ public String getSelectSequencePreviousValString(String sequenceName) throws Map
 		return "currval('" + sequenceName + "')";
 	}
 
+	@Override
+	public String getSequenceNextValuesString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from generate_series(1,?)";
+	}
+
 	@Override
 	public boolean sometimesNeedsStartingValue() {
 		return true;
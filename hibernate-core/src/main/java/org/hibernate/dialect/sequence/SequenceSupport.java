@@ -111,6 +111,22 @@ default String getSequenceNextValString(String sequenceName, int increment) thro
 		return getSequenceNextValString( sequenceName );
 	}
 
+	/**
+	 * Generate a stand alone select statement which retrieves multiple next values
+	 * of a sequence in a single round trip, returning one value per row. The
+	 * statement has a single JDBC parameter, the number of values to retrieve.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @return The select "next values" statement, or {@code null} if the database
+	 *         does not support retrieving multiple values of a sequence at once
+	 * @throws MappingException If sequences are not supported.
+	 *
+	 * @since 7.0.1
+	 */
+	default String getSequenceNextValuesString(String sequenceName) throws MappingException {
+		return null;
+	}
+
 	/**
 	 * An optional multi-line form for databases which {@link #supportsPooledSequences()}.
 	 *
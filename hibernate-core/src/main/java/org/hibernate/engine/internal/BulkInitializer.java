@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Initializes many proxies and persistent collections at once, grouping
+ * them by entity type or collection role, and loading each group using a
+ * {@linkplain org.hibernate.loader.ast.spi.EntityBatchLoader batch loader}
+ * or {@linkplain org.hibernate.loader.ast.spi.CollectionBatchLoader collection
+ * batch loader}, so that the number of round trips depends on the number of
+ * groups, rather than on the number of proxies and collections.
+ *
+ * @see org.hibernate.Hibernate#initializeAll
+ *
+ * @since 7.0.1
+ */
+public final class BulkInitializer {
+	private final SharedSessionContractImplementor session;
+
+	public BulkInitializer(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	/**
+	 * Initialize the given proxies and persistent collections, and then the
+	 * associations reachable from them along the given paths.
+	 *
+	 * @param objects Proxies, persistent collections, or entity instances
+	 * @param paths Paths of association names separated by dots, for example
+	 *              {@code "orders.lineItems.product"}
+	 */
+	public void initializeAll(Collection<?> objects, String... paths) {
+		final List<Object> roots = initialize( objects );
+		for ( String path : paths ) {
+			List<Object> entities = roots;
+			for ( String attributeName : path.split( "\\." ) ) {
+				final List<Object> values = new ArrayList<>( entities.size() );
+				for ( Object entity : entities ) {
+					final EntityPersister persister = session.getEntityPersister( null, entity );
+					final Object value = persister.getPropertyValue( entity, attributeName );
+					if ( value != null ) {
+						values.add( value );
+					}
+				}
+				entities = initialize( values );
+			}
+		}
+	}
+
+	/**
+	 * Initialize the given proxies and persistent collections, grouped by
+	 * entity type and collection role.
+	 *
+	 * @return The distinct entity instances referenced by the given objects,
+	 *         including the elements of the given collections
+	 */
+	private List<Object> initialize(Collection<?> objects) {
+		final Map<EntityPersister, Set<Object>> idsByEntity = new LinkedHashMap<>();
+		final Map<CollectionPersister, Set<Object>> keysByRole = new LinkedHashMap<>();
+		for ( Object object : objects ) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( object );
+			if ( lazyInitializer != null ) {
+				if ( lazyInitializer.isUninitialized() ) {
+					final EntityPersister persister =
+							session.getFactory().getMappingMetamodel()
+									.getEntityDescriptor( lazyInitializer.getEntityName() );
+					final Object id = lazyInitializer.getInternalIdentifier();
+					// no need to load an entity which is already in the persistence context
+					if ( session.getPersistenceContextInternal()
+							.getEntity( session.generateEntityKey( id, persister ) ) == null ) {
+						idsByEntity.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+					}
+				}
+			}
+			else if ( object instanceof PersistentCollection<?> collection ) {
+				if ( !collection.wasInitialized() ) {
+					final CollectionEntry entry =
+							session.getPersistenceContextInternal().getCollectionEntry( collection );
+					if ( entry != null ) {
+						keysByRole.computeIfAbsent( entry.getLoadedPersister(), p -> new LinkedHashSet<>() )
+								.add( entry.getLoadedKey() );
+					}
+				}
+			}
+		}
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		final BatchLoaderFactory batchLoaderFactory =
+				factory.getServiceRegistry().requireService( BatchLoaderFactory.class );
+		idsByEntity.forEach( (persister, ids) ->
+				batchLoaderFactory.createEntityBatchLoader( ids.size(), persister, session.getLoadQueryInfluencers() )
+						.loadAll( ids.toArray(), null, session ) );
+		keysByRole.forEach( (persister, keys) ->
+				batchLoaderFactory.createCollectionBatchLoader(
+								keys.size(),
+								session.getLoadQueryInfluencers(),
+								persister.getAttributeMapping(),
+								factory
+						)
+						.loadAll( keys.toArray(), session ) );
+
+		final Map<Object, Object> entities = new IdentityHashMap<>();
+		for ( Object object : objects ) {
+			// iterating a collection not loaded by a batch loader initializes it
+			if ( object instanceof Map<?, ?> map && object instanceof PersistentCollection ) {
+				for ( Object element : map.values() ) {
+					addEntity( element, entities );
+				}
+			}
+			else if ( object instanceof Collection<?> collection && object instanceof PersistentCollection ) {
+				for ( Object element : collection ) {
+					addEntity( element, entities );
+				}
+			}
+			else if ( !( object instanceof PersistentCollection ) ) {
+				addEntity( object, entities );
+			}
+		}
+		return new ArrayList<>( entities.keySet() );
+	}
+
+	private void addEntity(Object object, Map<Object, Object> entities) {
+		if ( object != null ) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( object );
+			// the entity was already loaded, so this does not hit the database
+			final Object entity = lazyInitializer == null ? object : lazyInitializer.getImplementation();
+			if ( entity != null && session.getPersistenceContextInternal().getEntry( entity ) != null ) {
+				entities.put( entity, entity );
+			}
+		}
+	}
+}
@@ -91,7 +91,7 @@ public static <T> void cascade(
 			if ( bytecodeEnhancement.isEnhancedForLazyLoading() ) {
 				entry = eventSource.getPersistenceContextInternal().getEntry( parent );
 				if ( entry != null
-						&& entry.getLoadedState() == null
+						&& !entry.hasLoadedState()
 						&& entry.getStatus() == Status.MANAGED ) {
 					return;
 				}
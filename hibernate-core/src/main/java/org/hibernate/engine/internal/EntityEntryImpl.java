@@ -30,6 +30,7 @@
 import org.hibernate.internal.util.ImmutableBitSet;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -70,6 +71,8 @@ public final class EntityEntryImpl implements Serializable, EntityEntry {
 
 	private final Object id;
 	private Object[] loadedState;
+	// handle to the loaded state while it is held by the OffHeapEntitySnapshotStore, otherwise zero
+	private transient long offHeapLoadedState;
 	private Object version;
 	private final EntityPersister persister; // permanent but we only need the entityName state in a non transient way
 	private transient EntityKey cachedEntityKey; // cached EntityKey (lazy-initialized)
@@ -202,6 +205,7 @@ public void setStatus(Status status) {
 		if ( status == READ_ONLY ) {
 			//memory optimization
 			loadedState = null;
+			releaseOffHeapLoadedState();
 		}
 
 		final Status currentStatus = getStatus();
@@ -218,9 +222,68 @@ public Object getId() {
 
 	@Override
 	public Object[] getLoadedState() {
+		if ( offHeapLoadedState != 0 ) {
+			// bring the state back onto the heap, since the caller may modify it
+			loadedState = offHeapSnapshotStore().read( offHeapLoadedState, persister.getPropertyTypes() );
+			releaseOffHeapLoadedState();
+		}
 		return loadedState;
 	}
 
+	@Override
+	public Object[] readLoadedState() {
+		return offHeapLoadedState != 0
+				? offHeapSnapshotStore().read( offHeapLoadedState, persister.getPropertyTypes() )
+				: loadedState;
+	}
+
+	@Override
+	public boolean hasLoadedState() {
+		return offHeapLoadedState != 0 || loadedState != null;
+	}
+
+	private @Nullable OffHeapEntitySnapshotStore offHeapSnapshotStore() {
+		return persistenceContext instanceof StatefulPersistenceContext statefulPersistenceContext
+				? statefulPersistenceContext.getOffHeapEntitySnapshotStore()
+				: null;
+	}
+
+	/**
+	 * Move the loaded state off the heap, if enabled and possible, reusing
+	 * the slot of any state already held off the heap.
+	 */
+	private void storeLoadedStateOffHeap() {
+		if ( loadedState != null && getStatus() == MANAGED ) {
+			final OffHeapEntitySnapshotStore store = offHeapSnapshotStore();
+			if ( store != null ) {
+				final Type[] types = persister.getPropertyTypes();
+				offHeapLoadedState = offHeapLoadedState == 0
+						? store.store( loadedState, types )
+						: store.replace( offHeapLoadedState, loadedState, types );
+				if ( offHeapLoadedState != 0 ) {
+					loadedState = null;
+				}
+			}
+		}
+		else if ( loadedState != null ) {
+			releaseOffHeapLoadedState();
+		}
+	}
+
+	/**
+	 * Release the loaded state held off the heap, if any, for example, when
+	 * this entry is removed from the persistence context.
+	 */
+	void releaseOffHeapLoadedState() {
+		if ( offHeapLoadedState != 0 ) {
+			final OffHeapEntitySnapshotStore store = offHeapSnapshotStore();
+			if ( store != null ) {
+				store.release( offHeapLoadedState );
+			}
+			offHeapLoadedState = 0;
+		}
+	}
+
 	@Override
 	public Object[] getDeletedState() {
 		final EntityEntryExtraStateHolder extra = getExtraState( EntityEntryExtraStateHolder.class );
@@ -290,6 +353,7 @@ public Object getRowId() {
 
 	@Override
 	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
+		// the slot of the previous state is reused by storeLoadedStateOffHeap()
 		loadedState = updatedState;
 		setLockMode( LockMode.WRITE );
 
@@ -304,6 +368,8 @@ public void postUpdate(Object entity, Object[] updatedState, Object nextVersion)
 		final SharedSessionContractImplementor session = getPersistenceContext().getSession();
 		session.getFactory().getCustomEntityDirtinessStrategy()
 				.resetDirty( entity, persister, (SessionImplementor) session );
+
+		storeLoadedStateOffHeap();
 	}
 
 	@Override
@@ -315,6 +381,8 @@ public void postLoad(Object entity) {
 			session.getFactory().getCustomEntityDirtinessStrategy()
 					.resetDirty( entity, persister, session );
 		}
+
+		storeLoadedStateOffHeap();
 	}
 
 	private static void clearDirtyAttributes(final SelfDirtinessTracker entity) {
@@ -353,12 +421,13 @@ else if ( earlyInsert ) {
 
 	@Override
 	public Object getLoadedValue(String propertyName) {
-		if ( loadedState == null || propertyName == null ) {
+		final Object[] state = readLoadedState();
+		if ( state == null || propertyName == null ) {
 			return null;
 		}
 		else {
 			final int index = propertyIndex( propertyName );
-			return index < 0 ? null : loadedState[index];
+			return index < 0 ? null : state[index];
 		}
 	}
 
@@ -372,8 +441,9 @@ public void overwriteLoadedStateCollectionValue(String propertyName, PersistentC
 		// nothing to do if status is READ_ONLY
 		if ( getStatus() != READ_ONLY ) {
 			assert propertyName != null;
-			assert loadedState != null;
-			loadedState[ propertyIndex( propertyName ) ] = collection;
+			final Object[] state = getLoadedState();
+			assert state != null;
+			state[ propertyIndex( propertyName ) ] = collection;
 		}
 	}
 
@@ -445,7 +515,7 @@ public boolean isModifiableEntity() {
 	public void forceLocked(Object entity, Object nextVersion) {
 		version = nextVersion;
 		final int versionProperty = persister.getVersionProperty();
-		loadedState[versionProperty] = version;
+		getLoadedState()[versionProperty] = version;
 		setLockMode( PESSIMISTIC_FORCE_INCREMENT );
 		persister.setValue( entity, versionProperty, nextVersion );
 	}
@@ -464,7 +534,6 @@ public void setReadOnly(boolean readOnly, Object entity) {
 		if ( readOnly != isReadOnly() ) {
 			if ( readOnly ) {
 				setStatus( READ_ONLY );
-				loadedState = null;
 			}
 			else if ( !persister.isMutable() ) {
 				throw new IllegalStateException( "Cannot make an entity of immutable type '"
@@ -472,6 +541,7 @@ else if ( !persister.isMutable() ) {
 			}
 			else {
 				setStatus( MANAGED );
+				releaseOffHeapLoadedState();
 				loadedState = persister.getValues( entity );
 				TypeHelper.deepCopy(
 						loadedState,
@@ -518,7 +588,7 @@ public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeInt( getStatus().ordinal() );
 		oos.writeInt( previousStatus == null ? -1 : previousStatus.ordinal() );
 		// todo : potentially look at optimizing these two arrays
-		oos.writeObject( loadedState );
+		oos.writeObject( getLoadedState() );
 		oos.writeObject( getDeletedState() );
 		oos.writeObject( version );
 		oos.writeInt( getLockMode().ordinal() );
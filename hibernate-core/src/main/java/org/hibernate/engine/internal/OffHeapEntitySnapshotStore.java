@@ -0,0 +1,332 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+
+/**
+ * Stores the loaded state of entities in a compact encoding outside the
+ * Java heap, so that a session holding a very large number of managed
+ * entities does not also hold an {@code Object[]} snapshot of each of
+ * them on the heap.
+ * <p>
+ * Each stored state occupies a slot in a block of off-heap memory. When a
+ * state is {@linkplain #replace replaced}, for example, after the entity
+ * is updated during flush, the new state is written to the same slot if it
+ * fits. A slot which is {@linkplain #release released}, for example, when
+ * the entity is evicted, is reused for a later state which fits in it.
+ * <p>
+ * Only the state of an entity whose attributes are all of {@linkplain
+ * BasicType basic type} is stored, and only if the {@linkplain
+ * org.hibernate.type.descriptor.java.JavaType Java type} of each value has
+ * an encoding here. The state of any other entity stays on the heap. The
+ * blocks themselves are not freed until the persistence context is cleared.
+ * <p>
+ * A store belongs to a single persistence context, and is not thread-safe.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#OFF_HEAP_ENTITY_SNAPSHOTS
+ *
+ * @since 7.0.1
+ */
+public final class OffHeapEntitySnapshotStore {
+	/**
+	 * The size of each block of off-heap memory.
+	 */
+	public static final int CHUNK_SIZE = 1 << 20;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte BOOLEAN = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_INTEGER = 11;
+	private static final byte BIG_DECIMAL = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte LOCAL_DATE = 14;
+	private static final byte LOCAL_TIME = 15;
+	private static final byte LOCAL_DATE_TIME = 16;
+	private static final byte INSTANT = 17;
+	private static final byte BYTES = 18;
+	private static final byte ENUM = 19;
+
+	private final List<ByteBuffer> chunks = new ArrayList<>();
+	// released slots by their capacity
+	private final TreeMap<Integer, ArrayDeque<Long>> freeSlots = new TreeMap<>();
+	private ByteBuffer scratch = ByteBuffer.allocate( 256 );
+	private long storedBytes;
+
+	/**
+	 * Store the given loaded state.
+	 *
+	 * @return A handle to the stored state, or {@code 0} if it cannot be stored
+	 */
+	public long store(Object[] state, Type[] types) {
+		return encode( state, types ) ? allocate() : 0;
+	}
+
+	/**
+	 * Replace the stored state with the given handle by the given loaded state,
+	 * reusing its slot if the new state fits in it.
+	 *
+	 * @return A handle to the stored state, or {@code 0} if it cannot be stored,
+	 *         in which case the previous state is released
+	 */
+	public long replace(long handle, Object[] state, Type[] types) {
+		if ( !encode( state, types ) ) {
+			release( handle );
+			return 0;
+		}
+		final ByteBuffer chunk = chunk( handle );
+		final int offset = (int) handle;
+		if ( scratch.position() <= chunk.getInt( offset ) ) {
+			chunk.put( offset + Integer.BYTES, scratch, 0, scratch.position() );
+			return handle;
+		}
+		else {
+			release( handle );
+			return allocate();
+		}
+	}
+
+	/**
+	 * Release the stored state with the given handle, so that its slot may
+	 * be reused.
+	 */
+	public void release(long handle) {
+		final int capacity = chunk( handle ).getInt( (int) handle );
+		freeSlots.computeIfAbsent( capacity, c -> new ArrayDeque<>() ).push( handle );
+		storedBytes -= capacity;
+	}
+
+	/**
+	 * Decode the loaded state with the given handle.
+	 */
+	public Object[] read(long handle, Type[] types) {
+		final ByteBuffer chunk = chunk( handle ).duplicate();
+		chunk.position( (int) handle + Integer.BYTES );
+		final Object[] state = new Object[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			state[i] = decode( chunk, types[i] );
+		}
+		return state;
+	}
+
+	/**
+	 * Release all stored state.
+	 */
+	public void clear() {
+		chunks.clear();
+		freeSlots.clear();
+		storedBytes = 0;
+	}
+
+	/**
+	 * The number of bytes of the slots holding stored state.
+	 */
+	public long getStoredBytes() {
+		return storedBytes;
+	}
+
+	/**
+	 * The number of bytes of off-heap memory allocated.
+	 */
+	public long getAllocatedBytes() {
+		long allocated = 0;
+		for ( ByteBuffer chunk : chunks ) {
+			allocated += chunk.capacity();
+		}
+		return allocated;
+	}
+
+	private ByteBuffer chunk(long handle) {
+		return chunks.get( (int) ( handle >>> 32 ) - 1 );
+	}
+
+	/**
+	 * Copy the encoded state to a released slot it fits in, or to a new slot.
+	 */
+	private long allocate() {
+		final int length = scratch.position();
+		final Map.Entry<Integer, ArrayDeque<Long>> free = freeSlots.ceilingEntry( length );
+		if ( free != null ) {
+			final long handle = free.getValue().pop();
+			if ( free.getValue().isEmpty() ) {
+				freeSlots.remove( free.getKey() );
+			}
+			chunk( handle ).put( (int) handle + Integer.BYTES, scratch, 0, length );
+			storedBytes += free.getKey();
+			return handle;
+		}
+		ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get( chunks.size() - 1 );
+		if ( chunk == null || chunk.remaining() < length + Integer.BYTES ) {
+			chunk = ByteBuffer.allocateDirect( Math.max( CHUNK_SIZE, length + Integer.BYTES ) );
+			chunks.add( chunk );
+		}
+		final int offset = chunk.position();
+		chunk.putInt( length ).put( scratch.flip() );
+		storedBytes += length;
+		// the chunk number is one-based so that no handle is zero
+		return ( (long) chunks.size() << 32 ) | offset;
+	}
+
+	private boolean encode(Object[] state, Type[] types) {
+		while ( true ) {
+			scratch.clear();
+			try {
+				for ( int i = 0; i < state.length; i++ ) {
+					if ( !encode( state[i], types[i] ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			catch (BufferOverflowException e) {
+				scratch = ByteBuffer.allocate( scratch.capacity() * 2 );
+			}
+		}
+	}
+
+	private boolean encode(Object value, Type type) {
+		if ( !( type instanceof BasicType<?> basicType ) ) {
+			return false;
+		}
+		else if ( value == null ) {
+			scratch.put( NULL );
+		}
+		else if ( value == UNFETCHED_PROPERTY ) {
+			scratch.put( UNFETCHED );
+		}
+		else if ( value instanceof Enum<?> enumValue ) {
+			if ( enumValue.getDeclaringClass() != basicType.getJavaTypeDescriptor().getJavaTypeClass() ) {
+				return false;
+			}
+			scratch.put( ENUM ).putInt( enumValue.ordinal() );
+		}
+		else if ( value instanceof String string ) {
+			putBytes( STRING, string.getBytes( UTF_8 ) );
+		}
+		else if ( value instanceof Integer integer ) {
+			scratch.put( INTEGER ).putInt( integer );
+		}
+		else if ( value instanceof Long longValue ) {
+			scratch.put( LONG ).putLong( longValue );
+		}
+		else if ( value instanceof Boolean bool ) {
+			scratch.put( BOOLEAN ).put( bool ? (byte) 1 : (byte) 0 );
+		}
+		else if ( value instanceof Short shortValue ) {
+			scratch.put( SHORT ).putShort( shortValue );
+		}
+		else if ( value instanceof Byte byteValue ) {
+			scratch.put( BYTE ).put( byteValue );
+		}
+		else if ( value instanceof Double doubleValue ) {
+			scratch.put( DOUBLE ).putDouble( doubleValue );
+		}
+		else if ( value instanceof Float floatValue ) {
+			scratch.put( FLOAT ).putFloat( floatValue );
+		}
+		else if ( value instanceof Character character ) {
+			scratch.put( CHARACTER ).putChar( character );
+		}
+		else if ( value instanceof BigDecimal bigDecimal ) {
+			putBytes( BIG_DECIMAL, bigDecimal.unscaledValue().toByteArray() );
+			scratch.putInt( bigDecimal.scale() );
+		}
+		else if ( value instanceof BigInteger bigInteger ) {
+			putBytes( BIG_INTEGER, bigInteger.toByteArray() );
+		}
+		else if ( value instanceof UUID uuid ) {
+			scratch.put( UUID_VALUE ).putLong( uuid.getMostSignificantBits() ).putLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof LocalDate localDate ) {
+			scratch.put( LOCAL_DATE ).putLong( localDate.toEpochDay() );
+		}
+		else if ( value instanceof LocalTime localTime ) {
+			scratch.put( LOCAL_TIME ).putLong( localTime.toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime localDateTime ) {
+			scratch.put( LOCAL_DATE_TIME )
+					.putLong( localDateTime.toLocalDate().toEpochDay() )
+					.putLong( localDateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value instanceof Instant instant ) {
+			scratch.put( INSTANT ).putLong( instant.getEpochSecond() ).putInt( instant.getNano() );
+		}
+		else if ( value instanceof byte[] bytes ) {
+			putBytes( BYTES, bytes );
+		}
+		else {
+			return false;
+		}
+		return true;
+	}
+
+	private void putBytes(byte tag, byte[] bytes) {
+		scratch.put( tag ).putInt( bytes.length ).put( bytes );
+	}
+
+	private static byte[] getBytes(ByteBuffer buffer) {
+		final byte[] bytes = new byte[buffer.getInt()];
+		buffer.get( bytes );
+		return bytes;
+	}
+
+	private static Object decode(ByteBuffer buffer, Type type) {
+		final byte tag = buffer.get();
+		return switch ( tag ) {
+			case NULL -> null;
+			case UNFETCHED -> UNFETCHED_PROPERTY;
+			case BOOLEAN -> buffer.get() != 0;
+			case BYTE -> buffer.get();
+			case SHORT -> buffer.getShort();
+			case INTEGER -> buffer.getInt();
+			case LONG -> buffer.getLong();
+			case FLOAT -> buffer.getFloat();
+			case DOUBLE -> buffer.getDouble();
+			case CHARACTER -> buffer.getChar();
+			case STRING -> new String( getBytes( buffer ), UTF_8 );
+			case BIG_INTEGER -> new BigInteger( getBytes( buffer ) );
+			case BIG_DECIMAL -> new BigDecimal( new BigInteger( getBytes( buffer ) ), buffer.getInt() );
+			case UUID_VALUE -> new UUID( buffer.getLong(), buffer.getLong() );
+			case LOCAL_DATE -> LocalDate.ofEpochDay( buffer.getLong() );
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay( buffer.getLong() );
+			case LOCAL_DATE_TIME -> LocalDateTime.of(
+					LocalDate.ofEpochDay( buffer.getLong() ),
+					LocalTime.ofNanoOfDay( buffer.getLong() )
+			);
+			case INSTANT -> Instant.ofEpochSecond( buffer.getLong(), buffer.getInt() );
+			case BYTES -> getBytes( buffer );
+			case ENUM -> ( (BasicType<?>) type ).getJavaTypeDescriptor().getJavaTypeClass()
+					.getEnumConstants()[buffer.getInt()];
+			default -> throw new IllegalStateException( "Corrupt entity snapshot" );
+		};
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.loader.ast.internal.ParallelCollectionLoader;
+import org.hibernate.persister.collection.CollectionPersister;
+
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
+/**
+ * Initializes the collections which must be initialized immediately after a
+ * load, when they belong to more than one collection role, by fetching the
+ * collections concurrently, using the configured {@link Executor} and a
+ * limited number of connections obtained from the {@link ConnectionProvider},
+ * and then attaching them to the persistence context on the thread which owns
+ * the session.
+ * <p>
+ * The thread which owns the session fetches chunks too, using the connection
+ * of the session, and never waits for a chunk which no other thread has started
+ * to fetch. A task obtains its connection before it claims any chunk, so when
+ * the executor is saturated, or the pool has no connection to spare, the owning
+ * thread simply fetches all the chunks itself, one after the other.
+ *
+ * @see org.hibernate.cfg.FetchSettings#PARALLEL_COLLECTION_FETCH
+ *
+ * @since 7.0.1
+ */
+public final class ParallelCollectionInitializer {
+	private static final CoreMessageLogger LOG = messageLogger( ParallelCollectionInitializer.class );
+
+	private final SharedSessionContractImplementor session;
+
+	public ParallelCollectionInitializer(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	/**
+	 * May collections be fetched in parallel in the given session? The
+	 * connections obtained from the {@link ConnectionProvider} do not see
+	 * the changes made by the transaction of the session, so the session
+	 * must be a read-only session, which never writes to the database.
+	 * Nor are they enlisted in a JTA transaction, or obtained for any
+	 * particular tenant.
+	 */
+	public static boolean isEnabled(SharedSessionContractImplementor session) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		return options.isParallelCollectionFetchEnabled()
+			&& options.getParallelCollectionFetchExecutor() != null
+			&& session.isReadOnlySession()
+			&& session.getTenantIdentifierValue() == null
+			&& !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta();
+	}
+
+	/**
+	 * Initialize the given collections, if the uninitialized collections belong
+	 * to more than one role. The collections which cannot be fetched in parallel
+	 * are left uninitialized.
+	 *
+	 * @return {@code true} if any collection was initialized
+	 */
+	public boolean initialize(List<PersistentCollection<?>> collections) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<CollectionPersister, Set<Object>> keysByRole = new LinkedHashMap<>();
+		for ( PersistentCollection<?> collection : collections ) {
+			if ( !collection.wasInitialized() ) {
+				final CollectionEntry entry = persistenceContext.getCollectionEntry( collection );
+				// collections held in the second-level cache must be read from the cache
+				if ( entry != null && entry.getLoadedPersister() != null && !entry.getLoadedPersister().hasCache() ) {
+					keysByRole.computeIfAbsent( entry.getLoadedPersister(), p -> new LinkedHashSet<>() )
+							.add( entry.getLoadedKey() );
+				}
+			}
+		}
+		if ( keysByRole.size() < 2 ) {
+			return false;
+		}
+
+		final List<ParallelCollectionLoader.Chunk> chunks = new ArrayList<>();
+		keysByRole.forEach( (persister, keys) -> {
+			final ParallelCollectionLoader loader =
+					new ParallelCollectionLoader( persister.getAttributeMapping(), keys.size(), session );
+			if ( loader.isParallelFetchable() ) {
+				final Object[] keysToInitialize = keys.toArray();
+				for ( int start = 0; start < keysToInitialize.length; start += loader.getSqlBatchSize() ) {
+					chunks.add( loader.chunk( keysToInitialize, start, session ) );
+				}
+			}
+		} );
+		if ( chunks.size() < 2 ) {
+			return false;
+		}
+
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final ConnectionProvider connectionProvider =
+				session.getFactory().getServiceRegistry().requireService( ConnectionProvider.class );
+		final List<CompletableFuture<List<Object[]>>> fetches = new ArrayList<>( chunks.size() );
+		for ( int i = 0; i < chunks.size(); i++ ) {
+			fetches.add( new CompletableFuture<>() );
+		}
+		// each task uses one connection to fetch chunks until there are none left
+		final AtomicInteger nextChunk = new AtomicInteger();
+		final int tasks = Math.min( options.getParallelCollectionFetchMaxConnections(), chunks.size() ) - 1;
+		for ( int i = 0; i < tasks; i++ ) {
+			try {
+				options.getParallelCollectionFetchExecutor()
+						.execute( () -> fetchChunks( chunks, fetches, nextChunk, connectionProvider ) );
+			}
+			catch (RejectedExecutionException e) {
+				break;
+			}
+		}
+
+		// meanwhile, this thread fetches the chunks which were not claimed yet
+		// using the connection of the session, so the chunks it then waits for
+		// are all being fetched by a task which already holds a connection
+		final Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+		int i;
+		while ( ( i = nextChunk.getAndIncrement() ) < chunks.size() ) {
+			fetches.get( i ).complete( chunks.get( i ).fetch( connection ) );
+		}
+
+		for ( int j = 0; j < chunks.size(); j++ ) {
+			chunks.get( j ).load( join( fetches.get( j ) ) );
+		}
+		return true;
+	}
+
+	private static void fetchChunks(
+			List<ParallelCollectionLoader.Chunk> chunks,
+			List<CompletableFuture<List<Object[]>>> fetches,
+			AtomicInteger nextChunk,
+			ConnectionProvider connectionProvider) {
+		if ( nextChunk.get() >= chunks.size() ) {
+			// the thread which owns the session was quicker
+			return;
+		}
+		final Connection connection;
+		try {
+			connection = connectionProvider.getConnection();
+		}
+		catch (SQLException | RuntimeException e) {
+			// no chunk was claimed yet, so the thread which owns the session fetches them
+			LOG.debugf( "Could not obtain a connection for fetching collections in parallel: %s", e.getMessage() );
+			return;
+		}
+		try {
+			connection.setReadOnly( true );
+			int i;
+			while ( ( i = nextChunk.getAndIncrement() ) < chunks.size() ) {
+				try {
+					fetches.get( i ).complete( chunks.get( i ).fetch( connection ) );
+				}
+				catch (Throwable t) {
+					fetches.get( i ).completeExceptionally( t );
+				}
+			}
+		}
+		catch (SQLException e) {
+			LOG.debugf( "Could not prepare a connection for fetching collections in parallel: %s", e.getMessage() );
+		}
+		finally {
+			releaseConnection( connection, connectionProvider );
+		}
+	}
+
+	private static void releaseConnection(Connection connection, ConnectionProvider connectionProvider) {
+		try {
+			try {
+				if ( !connection.getAutoCommit() ) {
+					connection.rollback();
+				}
+				connection.setReadOnly( false );
+			}
+			finally {
+				connectionProvider.closeConnection( connection );
+			}
+		}
+		catch (SQLException e) {
+			LOG.unableToReleaseIsolatedConnection( e );
+		}
+	}
+
+	private static List<Object[]> join(CompletableFuture<List<Object[]>> fetch) {
+		try {
+			return fetch.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			else {
+				throw new HibernateException( "Could not fetch collections in parallel", e.getCause() );
+			}
+		}
+	}
+}
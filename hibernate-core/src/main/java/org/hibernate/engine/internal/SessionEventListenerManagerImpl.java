@@ -12,6 +12,8 @@
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
@@ -46,6 +48,19 @@ public void addListener(final SessionEventListener... additionalListeners) {
 		}
 	}
 
+	@Override
+	public <T extends SessionEventListener> @Nullable T findListener(Class<T> listenerType) {
+		final SessionEventListener[] listeners = this.listeners;
+		if ( listeners != null ) {
+			for ( SessionEventListener listener : listeners ) {
+				if ( listenerType.isInstance( listener ) ) {
+					return listenerType.cast( listener );
+				}
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public void transactionCompletion(boolean successful) {
 		if ( listeners != null ) {
@@ -173,6 +173,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
+	private OffHeapEntitySnapshotStore offHeapEntitySnapshotStore;
 
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
@@ -242,6 +243,21 @@ public BatchFetchQueue getBatchFetchQueue() {
 		return batchFetchQueue;
 	}
 
+	/**
+	 * The store for the loaded state of entities, or {@code null} if
+	 * {@linkplain org.hibernate.cfg.PersistenceSettings#OFF_HEAP_ENTITY_SNAPSHOTS
+	 * off-heap entity snapshots} are disabled.
+	 *
+	 * @since 7.0.1
+	 */
+	public @Nullable OffHeapEntitySnapshotStore getOffHeapEntitySnapshotStore() {
+		if ( offHeapEntitySnapshotStore == null
+				&& session.getFactory().getSessionFactoryOptions().isOffHeapEntitySnapshotsEnabled() ) {
+			offHeapEntitySnapshotStore = new OffHeapEntitySnapshotStore();
+		}
+		return offHeapEntitySnapshotStore;
+	}
+
 	@Override
 	public void clear() {
 		if ( entitiesByKey != null ) {
@@ -271,6 +287,9 @@ public void clear() {
 		entitiesByKey = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
+		if ( offHeapEntitySnapshotStore != null ) {
+			offHeapEntitySnapshotStore.clear();
+		}
 		parentsByChild = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
@@ -601,7 +620,11 @@ public EntityEntry getEntry(Object entity) {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
-		return entityEntryContext.removeEntityEntry( entity );
+		final EntityEntry entry = entityEntryContext.removeEntityEntry( entity );
+		if ( offHeapEntitySnapshotStore != null && entry instanceof EntityEntryImpl entityEntry ) {
+			entityEntry.releaseOffHeapLoadedState();
+		}
+		return entry;
 	}
 
 	@Override
@@ -1015,7 +1038,7 @@ private Object getLoadedCollectionOwnerIdOrNull(CollectionEntry ce) {
 	public void addUninitializedCollection(CollectionPersister persister, PersistentCollection<?> collection, Object id) {
 		final CollectionEntry ce = new CollectionEntry( collection, persister, id, flushing );
 		addCollection( collection, ce, id );
-		if ( session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+		if ( session.getLoadQueryInfluencers().isBatchFetchQueued( persister ) ) {
 			getBatchFetchQueue().addBatchLoadableCollection( collection, ce );
 		}
 	}
@@ -1026,7 +1049,7 @@ public void addUninitializedDetachedCollection(CollectionPersister persister, Pe
 		assert key != null;
 		final CollectionEntry ce = new CollectionEntry( persister, key );
 		addCollection( collection, ce, key );
-		if ( session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+		if ( session.getLoadQueryInfluencers().isBatchFetchQueued( persister ) ) {
 			getBatchFetchQueue().addBatchLoadableCollection( collection, ce );
 		}
 	}
@@ -1143,6 +1166,25 @@ public void addNonLazyCollection(PersistentCollection<?> collection) {
 
 	@Override
 	public void initializeNonLazyCollections() throws HibernateException {
+		if ( loadCounter == 0
+				&& nonlazyCollections != null && nonlazyCollections.size() > 1
+				&& ParallelCollectionInitializer.isEnabled( session ) ) {
+			LOG.trace( "Initializing non-lazy collections in parallel" );
+			loadCounter++;
+			try {
+				final ParallelCollectionInitializer initializer = new ParallelCollectionInitializer( session );
+				boolean initialized;
+				do {
+					// loading a collection may add new non-lazy collections
+					initialized = initializer.initialize( nonlazyCollections );
+				}
+				while ( initialized );
+			}
+			finally {
+				loadCounter--;
+			}
+		}
+		// initializes any remaining collections, and discards the initialized ones
 		initializeNonLazyCollections( PersistentCollection::forceInitialization );
 	}
 
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.engine.jdbc.CharacterStream;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchBuilder.BatchSizeTuner;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+/**
+ * A {@link BatchImpl} which reports the size of its bound values and
+ * its execution time to a {@link BatchSizeTuner}, and adopts the size
+ * chosen by the tuner after each execution.
+ *
+ * @see AdaptiveBatchBuilder
+ *
+ * @since 7.0.1
+ */
+public class AdaptiveBatch extends BatchImpl {
+	/**
+	 * The assumed size of a value of a type whose size we don't measure.
+	 */
+	private static final int DEFAULT_VALUE_SIZE = 8;
+
+	private final BatchSizeTuner tuner;
+	private long payloadSize;
+
+	AdaptiveBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			BatchSizeTuner tuner,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, tuner.getBatchSize(), jdbcCoordinator );
+		this.tuner = tuner;
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		// measure the values before they are bound and cleared
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableName );
+			if ( bindingGroup != null ) {
+				for ( Binding binding : bindingGroup.getBindings() ) {
+					payloadSize += sizeOf( binding.getValue() );
+				}
+			}
+		} );
+		super.addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	protected void performExecution() {
+		final int rowCount = getBatchPosition();
+		final long start = System.nanoTime();
+		try {
+			super.performExecution();
+		}
+		catch (RuntimeException e) {
+			payloadSize = 0;
+			throw e;
+		}
+		tuner.batchExecuted( rowCount, payloadSize, System.nanoTime() - start );
+		payloadSize = 0;
+
+		final int batchSize = tuner.getBatchSize();
+		if ( batchSize != getBatchSize() ) {
+			setBatchSize( batchSize );
+		}
+	}
+
+	private static long sizeOf(Object value) {
+		if ( value instanceof String string ) {
+			return string.length();
+		}
+		else if ( value instanceof byte[] bytes ) {
+			return bytes.length;
+		}
+		else if ( value instanceof char[] chars ) {
+			return chars.length;
+		}
+		else if ( value instanceof ByteBuffer buffer ) {
+			return buffer.remaining();
+		}
+		else if ( value instanceof BinaryStream binaryStream ) {
+			return binaryStream.getLength();
+		}
+		else if ( value instanceof CharacterStream characterStream ) {
+			return characterStream.getLength();
+		}
+		else if ( value instanceof Blob blob ) {
+			try {
+				return blob.length();
+			}
+			catch (SQLException e) {
+				return DEFAULT_VALUE_SIZE;
+			}
+		}
+		else if ( value instanceof Clob clob ) {
+			try {
+				return clob.length();
+			}
+			catch (SQLException e) {
+				return DEFAULT_VALUE_SIZE;
+			}
+		}
+		else {
+			return DEFAULT_VALUE_SIZE;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatch(" + getKey().toLoggableString() + ")";
+	}
+}
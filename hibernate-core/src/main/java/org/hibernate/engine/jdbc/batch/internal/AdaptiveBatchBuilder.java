@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.util.config.ConfigurationException;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A builder for {@link Batch} instances whose size is tuned separately
+ * for each distinct {@link BatchKey}.
+ * <p>
+ * After each execution of a batch, the size of the values bound to the
+ * batch and the time taken to execute it are recorded, and the size of
+ * the next batches with the same key is chosen so that a batch neither
+ * holds much more than a megabyte of bound values, nor takes much longer
+ * than 200 milliseconds to execute.
+ * The size of the batches grows at most twofold at a time, and is kept
+ * between the given bounds.
+ * <p>
+ * The configured batch size is the initial size of the batches of each
+ * key. Set-based updates, which are sized by the number of array elements
+ * rather than by the number of statements, are not tuned.
+ *
+ * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE
+ *
+ * @since 7.0.1
+ */
+public class AdaptiveBatchBuilder extends BatchBuilderImpl {
+	private static final long TARGET_PAYLOAD_SIZE = 1024 * 1024;
+	private static final long TARGET_EXECUTION_NANOS = TimeUnit.MILLISECONDS.toNanos( 200 );
+
+	/**
+	 * Batch keys are usually shared by all sessions, but we don't want
+	 * to grow without bound if a key is ever created per session.
+	 */
+	private static final int MAX_TUNED_KEYS = 1024;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final ConcurrentHashMap<BatchKey, BatchSizeTuner> tuners = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs an AdaptiveBatchBuilder
+	 *
+	 * @param globalBatchSize The initial batch size
+	 * @param minBatchSize The smallest batch size to choose
+	 * @param maxBatchSize The largest batch size to choose
+	 */
+	public AdaptiveBatchBuilder(int globalBatchSize, int minBatchSize, int maxBatchSize) {
+		super( globalBatchSize );
+		if ( minBatchSize < 1 || maxBatchSize < minBatchSize ) {
+			throw new ConfigurationException( "Invalid bounds for adaptive batch size: minimum " + minBatchSize
+					+ " and maximum " + maxBatchSize );
+		}
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * The size currently chosen for the batches with the given key.
+	 */
+	public int getBatchSize(BatchKey key) {
+		final BatchSizeTuner tuner = tuners.get( key );
+		return tuner == null ? getJdbcBatchSize() : tuner.getBatchSize();
+	}
+
+	@Override
+	public Batch buildBatch(
+			BatchKey key,
+			Integer explicitBatchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( !( key instanceof SetBasedUpdateBatchKey ) ) {
+			final int initialBatchSize = explicitBatchSize == null
+					? getJdbcBatchSize()
+					: explicitBatchSize;
+			final BatchSizeTuner tuner = resolveTuner( key, initialBatchSize );
+			if ( tuner != null ) {
+				return new AdaptiveBatch( key, statementGroupSupplier.get(), tuner, jdbcCoordinator );
+			}
+		}
+		return super.buildBatch( key, explicitBatchSize, statementGroupSupplier, jdbcCoordinator );
+	}
+
+	private BatchSizeTuner resolveTuner(BatchKey key, int initialBatchSize) {
+		final BatchSizeTuner tuner = tuners.get( key );
+		if ( tuner != null ) {
+			return tuner;
+		}
+		else if ( tuners.size() < MAX_TUNED_KEYS ) {
+			return tuners.computeIfAbsent( key, k -> new BatchSizeTuner( k, initialBatchSize ) );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Chooses the size of the batches of a certain key from
+	 * moving averages of the size and execution time of a row.
+	 */
+	final class BatchSizeTuner {
+		private final BatchKey key;
+		private volatile int batchSize;
+
+		// guarded by this
+		private double rowSize = -1;
+		private double rowNanos = -1;
+
+		private BatchSizeTuner(BatchKey key, int initialBatchSize) {
+			this.key = key;
+			this.batchSize = Math.max( minBatchSize, Math.min( maxBatchSize, initialBatchSize ) );
+		}
+
+		int getBatchSize() {
+			return batchSize;
+		}
+
+		synchronized void batchExecuted(int rowCount, long payloadSize, long executionNanos) {
+			if ( rowCount > 0 ) {
+				rowSize = average( rowSize, (double) payloadSize / rowCount );
+				rowNanos = average( rowNanos, (double) executionNanos / rowCount );
+				final double sizeForPayload = TARGET_PAYLOAD_SIZE / Math.max( rowSize, 1d );
+				final double sizeForExecution = TARGET_EXECUTION_NANOS / Math.max( rowNanos, 1d );
+				final double size = Math.min( Math.min( sizeForPayload, sizeForExecution ), batchSize * 2d );
+				final int newBatchSize = (int) Math.max( minBatchSize, Math.min( maxBatchSize, size ) );
+				if ( newBatchSize != batchSize ) {
+					if ( BATCH_LOGGER.isDebugEnabled() ) {
+						BATCH_LOGGER.debugf(
+								"Batch size changed from %s to %s - %s",
+								batchSize,
+								newBatchSize,
+								key.toLoggableString()
+						);
+					}
+					batchSize = newBatchSize;
+				}
+			}
+		}
+
+		private static double average(double average, double sample) {
+			return average < 0 ? sample : 0.75 * average + 0.25 * sample;
+		}
+	}
+}
@@ -61,6 +61,9 @@ public Batch buildBatch(
 				: explicitBatchSize;
 		assert batchSize > 1;
 
+		if ( key instanceof SetBasedUpdateBatchKey setBasedUpdateBatchKey ) {
+			return new SetBasedUpdateBatch( setBasedUpdateBatchKey, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		}
 		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
 	}
 
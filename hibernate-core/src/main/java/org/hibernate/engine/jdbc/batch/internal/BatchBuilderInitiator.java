@@ -12,9 +12,13 @@
 import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
+import static org.hibernate.cfg.BatchSettings.ADAPTIVE_BATCH_SIZE;
 import static org.hibernate.cfg.BatchSettings.BATCH_STRATEGY;
 import static org.hibernate.cfg.BatchSettings.BUILDER;
+import static org.hibernate.cfg.BatchSettings.MAX_BATCH_SIZE;
+import static org.hibernate.cfg.BatchSettings.MIN_BATCH_SIZE;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
@@ -42,7 +46,14 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl( getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+			final int batchSize = getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 );
+			return getBoolean( ADAPTIVE_BATCH_SIZE, configurationValues )
+					? new AdaptiveBatchBuilder(
+							batchSize,
+							getInt( MIN_BATCH_SIZE, configurationValues, 1 ),
+							getInt( MAX_BATCH_SIZE, configurationValues, 1000 )
+					)
+					: new BatchBuilderImpl( batchSize );
 		}
 
 		if ( builder instanceof BatchBuilder batchBuilder ) {
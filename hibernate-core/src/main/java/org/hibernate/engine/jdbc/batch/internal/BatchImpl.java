@@ -25,6 +25,7 @@
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static java.util.Objects.requireNonNull;
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
@@ -39,7 +40,7 @@
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
+	private int batchSizeToUse;
 	private final PreparedStatementGroup statementGroup;
 
 	private final JdbcCoordinator jdbcCoordinator;
@@ -88,6 +89,32 @@ public PreparedStatementGroup getStatementGroup() {
 		return statementGroup;
 	}
 
+	/**
+	 * The number of rows after which the batch is executed.
+	 */
+	protected final int getBatchSize() {
+		return batchSizeToUse;
+	}
+
+	/**
+	 * Change the number of rows after which the batch is executed.
+	 * May only be called when the batch holds no rows.
+	 */
+	protected void setBatchSize(int batchSize) {
+		assert batchPosition == 0;
+		if ( staleStateMappers != null && staleStateMappers.length < batchSize ) {
+			staleStateMappers = null;
+		}
+		batchSizeToUse = batchSize;
+	}
+
+	/**
+	 * The number of rows currently held by the batch.
+	 */
+	protected final int getBatchPosition() {
+		return batchPosition;
+	}
+
 	@Override
 	public void addObserver(BatchObserver observer) {
 		observers.add( observer );
@@ -264,7 +291,7 @@ protected void performExecution() {
 								rowCounts = statement.executeBatch();
 							}
 							finally {
-								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql, batchPosition, batchSizeToUse );
 								eventHandler.jdbcExecuteBatchEnd();
 							}
 							checkRowCounts( rowCounts, statementDetails );
@@ -284,6 +311,10 @@ protected void performExecution() {
 				}
 			} );
 			batchExecuted = true;
+			final StatisticsImplementor statistics = jdbcSessionOwner.getJdbcSessionContext().getStatistics();
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.jdbcBatchExecuted( batchPosition, batchSizeToUse );
+			}
 		}
 		finally {
 			jdbcCoordinator.afterStatementExecution();
@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static java.util.Objects.requireNonNull;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link Batch} which executes the updates added to it using a single
+ * statement per table, passing the values of all rows as array parameters,
+ * instead of using {@linkplain PreparedStatement#addBatch JDBC batching}.
+ * <p>
+ * The {@linkplain #getStatementGroup() statements} of the row-by-row updates
+ * are never prepared. The values bound for them are collected, and only sent
+ * to the database when the batch is executed. Since a single statement can
+ * update a row only once, the pending rows are executed before a row with the
+ * same primary key as one of them is added.
+ *
+ * @see SetBasedUpdateBatchKey
+ * @see org.hibernate.cfg.BatchSettings#SET_BASED_UPDATES
+ *
+ * @since 7.0.1
+ */
+public class SetBasedUpdateBatch implements Batch {
+	private final SetBasedUpdateBatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final JdbcCoordinator jdbcCoordinator;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+	private final Map<String, List<Object[]>> rowsByTable = new HashMap<>();
+	private final Map<String, Set<List<Object>>> keysByTable = new HashMap<>();
+
+	private int batchPosition;
+	private StaleStateMapper staleStateMapper;
+
+	public SetBasedUpdateBatch(
+			SetBasedUpdateBatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		requireNonNull( key, "Batch key cannot be null" );
+		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
+
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+	}
+
+	@Override
+	public BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		addRow( jdbcValueBindings, inclusionChecker, staleStateMapper );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		addRow( jdbcValueBindings, inclusionChecker, null );
+	}
+
+	private void addRow(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		final Map<String, Object[]> rows = new LinkedHashMap<>();
+		final boolean[] duplicate = new boolean[1];
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( inclusionChecker == null
+					|| inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
+				final SetBasedUpdateBatchKey.TableUpdate tableUpdate = key.getTableUpdate( tableName );
+				if ( tableUpdate == null ) {
+					throw new AssertionFailure( "No set-based update for table: " + tableName );
+				}
+				final Object[] row = new Object[tableUpdate.elementTypes().length];
+				jdbcValueBindings.getBindingGroup( tableName )
+						.forEachBinding( binding -> row[binding.getPosition() - 1] = binding.getValue() );
+				final Set<List<Object>> keys = keysByTable.get( tableName );
+				if ( keys != null && keys.contains( rowKey( tableUpdate, row ) ) ) {
+					duplicate[0] = true;
+				}
+				rows.put( tableName, row );
+				jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+			}
+		} );
+
+		if ( duplicate[0] ) {
+			// the row is updated a second time, which the same statement can't do
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			performExecution();
+		}
+		// the mapper identifies the entity which could not be updated,
+		// and so it is only of any use for a batch of a single row
+		this.staleStateMapper = batchPosition == 0 ? staleStateMapper : null;
+		rows.forEach( (tableName, row) -> {
+			rowsByTable.computeIfAbsent( tableName, name -> new ArrayList<>( batchSizeToUse ) ).add( row );
+			keysByTable.computeIfAbsent( tableName, name -> new HashSet<>() )
+					.add( rowKey( key.getTableUpdate( tableName ), row ) );
+		} );
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			performExecution();
+		}
+	}
+
+	private static List<Object> rowKey(SetBasedUpdateBatchKey.TableUpdate tableUpdate, Object[] row) {
+		final int[] keyPositions = tableUpdate.keyPositions();
+		final Object[] key = new Object[keyPositions.length];
+		for ( int i = 0; i < keyPositions.length; i++ ) {
+			key[i] = row[keyPositions[i]];
+		}
+		return Arrays.asList( key );
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		if ( batchPosition == 0 ) {
+			BATCH_LOGGER.debugf( "No batched statements to execute - %s", key.toLoggableString() );
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	private void performExecution() {
+		try {
+			// execute the tables in the order of the row-by-row statements
+			statementGroup.forEachStatement( (tableName, statementDetails) -> {
+				final List<Object[]> rows = rowsByTable.get( tableName );
+				if ( rows != null && !rows.isEmpty() ) {
+					executeTableUpdate( key.getTableUpdate( tableName ), statementDetails, rows );
+				}
+			} );
+			final StatisticsImplementor statistics =
+					jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics();
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.jdbcBatchExecuted( batchPosition, batchSizeToUse );
+			}
+		}
+		catch (RuntimeException e) {
+			try {
+				jdbcCoordinator.abortBatch();
+			}
+			catch (RuntimeException re) {
+				e.addSuppressed( re );
+			}
+			throw e;
+		}
+		finally {
+			rowsByTable.clear();
+			keysByTable.clear();
+			batchPosition = 0;
+			staleStateMapper = null;
+		}
+	}
+
+	private void executeTableUpdate(
+			SetBasedUpdateBatchKey.TableUpdate tableUpdate,
+			PreparedStatementDetails statementDetails,
+			List<Object[]> rows) {
+		final String sql = tableUpdate.sql();
+		final SharedSessionContractImplementor session =
+				(SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			final Class<?>[] elementTypes = tableUpdate.elementTypes();
+			for ( int i = 0; i < elementTypes.length; i++ ) {
+				final Object values = Array.newInstance( elementTypes[i], rows.size() );
+				for ( int j = 0; j < rows.size(); j++ ) {
+					Array.set( values, j, rows.get( j )[i] );
+				}
+				tableUpdate.arrayJdbcMappings()[i].getJdbcValueBinder().bind( statement, values, i + 1, session );
+			}
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				checkRowCount( rows.size(), rowCount, sql );
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "could not execute set-based update", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private void checkRowCount(int expectedRowCount, int rowCount, String sql) {
+		if ( expectedRowCount > rowCount ) {
+			final StaleStateException staleStateException = new StaleStateException(
+					"Set-based update returned unexpected row count (expected row count "
+							+ expectedRowCount + " but was " + rowCount + ") [" + sql + "]"
+			);
+			throw staleStateMapper == null ? staleStateException : staleStateMapper.map( staleStateException );
+		}
+		else if ( expectedRowCount < rowCount ) {
+			throw new TooManyRowsAffectedException(
+					"Set-based update returned unexpected row count (expected row count "
+							+ expectedRowCount + " but was " + rowCount + ")",
+					expectedRowCount,
+					rowCount
+			);
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( batchPosition != 0 ) {
+			BATCH_LOGGER.debugf( "Set-based update batch released with %s pending rows", batchPosition );
+		}
+		rowsByTable.clear();
+		keysByTable.clear();
+		batchPosition = 0;
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "SetBasedUpdateBatch(" + key.toLoggableString() + ")";
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+
+/**
+ * A {@link BatchKey} for updates which may be executed as a single set-based
+ * statement per table, instead of row by row. Such keys result in a
+ * {@link SetBasedUpdateBatch}.
+ *
+ * @see org.hibernate.cfg.BatchSettings#SET_BASED_UPDATES
+ *
+ * @since 7.0.1
+ */
+public final class SetBasedUpdateBatchKey implements BatchKey {
+	private final String comparison;
+	private final Map<String, TableUpdate> tableUpdates;
+
+	/**
+	 * @param comparison The string identifying the batch, as for {@link BasicBatchKey}
+	 * @param tableUpdates The set-based update of each table, keyed by table name
+	 */
+	public SetBasedUpdateBatchKey(String comparison, Map<String, TableUpdate> tableUpdates) {
+		this.comparison = comparison;
+		this.tableUpdates = tableUpdates;
+	}
+
+	/**
+	 * The set-based update of the given table, or {@code null} if the
+	 * updates of that table must be executed row by row.
+	 */
+	public TableUpdate getTableUpdate(String tableName) {
+		return tableUpdates.get( tableName );
+	}
+
+	/**
+	 * A statement updating multiple rows of a table at once.
+	 *
+	 * @param sql The SQL of the statement, with one array parameter per parameter of the row-by-row update
+	 * @param arrayJdbcMappings The type of each array parameter
+	 * @param elementTypes The Java type of the elements of each array parameter
+	 * @param keyPositions The positions of the parameters of the primary key columns
+	 *
+	 * @see org.hibernate.dialect.Dialect#getSetBasedUpdateString
+	 */
+	public record TableUpdate(
+			String sql,
+			JdbcMapping[] arrayJdbcMappings,
+			Class<?>[] elementTypes,
+			int[] keyPositions) {
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return this == object
+			|| object instanceof SetBasedUpdateBatchKey that && comparison.equals( that.comparison );
+	}
+
+	@Override
+	public int hashCode() {
+		return comparison.hashCode();
+	}
+
+	@Override
+	public String toLoggableString() {
+		return comparison;
+	}
+
+	@Override
+	public String toString() {
+		return "SetBasedUpdateBatchKey(" + comparison + ")";
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.engine.jdbc.LobCreator;
+
+import static org.hibernate.type.descriptor.java.ByteBufferJavaType.isBackedByWholeArray;
+
+/**
+ * Implementation of {@link BinaryStream} backed by a {@link ByteBuffer}.
+ * <p>
+ * The content of the buffer, from its position to its limit, is read
+ * directly from the buffer, without being copied to an intermediate
+ * array, even if the buffer is a direct or memory-mapped buffer. The
+ * position of the given buffer is not affected by reading the stream.
+ *
+ * @since 7.0.1
+ */
+public class ByteBufferBinaryStream extends InputStream implements BinaryStream {
+	private final ByteBuffer source;
+	private final ByteBuffer buffer;
+	private final int length;
+	private int mark;
+
+	/**
+	 * Constructs a ByteBufferBinaryStream
+	 *
+	 * @param source The buffer holding the bytes of the stream
+	 */
+	public ByteBufferBinaryStream(ByteBuffer source) {
+		this.source = source;
+		this.buffer = source.duplicate();
+		this.length = buffer.remaining();
+		this.mark = buffer.position();
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return this;
+	}
+
+	@Override
+	public byte[] getBytes() {
+		if ( isBackedByWholeArray( source ) ) {
+			return source.array();
+		}
+		else {
+			final byte[] bytes = new byte[length];
+			source.duplicate().get( bytes );
+			return bytes;
+		}
+	}
+
+	@Override
+	public long getLength() {
+		return length;
+	}
+
+	@Override
+	public Blob asBlob(LobCreator lobCreator) {
+		return lobCreator.createBlob( new ByteBufferBinaryStream( source ), length );
+	}
+
+	@Override
+	public void release() {
+		// nothing to release, the buffer is owned by the application
+	}
+
+	@Override
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int count) {
+		if ( count == 0 ) {
+			return 0;
+		}
+		else if ( !buffer.hasRemaining() ) {
+			return -1;
+		}
+		else {
+			final int read = Math.min( count, buffer.remaining() );
+			buffer.get( bytes, offset, read );
+			return read;
+		}
+	}
+
+	@Override
+	public long skip(long count) {
+		final int skipped = (int) Math.max( 0, Math.min( count, buffer.remaining() ) );
+		buffer.position( buffer.position() + skipped );
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public void mark(int readLimit) {
+		mark = buffer.position();
+	}
+
+	@Override
+	public void reset() {
+		buffer.position( mark );
+	}
+
+	@Override
+	public long transferTo(OutputStream out) throws IOException {
+		final int remaining = buffer.remaining();
+		if ( buffer.hasArray() ) {
+			// write straight from the backing array
+			out.write( buffer.array(), buffer.arrayOffset() + buffer.position(), remaining );
+			buffer.position( buffer.limit() );
+			return remaining;
+		}
+		else {
+			return super.transferTo( out );
+		}
+	}
+}
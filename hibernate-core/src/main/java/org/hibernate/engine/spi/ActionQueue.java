@@ -8,12 +8,12 @@
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -1099,13 +1099,16 @@ private TransactionCompletionProcesses(
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
+	 * The algorithm first assigns a dense index to every insert action, records the direct dependencies between the
+	 * insert actions in primitive arrays, and groups all inserts by the entity name.
+	 * Then, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
+	 * Scheduling a group once all the groups it directly depends on are scheduled is equivalent to considering the
+	 * transitive dependencies of every insert, so that the whole process is linear in the number of inserts.
 	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
-	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
-	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
+	 * The inserts of insert groups which can't be scheduled serially, for example because an entity references other
+	 * instances of the same entity, are ordered level by level, where each level contains the inserts whose
+	 * dependencies are all part of the previous levels, and are grouped by entity name within a level.
+	 * Only the inserts which are part of an actual dependency cycle are going to be inserted in the original order.
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
 		/**
@@ -1113,82 +1116,62 @@ private static class InsertActionSorter implements ExecutableList.Sorter<Abstrac
 		 */
 		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
 
-		private static class InsertInfo {
-			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
-
-			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
-				this.insertAction = insertAction;
-				this.index = index;
+		/**
+		 * The direct dependencies between the insert actions, where the insert action at index {@code dependents[i]}
+		 * must be executed after the insert action at index {@code dependencies[i]}.
+		 */
+		private static class Dependencies {
+			private final IdentityHashMap<Object, Integer> indexesByEntity;
+			private int[] dependents;
+			private int[] dependencies;
+			private int size;
+
+			private Dependencies(int insertCount, IdentityHashMap<Object, Integer> indexesByEntity) {
+				this.indexesByEntity = indexesByEntity;
+				final int capacity = Math.max( insertCount, 16 );
+				this.dependents = new int[capacity];
+				this.dependencies = new int[capacity];
+			}
+
+			private void add(int dependent, int dependency) {
+				if ( size == dependents.length ) {
+					dependents = Arrays.copyOf( dependents, size << 1 );
+					dependencies = Arrays.copyOf( dependencies, size << 1 );
+				}
+				dependents[size] = dependent;
+				dependencies[size] = dependency;
+				size++;
 			}
 
-			public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
+			private void addDirectDependencies(AbstractEntityInsertAction insertAction, int index) {
 				final Object[] propertyValues = insertAction.getState();
 				final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
 				for ( int i = 0, propertyTypesLength = propertyTypes.length; i < propertyTypesLength; i++ ) {
-					addDirectDependency( propertyTypes[i], propertyValues[i], insertInfosByEntity );
-				}
-			}
-
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
-					}
-				}
-			}
-
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
-				}
-			}
-
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
-					}
+					addDirectDependency( insertAction, index, propertyTypes[i], propertyValues[i] );
 				}
 			}
 
-			private void addDirectDependency(Type type, @Nullable Object value, IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
+			private void addDirectDependency(
+					AbstractEntityInsertAction insertAction,
+					int index,
+					Type type,
+					@Nullable Object value) {
 				if ( value == null ) {
 					return;
 				}
 				if ( type instanceof EntityType entityType ) {
-					final InsertInfo insertInfo = insertInfosByEntity.get( value );
-					if ( insertInfo != null ) {
+					final Integer dependency = indexesByEntity.get( value );
+					if ( dependency != null ) {
 						if ( entityType.isOneToOne()
 								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+							// The associated entity holds the foreign key, so it depends on this insert.
+							// It's necessary to record this for unidirectional associations.
 							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
+								add( dependency, index );
 							}
 						}
 						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+							add( index, dependency );
 						}
 					}
 				}
@@ -1204,53 +1187,22 @@ else if ( type instanceof CollectionType collectionType ) {
 							&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
 						final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
 						while ( elementsIterator.hasNext() ) {
-							final Object element = elementsIterator.next();
-							final InsertInfo insertInfo = insertInfosByEntity.get( element );
-							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
+							final Integer dependent = indexesByEntity.get( elementsIterator.next() );
+							if ( dependent != null ) {
+								add( dependent, index );
 							}
 						}
 					}
 				}
 				else if ( type instanceof ComponentType compositeType ) {
 					// Support recursive checks of composite type properties for associations and collections.
-					final SharedSessionContractImplementor session = insertAction.getSession();
-					final Object[] componentValues = compositeType.getPropertyValues( value, session );
+					final Object[] componentValues = compositeType.getPropertyValues( value, insertAction.getSession() );
+					final Type[] componentValueTypes = compositeType.getSubtypes();
 					for ( int j = 0; j < componentValues.length; ++j ) {
-						final Type componentValueType = compositeType.getSubtypes()[j];
-						final Object componentValue = componentValues[j];
-						addDirectDependency( componentValueType, componentValue, insertInfosByEntity );
+						addDirectDependency( insertAction, index, componentValueTypes[j], componentValues[j] );
 					}
 				}
 			}
-
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
-				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
-			}
-
-			@Override
-			public String toString() {
-				return "InsertInfo{" +
-					"insertAction=" + insertAction +
-					'}';
-			}
 		}
 
 		public InsertActionSorter() {
@@ -1260,146 +1212,179 @@ public InsertActionSorter() {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			final int insertInfoCount = insertions.size();
-			// Build up dependency metadata for insert actions
-			final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
-			// A map of all insert infos keyed by the entity instance
-			// This is needed to discover insert infos for direct dependencies
-			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
-			// Construct insert infos and build a map for that, keyed by entity instance
-			for (int i = 0; i < insertInfoCount; i++) {
-				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
-				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
-				insertInfos[i] = insertInfo;
+			final int insertCount = insertions.size();
+			final AbstractEntityInsertAction[] insertActions = insertions.toArray( new AbstractEntityInsertAction[0] );
+			// Assign a dense index to every insert action, keyed by entity instance,
+			// and a group to every insert action, numbered by first appearance of the entity name
+			final IdentityHashMap<Object, Integer> indexesByEntity = new IdentityHashMap<>( insertCount );
+			final Map<String, Integer> groupsByEntityName = new HashMap<>();
+			final int[] groups = new int[insertCount];
+			for ( int i = 0; i < insertCount; i++ ) {
+				final AbstractEntityInsertAction insertAction = insertActions[i];
+				indexesByEntity.put( insertAction.getInstance(), i );
+				final String entityName = insertAction.getPersister().getEntityName();
+				Integer group = groupsByEntityName.get( entityName );
+				if ( group == null ) {
+					group = groupsByEntityName.size();
+					groupsByEntityName.put( entityName, group );
+				}
+				groups[i] = group;
 			}
+			final int groupCount = groupsByEntityName.size();
+
 			// First we must discover the direct dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
-			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
-			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
-				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
-				}
-				entityInsertGroup.add(insertInfo);
+			final Dependencies dependencies = new Dependencies( insertCount, indexesByEntity );
+			for ( int i = 0; i < insertCount; i++ ) {
+				dependencies.addDirectDependencies( insertActions[i], i );
 			}
-			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
+			// Then we can derive the dependencies between the groups
+			final BitSet[] groupDependencies = new BitSet[groupCount];
+			for ( int g = 0; g < groupCount; g++ ) {
+				groupDependencies[g] = new BitSet( groupCount );
+			}
+			for ( int e = 0; e < dependencies.size; e++ ) {
+				groupDependencies[groups[dependencies.dependents[e]]].set( groups[dependencies.dependencies[e]] );
+			}
+
+			// Now we can go through the groups and schedule all the ones
+			// for which we have already scheduled all the dependency groups
+			final BitSet scheduledGroups = new BitSet( groupCount );
+			final int[] groupSchedule = new int[groupCount];
+			int scheduledGroupCount = 0;
+			int lastScheduledGroupCount;
 			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
-				while (iterator.hasNext()) {
-					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
-						iterator.remove();
+				lastScheduledGroupCount = scheduledGroupCount;
+				for ( int g = 0; g < groupCount; g++ ) {
+					if ( !scheduledGroups.get( g ) && containsAll( scheduledGroups, groupDependencies[g] ) ) {
+						scheduledGroups.set( g );
+						groupSchedule[scheduledGroupCount++] = g;
 					}
 				}
-				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
-				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
-					"This might indicate a circular entity relationship.");
+				// we try to schedule groups over and over again, until we can't schedule any further
+			} while ( lastScheduledGroupCount != scheduledGroupCount );
+
+			// Lay out the inserts of every group in their original order
+			final int[] groupStarts = new int[groupCount + 1];
+			for ( int i = 0; i < insertCount; i++ ) {
+				groupStarts[groups[i] + 1]++;
+			}
+			for ( int g = 0; g < groupCount; g++ ) {
+				groupStarts[g + 1] += groupStarts[g];
+			}
+			final int[] groupMembers = new int[insertCount];
+			final int[] groupPositions = Arrays.copyOf( groupStarts, groupCount );
+			for ( int i = 0; i < insertCount; i++ ) {
+				groupMembers[groupPositions[groups[i]]++] = i;
 			}
+
+			final int[] schedule = new int[insertCount];
+			int schedulePosition = 0;
+			for ( int s = 0; s < scheduledGroupCount; s++ ) {
+				final int group = groupSchedule[s];
+				final int groupSize = groupStarts[group + 1] - groupStarts[group];
+				System.arraycopy( groupMembers, groupStarts[group], schedule, schedulePosition, groupSize );
+				schedulePosition += groupSize;
+			}
+			if ( schedulePosition < insertCount ) {
+				scheduleByLevel( groups, scheduledGroups, dependencies, schedule, schedulePosition );
+			}
+
 			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
-				}
+			for ( int index : schedule ) {
+				insertions.add( insertActions[index] );
 			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
+		}
+
+		private static boolean containsAll(BitSet set, BitSet subset) {
+			for ( int i = subset.nextSetBit( 0 ); i >= 0; i = subset.nextSetBit( i + 1 ) ) {
+				if ( !set.get( i ) ) {
+					return false;
 				}
 			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
+			return true;
 		}
 
-		public static class EntityInsertGroup {
-			private final String entityName;
-			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
-
-			public EntityInsertGroup(String entityName) {
-				this.entityName = entityName;
+		/**
+		 * Schedule the inserts of the groups which could not be scheduled serially, level by level.
+		 */
+		private static void scheduleByLevel(
+				int[] groups,
+				BitSet scheduledGroups,
+				Dependencies dependencies,
+				int[] schedule,
+				int schedulePosition) {
+			final int insertCount = groups.length;
+			// Count the unfulfilled dependencies of every remaining insert, ignoring references of an entity to
+			// itself, and index the dependents of every remaining insert. Note that the inserts of scheduled
+			// groups never depend on remaining inserts.
+			final int[] unfulfilledDependencies = new int[insertCount];
+			final int[] dependentStarts = new int[insertCount + 1];
+			for ( int e = 0; e < dependencies.size; e++ ) {
+				final int dependent = dependencies.dependents[e];
+				final int dependency = dependencies.dependencies[e];
+				if ( dependent != dependency && !scheduledGroups.get( groups[dependency] ) ) {
+					unfulfilledDependencies[dependent]++;
+					dependentStarts[dependency + 1]++;
+				}
 			}
-
-			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
-					}
+			for ( int i = 0; i < insertCount; i++ ) {
+				dependentStarts[i + 1] += dependentStarts[i];
+			}
+			final int[] dependents = new int[dependentStarts[insertCount]];
+			final int[] dependentPositions = Arrays.copyOf( dependentStarts, insertCount );
+			for ( int e = 0; e < dependencies.size; e++ ) {
+				final int dependent = dependencies.dependents[e];
+				final int dependency = dependencies.dependencies[e];
+				if ( dependent != dependency && !scheduledGroups.get( groups[dependency] ) ) {
+					dependents[dependentPositions[dependency]++] = dependent;
 				}
 			}
 
-			@Override
-			public String toString() {
-				return "EntityInsertGroup{" +
-					"entityName='" + entityName + '\'' +
-					'}';
+			// The inserts of a level are sorted by group and then by original position,
+			// so they are encoded as the group in the high bits and the index in the low bits
+			final int remainingCount = insertCount - schedulePosition;
+			long[] level = new long[remainingCount];
+			long[] nextLevel = new long[remainingCount];
+			int levelSize = 0;
+			for ( int i = 0; i < insertCount; i++ ) {
+				if ( unfulfilledDependencies[i] == 0 && !scheduledGroups.get( groups[i] ) ) {
+					level[levelSize++] = levelEntry( groups[i], i );
+				}
+			}
+			while ( levelSize > 0 ) {
+				Arrays.sort( level, 0, levelSize );
+				int nextLevelSize = 0;
+				for ( int k = 0; k < levelSize; k++ ) {
+					final int index = (int) level[k];
+					schedule[schedulePosition++] = index;
+					for ( int d = dependentStarts[index]; d < dependentStarts[index + 1]; d++ ) {
+						final int dependent = dependents[d];
+						if ( --unfulfilledDependencies[dependent] == 0 ) {
+							nextLevel[nextLevelSize++] = levelEntry( groups[dependent], dependent );
+						}
+					}
+				}
+				final long[] previousLevel = level;
+				level = nextLevel;
+				nextLevel = previousLevel;
+				levelSize = nextLevelSize;
+			}
+
+			if ( schedulePosition < insertCount ) {
+				LOG.warn( "The batch containing " + insertCount + " statements could not be sorted. " +
+						"This might indicate a circular entity relationship." );
+				// The inserts which are part of a dependency cycle, or depend on one, keep their original order
+				for ( int i = 0; i < insertCount; i++ ) {
+					if ( unfulfilledDependencies[i] > 0 && !scheduledGroups.get( groups[i] ) ) {
+						schedule[schedulePosition++] = i;
+					}
+				}
 			}
 		}
 
+		private static long levelEntry(int group, int index) {
+			return ( (long) group << 32 ) | index;
+		}
 	}
 
 }
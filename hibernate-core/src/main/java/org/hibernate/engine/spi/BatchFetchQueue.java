@@ -4,11 +4,15 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -52,6 +56,17 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<EntityKey, SubselectFetch> subselectsByEntityKey;
 
+	/**
+	 * The {@link SubselectFetch subselect-fetch descriptor} whose owner identifiers
+	 * are currently held in the temporary table of each entity hierarchy, keyed by
+	 * the name of the root entity, when subselect fetching via a
+	 * {@linkplain org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_TEMPORARY_TABLE
+	 * temporary table} is enabled. Since the rows of a temporary table outlive
+	 * the persistence context, this is not reset by {@link #clear()}, but only
+	 * when the temporary table is cleaned at the end of the transaction.
+	 */
+	private @Nullable Map<String, SubselectFetch> subselectsInTemporaryTables;
+
 	/**
 	 * Used to hold information about the entities that are currently eligible for batch-fetching. Ultimately
 	 * used by {@link #getBatchLoadableEntityIds} to build entity load batches.
@@ -67,6 +82,22 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The number of fetches of a single key of each entity or collection role
+	 * while other keys of the role were waiting to be fetched, used to detect
+	 * N+1 selects when {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} is enabled.
+	 */
+	private @Nullable Map<String, Integer> singleKeyFetchCounts;
+
+	/**
+	 * Used to hold the entities with lazy attributes which have not yet been
+	 * loaded, segmented by entity type and then by lazy fetch group. Ultimately used by
+	 * {@link #getBatchLoadableLazyAttributeOwnerIds} to load a lazy fetch
+	 * group for several entities at once.
+	 */
+	private @Nullable Map<String, Map<String, LinkedHashSet<EntityKey>>> batchLoadableLazyAttributeOwners;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -85,6 +116,7 @@ public void clear() {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		batchLoadableLazyAttributeOwners = null;
 	}
 
 
@@ -137,6 +169,62 @@ public void removeSubselect(EntityKey key) {
 		}
 	}
 
+	/**
+	 * Retrieve the fetch descriptor whose owner identifiers are currently held in
+	 * the temporary table of the given entity hierarchy.
+	 *
+	 * @param rootEntityName The name of the root entity of the hierarchy
+	 * @return The fetch descriptor; may return null if the temporary table does
+	 * not currently hold the identifiers of any subselect fetch.
+	 *
+	 * @see #isTemporaryTableInUse(String)
+	 *
+	 * @since 7.0.1
+	 */
+	public @Nullable SubselectFetch getSubselectInTemporaryTable(String rootEntityName) {
+		if ( subselectsInTemporaryTables == null ) {
+			return null;
+		}
+		return subselectsInTemporaryTables.get( rootEntityName );
+	}
+
+	/**
+	 * Has the temporary table of the given entity hierarchy been populated since
+	 * it was last cleaned?
+	 *
+	 * @param rootEntityName The name of the root entity of the hierarchy
+	 *
+	 * @since 7.0.1
+	 */
+	public boolean isTemporaryTableInUse(String rootEntityName) {
+		return subselectsInTemporaryTables != null
+			&& subselectsInTemporaryTables.containsKey( rootEntityName );
+	}
+
+	/**
+	 * Record that the temporary table of the given entity hierarchy now holds the
+	 * owner identifiers of the given subselect fetch.
+	 *
+	 * @param rootEntityName The name of the root entity of the hierarchy
+	 * @param subselect The fetch descriptor, or null if the temporary table was cleaned
+	 * at the end of the transaction
+	 *
+	 * @since 7.0.1
+	 */
+	public void setSubselectInTemporaryTable(String rootEntityName, @Nullable SubselectFetch subselect) {
+		if ( subselect == null ) {
+			if ( subselectsInTemporaryTables != null ) {
+				subselectsInTemporaryTables.remove( rootEntityName );
+			}
+		}
+		else {
+			if ( subselectsInTemporaryTables == null ) {
+				subselectsInTemporaryTables = mapOfSize( 4 );
+			}
+			subselectsInTemporaryTables.put( rootEntityName, subselect );
+		}
+	}
+
 	// entity batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -501,4 +589,141 @@ private boolean isCached(EntityKey entityKey, EntityPersister persister) {
 			return false;
 		}
 	}
+
+	// lazy attribute batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Register an entity with lazy attributes which have not yet been loaded,
+	 * so that its lazy attributes may be loaded in a batch with those of other
+	 * entities of the same type. The entity is queued once for each lazy fetch
+	 * group which has an attribute left to load.
+	 *
+	 * @since 7.0.1
+	 */
+	public void addBatchLoadableLazyAttributeOwner(EntityKey key, Object entity) {
+		final var enhancementMetadata = key.getPersister().getBytecodeEnhancementMetadata();
+		final var interceptor = enhancementMetadata.extractInterceptor( entity );
+		if ( interceptor != null ) {
+			final var lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
+			for ( String fetchGroup : lazyAttributesMetadata.getFetchGroupNames() ) {
+				if ( !isFetchGroupLoaded( interceptor,
+						lazyAttributesMetadata.getFetchGroupAttributeDescriptors( fetchGroup ) ) ) {
+					if ( batchLoadableLazyAttributeOwners == null ) {
+						batchLoadableLazyAttributeOwners = mapOfSize( 12 );
+					}
+					batchLoadableLazyAttributeOwners
+							.computeIfAbsent( key.getEntityName(), k -> mapOfSize( 4 ) )
+							.computeIfAbsent( fetchGroup, k -> linkedSetOfSize( 8 ) )
+							.add( key );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of identifiers of entities of the given type whose attributes
+	 * of the given lazy fetch group have not yet been loaded. The given id is
+	 * always the first element of the batch. The entities of the batch are
+	 * removed from the queue of the fetch group, along with entities which are
+	 * no longer associated with the persistence context, or which have already
+	 * loaded every attribute of the fetch group.
+	 *
+	 * @since 7.0.1
+	 */
+	public Object[] getBatchLoadableLazyAttributeOwnerIds(
+			final EntityPersister persister,
+			final String fetchGroup,
+			final Object loadingId,
+			final int maxBatchSize) {
+		final Object[] ids = new Object[maxBatchSize];
+		ids[0] = loadingId;
+		int i = 1;
+		if ( batchLoadableLazyAttributeOwners != null ) {
+			final Map<String, LinkedHashSet<EntityKey>> queues =
+					batchLoadableLazyAttributeOwners.get( persister.getEntityName() );
+			final LinkedHashSet<EntityKey> set = queues == null ? null : queues.get( fetchGroup );
+			if ( set != null ) {
+				final var enhancementMetadata = persister.getBytecodeEnhancementMetadata();
+				final var attributeDescriptors =
+						enhancementMetadata.getLazyAttributesMetadata()
+								.getFetchGroupAttributeDescriptors( fetchGroup );
+				final EntityIdentifierMapping identifierMapping = persister.getIdentifierMapping();
+				final var iterator = set.iterator();
+				while ( iterator.hasNext() && i < maxBatchSize ) {
+					final EntityKey key = iterator.next();
+					final Object entity = context.getEntity( key );
+					final var interceptor = entity == null ? null : enhancementMetadata.extractInterceptor( entity );
+					if ( interceptor == null || isFetchGroupLoaded( interceptor, attributeDescriptors ) ) {
+						iterator.remove();
+					}
+					else if ( identifierMapping.areEqual( loadingId, key.getIdentifier(), context.getSession() ) ) {
+						// the fetch group of this entity is about to be loaded
+						iterator.remove();
+					}
+					else {
+						ids[i++] = key.getIdentifier();
+						iterator.remove();
+					}
+				}
+				if ( set.isEmpty() ) {
+					queues.remove( fetchGroup );
+				}
+			}
+		}
+		return i == maxBatchSize ? ids : Arrays.copyOf( ids, i );
+	}
+
+	private static boolean isFetchGroupLoaded(
+			LazyAttributeLoadingInterceptor interceptor,
+			List<LazyAttributeDescriptor> attributeDescriptors) {
+		for ( LazyAttributeDescriptor attributeDescriptor : attributeDescriptors ) {
+			if ( !interceptor.isAttributeLoaded( attributeDescriptor.getName() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// adaptive batch fetching support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * The number of keys of the given entity waiting to be batch fetched.
+	 *
+	 * @since 7.0.1
+	 */
+	public int countBatchLoadableEntityKeys(EntityPersister persister) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( persister.getEntityName() );
+		return set == null ? 0 : set.size();
+	}
+
+	/**
+	 * The number of collections of the given role waiting to be batch fetched.
+	 *
+	 * @since 7.0.1
+	 */
+	public int countBatchLoadableCollections(CollectionPersister persister) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final var map = batchLoadableCollections.get( persister.getRole() );
+		return map == null ? 0 : map.size();
+	}
+
+	/**
+	 * Record a fetch of a single key of the given entity or collection
+	 * role while other keys of the role were waiting to be fetched.
+	 *
+	 * @return The number of such fetches of the role in this session
+	 *
+	 * @since 7.0.1
+	 */
+	public int recordSingleKeyFetch(String role) {
+		if ( singleKeyFetchCounts == null ) {
+			singleKeyFetchCounts = mapOfSize( 8 );
+		}
+		return singleKeyFetchCounts.merge( role, 1, Integer::sum );
+	}
 }
@@ -205,7 +205,7 @@ public void postInitialize(PersistentCollection<?> collection, SharedSessionCont
 				: null;
 		collection.setSnapshot( loadedKey, role, snapshot );
 		if ( loadedPersister != null
-				&& session.getLoadQueryInfluencers().effectivelyBatchLoadable( loadedPersister ) ) {
+				&& session.getLoadQueryInfluencers().isBatchFetchQueued( loadedPersister ) ) {
 			session.getPersistenceContextInternal().getBatchFetchQueue()
 					.removeBatchLoadableCollection( this );
 		}
@@ -40,6 +40,30 @@ public interface EntityEntry {
 
 	Object[] getLoadedState();
 
+	/**
+	 * The {@linkplain #getLoadedState() loaded state}, for reading only.
+	 * Unlike {@link #getLoadedState()}, this method may return a decoded
+	 * copy of state stored {@linkplain org.hibernate.cfg.PersistenceSettings#OFF_HEAP_ENTITY_SNAPSHOTS
+	 * off-heap} without bringing it back onto the heap, and so the returned
+	 * array must not be modified.
+	 *
+	 * @since 7.0.1
+	 */
+	default Object[] readLoadedState() {
+		return getLoadedState();
+	}
+
+	/**
+	 * Is there a {@linkplain #getLoadedState() loaded state}? Unlike
+	 * {@code getLoadedState() != null}, this never decodes state stored
+	 * off-heap.
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean hasLoadedState() {
+		return getLoadedState() != null;
+	}
+
 	Object getLoadedValue(String propertyName);
 
 	void overwriteLoadedStateCollectionValue(String propertyName, PersistentCollection<?> collection);
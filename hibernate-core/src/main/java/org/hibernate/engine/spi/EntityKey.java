@@ -65,7 +65,7 @@ private int generateHashCode() {
 	}
 
 	public boolean isBatchLoadable(LoadQueryInfluencers influencers) {
-		return influencers.effectivelyBatchLoadable( persister );
+		return influencers.isBatchFetchQueued( persister );
 	}
 
 	public Object getIdentifierValue() {
@@ -0,0 +1,368 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Incubating;
+import org.hibernate.Internal;
+import org.hibernate.SessionEventListener;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.graph.internal.RootGraphImpl;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.ToOneAttributeMapping;
+import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import org.jboss.logging.Logger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Learns a fetch plan for each HQL query returning entities, and applies
+ * the learned plan to subsequent executions of the query.
+ * <p>
+ * The entities returned by a query are observed until the session ends.
+ * The associations and lazy attributes of the queried entity which were
+ * not initialized when the query returned, but which were initialized
+ * by the time the session ended, are counted. Once at least
+ * {@value #MIN_OBSERVATIONS} results have been observed with a certain
+ * association or attribute uninitialized, and it was initialized later
+ * for at least half of them, the association or attribute becomes part
+ * of the fetch plan of the query, and is fetched by every subsequent
+ * execution of the query, as if it were a {@linkplain
+ * org.hibernate.graph.GraphSemantic#LOAD load graph}.
+ * <p>
+ * Only associations and attributes of the queried entity itself are
+ * learned, and the fetch plan of a query includes at most one collection.
+ * Collections are never fetched by a query with a limit or with a
+ * collection fetch join. Only results obtained as a list are observed,
+ * and only such executions are affected by the fetch plan: queries whose
+ * results are streamed or scrolled, queries with a lock mode, queries
+ * with an explicit entity graph, and criteria queries, are not affected.
+ * <p>
+ * Learning may be switched off at runtime by calling {@link #setEnabled},
+ * and the fetch plans learned so far may be listed with
+ * {@link #getLearnedFetchPlans()}.
+ *
+ * @see org.hibernate.cfg.FetchSettings#FETCH_PLAN_LEARNING
+ * @see SessionFactoryImplementor#getFetchPlanLearner()
+ *
+ * @since 7.0.1
+ */
+@Incubating
+public class FetchPlanLearner {
+	private static final Logger log = Logger.getLogger( FetchPlanLearner.class );
+
+	/**
+	 * The number of results which must be observed with an association
+	 * or attribute uninitialized before it can become part of a fetch plan.
+	 */
+	public static final int MIN_OBSERVATIONS = 10;
+
+	/**
+	 * The number of results of a query observed per session.
+	 */
+	private static final int MAX_OBSERVATIONS_PER_SESSION = 100;
+
+	/**
+	 * The number of queries for which a fetch plan is learned.
+	 */
+	private static final int MAX_QUERIES = 1024;
+
+	private final ConcurrentHashMap<String, QueryProfile> profiles = new ConcurrentHashMap<>();
+	private volatile boolean enabled = true;
+
+	/**
+	 * Are fetch plans currently learned and applied?
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Switch learning and application of fetch plans on or off.
+	 * Fetch plans learned so far are kept, and applied again if
+	 * learning is switched back on.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Forget all fetch plans learned so far.
+	 */
+	public void clear() {
+		profiles.clear();
+	}
+
+	/**
+	 * The fetch plans learned so far, as a map from query string to a
+	 * comma-separated list of the fetched associations and attributes,
+	 * in the syntax accepted by {@link org.hibernate.graph.GraphParser}.
+	 * Queries for which nothing has been learned yet are omitted.
+	 */
+	public Map<String, String> getLearnedFetchPlans() {
+		final Map<String, String> fetchPlans = new TreeMap<>();
+		profiles.forEach( (query, profile) -> {
+			final String fetchPlan = profile.getLearnedFetchPlan();
+			if ( !fetchPlan.isEmpty() ) {
+				fetchPlans.put( query, fetchPlan );
+			}
+		} );
+		return fetchPlans;
+	}
+
+	/**
+	 * The graph to apply to an execution of the given query, or
+	 * {@code null} if nothing has been learned for the query.
+	 *
+	 * @param allowCollections Whether the graph may fetch a collection
+	 */
+	@Internal
+	public @Nullable RootGraphImplementor<?> getLearnedGraph(String query, boolean allowCollections) {
+		if ( enabled ) {
+			final QueryProfile profile = profiles.get( query );
+			return profile == null ? null : profile.getLearnedGraph( allowCollections );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Observe the entities returned by an execution of the given query
+	 * until the session ends.
+	 *
+	 * @param entityType The entity type returned by the query
+	 */
+	@Internal
+	public void observe(
+			String query,
+			EntityDomainType<?> entityType,
+			List<?> results,
+			SharedSessionContractImplementor session) {
+		if ( enabled && !results.isEmpty() ) {
+			final QueryProfile profile = resolveProfile( query, entityType, session.getFactory() );
+			if ( profile != null && profile.hasCandidates() ) {
+				// the recording lives and dies with the session
+				final SessionEventListenerManager listeners = session.getEventListenerManager();
+				Recording recording = listeners.findListener( Recording.class );
+				if ( recording == null ) {
+					recording = new Recording();
+					listeners.addListener( recording );
+				}
+				recording.observe( profile, results );
+			}
+		}
+	}
+
+	private @Nullable QueryProfile resolveProfile(
+			String query,
+			EntityDomainType<?> entityType,
+			SessionFactoryImplementor factory) {
+		final QueryProfile profile = profiles.get( query );
+		if ( profile != null ) {
+			return profile;
+		}
+		else if ( profiles.size() < MAX_QUERIES ) {
+			final EntityPersister persister =
+					factory.getMappingMetamodel().getEntityDescriptor( entityType.getHibernateEntityName() );
+			return profiles.computeIfAbsent( query, q -> new QueryProfile( q, entityType, persister ) );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * The statistics gathered for a query, and the fetch plan learned from them.
+	 */
+	private static final class QueryProfile {
+		private final String query;
+		private final EntityDomainType<?> entityType;
+		private final AttributeMapping[] candidates;
+
+		// guarded by this
+		private final int[] uninitializedCounts;
+		private final int[] initializedLaterCounts;
+
+		private volatile String learnedFetchPlan = "";
+		private volatile @Nullable RootGraphImplementor<?> learnedGraph;
+		private volatile @Nullable RootGraphImplementor<?> learnedGraphWithoutCollections;
+
+		private QueryProfile(String query, EntityDomainType<?> entityType, EntityPersister persister) {
+			this.query = query;
+			this.entityType = entityType;
+			final List<AttributeMapping> candidates = new ArrayList<>();
+			persister.forEachAttributeMapping( attributeMapping -> {
+				if ( attributeMapping instanceof PluralAttributeMapping
+						|| attributeMapping instanceof ToOneAttributeMapping
+						|| persister.getBytecodeEnhancementMetadata().getLazyAttributesMetadata()
+								.isLazyAttribute( attributeMapping.getAttributeName() ) ) {
+					candidates.add( attributeMapping );
+				}
+			} );
+			this.candidates = candidates.toArray( new AttributeMapping[0] );
+			this.uninitializedCounts = new int[this.candidates.length];
+			this.initializedLaterCounts = new int[this.candidates.length];
+		}
+
+		boolean hasCandidates() {
+			return candidates.length > 0;
+		}
+
+		String getLearnedFetchPlan() {
+			return learnedFetchPlan;
+		}
+
+		@Nullable RootGraphImplementor<?> getLearnedGraph(boolean allowCollections) {
+			return allowCollections ? learnedGraph : learnedGraphWithoutCollections;
+		}
+
+		/**
+		 * The candidates which are not yet initialized for the given entity.
+		 */
+		BitSet uninitialized(Object entity) {
+			final BitSet uninitialized = new BitSet( candidates.length );
+			for ( int i = 0; i < candidates.length; i++ ) {
+				if ( !isInitialized( entity, candidates[i] ) ) {
+					uninitialized.set( i );
+				}
+			}
+			return uninitialized;
+		}
+
+		synchronized void record(List<Object> entities, List<BitSet> uninitializedAfterQuery) {
+			boolean changed = false;
+			for ( int j = 0; j < entities.size(); j++ ) {
+				final Object entity = entities.get( j );
+				final BitSet uninitialized = uninitializedAfterQuery.get( j );
+				for ( int i = uninitialized.nextSetBit( 0 ); i >= 0; i = uninitialized.nextSetBit( i + 1 ) ) {
+					uninitializedCounts[i]++;
+					if ( isInitialized( entity, candidates[i] ) ) {
+						initializedLaterCounts[i]++;
+					}
+					changed = true;
+				}
+			}
+			if ( changed ) {
+				learn();
+			}
+		}
+
+		private void learn() {
+			final List<String> attributes = new ArrayList<>();
+			String collection = null;
+			double collectionRatio = 0;
+			for ( int i = 0; i < candidates.length; i++ ) {
+				if ( uninitializedCounts[i] >= MIN_OBSERVATIONS
+						&& initializedLaterCounts[i] * 2 >= uninitializedCounts[i] ) {
+					final String name = candidates[i].getAttributeName();
+					if ( candidates[i] instanceof PluralAttributeMapping ) {
+						final double ratio = (double) initializedLaterCounts[i] / uninitializedCounts[i];
+						if ( ratio > collectionRatio ) {
+							collection = name;
+							collectionRatio = ratio;
+						}
+					}
+					else {
+						attributes.add( name );
+					}
+				}
+			}
+			final RootGraphImplementor<?> graphWithoutCollections = createGraph( attributes );
+			if ( collection != null ) {
+				attributes.add( collection );
+			}
+			final String fetchPlan = String.join( ", ", attributes );
+			if ( !fetchPlan.equals( learnedFetchPlan ) ) {
+				if ( log.isDebugEnabled() ) {
+					log.debugf( "Learned fetch plan [%s] for query: %s", fetchPlan, query );
+				}
+				learnedGraphWithoutCollections = graphWithoutCollections;
+				learnedGraph = collection == null ? graphWithoutCollections : createGraph( attributes );
+				learnedFetchPlan = fetchPlan;
+			}
+		}
+
+		private @Nullable RootGraphImplementor<?> createGraph(List<String> attributes) {
+			if ( attributes.isEmpty() ) {
+				return null;
+			}
+			else {
+				final RootGraphImplementor<?> graph = new RootGraphImpl<>( null, entityType );
+				for ( String attribute : attributes ) {
+					graph.findOrCreateAttributeNode( attribute );
+				}
+				// the identity of the graph is part of the query plan cache key
+				return graph.makeImmutableCopy( null );
+			}
+		}
+
+		private static boolean isInitialized(Object entity, AttributeMapping attributeMapping) {
+			return Hibernate.isPropertyInitialized( entity, attributeMapping.getAttributeName() )
+				&& Hibernate.isInitialized( attributeMapping.getValue( entity ) );
+		}
+	}
+
+	/**
+	 * The results observed in a certain session, which are recorded
+	 * in their {@link QueryProfile} when the session ends.
+	 */
+	private final class Recording implements SessionEventListener {
+		private final Map<QueryProfile, List<Object>> entities = new HashMap<>();
+		private final Map<QueryProfile, List<BitSet>> uninitialized = new HashMap<>();
+
+		void observe(QueryProfile profile, List<?> results) {
+			final List<Object> observedEntities = entities.computeIfAbsent( profile, p -> new ArrayList<>() );
+			final List<BitSet> observedUninitialized = uninitialized.computeIfAbsent( profile, p -> new ArrayList<>() );
+			for ( Object result : results ) {
+				if ( observedEntities.size() >= MAX_OBSERVATIONS_PER_SESSION ) {
+					break;
+				}
+				final Object entity = unproxy( result );
+				if ( entity != null ) {
+					final BitSet bits = profile.uninitialized( entity );
+					if ( !bits.isEmpty() ) {
+						observedEntities.add( entity );
+						observedUninitialized.add( bits );
+					}
+				}
+			}
+		}
+
+		private static @Nullable Object unproxy(@Nullable Object result) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( result );
+			if ( lazyInitializer != null ) {
+				return lazyInitializer.isUninitialized() ? null : lazyInitializer.getImplementation();
+			}
+			else {
+				return result;
+			}
+		}
+
+		@Override
+		public void end() {
+			if ( enabled ) {
+				entities.forEach( (profile, observedEntities) ->
+						profile.record( observedEntities, uninitialized.get( profile ) ) );
+			}
+			entities.clear();
+			uninitialized.clear();
+		}
+	}
+}
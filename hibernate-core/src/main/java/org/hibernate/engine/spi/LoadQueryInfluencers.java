@@ -58,6 +58,8 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private int batchSize = -1;
 
+	private final boolean adaptiveBatchFetchEnabled;
+
 	private final EffectiveEntityGraph effectiveEntityGraph;
 
 	private Boolean readOnly;
@@ -66,6 +68,7 @@ public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
 		batchSize = sessionFactory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		subselectFetchEnabled = sessionFactory.getSessionFactoryOptions().isSubselectFetchEnabled();
+		adaptiveBatchFetchEnabled = sessionFactory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled();
 		effectiveEntityGraph = new EffectiveEntityGraph();
 	}
 
@@ -73,6 +76,7 @@ public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory, SessionCre
 		this.sessionFactory = sessionFactory;
 		batchSize = options.getDefaultBatchFetchSize();
 		subselectFetchEnabled = options.isSubselectFetchEnabled();
+		adaptiveBatchFetchEnabled = sessionFactory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled();
 		effectiveEntityGraph = new EffectiveEntityGraph();
 		for ( FilterDefinition filterDefinition : sessionFactory.getAutoEnabledFilters() ) {
 			final FilterImpl filter = new FilterImpl( filterDefinition );
@@ -313,6 +317,42 @@ public boolean effectivelyBatchLoadable(EntityPersister persister) {
 		return persister.isBatchLoadable() || effectiveBatchSize( persister ) > 1;
 	}
 
+	/**
+	 * Is {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive
+	 * batch fetching} enabled?
+	 *
+	 * @since 7.0.1
+	 */
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	/**
+	 * Should uninitialized collections of the given persister be kept in the
+	 * {@link BatchFetchQueue}? This is the case when they are batch loadable,
+	 * or when they might become batch loadable due to adaptive batch fetching.
+	 * The queue does not record which load produced a collection, so with
+	 * adaptive batch fetching, every uninitialized collection is queued.
+	 *
+	 * @since 7.0.1
+	 */
+	public boolean isBatchFetchQueued(CollectionPersister persister) {
+		return adaptiveBatchFetchEnabled || effectivelyBatchLoadable( persister );
+	}
+
+	/**
+	 * Should keys of uninitialized entities of the given persister be kept in the
+	 * {@link BatchFetchQueue}? This is the case when they are batch loadable,
+	 * or when they might become batch loadable due to adaptive batch fetching.
+	 * The queue does not record which load produced a key, so with adaptive
+	 * batch fetching, every key of an uninitialized entity is queued.
+	 *
+	 * @since 7.0.1
+	 */
+	public boolean isBatchFetchQueued(EntityPersister persister) {
+		return adaptiveBatchFetchEnabled || effectivelyBatchLoadable( persister );
+	}
+
 	public boolean getSubselectFetchEnabled() {
 		return subselectFetchEnabled;
 	}
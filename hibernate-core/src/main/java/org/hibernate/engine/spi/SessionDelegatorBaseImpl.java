@@ -762,6 +762,11 @@ public boolean isDefaultReadOnly() {
 		return delegate.isDefaultReadOnly();
 	}
 
+	@Override
+	public boolean isReadOnlySession() {
+		return delegate.isReadOnlySession();
+	}
+
 	@Override
 	public void setDefaultReadOnly(boolean readOnly) {
 		delegate.setDefaultReadOnly( readOnly );
@@ -6,9 +6,21 @@
 
 import org.hibernate.SessionEventListener;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
 public interface SessionEventListenerManager extends SessionEventListener {
 	void addListener(SessionEventListener... listeners);
+
+	/**
+	 * The first registered listener of the given type, or {@code null}
+	 * if there is no such listener.
+	 *
+	 * @since 7.0.1
+	 */
+	default <T extends SessionEventListener> @Nullable T findListener(Class<T> listenerType) {
+		return null;
+	}
 }
@@ -133,6 +133,11 @@ public EventEngine getEventEngine() {
 		return delegate.getEventEngine();
 	}
 
+	@Override
+	public FetchPlanLearner getFetchPlanLearner() {
+		return delegate.getFetchPlanLearner();
+	}
+
 	@Override
 	public void close() throws HibernateException {
 		delegate.close();
@@ -248,6 +248,18 @@ default JpaMetamodel getJpaMetamodel() {
 	@Incubating
 	EventListenerRegistry getEventListenerRegistry();
 
+	/**
+	 * Obtain the {@link FetchPlanLearner}, or {@code null} if
+	 * {@linkplain org.hibernate.cfg.FetchSettings#FETCH_PLAN_LEARNING
+	 * fetch plan learning} is not enabled.
+	 *
+	 * @since 7.0.1
+	 */
+	@Incubating
+	default FetchPlanLearner getFetchPlanLearner() {
+		return null;
+	}
+
 	/**
 	 * Return an instance of {@link WrapperOptions} which is not backed by a session,
 	 * and whose functionality is therefore incomplete.
@@ -359,6 +359,17 @@ default String bestGuessEntityName(Object object, EntityEntry entry) {
 	 */
 	boolean isDefaultReadOnly();
 
+	/**
+	 * Is this a {@linkplain org.hibernate.SessionBuilder#readOnly read-only
+	 * session}, in which no entity may be loaded in modifiable mode, and
+	 * which never writes to the database?
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isReadOnlySession() {
+		return false;
+	}
+
 	boolean isIdentifierRollbackEnabled();
 
 	void setCriteriaCopyTreeEnabled(boolean jpaCriteriaCopyComplianceEnabled);
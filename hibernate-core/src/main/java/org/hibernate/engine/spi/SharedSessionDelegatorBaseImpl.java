@@ -472,6 +472,11 @@ public boolean isDefaultReadOnly() {
 		return delegate.isDefaultReadOnly();
 	}
 
+	@Override
+	public boolean isReadOnlySession() {
+		return delegate.isReadOnlySession();
+	}
+
 	@Override
 	public CacheMode getCacheMode() {
 		return delegate.getCacheMode();
@@ -71,7 +71,7 @@ private static boolean isEntityDirty(
 							? entityEntry.getDeletedState()
 							: descriptor.getValues( entity );
 			final int[] dirty =
-					descriptor.findDirty( propertyValues, entityEntry.getLoadedState(), entity, session );
+					descriptor.findDirty( propertyValues, entityEntry.readLoadedState(), entity, session );
 			return dirty != null;
 		}
 		else {
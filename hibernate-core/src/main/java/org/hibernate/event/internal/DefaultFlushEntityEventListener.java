@@ -141,7 +141,7 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		boolean substitute = wrapCollections( event, values );
 
-		if ( isUpdateNecessary( event, mightBeDirty ) ) {
+		if ( isUpdateNecessary( event, mightBeDirty ) && !mergeIntoPendingInsert( event ) ) {
 			substitute = scheduleUpdate( event ) || substitute;
 		}
 
@@ -168,7 +168,7 @@ private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirt
 			return entry.getDeletedState();
 		}
 		else {
-			final Object[] loadedState = entry.getLoadedState();
+			final Object[] loadedState = entry.readLoadedState();
 			if ( !mightBeDirty && loadedState != null ) {
 				return loadedState;
 			}
@@ -216,11 +216,7 @@ private boolean isUpdateNecessary(final FlushEntityEvent event, final boolean mi
 				return true;
 			}
 			else {
-				final Object entity = event.getEntity();
-				processIfSelfDirtinessTracker( entity, SelfDirtinessTracker::$$_hibernate_clearDirtyAttributes );
-				processIfManagedEntity( entity, DefaultFlushEntityEventListener::useTracker );
-				event.getFactory().getCustomEntityDirtinessStrategy()
-						.resetDirty( entity, entry.getPersister(), event.getSession() );
+				resetDirty( event );
 				return false;
 			}
 		}
@@ -229,6 +225,66 @@ private boolean isUpdateNecessary(final FlushEntityEvent event, final boolean mi
 		}
 	}
 
+	private static void resetDirty(FlushEntityEvent event) {
+		final Object entity = event.getEntity();
+		processIfSelfDirtinessTracker( entity, SelfDirtinessTracker::$$_hibernate_clearDirtyAttributes );
+		processIfManagedEntity( entity, DefaultFlushEntityEventListener::useTracker );
+		event.getFactory().getCustomEntityDirtinessStrategy()
+				.resetDirty( entity, event.getEntityEntry().getPersister(), event.getSession() );
+	}
+
+	/**
+	 * If the insert of the entity has not been executed yet, and only basic
+	 * attributes were modified, write the modified state to the pending insert
+	 * instead of scheduling an update.
+	 *
+	 * @return {@code true} if the modified state was merged into the insert
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#WRITE_BEHIND_INSERTS
+	 */
+	private boolean mergeIntoPendingInsert(FlushEntityEvent event) {
+		final EntityEntry entry = event.getEntityEntry();
+		final EntityPersister persister = entry.getPersister();
+		final int[] dirtyProperties = event.getDirtyProperties();
+		if ( event.getFactory().getSessionFactoryOptions().isWriteBehindInsertsEnabled()
+				// a managed entity which does not exist in the database has a pending
+				// insert action, and its loaded state is the state held by the action
+				&& entry.getStatus() == Status.MANAGED
+				&& !entry.isExistsInDatabase()
+				&& entry.getLoadedState() != null
+				&& dirtyProperties != null
+				&& !event.hasDirtyCollection()
+				&& persister.getNaturalIdMapping() == null
+				&& areBasic( dirtyProperties, persister.getPropertyTypes() ) ) {
+			if ( LOG.isTraceEnabled() ) {
+				LOG.trace( "Merging changes into pending insert: "
+						+ infoString( persister, entry.getId(), event.getFactory() ) );
+			}
+			final Type[] types = persister.getPropertyTypes();
+			final Object[] values = event.getPropertyValues();
+			final Object[] state = entry.getLoadedState();
+			for ( int property : dirtyProperties ) {
+				state[property] = types[property].deepCopy( values[property], event.getFactory() );
+			}
+			new Nullability( event.getSession(), NullabilityCheckType.CREATE ).checkNullability( state, persister );
+			resetDirty( event );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean areBasic(int[] properties, Type[] types) {
+		for ( int property : properties ) {
+			final Type type = types[property];
+			if ( type.isAssociationType() || type.isComponentType() || type.isCollectionType() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private static void useTracker(final ManagedEntity entity) {
 		entity.$$_hibernate_setUseTracker( true );
 	}
@@ -478,7 +534,9 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			session.getEventListenerManager().dirtyCalculationStart();
 			// object loaded by update()
 			final Object[] values = event.getPropertyValues();
-			final Object[] loadedState = entry.getLoadedState();
+			// if the entity turns out to be dirty, its loaded state is
+			// brought back onto the heap when the update is scheduled
+			final Object[] loadedState = entry.readLoadedState();
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
@@ -550,7 +608,7 @@ private static int[] getDirtyPropertiesFromInterceptor(FlushEntityEvent event) {
 				event.getEntity(),
 				entry.getId(),
 				event.getPropertyValues(),
-				entry.getLoadedState(),
+				entry.readLoadedState(),
 				persister.getPropertyNames(),
 				persister.getPropertyTypes()
 		);
@@ -589,7 +647,7 @@ private static int[] resolveDirtyAttributeIndex(
 			EntityEntry entry) {
 		return persister.resolveDirtyAttributeIndexes(
 				event.getPropertyValues(),
-				entry.getLoadedState(),
+				entry.readLoadedState(),
 				tracker.$$_hibernate_getDirtyAttributes(),
 				event.getSession()
 		);
@@ -80,7 +80,7 @@ private void evictCollection(PersistentCollection<?> collection) {
 		}
 
 		if ( persister != null ) {
-			if ( session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+			if ( session.getLoadQueryInfluencers().isBatchFetchQueued( persister ) ) {
 				persistenceContext.getBatchFetchQueue().removeBatchLoadableCollection( ce );
 			}
 			if ( loadedKey != null ) {
@@ -15,6 +15,7 @@
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.QueryPhase;
 
 /**
  * An {@link EventMonitor} that ignores all events.
@@ -330,4 +331,19 @@ public DiagnosticEvent beginCollectionRemoveEvent() {
 	public void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public DiagnosticEvent beginQueryPhaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void endQueryPhaseEvent(DiagnosticEvent event) {
+
+	}
+
+	@Override
+	public void completeQueryPhaseEvent(DiagnosticEvent event, String query, QueryPhase phase, SharedSessionContractImplementor session) {
+
+	}
 }
@@ -14,6 +14,7 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.JavaServiceLoadable;
+import org.hibernate.stat.QueryPhase;
 
 /**
  * Contract implemented by services which collect, report, or monitor
@@ -79,6 +80,20 @@ void completeJdbcBatchExecutionEvent(
 			DiagnosticEvent jdbcBatchExecutionEvent,
 			String statementSql);
 
+	/**
+	 * @param rowCount The number of rows in the executed batch
+	 * @param batchSize The number of rows after which the batch is executed
+	 *
+	 * @since 7.0.1
+	 */
+	default void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int rowCount,
+			int batchSize) {
+		completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, statementSql );
+	}
+
 	DiagnosticEvent beginCachePutEvent();
 
 	void completeCachePutEvent(
@@ -201,6 +216,36 @@ void completePrePartialFlush(
 
 	void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session);
 
+	/**
+	 * @since 7.0.1
+	 */
+	default DiagnosticEvent beginQueryPhaseEvent() {
+		return null;
+	}
+
+	/**
+	 * Mark the end of a query phase whose event is completed later, when the
+	 * identifier of the query is known.
+	 *
+	 * @since 7.0.1
+	 */
+	default void endQueryPhaseEvent(DiagnosticEvent event) {
+	}
+
+	/**
+	 * @param query The identifier of the query in {@link org.hibernate.stat.Statistics},
+	 *              that is, the HQL, or the SQL of a criteria query
+	 * @param phase The phase of query execution which has completed
+	 *
+	 * @since 7.0.1
+	 */
+	default void completeQueryPhaseEvent(
+			DiagnosticEvent event,
+			String query,
+			QueryPhase phase,
+			SharedSessionContractImplementor session) {
+	}
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -228,4 +273,26 @@ public String getText() {
 			return text;
 		}
 	}
+
+	/**
+	 * @since 7.0.1
+	 */
+	default DiagnosticEvent beginNPlusOneDetectionEvent() {
+		return null;
+	}
+
+	/**
+	 * @param role The entity name or collection role for which "N+1 selects" were detected
+	 * @param batchSize The batch size chosen for batch fetching the role
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 7.0.1
+	 */
+	default void completeNPlusOneDetectionEvent(
+			DiagnosticEvent nPlusOneDetectionEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int batchSize) {
+	}
 }
@@ -87,11 +87,60 @@ public static GeneratedValues getGeneratedValues(
 			return null;
 		}
 
+		final GeneratedValuesMappingProducer mappingProducer = getMappingProducer( persister, timing );
+		final List<Object[]> results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
+		return createGeneratedValues( results.get( 0 ), persister, mappingProducer );
+	}
+
+	/**
+	 * Reads the {@link EntityPersister#getGeneratedProperties(EventType) generated values}
+	 * of each row mutated by a batch of statements from the specified {@link ResultSet}.
+	 *
+	 * @param resultSet The result set from which to extract the generated values
+	 * @param persister The entity type which we're reading the generated values for
+	 * @param expectedRowCount The number of rows mutated by the batch
+	 * @param session The session
+	 *
+	 * @return The generated values of each row, in the order of the batch
+	 *
+	 * @throws SQLException Can be thrown while accessing the result set
+	 * @throws HibernateException Indicates a problem reading back a generated value
+	 *
+	 * @since 7.0.1
+	 */
+	public static List<GeneratedValues> getGeneratedValuesOfBatch(
+			ResultSet resultSet,
+			PreparedStatement statement,
+			EntityPersister persister,
+			EventType timing,
+			int expectedRowCount,
+			SharedSessionContractImplementor session) throws SQLException {
+		final GeneratedValuesMappingProducer mappingProducer = getMappingProducer( persister, timing );
+		final List<Object[]> results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
+		if ( results.size() != expectedRowCount ) {
+			throw new HibernateException(
+					"The database returned " + results.size() + " rows of natively generated values for a batch of "
+							+ expectedRowCount + " rows : " + persister.getNavigableRole().getFullPath()
+			);
+		}
+		final List<GeneratedValues> generatedValues = new ArrayList<>( results.size() );
+		for ( Object[] result : results ) {
+			generatedValues.add( createGeneratedValues( result, persister, mappingProducer ) );
+		}
+		return generatedValues;
+	}
+
+	private static GeneratedValuesMappingProducer getMappingProducer(EntityPersister persister, EventType timing) {
 		final GeneratedValuesMutationDelegate delegate = persister.getMutationDelegate(
 				timing == EventType.INSERT ? MutationType.INSERT : MutationType.UPDATE
 		);
-		final GeneratedValuesMappingProducer mappingProducer =
-				(GeneratedValuesMappingProducer) delegate.getGeneratedValuesMappingProducer();
+		return (GeneratedValuesMappingProducer) delegate.getGeneratedValuesMappingProducer();
+	}
+
+	private static GeneratedValues createGeneratedValues(
+			Object[] results,
+			EntityPersister persister,
+			GeneratedValuesMappingProducer mappingProducer) {
 		final List<GeneratedValueBasicResultBuilder> resultBuilders = mappingProducer.getResultBuilders();
 		final List<ModelPart> generatedProperties = new ArrayList<>( resultBuilders.size() );
 		for ( GeneratedValueBasicResultBuilder resultBuilder : resultBuilders ) {
@@ -99,7 +148,6 @@ public static GeneratedValues getGeneratedValues(
 		}
 
 		final GeneratedValuesImpl generatedValues = new GeneratedValuesImpl( generatedProperties );
-		final Object[] results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
 
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debug( "Extracted generated values for entity "
@@ -122,9 +170,9 @@ public static GeneratedValues getGeneratedValues(
 	 * @param mappingProducer the mapping producer to use when reading generated values
 	 * @param session the current session
 	 *
-	 * @return an object array containing the generated values, order is consistent with the generated model parts list
+	 * @return for each row, an object array containing the generated values, order is consistent with the generated model parts list
 	 */
-	private static Object[] readGeneratedValues(
+	private static List<Object[]> readGeneratedValues(
 			ResultSet resultSet,
 			PreparedStatement statement,
 			EntityPersister persister,
@@ -208,7 +256,7 @@ public boolean shouldReturnProxies() {
 			);
 		}
 
-		return results.get( 0 );
+		return results;
 	}
 
 	/**
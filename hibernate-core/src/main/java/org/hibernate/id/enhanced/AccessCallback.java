@@ -4,6 +4,9 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.id.IntegralDataTypeHolder;
 
 /**
@@ -20,6 +23,24 @@ public interface AccessCallback {
 	 */
 	IntegralDataTypeHolder getNextValue();
 
+	/**
+	 * Retrieve the given number of values from the underlying source, using
+	 * a single round trip to the database if the source supports it.
+	 *
+	 * @param count The number of values to retrieve
+	 *
+	 * @return The retrieved values, in the order they were obtained.
+	 *
+	 * @since 7.0.1
+	 */
+	default List<IntegralDataTypeHolder> getNextValues(int count) {
+		final List<IntegralDataTypeHolder> values = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			values.add( getNextValue() );
+		}
+		return values;
+	}
+
 	/**
 	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
 	 *
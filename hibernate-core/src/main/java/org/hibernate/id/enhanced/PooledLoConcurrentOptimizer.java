@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out the values of the current
+ * range without locking, and which obtains the next range from the database before
+ * the current range is exhausted.
+ * <p>
+ * The position within the current range is kept, together with a generation number
+ * identifying the range, in a single {@link AtomicLong}, which is advanced using
+ * compare-and-set. Only the thread which exhausts a range, or which crosses the
+ * middle of a range, accesses the database. The latter fetches the next range while
+ * other threads keep consuming the current range.
+ * <p>
+ * Unlike {@link PooledLoThreadLocalOptimizer}, all threads share the same range, so
+ * that no values are wasted when the application runs many short-lived threads.
+ *
+ * @see PooledLoOptimizer
+ * @since 7.0.1
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificStates = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledLoConcurrentOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState generationState = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificStates.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return generationState.generate( callback, incrementSize );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * A range of values obtained from a single database access.
+	 */
+	private static final class Range {
+		private static final Range EMPTY = new Range( null, 0, 0 );
+
+		private final IntegralDataTypeHolder firstValue;
+		private final int size;
+		private final int generation;
+
+		private Range(IntegralDataTypeHolder firstValue, int size, int generation) {
+			this.firstValue = firstValue;
+			this.size = size;
+			this.generation = generation;
+		}
+
+		private static Range of(IntegralDataTypeHolder sourceValue, int incrementSize, int generation) {
+			final IntegralDataTypeHolder firstValue = sourceValue.copy();
+			int size = incrementSize;
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			while ( firstValue.lt( 1 ) && size > 0 ) {
+				firstValue.increment();
+				size--;
+			}
+			return new Range( firstValue, size, generation );
+		}
+	}
+
+	private static class GenerationState {
+		/**
+		 * The generation of the current range in the high 32 bits,
+		 * and the offset of the next value within the range in the low 32 bits.
+		 */
+		private final AtomicLong cursor = new AtomicLong( 0 );
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private volatile Range currentRange = Range.EMPTY;
+		// the source value of the next range, if already obtained
+		private IntegralDataTypeHolder nextSourceValue;
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private Serializable generate(AccessCallback callback, int incrementSize) {
+			while ( true ) {
+				final long position = cursor.get();
+				final int generation = (int) ( position >>> 32 );
+				final int offset = (int) position;
+				final Range range = currentRange;
+				if ( range.generation != generation ) {
+					// the range is being replaced
+					Thread.onSpinWait();
+				}
+				else if ( offset >= range.size ) {
+					nextRange( callback, incrementSize, generation );
+				}
+				else if ( cursor.compareAndSet( position, position + 1 ) ) {
+					if ( offset == range.size / 2 ) {
+						prefetch( callback, generation );
+					}
+					return range.firstValue.copy().add( offset ).makeValue();
+				}
+			}
+		}
+
+		/**
+		 * Replace the exhausted range of the given generation by the next range,
+		 * unless another thread already did.
+		 */
+		private void nextRange(AccessCallback callback, int incrementSize, int exhaustedGeneration) {
+			lock.lock();
+			try {
+				if ( currentRange.generation == exhaustedGeneration ) {
+					final IntegralDataTypeHolder sourceValue;
+					if ( nextSourceValue != null ) {
+						sourceValue = nextSourceValue;
+						nextSourceValue = null;
+					}
+					else {
+						sourceValue = callback.getNextValue();
+						lastSourceValue = sourceValue;
+					}
+					final int generation = exhaustedGeneration + 1;
+					// publish the range before the cursor
+					currentRange = Range.of( sourceValue, incrementSize, generation );
+					cursor.set( (long) generation << 32 );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Obtain the source value of the range following the range of the given
+		 * generation, unless another thread is currently accessing the database.
+		 */
+		private void prefetch(AccessCallback callback, int generation) {
+			if ( lock.tryLock() ) {
+				try {
+					if ( nextSourceValue == null && currentRange.generation == generation ) {
+						nextSourceValue = callback.getNextValue();
+						lastSourceValue = nextSourceValue;
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * An optimizer which obtains several values of a sequence incrementing by one in a
+ * single round trip to the database, and hands them out from a local buffer.
+ * <p>
+ * Unlike the {@linkplain PooledLoOptimizer pooled optimizers}, this optimizer does not
+ * require the increment of the sequence to match the allocation size, so that it may
+ * be used with sequences shared with other applications. Instead, it relies on the
+ * {@linkplain org.hibernate.dialect.sequence.SequenceSupport#getSequenceNextValuesString
+ * ability of the database} to return multiple next values of the sequence from a single
+ * query. When the database lacks this ability, the values are obtained one at a time.
+ * <p>
+ * The number of values obtained at once adapts to the rate at which identifiers are
+ * requested: it starts at one, doubles whenever the buffer was drained quickly, and is
+ * halved whenever the buffer was drained slowly. It never exceeds the increment size.
+ * Values remaining in the buffer when the {@code SessionFactory} is closed are never
+ * used, leaving gaps in the sequence.
+ *
+ * @since 7.0.1
+ */
+public class PrefetchOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PrefetchOptimizer.class.getName()
+	);
+
+	private static final long GROW_INTERVAL = TimeUnit.MILLISECONDS.toNanos( 500 );
+	private static final long SHRINK_INTERVAL = TimeUnit.SECONDS.toNanos( 2 );
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificStates = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PrefetchOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The maximum number of values obtained in a single round trip.
+	 */
+	public PrefetchOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef( "Creating prefetch optimizer with [maximumPrefetchSize=%s; returnClass=%s]",
+					incrementSize, returnClass.getName() );
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState generationState = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificStates.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return generationState.generate( callback, incrementSize );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return false;
+	}
+
+	/**
+	 * The number of values which will be obtained by the next round trip to the
+	 * database, for the state not associated with any tenant.
+	 */
+	public int getPrefetchSize() {
+		return noTenantState.prefetchSize;
+	}
+
+	private static class GenerationState {
+		private final Lock lock = new ReentrantLock();
+		private List<IntegralDataTypeHolder> buffer = List.of();
+		private int position;
+		private int prefetchSize = 1;
+		private long lastRefill;
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private Serializable generate(AccessCallback callback, int maximumPrefetchSize) {
+			lock.lock();
+			try {
+				if ( position >= buffer.size() ) {
+					refill( callback, maximumPrefetchSize );
+				}
+				return buffer.get( position++ ).makeValue();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void refill(AccessCallback callback, int maximumPrefetchSize) {
+			final long now = System.nanoTime();
+			if ( lastRefill != 0 ) {
+				final long interval = now - lastRefill;
+				if ( interval < GROW_INTERVAL ) {
+					prefetchSize = Math.min( prefetchSize * 2, maximumPrefetchSize );
+				}
+				else if ( interval > SHRINK_INTERVAL ) {
+					prefetchSize = Math.max( prefetchSize / 2, 1 );
+				}
+			}
+			lastRefill = now;
+
+			final List<IntegralDataTypeHolder> values = callback.getNextValues( prefetchSize );
+			buffer = values.isEmpty() ? List.of( callback.getNextValue() ) : values;
+			position = 0;
+			lastSourceValue = buffer.get( buffer.size() - 1 );
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracef( "Prefetched %s sequence values", buffer.size() );
+			}
+		}
+	}
+}
@@ -8,6 +8,8 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.boot.model.relational.Database;
@@ -15,6 +17,7 @@
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -44,6 +47,7 @@ public class SequenceStructure implements DatabaseStructure {
 	private final String options;
 
 	private String sql;
+	private String multipleValuesSql;
 	private boolean applyIncrementSizeToSourceValues;
 	private int accessCounter;
 	protected QualifiedName physicalSequenceName;
@@ -152,6 +156,54 @@ public IntegralDataTypeHolder getNextValue() {
 				}
 			}
 
+			@Override
+			public List<IntegralDataTypeHolder> getNextValues(int count) {
+				if ( multipleValuesSql == null || count <= 1 ) {
+					return AccessCallback.super.getNextValues( count );
+				}
+				accessCounter++;
+				try {
+					final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+					final PreparedStatement st =
+							jdbcCoordinator.getStatementPreparer().prepareStatement( multipleValuesSql );
+					try {
+						st.setInt( 1, count );
+						final ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( st, multipleValuesSql );
+						try {
+							final List<IntegralDataTypeHolder> values = new ArrayList<>( count );
+							while ( rs.next() ) {
+								final IntegralDataTypeHolder value = getIntegralDataTypeHolder( numberType );
+								value.initialize( rs, 1 );
+								values.add( value );
+							}
+							if ( LOG.isDebugEnabled() ) {
+								LOG.debugf( "%s sequence values obtained", values.size() );
+							}
+							return values;
+						}
+						finally {
+							try {
+								jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, st );
+							}
+							catch( Throwable ignore ) {
+								// intentionally empty
+							}
+						}
+					}
+					finally {
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( st );
+						jdbcCoordinator.afterStatementExecution();
+					}
+				}
+				catch ( SQLException sqle) {
+					throw session.getJdbcServices().getSqlExceptionHelper().convert(
+							sqle,
+							"could not get next sequence values",
+							multipleValuesSql
+					);
+				}
+			}
+
 			@Override
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
@@ -171,8 +223,10 @@ public void registerExportables(Database database) {
 
 	@Override
 	public void initialize(SqlStringGenerationContext context) {
-		this.sql = context.getDialect().getSequenceSupport()
-				.getSequenceNextValString( context.format( physicalSequenceName ) );
+		final SequenceSupport sequenceSupport = context.getDialect().getSequenceSupport();
+		final String sequenceName = context.format( physicalSequenceName );
+		this.sql = sequenceSupport.getSequenceNextValString( sequenceName );
+		this.multipleValuesSql = sequenceSupport.getSequenceNextValuesString( sequenceName );
 	}
 
 	@Override
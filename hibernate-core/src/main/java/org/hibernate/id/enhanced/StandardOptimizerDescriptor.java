@@ -42,7 +42,22 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database, the values of the current
+	 * chunk are handed out without locking, and the next chunk is obtained in advance.
+	 *
+	 * @since 7.0.1
+	 */
+	POOLED_LO_CONCURRENT,
+	/**
+	 * Describes the optimizer for use with sequences incrementing by one, where several
+	 * values are obtained in a single round trip and handed out from a local buffer.
+	 *
+	 * @since 7.0.1
+	 */
+	PREFETCH;
 
 	@Override
 	public String getExternalName() {
@@ -59,6 +74,10 @@ public String getExternalName() {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_LO_CONCURRENT:
+				return "pooled-lo-concurrent";
+			case PREFETCH:
+				return "prefetch";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -78,6 +97,10 @@ public Class<? extends Optimizer> getOptimizerClass() {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_LO_CONCURRENT:
+				return PooledLoConcurrentOptimizer.class;
+			case PREFETCH:
+				return PrefetchOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -88,10 +111,12 @@ public boolean isPooled() {
 			case NONE:
 			case HILO:
 			case LEGACY_HILO:
+			case PREFETCH:
 				return false;
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_LO_CONCURRENT:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
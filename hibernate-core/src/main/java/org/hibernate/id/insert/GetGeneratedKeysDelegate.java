@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.IntConsumer;
 
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
@@ -18,11 +19,14 @@
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.generator.EventType;
 import org.hibernate.generator.values.GeneratedValueBasicResultBuilder;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
 import org.hibernate.sql.model.ast.builder.TableUpdateBuilderStandard;
@@ -30,6 +34,7 @@
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
 import static org.hibernate.generator.values.internal.GeneratedValuesHelper.getActualGeneratedModelPart;
 import static org.hibernate.generator.values.internal.GeneratedValuesHelper.getGeneratedValues;
+import static org.hibernate.generator.values.internal.GeneratedValuesHelper.getGeneratedValuesOfBatch;
 import static org.hibernate.internal.util.StringHelper.unquote;
 
 /**
@@ -144,6 +149,89 @@ public GeneratedValues performMutation(
 		}
 	}
 
+	/**
+	 * Perform the {@code mutation} once for each of the {@code rowCount} rows as a single
+	 * JDBC batch, and extract the database-generated values of all rows at once.
+	 *
+	 * @param rowBinder Called before adding each row to the batch, with the index of the
+	 * row, to bind its values to the given {@link JdbcValueBindings}
+	 *
+	 * @return The generated values of each row, in the order of the batch
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsBatchedInsertReturningGeneratedKeys()
+	 *
+	 * @since 7.0.1
+	 */
+	public List<GeneratedValues> performBatchedMutation(
+			PreparedStatementDetails statementDetails,
+			JdbcValueBindings jdbcValueBindings,
+			int rowCount,
+			IntConsumer rowBinder,
+			SharedSessionContractImplementor session) {
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+
+		final String sql = statementDetails.getSqlString();
+
+		jdbcServices.getSqlStatementLogger().logStatement( sql );
+
+		try {
+			final PreparedStatement preparedStatement = statementDetails.resolveStatement();
+			for ( int i = 0; i < rowCount; i++ ) {
+				rowBinder.accept( i );
+				jdbcValueBindings.beforeStatement( statementDetails );
+				preparedStatement.addBatch();
+				jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+			}
+
+			final JdbcEventHandler eventHandler = session.getJdbcSessionContext().getEventHandler();
+			final EventMonitor eventMonitor = session.getEventMonitor();
+			final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+			final int[] rowCounts;
+			try {
+				eventHandler.jdbcExecuteBatchStart();
+				rowCounts = preparedStatement.executeBatch();
+			}
+			finally {
+				eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+				eventHandler.jdbcExecuteBatchEnd();
+			}
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				statementDetails.getExpectation().verifyOutcome( rowCounts[i], preparedStatement, i, sql );
+			}
+
+			final ResultSet resultSet = preparedStatement.getGeneratedKeys();
+			try {
+				return getGeneratedValuesOfBatch( resultSet, preparedStatement, persister, getTiming(), rowCount, session );
+			}
+			finally {
+				if ( resultSet != null ) {
+					jdbcCoordinator
+							.getLogicalConnection()
+							.getResourceRegistry()
+							.release( resultSet, preparedStatement );
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					String.format(
+							Locale.ROOT,
+							"Unable to execute batch and extract generated keys for `%s`",
+							persister.getNavigableRole().getFullPath()
+					),
+					sql
+			);
+		}
+		finally {
+			if ( statementDetails.getStatement() != null ) {
+				statementDetails.releaseStatement( session );
+			}
+			jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+		}
+	}
+
 	@Override
 	public GeneratedValues executeAndExtractReturning(
 			String sql,
@@ -93,6 +93,9 @@ public MultiIdentifierLoadAccess<T> with(CacheMode cacheMode) {
 
 	@Override
 	public MultiIdentifierLoadAccess<T> withReadOnly(boolean readOnly) {
+		if ( !readOnly && session.isReadOnlySession() ) {
+			throw new IllegalStateException( "Session is read-only" );
+		}
 		this.readOnly = readOnly;
 		return this;
 	}
@@ -48,6 +48,15 @@ public interface SessionCreationOptions {
 
 	boolean isIdentifierRollbackEnabled();
 
+	/**
+	 * @see org.hibernate.SessionBuilder#readOnly(boolean)
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isReadOnly() {
+		return false;
+	}
+
 	TimeZone getJdbcTimeZone();
 
 	/**
@@ -64,6 +64,7 @@
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
+import org.hibernate.engine.spi.FetchPlanLearner;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.SessionBuilderImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -97,6 +98,7 @@
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.internal.QueryEngineImpl;
@@ -222,6 +224,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	final transient EntityCopyObserverFactory entityCopyObserverFactory;
 	final transient ParameterMarkerStrategy parameterMarkerStrategy;
 	final transient JdbcValuesMappingProducerProvider jdbcValuesMappingProducerProvider;
+	final transient FetchPlanLearner fetchPlanLearner;
 
 	public SessionFactoryImpl(
 			final MetadataImplementor bootMetamodel,
@@ -338,6 +341,8 @@ public SessionFactoryImpl(
 
 			eventMonitor = loadEventMonitor();
 
+			fetchPlanLearner = options.isFetchPlanLearningEnabled() ? new FetchPlanLearner() : null;
+
 			eventListenerGroups = new EventListenerGroups( serviceRegistry );
 
 			// re-scope the TypeConfiguration to this SessionFactory,
@@ -631,6 +636,11 @@ public EventEngine getEventEngine() {
 		return eventEngine;
 	}
 
+	@Override
+	public FetchPlanLearner getFetchPlanLearner() {
+		return fetchPlanLearner;
+	}
+
 	@Override
 	public JdbcServices getJdbcServices() {
 		return jdbcServices;
@@ -834,6 +844,11 @@ public void close() {
 								entityPersister.getSqmMultiTableInsertStrategy()
 										.release( this, jdbcConnectionAccess );
 							}
+							if ( entityPersister instanceof AbstractEntityPersister persister
+									&& persister.getSubselectFetchIdTable() != null ) {
+								persister.getSubselectFetchIdTable()
+										.release( this, jdbcConnectionAccess );
+							}
 						}
 				);
 //				runtimeMetamodels.getMappingMetamodel().close();
@@ -1129,6 +1144,7 @@ public static class SessionBuilderImpl implements SessionBuilderImplementor, Ses
 		private boolean autoClear;
 		private Object tenantIdentifier;
 		private boolean identifierRollback;
+		private boolean readOnly;
 		private TimeZone jdbcTimeZone;
 		private boolean explicitNoInterceptor;
 		private final int defaultBatchFetchSize;
@@ -1241,6 +1257,11 @@ public boolean isIdentifierRollbackEnabled() {
 			return identifierRollback;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return readOnly;
+		}
+
 		@Override
 		public TimeZone getJdbcTimeZone() {
 			return jdbcTimeZone;
@@ -1346,6 +1367,12 @@ public SessionBuilder identifierRollback(boolean identifierRollback) {
 			return this;
 		}
 
+		@Override
+		public SessionBuilder readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
 		@Override
 		public SessionBuilderImpl eventListeners(SessionEventListener... listeners) {
 			if ( this.listeners == null ) {
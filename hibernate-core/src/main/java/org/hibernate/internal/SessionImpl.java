@@ -194,6 +194,7 @@
 	private final boolean autoClose;
 
 	private final boolean identifierRollbackEnabled;
+	private final boolean readOnly;
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
 	private transient PostLoadEvent postLoadEvent; //cached PostLoadEvent instance
@@ -216,6 +217,12 @@ public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 
 			identifierRollbackEnabled = options.isIdentifierRollbackEnabled();
 
+			readOnly = options.isReadOnly();
+			if ( readOnly ) {
+				// no snapshots are taken for read-only entities
+				persistenceContext.setDefaultReadOnly( true );
+			}
+
 			setUpTransactionCompletionProcesses( options );
 
 			loadQueryInfluencers = new LoadQueryInfluencers( factory, options );
@@ -688,6 +695,7 @@ public void persist(String entityName, Object object, PersistContext copiedAlrea
 	}
 
 	private void firePersist(final PersistEvent event) {
+		checkNotReadOnly();
 		Throwable originalException = null;
 		try {
 			checkTransactionSynchStatus();
@@ -795,6 +803,7 @@ public void merge(String entityName, Object object, MergeContext copiedAlready)
 	}
 
 	private Object fireMerge(MergeEvent event) {
+		checkNotReadOnly();
 		try {
 			checkTransactionSynchStatus();
 			checkNoUnresolvedActionsBeforeOperation();
@@ -890,6 +899,7 @@ private void logRemoveOrphanBeforeUpdates(String timing, String entityName, Obje
 	}
 
 	private void fireDelete(final DeleteEvent event) {
+		checkNotReadOnly();
 		try {
 			pulseTransactionCoordinator();
 			eventListenerGroups.eventListenerGroup_DELETE
@@ -1113,6 +1123,7 @@ protected PostLoadEvent makePostLoadEvent(EntityPersister persister, Object id,
 	 */
 	// Hibernate Reactive may need to use this
 	protected LoadEvent makeLoadEvent(String entityName, Object id, Boolean readOnly, LockOptions lockOptions) {
+		checkReadOnlyAllowed( readOnly );
 		final LoadEvent event = loadEvent;
 		if ( event == null ) {
 			return new LoadEvent( id, entityName, lockOptions, this, readOnly );
@@ -1135,6 +1146,7 @@ protected LoadEvent makeLoadEvent(String entityName, Object id, Boolean readOnly
 	 */
 	// Hibernate Reactive may need to use this
 	protected LoadEvent makeLoadEvent(String entityName, Object id, Boolean readOnly, boolean isAssociationFetch) {
+		checkReadOnlyAllowed( readOnly );
 		final LoadEvent event = loadEvent;
 		if ( event == null ) {
 			return new LoadEvent( id, entityName, isAssociationFetch, this, readOnly );
@@ -1396,8 +1408,8 @@ public boolean autoFlushIfRequired(Set<String> querySpaces) {
 	@Override
 	public boolean autoFlushIfRequired(Set<String> querySpaces, boolean skipPreFlush) {
 		checkOpen();
-		if ( !isTransactionInProgress() ) {
-			// do not auto-flush while outside a transaction
+		if ( readOnly || !isTransactionInProgress() ) {
+			// do not auto-flush a read-only session, or while outside a transaction
 			return false;
 		}
 		final AutoFlushEvent event = new AutoFlushEvent( querySpaces, skipPreFlush, this );
@@ -1409,8 +1421,8 @@ public boolean autoFlushIfRequired(Set<String> querySpaces, boolean skipPreFlush
 	@Override
 	public void autoPreFlush() {
 		checkOpen();
-		if ( !isTransactionInProgress() ) {
-			// do not auto-flush while outside a transaction
+		if ( readOnly || !isTransactionInProgress() ) {
+			// do not auto-flush a read-only session, or while outside a transaction
 			return;
 		}
 		eventListenerGroups.eventListenerGroup_AUTO_FLUSH
@@ -1438,6 +1450,11 @@ public void flush() {
 	}
 
 	private void doFlush() {
+		if ( readOnly ) {
+			// there can be no changes to flush
+			log.trace( "Skipping flush of read-only session" );
+			return;
+		}
 		try {
 			pulseTransactionCoordinator();
 			checkTransactionNeededForUpdateOperation();
@@ -1930,6 +1947,9 @@ public boolean isDefaultReadOnly() {
 
 	@Override
 	public void setDefaultReadOnly(boolean defaultReadOnly) {
+		if ( !defaultReadOnly ) {
+			checkNotReadOnly();
+		}
 		persistenceContext.setDefaultReadOnly( defaultReadOnly );
 	}
 
@@ -1944,9 +1964,42 @@ public boolean isReadOnly(Object entityOrProxy) {
 	public void setReadOnly(Object entity, boolean readOnly) {
 		checkOpen();
 //		checkTransactionSynchStatus();
+		if ( !readOnly ) {
+			checkNotReadOnly();
+		}
 		persistenceContext.setReadOnly( entity, readOnly );
 	}
 
+	/**
+	 * @throws IllegalStateException if the session is {@linkplain org.hibernate.SessionBuilder#readOnly read-only}
+	 */
+	private void checkNotReadOnly() {
+		if ( readOnly ) {
+			throw new IllegalStateException( "Session is read-only" );
+		}
+	}
+
+	/**
+	 * @throws IllegalStateException if entities are explicitly requested in modifiable
+	 *                               mode in a {@linkplain org.hibernate.SessionBuilder#readOnly read-only} session
+	 */
+	private void checkReadOnlyAllowed(Boolean readOnly) {
+		if ( readOnly != null && !readOnly ) {
+			checkNotReadOnly();
+		}
+	}
+
+	@Override
+	public boolean isReadOnlySession() {
+		return readOnly;
+	}
+
+	@Override
+	public void checkTransactionNeededForUpdateOperation(String exceptionMessage) {
+		checkNotReadOnly();
+		super.checkTransactionNeededForUpdateOperation( exceptionMessage );
+	}
+
 	@Override
 	public CacheStoreMode getCacheStoreMode() {
 		return getCacheMode().getJpaStoreMode();
@@ -2224,6 +2277,12 @@ public SharedSessionBuilderImpl identifierRollback(boolean identifierRollback) {
 			return this;
 		}
 
+		@Override
+		public SharedSessionBuilderImpl readOnly(boolean readOnly) {
+			super.readOnly( readOnly );
+			return this;
+		}
+
 		@Override
 		public SharedSessionBuilderImpl jdbcTimeZone(TimeZone timeZone) {
 			super.jdbcTimeZone(timeZone);
@@ -2434,9 +2493,11 @@ public <T> T find(Class<T> entityClass, Object primaryKey, LockModeType lockMode
 	}
 
 	private <T> T find(Class<T> entityClass, Object primaryKey, LockOptions lockOptions, Map<String, Object> properties) {
+		final Boolean readOnly = readOnlyHint( properties );
+		checkReadOnlyAllowed( readOnly );
 		try {
 			loadQueryInfluencers.getEffectiveEntityGraph().applyConfiguredGraph( properties );
-			loadQueryInfluencers.setReadOnly( readOnlyHint( properties ) );
+			loadQueryInfluencers.setReadOnly( readOnly );
 			return byId( entityClass )
 					.with( determineAppropriateLocalCacheMode( properties ) )
 					.with( lockOptions )
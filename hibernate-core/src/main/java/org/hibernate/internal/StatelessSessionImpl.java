@@ -171,8 +171,27 @@ public void insertMultiple(List<?> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
-			for ( Object entity : entities ) {
-				insert( null, entity );
+			int start = 0;
+			while ( start < entities.size() ) {
+				final Object entity = entities.get( start );
+				final EntityPersister persister = getEntityPersister( null, entity );
+				int end = start + 1;
+				if ( persister.getGenerator().generatedOnExecution( entity, this ) ) {
+					// group consecutive entities whose identifiers are generated
+					// by the database, so that they may be inserted as a batch
+					while ( end < entities.size()
+							&& getEntityPersister( null, entities.get( end ) ) == persister
+							&& persister.getGenerator().generatedOnExecution( entities.get( end ), this ) ) {
+						end++;
+					}
+				}
+				if ( end - start > 1 ) {
+					insertMultipleGeneratedOnExecution( persister, entities.subList( start, end ) );
+				}
+				else {
+					insert( null, entity );
+				}
+				start = end;
 			}
 		}
 		finally {
@@ -180,6 +199,63 @@ public void insertMultiple(List<?> entities) {
 		}
 	}
 
+	private void insertMultipleGeneratedOnExecution(EntityPersister persister, List<?> entities) {
+		checkOpen();
+		if ( !persister.getGenerator().generatesOnInsert() ) {
+			throw new IdentifierGenerationException( "Identifier generator must generate on insert" );
+		}
+		final List<Object> entitiesToInsert = new ArrayList<>( entities.size() );
+		final List<Object[]> states = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final Object[] state = persister.getValues( entity );
+			if ( persister.isVersioned() ) {
+				if ( seedVersion( entity, state, persister, this ) ) {
+					persister.setValues( entity, state );
+				}
+			}
+			if ( !firePreInsert( entity, null, state, persister ) ) {
+				getInterceptor().onInsert( entity, null, state, persister.getPropertyNames(), persister.getPropertyTypes() );
+				entitiesToInsert.add( entity );
+				states.add( state );
+			}
+		}
+		if ( entitiesToInsert.isEmpty() ) {
+			return;
+		}
+
+		final EventMonitor eventMonitor = getEventMonitor();
+		final List<DiagnosticEvent> events = new ArrayList<>( entitiesToInsert.size() );
+		for ( int i = 0; i < entitiesToInsert.size(); i++ ) {
+			events.add( eventMonitor.beginEntityInsertEvent() );
+		}
+		List<GeneratedValues> generatedValues = null;
+		try {
+			generatedValues = persister.getInsertCoordinator().insertMultiple( entitiesToInsert, states, this );
+		}
+		finally {
+			for ( int i = 0; i < events.size(); i++ ) {
+				final Object generatedId = generatedValues == null
+						? null
+						: castNonNull( generatedValues.get( i ) ).getGeneratedValue( persister.getIdentifierMapping() );
+				eventMonitor.completeEntityInsertEvent( events.get( i ), generatedId, persister.getEntityName(),
+						generatedValues != null, this );
+			}
+		}
+
+		final StatisticsImplementor statistics = getFactory().getStatistics();
+		for ( int i = 0; i < entitiesToInsert.size(); i++ ) {
+			final Object entity = entitiesToInsert.get( i );
+			final Object id =
+					castNonNull( generatedValues.get( i ) ).getGeneratedValue( persister.getIdentifierMapping() );
+			persister.setIdentifier( entity, id, this );
+			recreateCollections( entity, id, persister );
+			firePostInsert( entity, id, states.get( i ), persister );
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.insertEntity( persister.getEntityName() );
+			}
+		}
+	}
+
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
@@ -307,8 +383,22 @@ public void deleteMultiple(List<?> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
-			for ( Object entity : entities ) {
-				delete( null, entity );
+			int start = 0;
+			while ( start < entities.size() ) {
+				final EntityPersister persister = getEntityPersister( null, entities.get( start ) );
+				int end = start + 1;
+				// group consecutive entities of the same type,
+				// so that they may be deleted by a single statement
+				while ( end < entities.size() && getEntityPersister( null, entities.get( end ) ) == persister ) {
+					end++;
+				}
+				if ( end - start > 1 ) {
+					deleteMultiple( persister, entities.subList( start, end ) );
+				}
+				else {
+					delete( null, entities.get( start ) );
+				}
+				start = end;
 			}
 		}
 		finally {
@@ -316,6 +406,55 @@ public void deleteMultiple(List<?> entities) {
 		}
 	}
 
+	private void deleteMultiple(EntityPersister persister, List<?> entities) {
+		checkOpen();
+		final List<Object> entitiesToDelete = new ArrayList<>( entities.size() );
+		final List<Object> ids = new ArrayList<>( entities.size() );
+		final List<Object> versions = new ArrayList<>( entities.size() );
+		final List<Object> cacheLocks = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final Object id = persister.getIdentifier( entity, this );
+			final Object version = persister.getVersion( entity );
+			if ( !firePreDelete( entity, id, persister ) ) {
+				getInterceptor().onDelete( entity, id, persister.getPropertyNames(), persister.getPropertyTypes() );
+				removeCollections( entity, id, persister );
+				cacheLocks.add( lockCacheItem( id, version, persister ) );
+				entitiesToDelete.add( entity );
+				ids.add( id );
+				versions.add( version );
+			}
+		}
+		if ( entitiesToDelete.isEmpty() ) {
+			return;
+		}
+
+		final EventMonitor eventMonitor = getEventMonitor();
+		final List<DiagnosticEvent> events = new ArrayList<>( entitiesToDelete.size() );
+		for ( int i = 0; i < entitiesToDelete.size(); i++ ) {
+			events.add( eventMonitor.beginEntityDeleteEvent() );
+		}
+		boolean success = false;
+		try {
+			persister.getDeleteCoordinator().deleteMultiple( entitiesToDelete, ids, versions, this );
+			success = true;
+		}
+		finally {
+			for ( int i = 0; i < events.size(); i++ ) {
+				eventMonitor.completeEntityDeleteEvent( events.get( i ), ids.get( i ), persister.getEntityName(),
+						success, this );
+			}
+		}
+
+		final StatisticsImplementor statistics = getFactory().getStatistics();
+		for ( int i = 0; i < entitiesToDelete.size(); i++ ) {
+			removeCacheItem( cacheLocks.get( i ), persister );
+			firePostDelete( entitiesToDelete.get( i ), ids.get( i ), persister );
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.deleteEntity( persister.getEntityName() );
+			}
+		}
+	}
+
 	@Override
 	public void delete(String entityName, Object entity) {
 		checkOpen();
@@ -98,6 +98,23 @@ public PersistentCollection<?> load(Object key, SharedSessionContractImplementor
 		return session.getPersistenceContext().getCollection( collectionKey );
 	}
 
+	@Override
+	@AllowReflection
+	public void loadAll(Object[] keys, SharedSessionContractImplementor session) {
+		if ( keys.length == 1 ) {
+			singleKeyLoader.load( keys[0], session );
+		}
+		else if ( keys.length > 1 ) {
+			final Object[] keysToInitialize = (Object[]) Array.newInstance(
+					getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
+					keys.length
+			);
+			System.arraycopy( keys, 0, keysToInitialize, 0, keys.length );
+			initializeKeys( keysToInitialize[0], keysToInitialize, session );
+			finishInitializingKeys( keysToInitialize, session );
+		}
+	}
+
 	abstract void finishInitializingKeys(Object[] key, SharedSessionContractImplementor session);
 
 	protected void finishInitializingKey(Object key, SharedSessionContractImplementor session) {
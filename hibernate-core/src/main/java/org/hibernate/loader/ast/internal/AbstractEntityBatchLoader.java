@@ -76,6 +76,16 @@ else if ( Hibernate.isInitialized( entity ) ) {
 		}
 	}
 
+	@Override
+	public void loadAll(Object[] ids, Boolean readOnly, SharedSessionContractImplementor session) {
+		if ( ids.length == 1 ) {
+			singleIdLoader.load( ids[0], null, LockOptions.NONE, readOnly, session );
+		}
+		else if ( ids.length > 1 ) {
+			initializeEntities( ids, ids[0], null, LockOptions.NONE, readOnly, session );
+		}
+	}
+
 	private T load(
 			Object id,
 			Object[] ids,
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * Detects N+1 selects for an entity or collection role, and chooses the
+ * batch loader which replaces the single-key loader of the role once they
+ * have been detected.
+ * <p>
+ * N+1 selects are detected when, within one session, keys of the role are
+ * fetched one at a time {@value #DETECTION_THRESHOLD} times while other keys
+ * of the role are waiting in the {@link org.hibernate.engine.spi.BatchFetchQueue}.
+ * The queue does not record which load produced a waiting key, so the keys
+ * need not come from the same query or association as the key being fetched:
+ * any keys of the role waiting in the session count. A session which touches
+ * unrelated instances of a role one at a time may therefore switch the role
+ * to batch fetching, which then also fetches some instances it never uses.
+ * The batch size is learned from the number of waiting keys, rounded up to a
+ * power of two, and only ever grows. A single instance is shared by all the
+ * sessions of the session factory, so that once N+1 selects have been detected
+ * for a role, the role is batch fetched in every session.
+ *
+ * @param <L> The type of loader
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ *
+ * @since 7.0.1
+ */
+public class AdaptiveBatchFetch<L> {
+	/**
+	 * The number of single-key fetches which could have been batched
+	 * after which N+1 selects are reported.
+	 */
+	public static final int DETECTION_THRESHOLD = 3;
+
+	/**
+	 * The largest batch size learned for a role.
+	 */
+	public static final int MAX_BATCH_SIZE = 256;
+
+	private final String role;
+	private final IntFunction<L> batchLoaderCreator;
+	private final ConcurrentHashMap<Integer, L> batchLoaders = new ConcurrentHashMap<>();
+	// zero until N+1 selects have been detected
+	private final AtomicInteger batchSize = new AtomicInteger();
+
+	public AdaptiveBatchFetch(String role, IntFunction<L> batchLoaderCreator) {
+		this.role = role;
+		this.batchLoaderCreator = batchLoaderCreator;
+	}
+
+	/**
+	 * The batch size learned for the role, or zero if N+1 selects
+	 * have not yet been detected.
+	 */
+	public int getBatchSize() {
+		return batchSize.get();
+	}
+
+	/**
+	 * Record a fetch of a key of the role, and determine whether it
+	 * should be batch fetched.
+	 *
+	 * @param waitingKeys The number of keys of the role waiting in the
+	 * batch fetch queue, including the key being fetched
+	 *
+	 * @return The batch loader to use, or {@code null} if the key
+	 * should be fetched by itself
+	 */
+	public @Nullable L resolveBatchLoader(int waitingKeys, SharedSessionContractImplementor session) {
+		if ( waitingKeys < 2 ) {
+			// there is nothing to batch
+			return null;
+		}
+		else if ( batchSize.get() > 0 ) {
+			return batchLoader( learn( waitingKeys ) );
+		}
+		else {
+			final int fetchCount = session.getPersistenceContextInternal().getBatchFetchQueue()
+					.recordSingleKeyFetch( role );
+			if ( fetchCount < DETECTION_THRESHOLD ) {
+				return null;
+			}
+			else {
+				final int learnedBatchSize = learn( waitingKeys );
+				reportDetection( learnedBatchSize, session );
+				return batchLoader( learnedBatchSize );
+			}
+		}
+	}
+
+	private int learn(int waitingKeys) {
+		final int size = Math.min( MAX_BATCH_SIZE, Integer.highestOneBit( waitingKeys - 1 ) << 1 );
+		return batchSize.accumulateAndGet( size, Math::max );
+	}
+
+	private L batchLoader(int size) {
+		return batchLoaders.computeIfAbsent( size, batchLoaderCreator::apply );
+	}
+
+	private void reportDetection(int learnedBatchSize, SharedSessionContractImplementor session) {
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf(
+					"N+1 selects detected for `%s` - using batch fetching with batch size %s",
+					role,
+					learnedBatchSize
+			);
+		}
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nPlusOneDetected( role );
+		}
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent detectionEvent = eventMonitor.beginNPlusOneDetectionEvent();
+		eventMonitor.completeNPlusOneDetectionEvent( detectionEvent, session, role, learnedBatchSize );
+	}
+}
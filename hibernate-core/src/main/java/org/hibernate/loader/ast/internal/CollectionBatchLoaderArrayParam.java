@@ -110,6 +110,19 @@ public PersistentCollection<?> load(Object keyBeingLoaded, SharedSessionContract
 
 	}
 
+	@Override
+	public void loadAll(Object[] keys, SharedSessionContractImplementor session) {
+		if ( getLoadable().getKeyDescriptor().isEmbedded() ) {
+			// the keys must be registered with the batch fetch queue
+			for ( Object key : keys ) {
+				load( key, session );
+			}
+		}
+		else {
+			super.loadAll( keys, session );
+		}
+	}
+
 	@AllowReflection
 	private PersistentCollection<?> loadEmbeddable(
 			Object keyBeingLoaded,
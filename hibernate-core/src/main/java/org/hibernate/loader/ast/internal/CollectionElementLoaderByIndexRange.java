@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.Loader;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+/**
+ * Loads a window of entries of an indexed collection, that is, of a list or
+ * map, ordered by index, without initializing the collection. The index of
+ * the first entry of the window is greater than a given index, so that
+ * successive windows may be read by keyset pagination.
+ * <p>
+ * Only collections with an index mapped to a single column of basic type are
+ * supported.
+ *
+ * @see org.hibernate.collection.spi.PersistentCollection#elementsAfterIndex
+ *
+ * @since 7.0.1
+ */
+public class CollectionElementLoaderByIndexRange implements Loader {
+	private final PluralAttributeMapping attributeMapping;
+	private final int baseIndex;
+
+	private final SelectStatement firstWindowSqlAst;
+	private final JdbcParametersList firstWindowJdbcParameters;
+	private final SelectStatement nextWindowSqlAst;
+	private final JdbcParametersList nextWindowJdbcParameters;
+
+	public CollectionElementLoaderByIndexRange(
+			PluralAttributeMapping attributeMapping,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		this.attributeMapping = attributeMapping;
+		this.baseIndex = attributeMapping.getIndexMetadata().getListIndexBase();
+
+		final JdbcParametersList.Builder firstWindowParameters = JdbcParametersList.newBuilder();
+		firstWindowSqlAst = LoaderSelectBuilder.createSelectByIndexRange(
+				attributeMapping,
+				false,
+				influencers,
+				firstWindowParameters::add,
+				sessionFactory
+		);
+		firstWindowJdbcParameters = firstWindowParameters.build();
+
+		final JdbcParametersList.Builder nextWindowParameters = JdbcParametersList.newBuilder();
+		nextWindowSqlAst = LoaderSelectBuilder.createSelectByIndexRange(
+				attributeMapping,
+				true,
+				influencers,
+				nextWindowParameters::add,
+				sessionFactory
+		);
+		nextWindowJdbcParameters = nextWindowParameters.build();
+	}
+
+	/**
+	 * Determine if the given collection has an index this loader can page by.
+	 */
+	public static boolean supports(PluralAttributeMapping attributeMapping) {
+		return attributeMapping.getIndexDescriptor() instanceof BasicValuedModelPart;
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return getAttributeMapping();
+	}
+
+	public PluralAttributeMapping getAttributeMapping() {
+		return attributeMapping;
+	}
+
+	/**
+	 * Load the entries of the collection with the given key whose index is
+	 * greater than the given index.
+	 *
+	 * @param afterIndex The index after which the window starts, or {@code null}
+	 *                   for the first window
+	 * @param maxResults The maximum number of entries to load
+	 *
+	 * @return The entries of the window, each an array holding the index
+	 *         (without any mapped base applied) and the element
+	 */
+	public List<Object[]> load(Object key, Object afterIndex, int maxResults, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final BasicValuedModelPart indexDescriptor = (BasicValuedModelPart) attributeMapping.getIndexDescriptor();
+		final SelectStatement sqlAst = afterIndex == null ? firstWindowSqlAst : nextWindowSqlAst;
+		final JdbcParametersList jdbcParameters = afterIndex == null ? firstWindowJdbcParameters : nextWindowJdbcParameters;
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		int offset = jdbcParameterBindings.registerParametersForEachJdbcValue(
+				key,
+				attributeMapping.getKeyDescriptor(),
+				jdbcParameters,
+				session
+		);
+		if ( afterIndex != null ) {
+			jdbcParameterBindings.addBinding(
+					jdbcParameters.get( offset++ ),
+					new JdbcParameterBindingImpl( indexDescriptor.getJdbcMapping(), incrementIndexByBase( afterIndex ) )
+			);
+		}
+		jdbcParameterBindings.addBinding(
+				jdbcParameters.get( offset++ ),
+				new JdbcParameterBindingImpl(
+						sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class ),
+						maxResults
+				)
+		);
+		assert offset == jdbcParameters.size();
+
+		final JdbcOperationQuerySelect jdbcSelect =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqlAst )
+						.translate( jdbcParameterBindings, QueryOptions.NONE );
+
+		final List<Object[]> rows = sessionFactory.getJdbcServices().getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new BaseExecutionContext( session ),
+				RowTransformerArrayImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.NONE,
+				maxResults
+		);
+		if ( baseIndex > 0 ) {
+			for ( Object[] row : rows ) {
+				row[0] = (Integer) row[0] - baseIndex;
+			}
+		}
+		return rows;
+	}
+
+	private Object incrementIndexByBase(Object index) {
+		return baseIndex > 0 ? (Integer) index + baseIndex : index;
+	}
+}
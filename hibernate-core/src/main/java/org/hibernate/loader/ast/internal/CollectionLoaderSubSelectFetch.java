@@ -29,11 +29,14 @@
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A one-time use {@link CollectionLoader} for applying a subselect fetch.
  *
@@ -44,6 +47,8 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 	private final SubselectFetch subselect;
 
 	private final SelectStatement sqlAst;
+	private final @Nullable SubselectFetchIdTable idTable;
+	private final @Nullable SelectStatement idTableSqlAst;
 
 	public CollectionLoaderSubSelectFetch(
 			PluralAttributeMapping attributeMapping,
@@ -63,6 +68,32 @@ public CollectionLoaderSubSelectFetch(
 				session.getFactory()
 		);
 
+		applySoftDeleteRestrictions( attributeMapping, sqlAst );
+
+		idTable = SubselectFetchIdTable.resolve( attributeMapping, subselect, session );
+		if ( idTable != null ) {
+			// the collections of the owners are fetched using the identifiers held
+			// in the temporary table, but any subselect fetch registered while the
+			// collections are being loaded refers to the original owner query, since
+			// the temporary table might be repopulated before it is used
+			idTableSqlAst = LoaderSelectBuilder.createSubSelectFetchSelect(
+					attributeMapping,
+					subselect,
+					idTable.createOwnerKeySubQuery( session ),
+					cachedDomainResult,
+					session.getLoadQueryInfluencers(),
+					LockOptions.NONE,
+					jdbcParameter -> {},
+					session.getFactory()
+			);
+			applySoftDeleteRestrictions( attributeMapping, idTableSqlAst );
+		}
+		else {
+			idTableSqlAst = null;
+		}
+	}
+
+	private static void applySoftDeleteRestrictions(PluralAttributeMapping attributeMapping, SelectStatement sqlAst) {
 		final QuerySpec querySpec = sqlAst.getQueryPart().getFirstQuerySpec();
 		final TableGroup tableGroup = querySpec.getFromClause().getRoots().get( 0 );
 		attributeMapping.applySoftDeleteRestrictions( tableGroup, querySpec::applyPredicate );
@@ -121,9 +152,20 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 			}
 		}
 
+		final SelectStatement executedSqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+		if ( idTable != null && idTable.populate( subselect, session ) ) {
+			executedSqlAst = idTableSqlAst;
+			jdbcParameterBindings = JdbcParameterBindings.NO_BINDINGS;
+		}
+		else {
+			executedSqlAst = sqlAst;
+			jdbcParameterBindings = this.subselect.getLoadingJdbcParameterBindings();
+		}
+
 		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-				.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( this.subselect.getLoadingJdbcParameterBindings(), QueryOptions.NONE );
+				.buildSelectTranslator( sessionFactory, executedSqlAst )
+				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				batchFetchQueue,
@@ -134,7 +176,7 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 
 		jdbcServices.getJdbcSelectExecutor().list(
 				jdbcSelect,
-				this.subselect.getLoadingJdbcParameterBindings(),
+				jdbcParameterBindings,
 				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.NONE
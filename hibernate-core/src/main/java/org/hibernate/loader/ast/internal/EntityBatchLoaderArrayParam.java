@@ -164,6 +164,16 @@ public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedS
 		return load( pkValue, null, lockOptions, readOnly, session );
 	}
 
+	@Override
+	@AllowReflection
+	public void loadAll(Object[] ids, Boolean readOnly, SharedSessionContractImplementor session) {
+		// the array parameter must be bound to an array of the identifier type
+		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, ids.length );
+		System.arraycopy( ids, 0, idsToLoad, 0, ids.length );
+		super.loadAll( idsToLoad, readOnly, session );
+	}
+
 	@Override
 	public String toString() {
 		return String.format(
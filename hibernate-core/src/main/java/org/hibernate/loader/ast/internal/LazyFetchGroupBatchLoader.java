@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * Loads the attributes of a lazy fetch group for several entities at once,
+ * using a SQL IN predicate restriction - e.g., {@code ... where id in (?,?,...)}.
+ * <p>
+ * Each row returned by {@link #load} holds the identifier of an entity,
+ * followed by the values of the attributes of the fetch group. Any unused
+ * parameter slots for a particular execution are set to {@code null}.
+ *
+ * @see org.hibernate.engine.spi.BatchFetchQueue#getBatchLoadableLazyAttributeOwnerIds
+ *
+ * @since 7.0.1
+ */
+public class LazyFetchGroupBatchLoader {
+	private final EntityMappingType entityDescriptor;
+	private final int domainBatchSize;
+	private final int sqlBatchSize;
+
+	private final JdbcParametersList jdbcParameters;
+	private final JdbcOperationQuerySelect jdbcSelect;
+
+	/**
+	 * @param domainBatchSize The maximum number of entities we will initialize for each load
+	 * @param attributesToSelect The attributes of the fetch group
+	 */
+	public LazyFetchGroupBatchLoader(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			List<? extends ModelPart> attributesToSelect,
+			SessionFactoryImplementor sessionFactory) {
+		this.entityDescriptor = entityDescriptor;
+		this.domainBatchSize = domainBatchSize;
+		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		sqlBatchSize =
+				sessionFactory.getJdbcServices().getDialect().getBatchLoadSizingStrategy()
+						.determineOptimalBatchLoadSize( identifierMapping.getJdbcTypeCount(), domainBatchSize, false );
+
+		final List<ModelPart> partsToSelect = new ArrayList<>( attributesToSelect.size() + 1 );
+		partsToSelect.add( identifierMapping );
+		partsToSelect.addAll( attributesToSelect );
+
+		final JdbcParametersList.Builder builder =
+				JdbcParametersList.newBuilder( identifierMapping.getJdbcTypeCount() * sqlBatchSize );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				entityDescriptor,
+				partsToSelect,
+				identifierMapping,
+				null,
+				sqlBatchSize,
+				new LoadQueryInfluencers( sessionFactory ),
+				LockOptions.NONE,
+				builder::add,
+				sessionFactory
+		);
+		jdbcParameters = builder.build();
+		jdbcSelect =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqlAst )
+						.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+
+	public int getDomainBatchSize() {
+		return domainBatchSize;
+	}
+
+	public int getSqlBatchSize() {
+		return sqlBatchSize;
+	}
+
+	public JdbcOperationQuerySelect getJdbcSelect() {
+		return jdbcSelect;
+	}
+
+	/**
+	 * Load the attributes of the fetch group for the entities with the given identifiers.
+	 *
+	 * @return One row per entity found, holding its identifier followed by the attribute values
+	 */
+	public List<Object[]> load(Object[] ids, SharedSessionContractImplementor session) {
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf(
+					"Batch fetching lazy attributes of `%s` for %s entities",
+					entityDescriptor.getEntityName(),
+					ids.length
+			);
+		}
+		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final List<Object[]> rows = new ArrayList<>( ids.length );
+		for ( int start = 0; start < ids.length; start += sqlBatchSize ) {
+			final JdbcParameterBindings jdbcParameterBindings =
+					new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
+			for ( int i = 0; i < sqlBatchSize; i++ ) {
+				final int position = start + i;
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						position < ids.length ? ids[position] : null,
+						offset,
+						identifierMapping,
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
+			rows.addAll( session.getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new BaseExecutionContext( session ),
+					RowTransformerArrayImpl.instance(),
+					null,
+					ListResultsConsumer.UniqueSemantic.NONE,
+					Math.min( sqlBatchSize, ids.length - start )
+			) );
+		}
+		return rows;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"LazyFetchGroupBatchLoader(%s [%s (%s)])",
+				entityDescriptor.getEntityName(),
+				domainBatchSize,
+				sqlBatchSize
+		);
+	}
+}
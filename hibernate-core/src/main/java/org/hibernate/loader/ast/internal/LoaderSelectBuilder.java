@@ -26,6 +26,7 @@
 import org.hibernate.loader.ast.spi.Loader;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
@@ -42,6 +43,8 @@
 import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.metamodel.mapping.ordering.OrderByFragment;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.common.FetchClauseType;
 import org.hibernate.query.sqm.ComparisonOperator;
 import org.hibernate.spi.EntityIdentifierNavigablePath;
 import org.hibernate.spi.NavigablePath;
@@ -70,6 +73,7 @@
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.ast.tree.select.SortSpecification;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.results.graph.BiDirectionalFetch;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -216,6 +220,89 @@ private static void applyArrayParamRestriction(
 		rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, jdbcArrayParameter ) );
 	}
 
+	/**
+	 * Create an SQL AST select-statement which returns the index and element of
+	 * the entries of the collection with a given key, ordered by index, and
+	 * limited to a given number of rows - e.g. {@code ... where key = ? and index > ?
+	 * order by index fetch first ? rows only}.
+	 * <p>
+	 * The {@link JdbcParameter}s are passed to the consumer in the order: key,
+	 * lower bound of the index (if any), number of rows.
+	 *
+	 * @param attributeMapping The plural-attribute, which must have an index with a single column
+	 * @param lowerBounded Whether to restrict the index to values greater than a parameter
+	 *
+	 * @see CollectionElementLoaderByIndexRange
+	 *
+	 * @since 7.0.1
+	 */
+	public static SelectStatement createSelectByIndexRange(
+			PluralAttributeMapping attributeMapping,
+			boolean lowerBounded,
+			LoadQueryInfluencers influencers,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			SessionFactoryImplementor sessionFactory) {
+		final BasicValuedModelPart indexDescriptor = (BasicValuedModelPart) attributeMapping.getIndexDescriptor();
+		final ForeignKeyDescriptor keyDescriptor = attributeMapping.getKeyDescriptor();
+		final LoaderSelectBuilder builder = new LoaderSelectBuilder(
+				sessionFactory.getSqlTranslationEngine(),
+				attributeMapping,
+				List.of( indexDescriptor, attributeMapping.getElementDescriptor() ),
+				singletonList( keyDescriptor ),
+				null,
+				1,
+				influencers,
+				LockOptions.NONE,
+				jdbcParameterConsumer
+		);
+
+		final QuerySpec rootQuerySpec = new QuerySpec( true );
+		final LoaderSqlAstCreationState sqlAstCreationState = builder.createSqlAstCreationState( rootQuerySpec );
+
+		final NavigablePath rootNavigablePath = new NavigablePath( attributeMapping.getRootPathName() );
+		final TableGroup rootTableGroup =
+				builder.buildRootTableGroup( rootNavigablePath, rootQuerySpec, sqlAstCreationState );
+
+		final List<DomainResult<?>> domainResults =
+				builder.buildRequestedDomainResults( rootNavigablePath, sqlAstCreationState, rootTableGroup );
+
+		builder.applyRestriction(
+				rootQuerySpec,
+				rootNavigablePath,
+				rootTableGroup,
+				keyDescriptor,
+				keyDescriptor.getJdbcTypeCount(),
+				jdbcParameterConsumer,
+				sqlAstCreationState
+		);
+
+		final TableReference indexTableReference =
+				rootTableGroup.resolveTableReference(
+						rootNavigablePath.append( indexDescriptor.getPartName() ),
+						indexDescriptor.getContainingTableExpression()
+				);
+		final Expression indexExpression =
+				sqlAstCreationState.getSqlExpressionResolver()
+						.resolveSqlExpression( indexTableReference, indexDescriptor );
+		if ( lowerBounded ) {
+			final JdbcParameter lowerBound = new JdbcParameterImpl( indexDescriptor.getJdbcMapping() );
+			jdbcParameterConsumer.accept( lowerBound );
+			rootQuerySpec.applyPredicate(
+					new ComparisonPredicate( indexExpression, ComparisonOperator.GREATER_THAN, lowerBound )
+			);
+		}
+
+		builder.applyFiltering( rootQuerySpec, rootTableGroup, attributeMapping, sqlAstCreationState );
+
+		rootQuerySpec.addSortSpecification( new SortSpecification( indexExpression, SortDirection.ASCENDING ) );
+		final JdbcParameter maxRows =
+				new JdbcParameterImpl( sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class ) );
+		jdbcParameterConsumer.accept( maxRows );
+		rootQuerySpec.setFetchClauseExpression( maxRows, FetchClauseType.ROWS_ONLY );
+
+		return new SelectStatement( rootQuerySpec, domainResults );
+	}
+
 	/**
 	 * Create an SQL AST select-statement based on matching one-or-more keys
 	 *
@@ -328,6 +415,46 @@ public static SelectStatement createSubSelectFetchSelect(
 			LockOptions lockOptions,
 			Consumer<JdbcParameter> jdbcParameterConsumer,
 			SessionFactoryImplementor sessionFactory) {
+		return createSubSelectFetchSelect(
+				attributeMapping,
+				subselect,
+				null,
+				cachedDomainResult,
+				loadQueryInfluencers,
+				lockOptions,
+				jdbcParameterConsumer,
+				sessionFactory
+		);
+	}
+
+	/**
+	 * Create an SQL AST select-statement used for subselect-based CollectionLoader,
+	 * where the collection keys are restricted by the given subquery instead of by a
+	 * subquery which re-executes the query which loaded the owners
+	 *
+	 * @param attributeMapping The plural-attribute being loaded
+	 * @param subselect The subselect details to apply
+	 * @param ownerKeySubQuery A subquery selecting the target columns of the collection key,
+	 * or null to use a subquery which re-executes the query which loaded the owners
+	 * @param cachedDomainResult DomainResult to be used.  Null indicates to generate the DomainResult?
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcParameterConsumer Consumer for all JdbcParameter references created
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see SubselectFetchIdTable
+	 *
+	 * @since 7.0.1
+	 */
+	public static SelectStatement createSubSelectFetchSelect(
+			PluralAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			QueryPart ownerKeySubQuery,
+			DomainResult<?> cachedDomainResult,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			SessionFactoryImplementor sessionFactory) {
 		final LoaderSelectBuilder process = new LoaderSelectBuilder(
 				sessionFactory.getSqlTranslationEngine(),
 				attributeMapping,
@@ -340,7 +467,7 @@ public static SelectStatement createSubSelectFetchSelect(
 				jdbcParameterConsumer
 		);
 
-		return process.generateSelect( subselect );
+		return process.generateSelect( subselect, ownerKeySubQuery );
 	}
 
 	private final SqlAstCreationContext creationContext;
@@ -972,7 +1099,7 @@ else if ( fetchable instanceof PluralAttributeMapping pluralAttributeMapping ) {
 		return true;
 	}
 
-	private SelectStatement generateSelect(SubselectFetch subselect) {
+	private SelectStatement generateSelect(SubselectFetch subselect, QueryPart ownerKeySubQuery) {
 
 		// todo (6.0) : we could even convert this to a join by piecing together
 		//		parts from the subselect-fetch sql-ast.  e.g. today we do:
@@ -1018,7 +1145,7 @@ private SelectStatement generateSelect(SubselectFetch subselect) {
 		final TableGroup rootTableGroup = buildRootTableGroup( rootNavigablePath, rootQuerySpec, sqlAstCreationState );
 
 		// generate and apply the restriction
-		applySubSelectRestriction( rootQuerySpec, rootTableGroup, subselect, sqlAstCreationState );
+		applySubSelectRestriction( rootQuerySpec, rootTableGroup, subselect, ownerKeySubQuery, sqlAstCreationState );
 
 		// NOTE : no need to check - we are explicitly processing a plural-attribute
 		applyFiltering( rootQuerySpec, rootTableGroup, attributeMapping, sqlAstCreationState );
@@ -1047,6 +1174,7 @@ private void applySubSelectRestriction(
 			QuerySpec querySpec,
 			TableGroup rootTableGroup,
 			SubselectFetch subselect,
+			QueryPart ownerKeySubQuery,
 			LoaderSqlAstCreationState sqlAstCreationState) {
 		assert loadable instanceof PluralAttributeMapping;
 
@@ -1086,7 +1214,9 @@ private void applySubSelectRestriction(
 		querySpec.applyPredicate(
 				new InSubQueryPredicate(
 						fkExpression,
-						generateSubSelect( attributeMapping, subselect, sqlAstCreationState ),
+						ownerKeySubQuery == null
+								? generateSubSelect( attributeMapping, subselect, sqlAstCreationState )
+								: ownerKeySubQuery,
 						false
 				)
 		);
@@ -0,0 +1,330 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.ResultsHelper;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesBufferedRows;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.ManagedResultConsumer;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.type.BasicType;
+
+/**
+ * Loads the collections of one role for a chunk of keys, splitting the work
+ * between a thread which only executes the select on a connection which does
+ * not belong to the session, without touching the persistence context, and the
+ * thread which owns the session, which then attaches the rows read by the other
+ * thread to the persistence context.
+ * <p>
+ * The rows are read as raw JDBC values, and processed by the owning thread
+ * exactly as if they had been read from the {@link ResultSet} of a
+ * {@linkplain org.hibernate.loader.ast.spi.CollectionBatchLoader batch load}.
+ *
+ * @see org.hibernate.cfg.FetchSettings#PARALLEL_COLLECTION_FETCH
+ *
+ * @since 7.0.1
+ */
+public class ParallelCollectionLoader {
+	private final PluralAttributeMapping attributeMapping;
+	private final int sqlBatchSize;
+	private final JdbcParametersList jdbcParameters;
+	private final SelectStatement sqlAst;
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final JdbcValuesMapping valuesMapping;
+
+	public ParallelCollectionLoader(
+			PluralAttributeMapping attributeMapping,
+			int numberOfKeys,
+			SharedSessionContractImplementor session) {
+		this.attributeMapping = attributeMapping;
+
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final ForeignKeyDescriptor keyDescriptor = attributeMapping.getKeyDescriptor();
+		sqlBatchSize = sessionFactory.getJdbcServices()
+				.getDialect()
+				.getBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( keyDescriptor.getJdbcTypeCount(), numberOfKeys, false );
+
+		final JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder();
+		sqlAst = LoaderSelectBuilder.createSelect(
+				attributeMapping,
+				null,
+				keyDescriptor,
+				null,
+				sqlBatchSize,
+				session.getLoadQueryInfluencers(),
+				LockOptions.NONE,
+				jdbcParametersBuilder::add,
+				sessionFactory
+		);
+
+		final QuerySpec querySpec = sqlAst.getQueryPart().getFirstQuerySpec();
+		final TableGroup tableGroup = querySpec.getFromClause().getRoots().get( 0 );
+		attributeMapping.applySoftDeleteRestrictions( tableGroup, querySpec::applyPredicate );
+
+		jdbcParameters = jdbcParametersBuilder.build();
+		jdbcSelect = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+		// the selections of a loader are always typed, so no
+		// ResultSet metadata is needed to resolve the mapping
+		valuesMapping = jdbcSelect.getJdbcValuesMappingProducer().resolve(
+				new CachedJdbcValuesMetadata( new String[0], new BasicType<?>[0] ),
+				session.getLoadQueryInfluencers(),
+				sessionFactory
+		);
+	}
+
+	/**
+	 * May the collections be fetched by a thread which does not own the session?
+	 * LOBs cannot be read after the connection used to fetch them is released.
+	 */
+	public boolean isParallelFetchable() {
+		for ( SqlSelection sqlSelection : valuesMapping.getSqlSelections() ) {
+			if ( sqlSelection.getExpressionType().getSingleJdbcMapping().getJdbcType().isLob() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The maximum number of keys loaded by a single select.
+	 */
+	public int getSqlBatchSize() {
+		return sqlBatchSize;
+	}
+
+	/**
+	 * A chunk of at most {@link #getSqlBatchSize()} keys, beginning at the given
+	 * position in the given array of keys, to be loaded by a single select.
+	 * Created and {@linkplain Chunk#load loaded} by the thread which owns
+	 * the session, and {@linkplain Chunk#fetch fetched} by any thread.
+	 */
+	public Chunk chunk(Object[] keys, int start, SharedSessionContractImplementor session) {
+		return new Chunk( keys, start, session );
+	}
+
+	public class Chunk {
+		private final Object[] keys;
+		private final int start;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final ExecutionContext executionContext;
+		private final String sql;
+		private final int queryTimeout;
+		private final Integer fetchSize;
+
+		private Chunk(Object[] keys, int start, SharedSessionContractImplementor session) {
+			this.keys = keys;
+			this.start = start;
+			this.executionContext = new BaseExecutionContext( session );
+			// everything which needs the session is done here, by the thread which owns it
+			final String inspectedSql = session.getJdbcSessionContext().getStatementInspector()
+					.inspect( jdbcSelect.getSqlString() );
+			sql = inspectedSql == null ? jdbcSelect.getSqlString() : inspectedSql;
+			queryTimeout = session.getJdbcCoordinator().determineRemainingTransactionTimeOutPeriod();
+			fetchSize = session.getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int bindCount = 0;
+			for ( int i = 0; i < sqlBatchSize; i++ ) {
+				final int keyPosition = i + start;
+				bindCount += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						keyPosition < keys.length ? keys[keyPosition] : null,
+						bindCount,
+						attributeMapping.getKeyDescriptor(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert bindCount == jdbcParameters.size();
+		}
+
+		/**
+		 * Execute the select using the given connection, which does not belong
+		 * to the session, and read the raw JDBC values of its rows. Does not
+		 * touch the persistence context, and so it may be called by a thread
+		 * which does not own the session.
+		 */
+		public List<Object[]> fetch(Connection connection) {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final SqlStatementLogger statementLogger = session.getJdbcServices().getSqlStatementLogger();
+			try {
+				statementLogger.logStatement( sql );
+				try ( PreparedStatement statement = connection.prepareStatement( sql ) ) {
+					if ( queryTimeout > 0 ) {
+						statement.setQueryTimeout( queryTimeout );
+					}
+					if ( fetchSize != null ) {
+						statement.setFetchSize( fetchSize );
+					}
+					int position = 1;
+					for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+						parameterBinder.bindParameterValue(
+								statement,
+								position++,
+								jdbcParameterBindings,
+								executionContext
+						);
+					}
+					long executeStartNanos = 0;
+					if ( statementLogger.getLogSlowQuery() > 0 ) {
+						executeStartNanos = System.nanoTime();
+					}
+					final ResultSet resultSet;
+					try {
+						resultSet = statement.executeQuery();
+					}
+					finally {
+						statementLogger.logSlowQuery( sql, executeStartNanos, session.getJdbcSessionContext() );
+					}
+					try ( resultSet ) {
+						return readRows( resultSet, session );
+					}
+				}
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper()
+						.convert( e, "Could not fetch collections in parallel", sql );
+			}
+		}
+
+		private List<Object[]> readRows(ResultSet resultSet, SharedSessionContractImplementor session)
+				throws SQLException {
+			final List<SqlSelection> sqlSelections = valuesMapping.getSqlSelections();
+			final int rowSize = valuesMapping.getRowSize();
+			final List<Object[]> rows = new ArrayList<>();
+			while ( resultSet.next() ) {
+				final Object[] row = new Object[rowSize];
+				for ( int i = 0; i < sqlSelections.size(); i++ ) {
+					final SqlSelection sqlSelection = sqlSelections.get( i );
+					row[sqlSelection.getValuesArrayPosition()] =
+							sqlSelection.getJdbcValueExtractor()
+									.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), session );
+				}
+				rows.add( row );
+			}
+			return rows;
+		}
+
+		/**
+		 * Attach the collections in the given rows, which were read by
+		 * {@link #fetch}, to the persistence context, and initialize the
+		 * collections which had no rows as empty collections.
+		 */
+		public void load(List<Object[]> rows) {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final SubselectFetch.RegistrationHandler registrationHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContextInternal().getBatchFetchQueue(),
+					sqlAst,
+					jdbcParameters,
+					jdbcParameterBindings
+			);
+			final ExecutionContext loadingContext =
+					new ExecutionContextWithSubselectFetchHandler( session, registrationHandler );
+
+			final JdbcValues jdbcValues = new JdbcValuesBufferedRows( rows, valuesMapping );
+			final JdbcValuesSourceProcessingOptions processingOptions = new JdbcValuesSourceProcessingOptions() {
+				@Override
+				public Object getEffectiveOptionalObject() {
+					return null;
+				}
+
+				@Override
+				public String getEffectiveOptionalEntityName() {
+					return null;
+				}
+
+				@Override
+				public Object getEffectiveOptionalId() {
+					return null;
+				}
+
+				@Override
+				public boolean shouldReturnProxies() {
+					return true;
+				}
+			};
+			final JdbcValuesSourceProcessingStateStandardImpl valuesProcessingState =
+					new JdbcValuesSourceProcessingStateStandardImpl( loadingContext, processingOptions );
+			final RowReader<Object> rowReader = ResultsHelper.createRowReader(
+					session.getFactory(),
+					RowTransformerStandardImpl.instance(),
+					null,
+					jdbcValues
+			);
+			final RowProcessingStateStandardImpl rowProcessingState = new RowProcessingStateStandardImpl(
+					valuesProcessingState,
+					loadingContext,
+					rowReader,
+					jdbcValues
+			);
+			ManagedResultConsumer.INSTANCE.consume(
+					jdbcValues,
+					session,
+					processingOptions,
+					valuesProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final int end = Math.min( start + sqlBatchSize, keys.length );
+			for ( int i = start; i < end; i++ ) {
+				final PersistentCollection<?> collection = persistenceContext.getCollection(
+						new CollectionKey( attributeMapping.getCollectionDescriptor(), keys[i] )
+				);
+				if ( collection != null && !collection.wasInitialized() ) {
+					final CollectionEntry entry = persistenceContext.getCollectionEntry( collection );
+					collection.initializeEmptyCollection( entry.getLoadedPersister() );
+					ResultsHelper.finalizeCollectionLoading(
+							persistenceContext,
+							entry.getLoadedPersister(),
+							collection,
+							keys[i],
+							true
+					);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.temptable.TemporaryTable;
+import org.hibernate.dialect.temptable.TemporaryTableColumn;
+import org.hibernate.dialect.temptable.TemporaryTableHelper;
+import org.hibernate.dialect.temptable.TemporaryTableKind;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.metamodel.mapping.BasicValuedMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
+import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.mutation.internal.temptable.ExecuteWithTemporaryTableHelper;
+import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableStrategy;
+import org.hibernate.query.sqm.mutation.internal.temptable.PersistentTableStrategy;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.QueryLiteral;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.from.TableReference;
+import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A temporary table holding the identifiers of the owners of collections which are
+ * {@linkplain org.hibernate.annotations.FetchMode#SUBSELECT subselect fetched}. The
+ * table is populated by re-executing the query which loaded the owners the first time
+ * one of their collections is fetched, and every collection of the same owners is then
+ * fetched using a subquery against the temporary table, instead of a subquery which
+ * re-executes the original query.
+ * <p>
+ * There is one such table for each entity hierarchy with collections. Within a
+ * transaction, it holds the owners of the first {@link SubselectFetch} which uses it,
+ * as tracked by the {@link BatchFetchQueue}, and its rows are cleaned before the end of
+ * the transaction. The table is not repopulated for the owners of a different subselect
+ * fetch in the same transaction, since collections fetched alternately for the owners
+ * loaded by two queries would then execute both queries again for every collection.
+ * Instead, the collections of any other subselect fetch are fetched using a subquery
+ * which re-executes the query which loaded their owners.
+ *
+ * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_TEMPORARY_TABLE
+ *
+ * @since 7.0.1
+ */
+public class SubselectFetchIdTable {
+	public static final String ID_TABLE_PREFIX = "HTS_";
+
+	private static final Function<SharedSessionContractImplementor, String> SESSION_UID_ACCESS =
+			session -> session.getSessionIdentifier().toString();
+
+	private final TemporaryTable idTable;
+	private final Dialect dialect;
+	private final @Nullable GlobalTemporaryTableStrategy globalTemporaryTableStrategy;
+	private final @Nullable PersistentTableStrategy persistentTableStrategy;
+
+	public SubselectFetchIdTable(
+			EntityMappingType rootEntityDescriptor,
+			RuntimeModelCreationContext creationContext) {
+		dialect = creationContext.getDialect();
+		idTable = TemporaryTable.createIdTable(
+				rootEntityDescriptor,
+				basename -> ID_TABLE_PREFIX + basename,
+				dialect,
+				creationContext
+		);
+		final TemporaryTableKind kind = dialect.getSupportedTemporaryTableKind();
+		final SessionFactoryImplementor sessionFactory = creationContext.getSessionFactory();
+		// local temporary tables are created before use, just like for mutation queries
+		globalTemporaryTableStrategy = kind == TemporaryTableKind.GLOBAL
+				? new GlobalTemporaryTableStrategy( idTable, sessionFactory )
+				: null;
+		persistentTableStrategy = kind == TemporaryTableKind.PERSISTENT
+				? new PersistentTableStrategy( idTable, sessionFactory ) {}
+				: null;
+	}
+
+	/**
+	 * Obtain the temporary table for the owner of the given collection, if subselect
+	 * fetching via a temporary table is possible in the current session.
+	 *
+	 * @return The temporary table, or null if the collection must be fetched using a
+	 * subquery which re-executes the query which loaded its owners
+	 */
+	public static @Nullable SubselectFetchIdTable resolve(
+			PluralAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			SharedSessionContractImplementor session) {
+		// the table rows are only cleaned at the end of a transaction,
+		// and the identifiers it holds must be the target of the foreign key
+		if ( session.isEventSource() && session.isTransactionInProgress()
+				&& attributeMapping.getKeyDescriptor().getTargetPart() instanceof EntityIdentifierMapping
+				&& subselect.getOwnerTableGroup() != null
+				&& subselect.getOwnerTableGroup().getModelPart() instanceof EntityMappingType owner
+			&& owner.getRootEntityDescriptor().getEntityPersister() instanceof AbstractEntityPersister persister ) {
+			return persister.getSubselectFetchIdTable();
+		}
+		else {
+			return null;
+		}
+	}
+
+	public TemporaryTable getTemporaryTable() {
+		return idTable;
+	}
+
+	/**
+	 * Create the temporary table, if necessary. Called one time as the
+	 * {@code SessionFactory} is being built.
+	 */
+	public void prepare(MappingModelCreationProcess creationProcess) {
+		final JdbcConnectionAccess connectionAccess =
+				creationProcess.getCreationContext().getJdbcServices().getBootstrapJdbcConnectionAccess();
+		if ( globalTemporaryTableStrategy != null ) {
+			globalTemporaryTableStrategy.prepare( creationProcess, connectionAccess );
+		}
+		else if ( persistentTableStrategy != null ) {
+			persistentTableStrategy.prepare( creationProcess, connectionAccess );
+		}
+	}
+
+	/**
+	 * Drop the temporary table, if necessary. Called one time as the
+	 * {@code SessionFactory} is being shut down.
+	 */
+	public void release(SessionFactoryImplementor sessionFactory, JdbcConnectionAccess connectionAccess) {
+		if ( globalTemporaryTableStrategy != null ) {
+			globalTemporaryTableStrategy.release( sessionFactory, connectionAccess );
+		}
+		else if ( persistentTableStrategy != null ) {
+			persistentTableStrategy.release( sessionFactory, connectionAccess );
+		}
+	}
+
+	/**
+	 * Create a subquery which selects the owner identifiers held in the temporary table.
+	 */
+	public QuerySpec createOwnerKeySubQuery(SharedSessionContractImplementor session) {
+		return ExecuteWithTemporaryTableHelper.createIdTableSelectQuerySpec(
+				idTable,
+				SESSION_UID_ACCESS,
+				idTable.getEntityDescriptor(),
+				new BaseExecutionContext( session )
+		);
+	}
+
+	/**
+	 * Make sure the temporary table holds the identifiers of the owners loaded
+	 * by the given subselect fetch, populating it if it is not yet in use in
+	 * the current transaction.
+	 *
+	 * @return {@code true} if the table holds the owners of the given subselect
+	 * fetch, or {@code false} if it holds the owners of another subselect fetch,
+	 * in which case the collections must be fetched using a subquery which
+	 * re-executes the query which loaded their owners
+	 */
+	public boolean populate(SubselectFetch subselect, SharedSessionContractImplementor session) {
+		final String rootEntityName = idTable.getEntityDescriptor().getEntityName();
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		if ( batchFetchQueue.getSubselectInTemporaryTable( rootEntityName ) == subselect ) {
+			return true;
+		}
+		else if ( batchFetchQueue.isTemporaryTableInUse( rootEntityName ) ) {
+			return false;
+		}
+		else {
+			final ExecutionContext executionContext = new BaseExecutionContext( session );
+			ExecuteWithTemporaryTableHelper.performBeforeTemporaryTableUseActions( idTable, executionContext );
+			// just in case rows were left behind by a transaction which was rolled back
+			TemporaryTableHelper.cleanTemporaryTableRows(
+					idTable,
+					dialect.getTemporaryTableExporter(),
+					SESSION_UID_ACCESS,
+					session
+			);
+			registerCleanup( rootEntityName, session );
+			saveOwnerIds( subselect, executionContext );
+			batchFetchQueue.setSubselectInTemporaryTable( rootEntityName, subselect );
+			return true;
+		}
+	}
+
+	private void registerCleanup(String rootEntityName, SharedSessionContractImplementor session) {
+		session.asEventSource().getActionQueue().registerProcess(
+				(BeforeTransactionCompletionProcess) s ->
+						ExecuteWithTemporaryTableHelper.performAfterTemporaryTableUseActions(
+								idTable,
+								SESSION_UID_ACCESS,
+								dialect.getTemporaryTableAfterUseAction(),
+								new BaseExecutionContext( s )
+						)
+		);
+		session.asEventSource().getActionQueue().registerProcess(
+				(AfterTransactionCompletionProcess) (success, s) ->
+						s.getPersistenceContextInternal().getBatchFetchQueue()
+								.setSubselectInTemporaryTable( rootEntityName, null )
+		);
+	}
+
+	private void saveOwnerIds(SubselectFetch subselect, ExecutionContext executionContext) {
+		final NamedTableReference idTableReference =
+				new NamedTableReference( idTable.getTableExpression(), InsertSelectStatement.DEFAULT_ALIAS );
+		final InsertSelectStatement idTableInsert = new InsertSelectStatement( idTableReference );
+		for ( TemporaryTableColumn column : idTable.getColumns() ) {
+			idTableInsert.addTargetColumnReferences(
+					new ColumnReference(
+							idTableReference,
+							column.getColumnName(),
+							// id columns cannot be formulas and cannot have custom read and write expressions
+							false,
+							null,
+							column.getJdbcMapping()
+					)
+			);
+		}
+
+		// the same from-clause and restriction as the subquery which would
+		// otherwise be used to restrict each subselect fetch
+		final QuerySpec loadingSqlAst = subselect.getLoadingSqlAst();
+		final TableGroup ownerTableGroup = subselect.getOwnerTableGroup();
+		final QuerySpec ownerIdSelection = new QuerySpec( true, 1 );
+		loadingSqlAst.getFromClause().visitRoots( ownerIdSelection.getFromClause()::addRoot );
+		final EntityIdentifierMapping identifierMapping = idTable.getEntityDescriptor().getIdentifierMapping();
+		identifierMapping.forEachSelectable(
+				(selectionIndex, selection) -> {
+					final TableReference tableReference =
+							ownerTableGroup.resolveTableReference( null, identifierMapping,
+									selection.getContainingTableExpression() );
+					ownerIdSelection.getSelectClause().addSqlSelection(
+							new SqlSelectionImpl( selectionIndex, new ColumnReference( tableReference, selection ) )
+					);
+				}
+		);
+		if ( idTable.getSessionUidColumn() != null ) {
+			ownerIdSelection.getSelectClause().addSqlSelection(
+					new SqlSelectionImpl(
+							ownerIdSelection.getSelectClause().getSqlSelections().size(),
+							new QueryLiteral<>(
+									UUID.fromString( SESSION_UID_ACCESS.apply( executionContext.getSession() ) ),
+									(BasicValuedMapping) idTable.getSessionUidColumn().getJdbcMapping()
+							)
+					)
+			);
+		}
+		// the query which loaded the owners might have joins
+		ownerIdSelection.getSelectClause().makeDistinct( true );
+		ownerIdSelection.applyPredicate( loadingSqlAst.getWhereClauseRestrictions() );
+		idTableInsert.setSourceSelectStatement( ownerIdSelection );
+
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final JdbcServices jdbcServices = session.getFactory().getJdbcServices();
+		final JdbcOperationQueryMutation jdbcInsert =
+				jdbcServices.getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildMutationTranslator( session.getFactory(), idTableInsert )
+						.translate( subselect.getLoadingJdbcParameterBindings(), QueryOptions.NONE );
+		jdbcServices.getJdbcMutationExecutor().execute(
+				jdbcInsert,
+				subselect.getLoadingJdbcParameterBindings(),
+				sql -> session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql ),
+				(integer, preparedStatement) -> {},
+				executionContext
+		);
+	}
+}
@@ -4,10 +4,24 @@
  */
 package org.hibernate.loader.ast.spi;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 /**
  * BatchLoader specialization for {@linkplain org.hibernate.metamodel.mapping.PluralAttributeMapping collection} fetching
  *
  * @author Steve Ebersole
  */
 public interface CollectionBatchLoader extends BatchLoader, CollectionLoader {
+	/**
+	 * Initialize the collections with the given keys, whether or not they
+	 * are registered with the {@linkplain org.hibernate.engine.spi.BatchFetchQueue
+	 * batch fetch queue}, in as few round trips as possible.
+	 *
+	 * @since 7.0.1
+	 */
+	default void loadAll(Object[] keys, SharedSessionContractImplementor session) {
+		for ( Object key : keys ) {
+			load( key, session );
+		}
+	}
 }
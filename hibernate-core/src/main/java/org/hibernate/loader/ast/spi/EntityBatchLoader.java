@@ -4,10 +4,25 @@
  */
 package org.hibernate.loader.ast.spi;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 /**
  * BatchLoader specialization for {@linkplain org.hibernate.metamodel.mapping.EntityMappingType entity} fetching
  *
  * @author Steve Ebersole
  */
 public interface EntityBatchLoader<T> extends BatchLoader, SingleIdEntityLoader<T> {
+	/**
+	 * Load the entities with the given identifiers, whether or not they are
+	 * registered with the {@linkplain org.hibernate.engine.spi.BatchFetchQueue
+	 * batch fetch queue}, in as few round trips as possible.
+	 *
+	 * @since 7.0.1
+	 */
+	default void loadAll(Object[] ids, Boolean readOnly, SharedSessionContractImplementor session) {
+		for ( Object id : ids ) {
+			load( id, LockOptions.NONE, readOnly, session );
+		}
+	}
 }
@@ -41,7 +41,9 @@
 import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.loader.ast.internal.AdaptiveBatchFetch;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
+import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndexRange;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
 import org.hibernate.loader.ast.internal.CollectionLoaderSingleKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
@@ -135,6 +137,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -249,7 +252,9 @@
 	private final Comparator<?> comparator;
 
 	private CollectionLoader collectionLoader;
+	private @Nullable AdaptiveBatchFetch<CollectionLoader> adaptiveBatchFetch;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionElementLoaderByIndexRange collectionElementLoaderByIndexRange;
 
 	private PluralAttributeMapping attributeMapping;
 	private volatile Set<String> affectingFetchProfiles;
@@ -692,6 +697,10 @@ public void postInstantiate() throws MappingException {
 						? createNamedQueryCollectionLoader( this, getNamedQueryMemento( null ) )
 						: createCollectionLoader( new LoadQueryInfluencers( factory ) );
 
+		if ( !hasNamedQueryLoader() && factory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled() ) {
+			adaptiveBatchFetch = new AdaptiveBatchFetch<>( getRole(), this::createAdaptiveBatchLoader );
+		}
+
 		if ( attributeMapping.getIndexDescriptor() != null ) {
 			collectionElementLoaderByIndex =
 					new CollectionElementLoaderByIndex( attributeMapping, new LoadQueryInfluencers( factory ), factory );
@@ -782,12 +791,27 @@ protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContrac
 					return subSelectLoader;
 				}
 			}
-			return attributeMapping.isAffectedByInfluencers( influencers, true )
-					? createCollectionLoader( influencers )
-					: getCollectionLoader();
+			if ( attributeMapping.isAffectedByInfluencers( influencers, true ) ) {
+				return createCollectionLoader( influencers );
+			}
+			if ( adaptiveBatchFetch != null && !influencers.effectivelyBatchLoadable( this ) ) {
+				final int waitingKeys = session.getPersistenceContextInternal().getBatchFetchQueue()
+						.countBatchLoadableCollections( this );
+				final CollectionLoader batchLoader = adaptiveBatchFetch.resolveBatchLoader( waitingKeys, session );
+				if ( batchLoader != null ) {
+					return batchLoader;
+				}
+			}
+			return getCollectionLoader();
 		}
 	}
 
+	private CollectionLoader createAdaptiveBatchLoader(int batchSize) {
+		return factory.getServiceRegistry()
+				.requireService( BatchLoaderFactory.class )
+				.createCollectionBatchLoader( batchSize, new LoadQueryInfluencers( factory ), attributeMapping, factory );
+	}
+
 	private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContractImplementor session) {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final SubselectFetch subselect =
@@ -947,7 +971,7 @@ public String selectFragment(String alias, String columnSuffix) {
 
 		// Wrap expressions with aliases
 		final SelectClause selectClause = rootQuerySpec.getSelectClause();
-		final java.util.List<SqlSelection> sqlSelections = selectClause.getSqlSelections();
+		final List<SqlSelection> sqlSelections = selectClause.getSqlSelections();
 		int i = 0;
 		for ( String keyAlias : keyColumnAliases ) {
 			sqlSelections.set(
@@ -1502,6 +1526,30 @@ public Object getElementByIndex(Object key, Object index, SharedSessionContractI
 		}
 	}
 
+	@Override
+	public List<Object[]> getElementsAfterIndex(
+			Object key,
+			Object afterIndex,
+			int maxResults,
+			SharedSessionContractImplementor session) {
+		if ( !CollectionElementLoaderByIndexRange.supports( attributeMapping ) ) {
+			throw new UnsupportedOperationException( "Collection [" + getRole() + "] does not have a basic index" );
+		}
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( isAffectedByFilters( new HashSet<>(), attributeMapping.getElementDescriptor(), influencers, true ) ) {
+			return new CollectionElementLoaderByIndexRange( attributeMapping, influencers, factory )
+					.load( key, afterIndex, maxResults, session );
+		}
+		else {
+			CollectionElementLoaderByIndexRange loader = collectionElementLoaderByIndexRange;
+			if ( loader == null ) {
+				loader = new CollectionElementLoaderByIndexRange( attributeMapping, new LoadQueryInfluencers( factory ), factory );
+				collectionElementLoaderByIndexRange = loader;
+			}
+			return loader.load( key, afterIndex, maxResults, session );
+		}
+	}
+
 	@Override
 	public boolean isExtraLazy() {
 		return isExtraLazy;
@@ -1753,7 +1801,7 @@ public RestrictedTableMutation<JdbcMutationOperation> generateDeleteAllAst(Mutat
 		final int keyColumnCount = fkDescriptor.getJdbcTypeCount();
 		final ColumnValueParameterList parameterBinders =
 				new ColumnValueParameterList( tableReference, ParameterUsage.RESTRICT, keyColumnCount );
-		final java.util.List<ColumnValueBinding> restrictionBindings = arrayList( keyColumnCount );
+		final List<ColumnValueBinding> restrictionBindings = arrayList( keyColumnCount );
 		applyKeyRestrictions( tableReference, parameterBinders, restrictionBindings );
 
 		//noinspection unchecked,rawtypes
@@ -1771,7 +1819,7 @@ public RestrictedTableMutation<JdbcMutationOperation> generateDeleteAllAst(Mutat
 	protected void applyKeyRestrictions(
 			MutatingTableReference tableReference,
 			ColumnValueParameterList parameterList,
-			java.util.List<ColumnValueBinding> restrictionBindings) {
+			List<ColumnValueBinding> restrictionBindings) {
 
 		final ForeignKeyDescriptor fkDescriptor = getAttributeMapping().getKeyDescriptor();
 		assert fkDescriptor != null;
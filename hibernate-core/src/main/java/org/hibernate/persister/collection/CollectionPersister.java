@@ -5,6 +5,7 @@
 package org.hibernate.persister.collection;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -312,6 +313,27 @@ default boolean isExtraLazy() {
 	boolean indexExists(Object key, Object index, SharedSessionContractImplementor session);
 	boolean elementExists(Object key, Object element, SharedSessionContractImplementor session);
 	Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner);
+
+	/**
+	 * Obtain the entries of the collection with the given key whose index is
+	 * greater than the given index, in the order of their index, without
+	 * initializing the collection.
+	 *
+	 * @param afterIndex The index after which to start, or {@code null} to
+	 *                   start with the first entry
+	 * @param maxResults The maximum number of entries to return
+	 *
+	 * @return The entries, each an array holding the index and the element
+	 *
+	 * @since 7.0.1
+	 */
+	default List<Object[]> getElementsAfterIndex(
+			Object key,
+			Object afterIndex,
+			int maxResults,
+			SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "CollectionPersister used for [" + getRole() + "] does not support paging" );
+	}
 	default int getBatchSize() {
 		return -1;
 	}
@@ -88,6 +88,8 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.loader.ast.internal.AdaptiveBatchFetch;
+import org.hibernate.loader.ast.internal.LazyFetchGroupBatchLoader;
 import org.hibernate.loader.ast.internal.EntityConcreteTypeLoader;
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
@@ -97,6 +99,7 @@
 import org.hibernate.loader.ast.internal.SingleIdEntityLoaderProvidedQueryImpl;
 import org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl;
 import org.hibernate.loader.ast.internal.SingleUniqueKeyEntityLoaderStandard;
+import org.hibernate.loader.ast.internal.SubselectFetchIdTable;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
@@ -331,6 +334,7 @@
 	private final String jpaEntityName;
 
 	private SingleIdEntityLoader<?> singleIdLoader;
+	private @Nullable AdaptiveBatchFetch<SingleIdEntityLoader<?>> adaptiveBatchFetch;
 	private MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
@@ -378,6 +382,8 @@
 	private final FetchMode[] subclassPropertyFetchModeClosure;
 
 	private Map<String, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroup;
+	private final ConcurrentHashMap<String, LazyFetchGroupBatchLoader> lazyFetchGroupBatchLoaders =
+			new ConcurrentHashMap<>();
 	private final LockModeEnumMap<LockingStrategy> lockers = new LockModeEnumMap<>();
 	private String sqlVersionSelectString;
 
@@ -389,6 +395,7 @@
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
+	private SubselectFetchIdTable subselectFetchIdTable;
 
 	private final EntityDataAccess cacheAccessStrategy;
 	private final NaturalIdDataAccess naturalIdRegionAccessStrategy;
@@ -1566,40 +1573,71 @@ private Object initLazyProperties(
 		assert hasLazyProperties();
 		LOG.tracef( "Initializing lazy properties from datastore (triggered for '%s')", fieldName );
 
-		final var interceptor = asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor();
-		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
-		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
-
 		final var lazyAttributesMetadata = getBytecodeEnhancementMetadata().getLazyAttributesMetadata();
 		final String fetchGroup = lazyAttributesMetadata.getFetchGroupName( fieldName );
 		final var fetchGroupAttributeDescriptors =
 				lazyAttributesMetadata.getFetchGroupAttributeDescriptors( fetchGroup );
 
+		final int batchSize = session.getLoadQueryInfluencers().effectiveBatchSize( this );
+		if ( batchSize > 1 ) {
+			final Object[] ids =
+					session.getPersistenceContextInternal().getBatchFetchQueue()
+							.getBatchLoadableLazyAttributeOwnerIds( this, fetchGroup, id, batchSize );
+			if ( ids.length > 1 ) {
+				return initLazyPropertiesInBatch( entity, ids, batchSize, fieldName, fetchGroup, session );
+			}
+		}
+
 		final SingleIdArrayLoadPlan lazySelect = getSQLLazySelectLoadPlan( fetchGroup );
 		try {
-			Object finalResult = null;
 			final Object[] results = lazySelect.load( id, session );
-			int i = 0;
-			for ( var fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-				final String attributeName = fetchGroupAttributeDescriptor.getName();
-				final boolean previousInitialized = initializedLazyAttributeNames.contains( attributeName );
-				if ( previousInitialized ) {
-					// it's already been initialized (e.g. by a write) so we don't want to overwrite
-					i++;
-					// TODO: we should consider un-marking an attribute as dirty based on the selected value
-					// - we know the current value:
-					//   getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
-					// - we know the selected value (see selectedValue below)
-					// - we can use the attribute Type to tell us if they are the same
-					// - assuming entity is a SelfDirtinessTracker we can also know if the attribute is currently
-					//   considered dirty, and if really not dirty we would do the un-marking
-					// - of course that would mean a new method on SelfDirtinessTracker to allow un-marking
-				}
-				else {
-					final Object result = results[i++];
-					if ( initializeLazyProperty( fieldName, entity, entry, fetchGroupAttributeDescriptor, result ) ) {
+			final Object finalResult =
+					initializeFetchGroup( fieldName, entity, entry, fetchGroupAttributeDescriptors, results, 0 );
+			LOG.trace( "Done initializing lazy properties" );
+			return finalResult;
+		}
+		catch (JDBCException ex) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					ex.getSQLException(),
+					"could not initialize lazy properties: "
+							+ infoString( this, id, getFactory() ),
+					lazySelect.getJdbcSelect().getSqlString()
+			);
+		}
+	}
+
+	/**
+	 * Load the attributes of the given lazy fetch group for every entity
+	 * in the batch, and initialize them in each entity which is still
+	 * associated with the persistence context.
+	 */
+	private Object initLazyPropertiesInBatch(
+			Object entity,
+			Object[] ids,
+			int batchSize,
+			String fieldName,
+			String fetchGroup,
+			SharedSessionContractImplementor session) {
+		final var lazyAttributesMetadata = getBytecodeEnhancementMetadata().getLazyAttributesMetadata();
+		final var fetchGroupAttributeDescriptors =
+				lazyAttributesMetadata.getFetchGroupAttributeDescriptors( fetchGroup );
+		// one loader per fetch group, whose statement is padded to the batch size,
+		// and which executes it more than once if given more identifiers
+		final LazyFetchGroupBatchLoader batchLoader = lazyFetchGroupBatchLoaders.computeIfAbsent(
+				fetchGroup,
+				key -> createLazyFetchGroupBatchLoader( batchSize, fetchGroupAttributeDescriptors )
+		);
+		try {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			Object finalResult = null;
+			for ( Object[] row : batchLoader.load( ids, session ) ) {
+				final Object owner = persistenceContext.getEntity( session.generateEntityKey( row[0], this ) );
+				if ( owner != null ) {
+					final EntityEntry ownerEntry = persistenceContext.getEntry( owner );
+					final Object result =
+							initializeFetchGroup( fieldName, owner, ownerEntry, fetchGroupAttributeDescriptors, row, 1 );
+					if ( owner == entity ) {
 						finalResult = result;
-						interceptor.attributeInitialized( attributeName );
 					}
 				}
 			}
@@ -1610,12 +1648,66 @@ private Object initLazyProperties(
 			throw session.getJdbcServices().getSqlExceptionHelper().convert(
 					ex.getSQLException(),
 					"could not initialize lazy properties: "
-							+ infoString( this, id, getFactory() ),
-					lazySelect.getJdbcSelect().getSqlString()
+							+ infoString( this, ids[0], getFactory() ),
+					batchLoader.getJdbcSelect().getSqlString()
 			);
 		}
 	}
 
+	private LazyFetchGroupBatchLoader createLazyFetchGroupBatchLoader(
+			int batchSize,
+			List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) {
+		final List<ModelPart> partsToSelect = new ArrayList<>( fetchGroupAttributeDescriptors.size() );
+		for ( LazyAttributeDescriptor lazyAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			partsToSelect.add( getAttributeMapping( getSubclassPropertyIndex( lazyAttributeDescriptor.getName() ) ) );
+		}
+		return new LazyFetchGroupBatchLoader( batchSize, this, partsToSelect, factory );
+	}
+
+	/**
+	 * Initialize the attributes of a lazy fetch group of the given entity
+	 * from the given values, starting at the given offset.
+	 *
+	 * @return The value of the attribute being accessed, if it belongs to the group
+	 */
+	private Object initializeFetchGroup(
+			String fieldName,
+			Object entity,
+			EntityEntry entry,
+			List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			Object[] values,
+			int offset) {
+		final var interceptor = asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor();
+		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
+		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+		Object finalResult = null;
+		int i = offset;
+		for ( var fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final String attributeName = fetchGroupAttributeDescriptor.getName();
+			final boolean previousInitialized = initializedLazyAttributeNames.contains( attributeName );
+			if ( previousInitialized ) {
+				// it's already been initialized (e.g. by a write) so we don't want to overwrite
+				i++;
+				// TODO: we should consider un-marking an attribute as dirty based on the selected value
+				// - we know the current value:
+				//   getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
+				// - we know the selected value (see selectedValue below)
+				// - we can use the attribute Type to tell us if they are the same
+				// - assuming entity is a SelfDirtinessTracker we can also know if the attribute is currently
+				//   considered dirty, and if really not dirty we would do the un-marking
+				// - of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+			}
+			else {
+				final Object result = values[i++];
+				if ( initializeLazyProperty( fieldName, entity, entry, fetchGroupAttributeDescriptor, result ) ) {
+					finalResult = result;
+				}
+				interceptor.attributeInitialized( attributeName );
+			}
+		}
+		return finalResult;
+	}
+
 	private Object initLazyProperty(
 			Object entity,
 			Object id,
@@ -3118,6 +3210,9 @@ public void prepareLoaders() {
 		// Hibernate Reactive needs to override the loaders
 		singleIdLoader = buildSingleIdEntityLoader();
 		multiIdLoader = buildMultiIdLoader();
+		if ( !hasNamedQueryLoader() && factory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled() ) {
+			adaptiveBatchFetch = new AdaptiveBatchFetch<>( getEntityName(), this::buildAdaptiveBatchLoader );
+		}
 
 		lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
 
@@ -3478,12 +3573,26 @@ protected SingleIdEntityLoader<?> determineLoaderToUse(SharedSessionContractImpl
 		else {
 			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
 			// no subselect fetching for entities for now
-			return isAffectedByInfluencers( influencers, true )
-					? buildSingleIdEntityLoader( influencers )
-					: getSingleIdLoader();
+			if ( isAffectedByInfluencers( influencers, true ) ) {
+				return buildSingleIdEntityLoader( influencers );
+			}
+			if ( adaptiveBatchFetch != null && !influencers.effectivelyBatchLoadable( this ) ) {
+				final int waitingKeys = session.getPersistenceContextInternal().getBatchFetchQueue()
+						.countBatchLoadableEntityKeys( this );
+				final SingleIdEntityLoader<?> batchLoader = adaptiveBatchFetch.resolveBatchLoader( waitingKeys, session );
+				if ( batchLoader != null ) {
+					return batchLoader;
+				}
+			}
+			return getSingleIdLoader();
 		}
 	}
 
+	private SingleIdEntityLoader<?> buildAdaptiveBatchLoader(int batchSize) {
+		return factory.getServiceRegistry().requireService( BatchLoaderFactory.class )
+				.createEntityBatchLoader( batchSize, this, new LoadQueryInfluencers( factory ) );
+	}
+
 	private boolean hasNamedQueryLoader() {
 		return queryLoaderName != null;
 	}
@@ -4073,6 +4182,13 @@ && getRepresentationStrategy().getMode() == POJO ) {
 			if ( interceptor.getLinkedSession() == null ) {
 				interceptor.setSession( session );
 			}
+			if ( !lazyLoadPlanByFetchGroup.isEmpty()
+					&& interceptor.hasAnyUninitializedAttributes()
+					&& session.getLoadQueryInfluencers().effectiveBatchSize( this ) > 1 ) {
+				// allow the lazy attributes to be loaded in a batch
+				session.getPersistenceContextInternal().getBatchFetchQueue()
+						.addBatchLoadableLazyAttributeOwner( session.generateEntityKey( getIdentifier( entity, session ), this ), entity );
+			}
 		}
 	}
 
@@ -4687,6 +4803,7 @@ public void prepareMappingModel(MappingModelCreationProcess creationProcess) {
 			handleSubtypeMappings( creationProcess );
 			prepareMultiTableMutationStrategy( creationProcess );
 			prepareMultiTableInsertStrategy( creationProcess );
+			prepareSubselectFetchIdTable( creationProcess );
 		}
 	}
 
@@ -4825,6 +4942,35 @@ private void prepareMultiTableInsertStrategy(MappingModelCreationProcess creatio
 		}
 	}
 
+	private void prepareSubselectFetchIdTable(MappingModelCreationProcess creationProcess) {
+		if ( superMappingType == null
+				&& creationProcess.getCreationContext().getSessionFactoryOptions()
+						.isSubselectFetchTemporaryTableEnabled()
+				&& hasCollectionsInHierarchy( creationProcess ) ) {
+			creationProcess.registerInitializationCallback(
+					"Entity(" + getEntityName() + ") `subselectFetchIdTable` creation",
+					() -> {
+						subselectFetchIdTable =
+								new SubselectFetchIdTable( this, creationProcess.getCreationContext() );
+						subselectFetchIdTable.prepare( creationProcess );
+						return true;
+					}
+			);
+		}
+	}
+
+	private boolean hasCollectionsInHierarchy(MappingModelCreationProcess creationProcess) {
+		final PersistentClass bootEntityDescriptor =
+				creationProcess.getCreationContext().getBootModel()
+						.getEntityBinding( getEntityName() );
+		for ( Property property : bootEntityDescriptor.getSubclassPropertyClosure() ) {
+			if ( property.getValue() instanceof org.hibernate.mapping.Collection ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean generatorNeedsMultiTableInsert() {
 		final Generator generator = getGenerator();
 		if ( generator instanceof BulkInsertionCapableIdentifierGenerator
@@ -4972,6 +5118,20 @@ public SqmMultiTableInsertStrategy getSqmMultiTableInsertStrategy() {
 		return sqmMultiTableInsertStrategy;
 	}
 
+	/**
+	 * The temporary table used for subselect fetching the collections of this
+	 * entity hierarchy, or {@code null} if subselect fetching via a temporary
+	 * table is disabled, or if this is not the root entity of a hierarchy with
+	 * collections.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_TEMPORARY_TABLE
+	 *
+	 * @since 7.0.1
+	 */
+	public @Nullable SubselectFetchIdTable getSubselectFetchIdTable() {
+		return subselectFetchIdTable;
+	}
+
 	protected int getStateArrayInitialPosition(MappingModelCreationProcess creationProcess) {
 		// todo (6.0) not sure this is correct in case of SingleTable Inheritance
 		//            and for Table per class when the selection is the root
@@ -4,6 +4,8 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -17,4 +19,24 @@ public interface DeleteCoordinator extends MutationCoordinator {
 	 * Delete a persistent instance.
 	 */
 	void delete(Object entity, Object id, Object version, SharedSessionContractImplementor session);
+
+	/**
+	 * Delete multiple persistent instances, using a single statement per table
+	 * restricting the identifier by an array parameter if possible.
+	 *
+	 * @param entities The entity instances
+	 * @param ids The identifier of each entity instance
+	 * @param versions The version of each entity instance
+	 *
+	 * @since 7.0.1
+	 */
+	default void deleteMultiple(
+			List<?> entities,
+			List<?> ids,
+			List<?> versions,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < entities.size(); i++ ) {
+			delete( entities.get( i ), ids.get( i ), versions.get( i ), session );
+		}
+	}
 }
@@ -4,13 +4,36 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.StaleStateException;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.StatementCreatorHelper;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.ast.ColumnValueBindingList;
@@ -20,15 +43,148 @@
 import org.hibernate.sql.model.ast.builder.TableDeleteBuilderSkipped;
 import org.hibernate.sql.model.ast.builder.TableDeleteBuilderStandard;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
+import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
+
 /**
  * Coordinates standard deleting of an entity.
  *
  * @author Steve Ebersole
  */
 public class DeleteCoordinatorStandard extends AbstractDeleteCoordinator {
+	private final JdbcMapping idArrayJdbcMapping;
+	private final JdbcParameter idArrayParameter;
+	private volatile List<JdbcOperationQueryMutation> idArrayDeleteOperations;
 
 	public DeleteCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
+		idArrayJdbcMapping = resolveIdArrayJdbcMapping( entityPersister, factory );
+		idArrayParameter = idArrayJdbcMapping == null ? null : new JdbcParameterImpl( idArrayJdbcMapping );
+	}
+
+	/**
+	 * The type of the array parameter holding the identifiers of the entities
+	 * to delete with {@link #deleteMultiple}, or {@code null} if the entities
+	 * must be deleted one by one.
+	 */
+	private static JdbcMapping resolveIdArrayJdbcMapping(
+			EntityPersister persister,
+			SessionFactoryImplementor factory) {
+		if ( !supportsSqlArrayType( factory.getJdbcServices().getDialect() )
+				|| persister.isVersioned()
+				|| persister.hasRowId()
+				|| persister.hasPartitionedSelectionMapping()
+				|| !( persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping identifierMapping )
+				|| identifierMapping.getJdbcMapping().getValueConverter() != null ) {
+			return null;
+		}
+		final boolean[] hasCustomSql = new boolean[1];
+		persister.forEachMutableTable(
+				tableMapping -> hasCustomSql[0] = hasCustomSql[0] || tableMapping.getDeleteCustomSql() != null
+		);
+		if ( hasCustomSql[0] ) {
+			return null;
+		}
+		try {
+			return resolveArrayJdbcMapping(
+					identifierMapping.getJdbcMapping(),
+					identifierMapping.getJavaType().getJavaTypeClass(),
+					factory
+			);
+		}
+		catch (IllegalArgumentException e) {
+			// no array type for the identifier type
+			return null;
+		}
+	}
+
+	@Override
+	public void deleteMultiple(
+			List<?> entities,
+			List<?> ids,
+			List<?> versions,
+			SharedSessionContractImplementor session) {
+		if ( idArrayJdbcMapping != null && ids.size() > 1 ) {
+			doIdArrayDelete( ids, session );
+		}
+		else {
+			super.deleteMultiple( entities, ids, versions, session );
+		}
+	}
+
+	/**
+	 * Delete the rows of all the given identifiers from each table with a single
+	 * statement, binding the identifiers as one array parameter.
+	 */
+	protected void doIdArrayDelete(List<?> ids, SharedSessionContractImplementor session) {
+		// the same instance may occur more than once in the list,
+		// but its row is deleted, and counted, only once
+		final Set<?> distinctIds = new LinkedHashSet<>( ids );
+		final Object[] idArray = (Object[]) Array.newInstance(
+				entityPersister().getIdentifierMapping().getJavaType().getJavaTypeClass(),
+				distinctIds.size()
+		);
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		jdbcParameterBindings.addBinding(
+				idArrayParameter,
+				new JdbcParameterBindingImpl( idArrayJdbcMapping, distinctIds.toArray( idArray ) )
+		);
+		// the statements are executed immediately, so first execute any batched
+		// statements, for example, deletions of collection rows or child rows
+		session.getJdbcCoordinator().executeBatch();
+		final BaseExecutionContext executionContext = new BaseExecutionContext( session );
+		for ( JdbcOperationQueryMutation operation : getIdArrayDeleteOperations() ) {
+			final int affectedRowCount = session.getJdbcServices().getJdbcMutationExecutor().execute(
+					operation,
+					jdbcParameterBindings,
+					sql -> StatementCreatorHelper.prepareQueryStatement( sql, session ),
+					(integer, preparedStatement) -> {},
+					executionContext
+			);
+			if ( affectedRowCount < distinctIds.size() && operation.getAffectedTableNames()
+					.contains( entityPersister().getIdentifierTableMapping().getTableName() ) ) {
+				throw new StaleStateException(
+						"Deleting " + distinctIds.size() + " instances of '" + entityPersister().getEntityName()
+								+ "' affected only " + affectedRowCount + " rows"
+				);
+			}
+		}
+	}
+
+	/**
+	 * The statements deleting the rows of an array of identifiers, translated
+	 * on first use, since most entities are never deleted this way.
+	 */
+	private List<JdbcOperationQueryMutation> getIdArrayDeleteOperations() {
+		List<JdbcOperationQueryMutation> operations = idArrayDeleteOperations;
+		if ( operations == null ) {
+			operations = buildIdArrayDeleteOperations( entityPersister(), idArrayParameter, factory() );
+			idArrayDeleteOperations = operations;
+		}
+		return operations;
+	}
+
+	private static List<JdbcOperationQueryMutation> buildIdArrayDeleteOperations(
+			EntityPersister persister,
+			JdbcParameter idArrayParameter,
+			SessionFactoryImplementor factory) {
+		final SqlAstTranslatorFactory translatorFactory =
+				factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+		final List<JdbcOperationQueryMutation> operations = new ArrayList<>();
+		persister.forEachMutableTableReverse( tableMapping -> {
+			if ( !tableMapping.isCascadeDeleteEnabled() ) {
+				final NamedTableReference tableReference =
+						new NamedTableReference( tableMapping.getTableName(), DeleteStatement.DEFAULT_ALIAS );
+				final ColumnReference keyColumn =
+						new ColumnReference( tableReference, tableMapping.getKeyMapping().getKeyColumn( 0 ) );
+				final DeleteStatement deleteStatement =
+						new DeleteStatement( tableReference, new InArrayPredicate( keyColumn, idArrayParameter ) );
+				operations.add( translatorFactory.buildMutationTranslator( factory, deleteStatement )
+						.translate( NO_BINDINGS, QueryOptions.NONE ) );
+			}
+		} );
+		return List.copyOf( operations );
 	}
 
 	@Override
@@ -4,6 +4,9 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
@@ -34,4 +37,28 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Persist multiple entity instances with generated identifiers, executing the
+	 * inserts as a single JDBC batch if supported by the {@link org.hibernate.dialect.Dialect}.
+	 *
+	 * @param entities The entity instances
+	 * @param values The extracted attribute values of each entity instance
+	 *
+	 * @return The {@linkplain GeneratedValues generated values} of each entity instance, in order
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsBatchedInsertReturningGeneratedKeys()
+	 *
+	 * @since 7.0.1
+	 */
+	default List<GeneratedValues> insertMultiple(
+			List<?> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final List<GeneratedValues> generatedValues = new ArrayList<>( entities.size() );
+		for ( int i = 0; i < entities.size(); i++ ) {
+			generatedValues.add( insert( entities.get( i ), values.get( i ), session ) );
+		}
+		return generatedValues;
+	}
 }
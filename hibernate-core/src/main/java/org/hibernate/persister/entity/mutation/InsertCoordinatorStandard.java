@@ -24,6 +24,7 @@
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.id.insert.GetGeneratedKeysDelegate;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
@@ -101,6 +102,63 @@ protected BatchKey getBatchKey() {
 		return coordinateInsert( id, values, entity, session );
 	}
 
+	@Override
+	public List<GeneratedValues> insertMultiple(
+			List<?> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final EntityPersister persister = entityPersister();
+		if ( entities.size() > 1
+				&& staticInsertGroup != null
+				&& staticInsertGroup.getNumberOfOperations() == 1
+				&& persister.isIdentifierAssignedByInsert()
+				&& !persister.getEntityMetamodel().hasPreInsertGeneratedValues()
+				&& persister.getInsertDelegate() instanceof GetGeneratedKeysDelegate
+				&& dialect().supportsBatchedInsertReturningGeneratedKeys() ) {
+			return doBatchedStaticInserts( entities, values, session );
+		}
+		else {
+			return InsertCoordinator.super.insertMultiple( entities, values, session );
+		}
+	}
+
+	/**
+	 * Perform the inserts of multiple entities with an identifier generated by the
+	 * database as a single JDBC batch, reading the generated identifiers back from
+	 * {@link java.sql.PreparedStatement#getGeneratedKeys()} once the batch was executed.
+	 */
+	protected List<GeneratedValues> doBatchedStaticInserts(
+			List<?> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final GetGeneratedKeysDelegate delegate = (GetGeneratedKeysDelegate) entityPersister().getInsertDelegate();
+		final MutationOperation operation = staticInsertGroup.getSingleOperation();
+		final MutationExecutor mutationExecutor = executor( session, staticInsertGroup, false );
+		try {
+			return delegate.performBatchedMutation(
+					mutationExecutor.getPreparedStatementDetails( operation.getTableDetails().getTableName() ),
+					mutationExecutor.getJdbcValueBindings(),
+					entities.size(),
+					(index) -> {
+						final Object[] entityValues = values.get( index );
+						decomposeForInsert(
+								mutationExecutor,
+								null,
+								entityValues,
+								staticInsertGroup,
+								entityPersister().getPropertyInsertability(),
+								getTableInclusionChecker( new InsertValuesAnalysis( entityPersister(), entityValues ) ),
+								session
+						);
+					},
+					session
+			);
+		}
+		finally {
+			mutationExecutor.release();
+		}
+	}
+
 	/**
 	 * Perform the insert(s).
 	 *
@@ -5,8 +5,12 @@
 package org.hibernate.persister.entity.mutation;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
@@ -16,6 +20,7 @@
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.SetBasedUpdateBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
@@ -35,15 +40,19 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.SingularAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.MutatingTableReference;
 import org.hibernate.sql.model.ast.builder.AbstractTableUpdateBuilder;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
@@ -60,9 +69,12 @@
 import static org.hibernate.engine.jdbc.mutation.internal.ModelMutationHelper.identifiedResultsCheck;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_INT_ARRAY;
+import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
 import static org.hibernate.internal.util.collections.ArrayHelper.contains;
 import static org.hibernate.internal.util.collections.ArrayHelper.join;
 import static org.hibernate.internal.util.collections.ArrayHelper.trim;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
  * Coordinates the updating of an entity.
@@ -93,11 +105,127 @@ public UpdateCoordinatorStandard(EntityPersister entityPersister, SessionFactory
 			this.versionUpdateBatchkey = null;
 		}
 		else {
-			this.batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#UPDATE" );
+			final SetBasedUpdateBatchKey setBasedUpdateBatchKey =
+					buildSetBasedUpdateBatchKey( entityPersister.getEntityName() + "#UPDATE" );
+			this.batchKey = setBasedUpdateBatchKey != null
+					? setBasedUpdateBatchKey
+					: new BasicBatchKey( entityPersister.getEntityName() + "#UPDATE" );
 			this.versionUpdateBatchkey = new BasicBatchKey( entityPersister.getEntityName() + "#UPDATE_VERSION" );
 		}
 	}
 
+	/**
+	 * The key for batches of static updates which are executed as a single
+	 * set-based statement per table, or {@code null} if the static updates
+	 * of this entity must be executed row by row.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#SET_BASED_UPDATES
+	 */
+	private SetBasedUpdateBatchKey buildSetBasedUpdateBatchKey(String comparison) {
+		if ( !factory().getSessionFactoryOptions().isSetBasedUpdatesEnabled()
+				|| !supportsSqlArrayType( dialect() )
+				|| entityPersister().hasRowId()
+				|| hasCustomWriteExpression( entityPersister() ) ) {
+			return null;
+		}
+		final Map<String, SetBasedUpdateBatchKey.TableUpdate> tableUpdates = new HashMap<>();
+		for ( int position = 0; position < staticUpdateGroup.getNumberOfOperations(); position++ ) {
+			final MutationOperation operation = staticUpdateGroup.getOperation( position );
+			if ( !( operation instanceof JdbcMutationOperation jdbcMutation )
+					|| jdbcMutation.isCallable()
+					|| !( jdbcMutation.getExpectation() instanceof Expectation.RowCount )
+					|| ( (EntityTableMapping) operation.getTableDetails() ).getUpdateCustomSql() != null ) {
+				return null;
+			}
+			final SetBasedUpdateBatchKey.TableUpdate tableUpdate = buildSetBasedTableUpdate( jdbcMutation );
+			if ( tableUpdate == null ) {
+				return null;
+			}
+			tableUpdates.put( operation.getTableDetails().getTableName(), tableUpdate );
+		}
+		return tableUpdates.isEmpty() ? null : new SetBasedUpdateBatchKey( comparison, tableUpdates );
+	}
+
+	private SetBasedUpdateBatchKey.TableUpdate buildSetBasedTableUpdate(JdbcMutationOperation jdbcMutation) {
+		final List<JdbcParameterBinder> parameterBinders = jdbcMutation.getParameterBinders();
+		final int parameterCount = parameterBinders.size();
+		final List<String> assignedColumns = new ArrayList<>( parameterCount );
+		final List<String> restrictedColumns = new ArrayList<>( parameterCount );
+		final List<Integer> keyPositions = new ArrayList<>();
+		final Set<String> keyColumns = new HashSet<>();
+		( (EntityTableMapping) jdbcMutation.getTableDetails() ).getKeyDetails()
+				.forEachKeyColumn( (position, keyColumn) -> keyColumns.add( keyColumn.getColumnName() ) );
+		final JdbcMapping[] arrayJdbcMappings = new JdbcMapping[parameterCount];
+		final Class<?>[] elementTypes = new Class<?>[parameterCount];
+		for ( int i = 0; i < parameterCount; i++ ) {
+			if ( !( parameterBinders.get( i ) instanceof ColumnValueParameter parameter )
+					|| parameter.getJdbcMapping().getValueConverter() != null ) {
+				return null;
+			}
+			final String columnName = parameter.getColumnReference().getColumnExpression();
+			if ( parameter.getUsage() == ParameterUsage.SET ) {
+				if ( !restrictedColumns.isEmpty() ) {
+					// the statement is not of the expected form
+					return null;
+				}
+				assignedColumns.add( columnName );
+			}
+			else {
+				restrictedColumns.add( columnName );
+				if ( keyColumns.contains( columnName ) ) {
+					keyPositions.add( i );
+				}
+			}
+			final JdbcMapping jdbcMapping = parameter.getJdbcMapping();
+			elementTypes[i] = jdbcMapping.getJavaTypeDescriptor().getJavaTypeClass();
+			try {
+				arrayJdbcMappings[i] = resolveArrayJdbcMapping( jdbcMapping, elementTypes[i], factory() );
+			}
+			catch (IllegalArgumentException e) {
+				// no array type for the column type
+				return null;
+			}
+		}
+		if ( assignedColumns.isEmpty() || keyPositions.isEmpty() ) {
+			return null;
+		}
+		// key columns are never null, but optimistic lock columns may be
+		final boolean[] nullableRestrictedColumns = new boolean[restrictedColumns.size()];
+		for ( int i = 0; i < nullableRestrictedColumns.length; i++ ) {
+			nullableRestrictedColumns[i] = !keyColumns.contains( restrictedColumns.get( i ) );
+		}
+		final String sql = dialect().getSetBasedUpdateString(
+				jdbcMutation.getTableDetails().getTableName(),
+				assignedColumns.toArray( EMPTY_STRING_ARRAY ),
+				restrictedColumns.toArray( EMPTY_STRING_ARRAY ),
+				nullableRestrictedColumns
+		);
+		return sql == null
+				? null
+				: new SetBasedUpdateBatchKey.TableUpdate(
+						sql,
+						arrayJdbcMappings,
+						elementTypes,
+						keyPositions.stream().mapToInt( Integer::intValue ).toArray()
+				);
+	}
+
+	private static boolean hasCustomWriteExpression(EntityPersister persister) {
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final boolean[] custom = new boolean[1];
+			attributeMappings.get( i ).forEachSelectable( (index, selectable) -> {
+				if ( !"?".equals( selectable.getWriteExpression() ) ) {
+					custom[0] = true;
+				}
+			} );
+			if ( custom[0] ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	//Used by Hibernate Reactive to efficiently create new instances of this same class
 	@SuppressWarnings("unused")
 	protected UpdateCoordinatorStandard(
@@ -924,7 +1052,11 @@ protected GeneratedValues doDynamicUpdate(
 
 		// and then execute them
 
-		final MutationExecutor mutationExecutor = executor( session, dynamicUpdateGroup, true );
+		final MutationExecutor mutationExecutor = mutationExecutorService.createExecutor(
+				resolveDynamicUpdateBatchKeyAccess( dynamicUpdateGroup, session ),
+				dynamicUpdateGroup,
+				session
+		);
 
 		decomposeForUpdate(
 				id,
@@ -985,6 +1117,33 @@ private MutationExecutor updateVersionExecutor(
 
 	}
 
+	/**
+	 * Dynamic updates of an entity may only be batched together when they
+	 * result in exactly the same SQL, so the batch key is derived from the
+	 * SQL of the operations. Dynamic updates involving operations which are
+	 * not plain JDBC mutations are never batched.
+	 */
+	protected BatchKeyAccess resolveDynamicUpdateBatchKeyAccess(
+			MutationOperationGroup group,
+			SharedSessionContractImplementor session) {
+		if ( !entityPersister().optimisticLockStyle().isAllOrDirty()
+				&& session.getTransactionCoordinator() != null
+				&& session.getTransactionCoordinator().isTransactionActive() ) {
+			final StringBuilder comparison = new StringBuilder( entityPersister().getEntityName() ).append( "#UPDATE" );
+			for ( int i = 0; i < group.getNumberOfOperations(); i++ ) {
+				if ( !( group.getOperation( i ) instanceof JdbcMutationOperation jdbcMutation ) ) {
+					return NoBatchKeyAccess.INSTANCE;
+				}
+				comparison.append( '#' ).append( jdbcMutation.getSqlString() );
+			}
+			final BatchKey dynamicUpdateBatchKey = new BasicBatchKey( comparison.toString() );
+			return () -> dynamicUpdateBatchKey;
+		}
+		else {
+			return NoBatchKeyAccess.INSTANCE;
+		}
+	}
+
 	protected BatchKeyAccess resolveUpdateVersionBatchKeyAccess(boolean dynamicUpdate, SharedSessionContractImplementor session) {
 		if ( !dynamicUpdate
 				&& session.getTransactionCoordinator() != null
@@ -11,6 +11,7 @@
 import net.bytebuddy.implementation.bind.annotation.AllArguments;
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.Pipe;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.StubValue;
 import net.bytebuddy.implementation.bind.annotation.This;
@@ -30,6 +31,14 @@ public interface ProxyConfiguration extends PrimeAmongSecondarySupertypes {
 	 */
 	String INTERCEPTOR_FIELD_NAME = "$$_hibernate_interceptor";
 
+	/**
+	 * The canonical name of a static field of a proxy class holding a hash of the
+	 * methods of the proxied class at the time the proxy class was generated.
+	 *
+	 * @since 7.0.1
+	 */
+	String STRUCTURE_FIELD_NAME = "$$_hibernate_proxy_structure";
+
 	/**
 	 * Defines an interceptor object that specifies the behavior of the proxy object.
 	 *
@@ -60,6 +69,45 @@ interface Interceptor {
 		 */
 		@RuntimeType
 		Object intercept(@This Object instance, @Origin Method method, @AllArguments Object[] arguments) throws Throwable;
+
+		/**
+		 * Intercepts a call to a method of a proxy which may be forwarded to the
+		 * proxied object by the given {@link Forwarder}, instead of by reflection.
+		 *
+		 * @param instance The proxied instance.
+		 * @param method The invoked method.
+		 * @param arguments The intercepted method arguments.
+		 * @param forwarder A forwarder which invokes the intercepted method on a given object.
+		 *
+		 * @return The method's return value.
+		 *
+		 * @throws Throwable If the intercepted method raises an exception.
+		 *
+		 * @since 7.0.1
+		 */
+		default Object forward(Object instance, Method method, Object[] arguments, Forwarder forwarder)
+				throws Throwable {
+			return intercept( instance, method, arguments );
+		}
+	}
+
+	/**
+	 * Invokes an intercepted method, with the intercepted arguments, on a given object.
+	 * An implementation of this interface is generated for each method of a proxy class
+	 * which may be forwarded to the proxied object.
+	 *
+	 * @since 7.0.1
+	 */
+	interface Forwarder {
+
+		/**
+		 * Invokes the intercepted method on the given object.
+		 *
+		 * @param target The object on which to invoke the method.
+		 *
+		 * @return The method's return value.
+		 */
+		Object to(Object target);
 	}
 
 	/**
@@ -101,4 +149,45 @@ public static Object intercept(
 			}
 		}
 	}
+
+	/**
+	 * A static interceptor for the methods of a proxy which may be forwarded to the
+	 * proxied object, and which guards against method calls before the interceptor
+	 * is set.
+	 *
+	 * @since 7.0.1
+	 */
+	class ForwardingInterceptorDispatcher {
+
+		/**
+		 * Intercepts a method call to a proxy.
+		 *
+		 * @param instance The proxied instance.
+		 * @param method The invoked method.
+		 * @param arguments The method arguments.
+		 * @param stubValue The intercepted method's default value.
+		 * @param interceptor The proxy object's interceptor instance.
+		 * @param forwarder A forwarder which invokes the intercepted method on a given object.
+		 *
+		 * @return The intercepted method's return value.
+		 *
+		 * @throws Throwable If the intercepted method raises an exception.
+		 */
+		@RuntimeType
+		public static Object intercept(
+				@This final Object instance,
+				@Origin final Method method,
+				@AllArguments final Object[] arguments,
+				@StubValue final Object stubValue,
+				@FieldValue(INTERCEPTOR_FIELD_NAME) Interceptor interceptor,
+				@Pipe Forwarder forwarder
+		) throws Throwable {
+			if ( interceptor == null ) {
+				return stubValue;
+			}
+			else {
+				return interceptor.forward( instance, method, arguments, forwarder );
+			}
+		}
+	}
 }
@@ -43,29 +43,18 @@ public Object intercept(Object proxy, Method thisMethod, Object[] args) throws T
 			final Object returnValue;
 			try {
 				if ( ReflectHelper.isPublic( persistentClass, thisMethod ) ) {
-					if ( !thisMethod.getDeclaringClass().isInstance( target ) ) {
-						throw new ClassCastException(
-								target.getClass().getName()
-										+ " incompatible with "
-										+ thisMethod.getDeclaringClass().getName()
-						);
-					}
+					checkTarget( thisMethod, target );
 					returnValue = thisMethod.invoke( target, args );
 				}
 				else {
-					thisMethod.setAccessible( true );
-					returnValue = thisMethod.invoke( target, args );
-				}
-
-				if ( returnValue == target ) {
-					if ( returnValue.getClass().isInstance( proxy ) ) {
-						return proxy;
-					}
-					else {
-						LOG.narrowingProxy( returnValue.getClass() );
+					// the Method object is shared by all instances of the proxy
+					// class, so we only need to make it accessible the first time
+					if ( !thisMethod.canAccess( target ) ) {
+						thisMethod.setAccessible( true );
 					}
+					returnValue = thisMethod.invoke( target, args );
 				}
-				return returnValue;
+				return replaceTarget( proxy, target, returnValue );
 			}
 			catch (InvocationTargetException ite) {
 				throw ite.getTargetException();
@@ -76,6 +65,43 @@ public Object intercept(Object proxy, Method thisMethod, Object[] args) throws T
 		}
 	}
 
+	@Override
+	public Object forward(Object proxy, Method thisMethod, Object[] args, ProxyConfiguration.Forwarder forwarder)
+			throws Throwable {
+		final Object result = this.invoke( thisMethod, args, proxy );
+		if ( result == INVOKE_IMPLEMENTATION ) {
+			final Object target = getImplementation();
+			checkTarget( thisMethod, target );
+			// the forwarder invokes the method directly, without reflection
+			return replaceTarget( proxy, target, forwarder.to( target ) );
+		}
+		else {
+			return result;
+		}
+	}
+
+	private static void checkTarget(Method thisMethod, Object target) {
+		if ( !thisMethod.getDeclaringClass().isInstance( target ) ) {
+			throw new ClassCastException(
+					target.getClass().getName()
+							+ " incompatible with "
+							+ thisMethod.getDeclaringClass().getName()
+			);
+		}
+	}
+
+	private static Object replaceTarget(Object proxy, Object target, Object returnValue) {
+		if ( returnValue == target ) {
+			if ( returnValue.getClass().isInstance( proxy ) ) {
+				return proxy;
+			}
+			else {
+				LOG.narrowingProxy( returnValue.getClass() );
+			}
+		}
+		return returnValue;
+	}
+
 	@Override
 	protected Object serializableProxy() {
 		return new SerializableProxy(
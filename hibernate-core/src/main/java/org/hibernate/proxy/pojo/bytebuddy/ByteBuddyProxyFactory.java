@@ -5,6 +5,7 @@
 package org.hibernate.proxy.pojo.bytebuddy;
 
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Set;
 
@@ -32,6 +33,7 @@ public class ByteBuddyProxyFactory implements ProxyFactory, Serializable {
 	private boolean overridesEquals;
 
 	private Class<?> proxyClass;
+	private transient Constructor<?> proxyConstructor;
 
 	public ByteBuddyProxyFactory(ByteBuddyProxyHelper byteBuddyProxyHelper) {
 		this.byteBuddyProxyHelper = byteBuddyProxyHelper;
@@ -102,7 +104,7 @@ private HibernateProxy getHibernateProxy() {
 	 */
 	private PrimeAmongSecondarySupertypes getHibernateProxyInternal() throws HibernateException {
 		try {
-			return (PrimeAmongSecondarySupertypes) proxyClass.getConstructor().newInstance();
+			return (PrimeAmongSecondarySupertypes) getProxyConstructor().newInstance();
 		}
 		catch (NoSuchMethodException e) {
 			throw new HibernateException(
@@ -114,4 +116,17 @@ private PrimeAmongSecondarySupertypes getHibernateProxyInternal() throws Hiberna
 		}
 	}
 
+	/**
+	 * Looking up the constructor is much more expensive than invoking it,
+	 * so we do it once, rather than every time we instantiate a proxy.
+	 */
+	private Constructor<?> getProxyConstructor() throws NoSuchMethodException {
+		Constructor<?> constructor = proxyConstructor;
+		if ( constructor == null ) {
+			constructor = proxyClass.getConstructor();
+			proxyConstructor = constructor;
+		}
+		return constructor;
+	}
+
 }
@@ -6,10 +6,15 @@
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -21,12 +26,18 @@
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyConfiguration;
 
+import jakarta.persistence.Entity;
+
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeList;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.SuperMethodCall;
@@ -36,6 +47,8 @@ public class ByteBuddyProxyHelper implements Serializable {
 
 	private static final String PROXY_NAMING_SUFFIX = "HibernateProxy";
 	private static final TypeDescription OBJECT = TypeDescription.ForLoadedType.of(Object.class);
+	private static final int STRUCTURE_MODIFIERS =
+			Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE | Modifier.FINAL | Modifier.ABSTRACT;
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -53,9 +66,111 @@ public Class buildProxy(
 		}
 		Collections.addAll( key, interfaces );
 
-		final String proxyClassName = persistentClass.getTypeName() + "$" + PROXY_NAMING_SUFFIX;
-		return byteBuddyState.loadProxy( persistentClass, proxyClassName,
-				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
+		final TypeDescription persistentType = TypeDescription.ForLoadedType.of( persistentClass );
+		final TypeList.Generic proxyInterfaces = new TypeList.Generic.ForLoadedTypes( interfaces );
+		final Class<?> proxyClass =
+				byteBuddyState.loadProxy( persistentClass, getProxyClassName( persistentClass.getTypeName() ),
+						proxyBuilder( persistentType, proxyInterfaces ) );
+		if ( !isReusable( proxyClass, persistentType, interfaces ) ) {
+			// the existing class was generated at build time, for a different
+			// mapping or an older version of the entity, so we can't reuse it
+			final NamingStrategy namingStrategy =
+					new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX,
+							new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() ) );
+			return byteBuddyState.load( persistentClass,
+					byteBuddy -> proxyBuilder( persistentType, proxyInterfaces ).apply( byteBuddy, namingStrategy ) );
+		}
+		return proxyClass;
+	}
+
+	private static boolean isReusable(Class<?> proxyClass, TypeDefinition persistentType, Class<?>[] interfaces) {
+		for ( Class<?> anInterface : interfaces ) {
+			if ( !anInterface.isAssignableFrom( proxyClass ) ) {
+				return false;
+			}
+		}
+		// a proxy class which does not override every method of the entity
+		// class would run the missing methods on the uninitialized proxy
+		try {
+			return getStructureHash( persistentType )
+					.equals( proxyClass.getField( ProxyConfiguration.STRUCTURE_FIELD_NAME ).get( null ) );
+		}
+		catch (NoSuchFieldException | IllegalAccessException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * A hash of the signatures of the methods which a proxy class overrides,
+	 * computed in the same way from the bytecode of the entity class at build
+	 * time, and from the loaded entity class at runtime.
+	 */
+	private static String getStructureHash(TypeDefinition persistentType) {
+		final List<String> signatures = new ArrayList<>();
+		collectMethodSignatures( persistentType, signatures, new HashSet<>() );
+		Collections.sort( signatures );
+		return Integer.toHexString( String.join( ";", signatures ).hashCode() );
+	}
+
+	private static void collectMethodSignatures(TypeDefinition type, List<String> signatures, Set<String> visited) {
+		if ( type != null && !type.represents( Object.class ) && visited.add( type.asErasure().getName() ) ) {
+			for ( MethodDescription method : type.asErasure().getDeclaredMethods() ) {
+				if ( method.isVirtual() ) {
+					signatures.add( type.asErasure().getName() + '#' + method.getInternalName() + method.getDescriptor()
+							+ ':' + ( method.getModifiers() & STRUCTURE_MODIFIERS ) );
+				}
+			}
+			collectMethodSignatures( type.getSuperClass(), signatures, visited );
+			for ( TypeDefinition anInterface : type.getInterfaces() ) {
+				collectMethodSignatures( anInterface, signatures, visited );
+			}
+		}
+	}
+
+	/**
+	 * The name of the proxy class for the given entity class. Before generating
+	 * a proxy class, {@link #buildProxy} looks for an existing class with this
+	 * name, which might have been generated at build time.
+	 *
+	 * @param persistentClassName The name of the entity class
+	 *
+	 * @since 7.0.1
+	 */
+	public static String getProxyClassName(String persistentClassName) {
+		return persistentClassName + "$" + PROXY_NAMING_SUFFIX;
+	}
+
+	/**
+	 * Generate the bytecode of the proxy class for the given entity class, so
+	 * that a build tool may write it out alongside the entity class, and the
+	 * proxy class does not need to be generated when the {@code SessionFactory}
+	 * is created. The proxy class comes with auxiliary classes, in the same
+	 * package, which forward method calls to the proxied object.
+	 *
+	 * @param persistentClassName The name of the entity class
+	 * @param classLoader A class loader from which the bytecode of the entity
+	 *                    class and of its supertypes may be read
+	 *
+	 * @return The bytecode of the proxy class and of its auxiliary classes, by
+	 *         class name, or {@code null} if the given class is not an entity
+	 *         class which can be proxied
+	 *
+	 * @since 7.0.1
+	 */
+	public Map<String, byte[]> buildProxyBytecode(String persistentClassName, ClassLoader classLoader) {
+		final TypePool typePool = TypePool.Default.of( ClassFileLocator.ForClassLoader.of( classLoader ) );
+		final TypeDescription persistentClass = typePool.describe( persistentClassName ).resolve();
+		if ( persistentClass.isInterface() || persistentClass.isFinal()
+				|| !persistentClass.getDeclaredAnnotations().isAnnotationPresent( Entity.class ) ) {
+			return null;
+		}
+		// an entity class is proxied by subclassing it, so HibernateProxy is the only interface
+		final DynamicType.Unloaded<?> proxyType =
+				byteBuddyState.make( typePool, getProxyClassName( persistentClassName ),
+						proxyBuilder( persistentClass, new TypeList.Generic.ForLoadedTypes( HibernateProxy.class ) ) );
+		final Map<String, byte[]> bytecode = new LinkedHashMap<>();
+		proxyType.getAllTypes().forEach( (type, bytes) -> bytecode.put( type.getName(), bytes ) );
+		return bytecode;
 	}
 
 	/**
@@ -94,8 +209,13 @@ private BiFunction<ByteBuddy, NamingStrategy, DynamicType.Builder<?>> proxyBuild
 				.implement( interfaces )
 				.method( helpers.getVirtualNotFinalizerFilter() )
 						.intercept( helpers.getDelegateToInterceptorDispatcherMethodDelegation() )
+				.method( helpers.getProxyForwardedMethodFilter() )
+						.intercept( helpers.getDelegateToForwardingInterceptorDispatcherMethodDelegation() )
 				.method( helpers.getProxyNonInterceptedMethodFilter() )
 						.intercept( SuperMethodCall.INSTANCE )
+				.defineField( ProxyConfiguration.STRUCTURE_FIELD_NAME, String.class,
+						Visibility.PUBLIC, Ownership.STATIC, FieldManifestation.FINAL )
+						.value( getStructureHash( persistentClass ) )
 				.defineField( ProxyConfiguration.INTERCEPTOR_FIELD_NAME, ProxyConfiguration.Interceptor.class, Visibility.PRIVATE )
 				.implement( ProxyConfiguration.class )
 						.intercept( helpers.getInterceptorFieldAccessor() )
@@ -19,6 +19,7 @@
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.QueryPhase;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -93,6 +94,7 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			final long endTime = System.nanoTime();
 			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
 			statistics.queryCompiled( queryString, microseconds );
+			statistics.queryPhaseExecuted( queryString, QueryPhase.PARSE, endTime - startTime );
 		}
 
 		return new HqlInterpretation<>() {
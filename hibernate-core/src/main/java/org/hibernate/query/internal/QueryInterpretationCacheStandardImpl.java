@@ -22,6 +22,7 @@
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.QueryPhase;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -174,6 +175,7 @@ protected static <R> HqlInterpretation<R> createHqlInterpretation(
 			final long endTime = System.nanoTime();
 			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
 			statistics.queryCompiled( queryString, microseconds );
+			statistics.queryPhaseExecuted( queryString, QueryPhase.PARSE, endTime - startTime );
 		}
 
 		return new SimpleHqlInterpretationImpl<>( sqmStatement, parameterMetadata, domainParameterXref );
@@ -169,6 +169,10 @@ protected void beforeQuery() {
 		final SharedSessionContractImplementor session = getSession();
 		final MutableQueryOptions options = getQueryOptions();
 
+		if ( options.isReadOnly() == Boolean.FALSE && session.isReadOnlySession() ) {
+			throw new IllegalStateException( "Query may not load modifiable entities in a read-only session" );
+		}
+
 		session.prepareForQueryExecution( requiresTxn( options.getLockOptions().findGreatestLockMode() ) );
 		prepareForExecution();
 
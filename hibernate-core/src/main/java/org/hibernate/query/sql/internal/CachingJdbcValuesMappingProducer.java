@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sql.internal;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl.CapturingJdbcValuesMetadata;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * A {@link JdbcValuesMappingProducer} which remembers the {@link JdbcValuesMapping}
+ * resolved for the first execution of a {@linkplain NativeSelectQueryPlanImpl native
+ * query plan}, so that subsequent executions of the plan do not need to access the
+ * {@link java.sql.ResultSetMetaData} again to discover the column types and positions.
+ * <p>
+ * The column names and types read from the metadata by the first execution are kept
+ * with the mapping, and are handed to the {@link CapturingJdbcValuesMetadata} of any
+ * later execution whose results are put in the query cache, so that the cached
+ * results still carry their metadata.
+ * <p>
+ * Only mappings made up entirely of scalar results are remembered, since they do not
+ * depend on the {@link LoadQueryInfluencers} of the session executing the query.
+ *
+ * @since 7.0.1
+ */
+public class CachingJdbcValuesMappingProducer implements JdbcValuesMappingProducer {
+	private final JdbcValuesMappingProducer delegate;
+	private volatile Resolution resolution;
+
+	private record Resolution(JdbcValuesMapping mapping, CachedJdbcValuesMetadata metadata) {
+	}
+
+	public CachingJdbcValuesMappingProducer(JdbcValuesMappingProducer delegate) {
+		this.delegate = delegate;
+	}
+
+	public JdbcValuesMappingProducer getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public JdbcValuesMapping resolve(
+			JdbcValuesMetadata jdbcResultsMetadata,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		final Resolution cachedResolution = resolution;
+		if ( cachedResolution != null ) {
+			if ( jdbcResultsMetadata instanceof CapturingJdbcValuesMetadata capturingMetadata ) {
+				capturingMetadata.replay( cachedResolution.metadata() );
+			}
+			return cachedResolution.mapping();
+		}
+		final CapturingJdbcValuesMetadata capturingMetadata =
+				jdbcResultsMetadata instanceof CapturingJdbcValuesMetadata capturing
+						? capturing
+						: new CapturingJdbcValuesMetadata( jdbcResultsMetadata );
+		final JdbcValuesMapping mapping =
+				delegate.resolve( capturingMetadata, loadQueryInfluencers, sessionFactory );
+		if ( isScalar( mapping ) ) {
+			// a concurrent execution might resolve an equivalent mapping, which is fine
+			resolution = new Resolution( mapping, capturingMetadata.resolveMetadataForCache() );
+		}
+		return mapping;
+	}
+
+	private static boolean isScalar(JdbcValuesMapping mapping) {
+		final List<DomainResult<?>> domainResults = mapping.getDomainResults();
+		for ( int i = 0; i < domainResults.size(); i++ ) {
+			if ( domainResults.get( i ).containsAnyNonScalarResults() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
+		delegate.addAffectedTableNames( affectedTableNames, sessionFactory );
+	}
+
+	@Override
+	public JdbcValuesMappingProducer cacheKeyInstance() {
+		return delegate.cacheKeyInstance();
+	}
+}
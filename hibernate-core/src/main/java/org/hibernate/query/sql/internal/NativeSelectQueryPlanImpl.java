@@ -7,11 +7,14 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.EmptyScrollableResults;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.results.ResultSetMapping;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
@@ -21,7 +24,10 @@
 import org.hibernate.query.sql.spi.NativeSelectQueryPlan;
 import org.hibernate.query.sql.spi.ParameterOccurrence;
 import org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
+import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -30,6 +36,7 @@
 import org.hibernate.sql.results.spi.ResultsConsumer;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 
 /**
  * Standard implementation of {@link SelectQueryPlan} for
@@ -45,6 +52,11 @@
 	private final List<ParameterOccurrence> parameterList;
 
 	private final JdbcValuesMappingProducer resultSetMapping;
+	// the types of the columns of a native query may depend on the types of its
+	// parameters, so the resolved mapping is remembered for each list of types
+	private final Map<List<JdbcMapping>, JdbcValuesMappingProducer> cachingResultSetMappings =
+			new ConcurrentHashMap<>();
+	private final AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize();
 
 	public NativeSelectQueryPlanImpl(
 			String sql,
@@ -66,6 +78,36 @@ public NativeSelectQueryPlanImpl(
 		this.affectedTableNames = affectedTableNames;
 	}
 
+	private JdbcOperationQuerySelect createJdbcSelect(
+			List<JdbcParameterBinder> jdbcParameterBinders,
+			JdbcParameterBindings jdbcParameterBindings) {
+		// share the observed row counts between executions of this plan
+		return new JdbcOperationQuerySelect(
+				sql,
+				jdbcParameterBinders,
+				cachingResultSetMapping( jdbcParameterBinders, jdbcParameterBindings ),
+				affectedTableNames,
+				0,
+				Integer.MAX_VALUE,
+				emptyMap(),
+				JdbcLockStrategy.AUTO,
+				null,
+				null,
+				adaptiveFetchSize
+		);
+	}
+
+	private JdbcValuesMappingProducer cachingResultSetMapping(
+			List<JdbcParameterBinder> jdbcParameterBinders,
+			JdbcParameterBindings jdbcParameterBindings) {
+		final List<JdbcMapping> parameterTypes = new ArrayList<>( jdbcParameterBinders.size() );
+		for ( JdbcParameterBinder jdbcParameterBinder : jdbcParameterBinders ) {
+			parameterTypes.add( jdbcParameterBindings.getBinding( (JdbcParameter) jdbcParameterBinder ).getBindType() );
+		}
+		return cachingResultSetMappings.computeIfAbsent( parameterTypes,
+				types -> new CachingJdbcValuesMappingProducer( resultSetMapping ) );
+	}
+
 	@Override
 	public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
 		final List<JdbcParameterBinder> jdbcParameterBinders;
@@ -86,12 +128,7 @@ public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsC
 			);
 		}
 
-		final JdbcOperationQuerySelect jdbcSelect = new JdbcOperationQuerySelect(
-				sql,
-				jdbcParameterBinders,
-				resultSetMapping,
-				affectedTableNames
-		);
+		final JdbcOperationQuerySelect jdbcSelect = createJdbcSelect( jdbcParameterBinders, jdbcParameterBindings );
 
 		return executionContext.getSession().getJdbcServices().getJdbcSelectExecutor().executeQuery(
 				jdbcSelect,
@@ -127,12 +164,7 @@ public List<R> performList(DomainQueryExecutionContext executionContext) {
 				);
 			}
 
-			final JdbcOperationQuerySelect jdbcSelect = new JdbcOperationQuerySelect(
-					sql,
-					jdbcParameterBinders,
-					resultSetMapping,
-					affectedTableNames
-			);
+			final JdbcOperationQuerySelect jdbcSelect = createJdbcSelect( jdbcParameterBinders, jdbcParameterBindings );
 
 			executionContext.getSession().autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 			return executionContext.getSession().getJdbcServices().getJdbcSelectExecutor().list(
@@ -169,12 +201,7 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 				);
 			}
 
-			final JdbcOperationQuerySelect jdbcSelect = new JdbcOperationQuerySelect(
-					sql,
-					jdbcParameterBinders,
-					resultSetMapping,
-					affectedTableNames
-			);
+			final JdbcOperationQuerySelect jdbcSelect = createJdbcSelect( jdbcParameterBinders, jdbcParameterBindings );
 
 			executionContext.getSession().autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 			return executionContext.getSession().getJdbcServices().getJdbcSelectExecutor().scroll(
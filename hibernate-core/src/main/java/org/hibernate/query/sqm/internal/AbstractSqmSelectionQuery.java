@@ -6,8 +6,13 @@
 
 import jakarta.persistence.TemporalType;
 import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.FetchPlanLearner;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.type.BindableType;
 import org.hibernate.query.IllegalSelectQueryException;
 import org.hibernate.query.KeyedPage;
@@ -30,6 +35,8 @@
 import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
 import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.results.internal.TupleMetadata;
@@ -40,6 +47,8 @@
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
@@ -52,6 +61,9 @@
  */
 abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 
+	private boolean learning;
+	private @Nullable RootGraphImplementor<?> learnedGraph;
+
 	AbstractSqmSelectionQuery(SharedSessionContractImplementor session) {
 		super(session);
 	}
@@ -86,6 +98,87 @@ protected static boolean hasAppliedGraph(MutableQueryOptions queryOptions) {
 		return appliedGraph != null && appliedGraph.getSemantic() != null;
 	}
 
+	@Override
+	public List<R> list() {
+		final FetchPlanLearner fetchPlanLearner = getSessionFactory().getFetchPlanLearner();
+		final EntityDomainType<?> entityType =
+				fetchPlanLearner != null
+						&& !hasAppliedGraph( getQueryOptions() )
+						&& getQueryOptions().getLockOptions().findGreatestLockMode() == LockMode.NONE
+								? fetchPlanLearningEntityType()
+								: null;
+		if ( entityType == null ) {
+			return super.list();
+		}
+		else {
+			// the learned graph is only applied to, and learned from,
+			// executions which return a list
+			final List<R> results;
+			learning = true;
+			try {
+				results = super.list();
+			}
+			finally {
+				learning = false;
+			}
+			fetchPlanLearner.observe( getQueryString(), entityType, results, getSession() );
+			return results;
+		}
+	}
+
+	@Override
+	protected void beforeQuery() {
+		super.beforeQuery();
+		if ( learning ) {
+			final FetchPlanLearner fetchPlanLearner = getSessionFactory().getFetchPlanLearner();
+			final SqmSelectStatement<R> statement = getSqmSelectStatement();
+			final boolean allowCollections =
+					!hasLimit( statement, getQueryOptions() )
+							&& !statement.containsCollectionFetches()
+							&& !statement.getQuerySpec().getFromClause().getRoots().get( 0 ).hasJoins();
+			learnedGraph = fetchPlanLearner.getLearnedGraph( getQueryString(), allowCollections );
+			if ( learnedGraph != null ) {
+				getQueryOptions().applyGraph( learnedGraph, GraphSemantic.LOAD );
+			}
+		}
+	}
+
+	@Override
+	protected void afterQuery() {
+		if ( learnedGraph != null ) {
+			getQueryOptions().applyGraph( null, null );
+			learnedGraph = null;
+		}
+		super.afterQuery();
+	}
+
+	/**
+	 * The fetch plan learned by the {@link FetchPlanLearner} which is
+	 * applied to the current execution of this query, if any.
+	 */
+	public @Nullable RootGraphImplementor<?> getLearnedGraph() {
+		return learnedGraph;
+	}
+
+	/**
+	 * The entity type returned by this query, if it is an HQL query
+	 * with a single root entity as its only selection item, and so
+	 * eligible for fetch plan learning.
+	 */
+	private @Nullable EntityDomainType<?> fetchPlanLearningEntityType() {
+		if ( !CRITERIA_HQL_STRING.equals( getQueryString() )
+				&& getSqmStatement() instanceof SqmSelectStatement<R> statement
+				&& statement.getQueryPart() instanceof SqmQuerySpec<R> querySpec
+				&& querySpec.getFromClause().getNumberOfRoots() == 1 ) {
+			final List<SqmSelection<?>> selections = querySpec.getSelectClause().getSelections();
+			if ( selections.size() == 1
+					&& selections.get( 0 ).getSelectableNode() instanceof SqmRoot<?> root ) {
+				return root.getModel();
+			}
+		}
+		return null;
+	}
+
 	protected void errorOrLogForPaginationWithCollectionFetch() {
 		if ( getSessionFactory().getSessionFactoryOptions().isFailOnPaginationOverCollectionFetchEnabled() ) {
 			throw new HibernateException(
@@ -17,6 +17,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.QueryTypeMismatchException;
@@ -56,6 +58,8 @@
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.QueryPhase;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.internal.util.ReflectHelper.isClass;
@@ -74,6 +78,7 @@
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<?, ? extends ResultsConsumer<?, R>> executeQueryInterpreter;
@@ -90,6 +95,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -413,7 +419,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			synchronized ( this ) {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+					localCopy = buildCacheableSqmInterpretation( sqm, hql, domainParameterXref, executionContext );
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
 					cacheableSqmInterpretation = localCopy;
@@ -427,7 +433,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 					// We could avoid this by putting the lock options into the cache key
 					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-						localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+						localCopy = buildCacheableSqmInterpretation( sqm, hql, domainParameterXref, executionContext );
 						jdbcParameterBindings = localCopy.firstParameterBindings;
 						localCopy.firstParameterBindings = null;
 						cacheableSqmInterpretation = localCopy;
@@ -444,7 +450,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 			// We could avoid this by putting the lock options into the cache key
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+				localCopy = buildCacheableSqmInterpretation( sqm, hql, domainParameterXref, executionContext );
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
 				cacheableSqmInterpretation = localCopy;
@@ -476,11 +482,17 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
+			String hql,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final boolean phaseStats = statistics.isQueryPhaseStatisticsEnabled();
 
+		final DiagnosticEvent interpretationEvent = eventMonitor.beginQueryPhaseEvent();
+		final long interpretationStart = phaseStats ? System.nanoTime() : 0L;
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
 						.createSelectTranslator(
@@ -493,6 +505,9 @@ private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 								true
 						)
 						.translate();
+		final long interpretationEnd = phaseStats ? System.nanoTime() : 0L;
+		// the SQL identifying a criteria query is not known until it is rendered
+		eventMonitor.endQueryPhaseEvent( interpretationEvent );
 
 		final SqlAstTranslator<JdbcOperationQuerySelect> selectTranslator =
 				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
@@ -515,15 +530,33 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				session
 		);
 
+		final DiagnosticEvent renderingEvent = eventMonitor.beginQueryPhaseEvent();
+		final long renderingStart = phaseStats ? System.nanoTime() : 0L;
+		final JdbcOperationQuerySelect jdbcSelect =
+				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		final String queryIdentifier = queryIdentifier( hql, jdbcSelect.getSqlString() );
+		if ( phaseStats ) {
+			final long renderingEnd = System.nanoTime();
+			statistics.queryPhaseExecuted( queryIdentifier, QueryPhase.INTERPRETATION,
+					interpretationEnd - interpretationStart );
+			statistics.queryPhaseExecuted( queryIdentifier, QueryPhase.RENDERING, renderingEnd - renderingStart );
+		}
+		eventMonitor.completeQueryPhaseEvent( interpretationEvent, queryIdentifier, QueryPhase.INTERPRETATION, session );
+		eventMonitor.completeQueryPhaseEvent( renderingEvent, queryIdentifier, QueryPhase.RENDERING, session );
+
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				jdbcSelect,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
 		);
 	}
 
+	private static String queryIdentifier(String hql, String sql) {
+		return CRITERIA_HQL_STRING.equals( hql ) ? "[CRITERIA] " + sql : hql;
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -586,7 +619,7 @@ public void registerLoadingEntityHolder(EntityHolder holder) {
 
 		@Override
 		public String getQueryIdentifier(String sql) {
-			return CRITERIA_HQL_STRING.equals( hql ) ? "[CRITERIA] " + sql : hql;
+			return queryIdentifier( hql, sql );
 		}
 	}
 }
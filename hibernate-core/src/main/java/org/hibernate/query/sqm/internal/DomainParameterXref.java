@@ -122,6 +122,7 @@ else if ( sqmParameter.getExpressible() != null
 	private final IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Map<SqmParameter<?>,List<SqmParameter<?>>> arrayExpansions;
 
 	private DomainParameterXref(
 			LinkedHashMap<QueryParameterImplementor<?>, List<SqmParameter<?>>> sqmParamsByQueryParam,
@@ -211,6 +212,34 @@ public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
 		}
 	}
 
+	/**
+	 * Register an expansion of a multi-valued parameter which is bound as
+	 * a single array-typed JDBC parameter holding all the bind values.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 */
+	public void addArrayExpansion(
+			QueryParameterImplementor<?> domainParam,
+			SqmParameter<?> originalSqmParameter,
+			SqmParameter<?> expansion) {
+		assert !queryParamBySqmParam.isEmpty();
+		queryParamBySqmParam.put( expansion, domainParam );
+		if ( arrayExpansions == null ) {
+			arrayExpansions = new IdentityHashMap<>();
+		}
+		arrayExpansions.computeIfAbsent( originalSqmParameter, p -> new ArrayList<>() ).add( expansion );
+	}
+
+	public List<SqmParameter<?>> getArrayExpansions(SqmParameter<?> sqmParameter) {
+		if ( arrayExpansions == null ) {
+			return emptyList();
+		}
+		else {
+			final List<SqmParameter<?>> sqmParameters = arrayExpansions.get( sqmParameter );
+			return sqmParameters == null ? emptyList() : sqmParameters;
+		}
+	}
+
 	public void clearExpansions() {
 		if ( expansions != null ) {
 			for ( List<SqmParameter<?>> expansionList : expansions.values() ) {
@@ -220,5 +249,13 @@ public void clearExpansions() {
 			}
 			expansions.clear();
 		}
+		if ( arrayExpansions != null ) {
+			for ( List<SqmParameter<?>> expansionList : arrayExpansions.values() ) {
+				for ( SqmParameter<?> expansion : expansionList ) {
+					queryParamBySqmParam.remove( expansion );
+				}
+			}
+			arrayExpansions.clear();
+		}
 	}
 }
@@ -30,7 +30,8 @@ public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeyS
 					keySource.getQueryOptions().getLockOptions(),
 					keySource.getQueryOptions().getTupleTransformer(),
 					keySource.getQueryOptions().getResultListTransformer(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() )
+					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() ),
+					keySource.getLearnedGraph()
 			);
 		}
 		else {
@@ -64,8 +65,10 @@ private static boolean isCacheable(InterpretationsKeySource keySource) {
 		return keySource.isQueryPlanCacheable()
 				// At the moment we cannot cache query plan if there is filter enabled.
 			&& !keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
+				// At the moment we cannot cache query plan if it has an entity graph,
+				// unless it is an (immutable) learned fetch plan, which is part of the key
+			&& ( keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
+				|| keySource.getQueryOptions().getAppliedGraph().getGraph() == keySource.getLearnedGraph() )
 				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
 				// - the expansion is done per-execution based on the "static" SQM
 				// - Note from Christian: The call to domainParameterXref.clearExpansions()
@@ -89,6 +92,7 @@ public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsK
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer<?> resultListTransformer;
 	private final Collection<String> enabledFetchProfiles;
+	private final Object learnedGraph;
 	private final int hashCode;
 
 	private SqmInterpretationsKey(
@@ -98,7 +102,8 @@ private SqmInterpretationsKey(
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer<?> resultListTransformer,
-			Collection<String> enabledFetchProfiles) {
+			Collection<String> enabledFetchProfiles,
+			Object learnedGraph) {
 		this.query = query;
 		this.hashCode = hash;
 		this.resultType = resultType;
@@ -106,6 +111,7 @@ private SqmInterpretationsKey(
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.learnedGraph = learnedGraph;
 	}
 
 	@Override
@@ -118,7 +124,8 @@ public QueryInterpretationCache.Key prepareForStore() {
 				lockOptions.makeDefensiveCopy(),
 				tupleTransformer,
 				resultListTransformer,
-				enabledFetchProfiles
+				enabledFetchProfiles,
+				learnedGraph
 		);
 	}
 
@@ -141,7 +148,8 @@ public boolean equals(Object other) {
 			&& Objects.equals( this.lockOptions, that.lockOptions )
 			&& Objects.equals( this.tupleTransformer, that.tupleTransformer )
 			&& Objects.equals( this.resultListTransformer, that.resultListTransformer )
-			&& Objects.equals( this.enabledFetchProfiles, that.enabledFetchProfiles );
+			&& Objects.equals( this.enabledFetchProfiles, that.enabledFetchProfiles )
+			&& this.learnedGraph == that.learnedGraph;
 	}
 
 	@Override
@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.lang.reflect.Array;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -99,6 +100,7 @@
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.type.JavaObjectType;
 import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+import org.hibernate.type.descriptor.java.BasicPluralJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.spi.PrimitiveJavaType;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
@@ -112,6 +114,7 @@
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
@@ -460,6 +463,9 @@ public static Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcPa
 						sqmParamMap.put( expansion, convert( jdbcParamsBySqmParam.get( expansion ) ) );
 						result.put( queryParam, sqmParamMap );
 					}
+					for ( SqmParameter<?> expansion : domainParameterXref.getArrayExpansions( sqmParam ) ) {
+						sqmParamMap.put( expansion, convert( jdbcParamsBySqmParam.get( expansion ) ) );
+					}
 				}
 			} );
 			return result;
@@ -563,6 +569,15 @@ private static <T> void createJdbcParameterBinding(
 					determineParameterType( domainParamBinding, queryParameter, sqmParameters, modelResolutionAccess,
 							session.getFactory() );
 
+			for ( SqmParameter<?> arrayExpansion : domainParameterXref.getArrayExpansions( sqmParameter ) ) {
+				createArrayValueBindings(
+						jdbcParameterBindings,
+						domainParamBinding,
+						jdbcParamMap.get( arrayExpansion ),
+						session
+				);
+			}
+
 			final List<JdbcParametersList> jdbcParamsBinds = jdbcParamMap.get( sqmParameter );
 			if ( jdbcParamsBinds == null ) {
 				// This can happen when a group or order by item expression, that contains parameters,
@@ -715,6 +730,51 @@ private static void createValueBindings(
 		assert offset == jdbcParams.size();
 	}
 
+	/**
+	 * Bind all values of a multi-valued parameter as a single array value.
+	 *
+	 * @see DomainParameterXref#addArrayExpansion
+	 */
+	private static void createArrayValueBindings(
+			JdbcParameterBindings jdbcParameterBindings,
+			QueryParameterBinding<?> domainParamBinding,
+			List<JdbcParametersList> jdbcParamsBinds,
+			SharedSessionContractImplementor session) {
+		if ( jdbcParamsBinds != null ) {
+			for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
+				final JdbcParametersList jdbcParams = jdbcParamsBinds.get( i );
+				assert jdbcParams.size() == 1;
+				final JdbcParameter jdbcParameter = jdbcParams.get( 0 );
+				final JdbcMapping arrayMapping = jdbcParameter.getExpressionType().getSingleJdbcMapping();
+				jdbcParameterBindings.addBinding( jdbcParameter,
+						new JdbcParameterBindingImpl( arrayMapping, toArray( arrayMapping, domainParamBinding, session ) ) );
+			}
+		}
+	}
+
+	private static Object toArray(
+			JdbcMapping arrayMapping,
+			QueryParameterBinding<?> domainParamBinding,
+			SharedSessionContractImplementor session) {
+		if ( !domainParamBinding.isBound() ) {
+			return null;
+		}
+		else {
+			final Collection<?> bindValues = domainParamBinding.isMultiValued()
+					? domainParamBinding.getBindValues()
+					: singletonList( domainParamBinding.getBindValue() );
+			final JavaType<?> elementJavaType =
+					( (BasicPluralJavaType<?>) arrayMapping.getJavaTypeDescriptor() ).getElementJavaType();
+			final Object[] array =
+					(Object[]) Array.newInstance( elementJavaType.getJavaTypeClass(), bindValues.size() );
+			int i = 0;
+			for ( Object bindValue : bindValues ) {
+				array[i++] = elementJavaType.wrap( bindValue, session );
+			}
+			return array;
+		}
+	}
+
 	private static Object bindValue(
 			Bindable parameterType, Object bindValue, SharedSessionContractImplementor session) {
 		if ( parameterType instanceof EntityIdentifierMapping identifierMapping ) {
@@ -4,7 +4,22 @@
  */
 package org.hibernate.query.sqm.spi;
 
+import org.hibernate.graph.spi.RootGraphImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 // Used by Hibernate Reactive
 public interface InterpretationsKeySource extends CacheabilityInfluencers {
 	Class<?> getResultType();
+
+	/**
+	 * The fetch plan learned by the {@link org.hibernate.engine.spi.FetchPlanLearner}
+	 * which is applied to the query, if any. Unlike other entity graphs, a learned
+	 * fetch plan does not prevent caching of the query plan.
+	 *
+	 * @since 7.0.1
+	 */
+	default @Nullable RootGraphImplementor<?> getLearnedGraph() {
+		return null;
+	}
 }
@@ -243,6 +243,7 @@
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -329,6 +330,8 @@
 import static org.hibernate.boot.model.process.internal.InferredBasicValueResolver.resolveSqlTypeIndicators;
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.internal.util.NullnessHelper.coalesceSuppliedValues;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 import static org.hibernate.query.common.TemporalUnit.EPOCH;
 import static org.hibernate.query.common.TemporalUnit.NANOSECOND;
 import static org.hibernate.query.common.TemporalUnit.NATIVE;
@@ -7977,6 +7980,10 @@ public Predicate visitInListPredicate(SqmInListPredicate<?> predicate) {
 			final SqmExpression<?> sqmExpression = predicate.getListExpressions().get( 0 );
 			if ( sqmExpression instanceof SqmParameter<?> sqmParameter ) {
 				if ( sqmParameter.allowMultiValuedBinding() ) {
+					final Predicate arrayCase = processInListWithArrayParameter( predicate, sqmParameter );
+					if ( arrayCase != null ) {
+						return arrayCase;
+					}
 					final InListPredicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
 					if ( specialCase != null ) {
 						handleTypeComparison( specialCase );
@@ -8046,6 +8053,87 @@ private void handleTypeComparison(InListPredicate inPredicate) {
 		}
 	}
 
+	/**
+	 * Renders {@code x in (:list)} as a single array-typed JDBC parameter,
+	 * for example {@code x = any(?)}, so that the SQL does not depend on
+	 * the number of bound values.
+	 *
+	 * @return the predicate, or {@code null} if the array form cannot be used
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 */
+	private Predicate processInListWithArrayParameter(
+			SqmInListPredicate<?> sqmPredicate,
+			SqmParameter<?> sqmParameter) {
+		if ( !creationContext.getSessionFactory().getSessionFactoryOptions().inClauseArrayParameterEnabled()
+				|| !supportsSqlArrayType( getDialect() ) ) {
+			return null;
+		}
+
+		final QueryParameterImplementor<?> domainParam;
+		final SqmParameter<?> parameterToExpand;
+		if ( sqmParameter instanceof JpaCriteriaParameter<?> jpaCriteriaParameter ) {
+			domainParam = jpaCriteriaParameter;
+			parameterToExpand = jpaCriteriaParamResolutions.get( jpaCriteriaParameter );
+		}
+		else {
+			domainParam = domainParameterXref.getQueryParameter( sqmParameter );
+			parameterToExpand = sqmParameter;
+		}
+		final QueryParameterBinding<?> domainParamBinding = domainParameterBindings.getBinding( domainParam );
+		if ( !domainParamBinding.isMultiValued() || domainParamBinding.getBindValues().isEmpty() ) {
+			return null;
+		}
+		for ( Object bindValue : domainParamBinding.getBindValues() ) {
+			if ( bindValue == null ) {
+				// keep the standard semantic of null elements in the list
+				return null;
+			}
+		}
+
+		final MappingModelExpressible<?> valueMapping =
+				determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndexStack.getCurrent() );
+		if ( !( valueMapping instanceof BasicValuedMapping basicValuedMapping )
+				|| valueMapping instanceof EntityDiscriminatorMapping ) {
+			return null;
+		}
+		final JdbcMapping elementMapping = basicValuedMapping.getJdbcMapping();
+		if ( elementMapping.getValueConverter() != null ) {
+			return null;
+		}
+
+		final JdbcMapping arrayMapping;
+		try {
+			arrayMapping = resolveArrayJdbcMapping(
+					elementMapping,
+					elementMapping.getJavaTypeDescriptor().getJavaTypeClass(),
+					creationContext.getSessionFactory()
+			);
+		}
+		catch (IllegalArgumentException e) {
+			// no array type for the element type
+			return null;
+		}
+
+		final Expression testExpression = (Expression) sqmPredicate.getTestExpression().accept( this );
+
+		// the array is bound through a dedicated expansion of the parameter,
+		// see SqmUtil#createJdbcParameterBindings
+		final SqmParameter<?> arrayParameter = parameterToExpand.copy();
+		domainParameterXref.addArrayExpansion( domainParam, parameterToExpand, arrayParameter );
+		final JdbcParameter jdbcParameter = new JdbcParameterImpl( arrayMapping );
+		final List<JdbcParameter> jdbcParametersForSqm = singletonList( jdbcParameter );
+		jdbcParameters.addParameters( jdbcParametersForSqm );
+		jdbcParamsBySqmParam.computeIfAbsent( arrayParameter, k -> new ArrayList<>( 1 ) )
+				.add( jdbcParametersForSqm );
+		//noinspection rawtypes,unchecked
+		domainParamBinding.setType( (MappingModelExpressible) valueMapping );
+
+		final InArrayPredicate inArrayPredicate =
+				new InArrayPredicate( testExpression, jdbcParameter, getBooleanType() );
+		return sqmPredicate.isNegated() ? new NegatedPredicate( inArrayPredicate ) : inArrayPredicate;
+	}
+
 	private InListPredicate processInListWithSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter) {
@@ -16,6 +16,8 @@
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.SqlExecLogger;
@@ -34,7 +36,6 @@
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
-import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
@@ -43,6 +44,8 @@
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
+import org.hibernate.stat.QueryPhase;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -131,6 +134,14 @@ private <T, R> T doExecuteQuery(
 			StatementCreator statementCreator,
 			ResultsConsumer<T, R> resultsConsumer) {
 
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		// the results of a scroll are hydrated later, as they are read
+		final boolean phaseStats = statistics.isQueryPhaseStatisticsEnabled()
+				&& executionContext.hasQueryExecutionToBeAddedToStatistics()
+				&& !( resultsConsumer instanceof ScrollableResultsConsumer );
+		final long phaseStartTime = phaseStats ? System.nanoTime() : 0L;
+
 		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
 				jdbcSelect,
 				jdbcParameterBindings,
@@ -150,11 +161,8 @@ private <T, R> T doExecuteQuery(
 			rowTransformer = getRowTransformer( executionContext, jdbcValues );
 		}
 
-		final SharedSessionContractImplementor session = executionContext.getSession();
-
 		final boolean stats;
 		long startTime = 0;
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
 				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
 			stats = statistics.isStatisticsEnabled();
@@ -208,6 +216,10 @@ public boolean shouldReturnProxies() {
 				jdbcValues
 		);
 
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent hydrationEvent =
+				resultsConsumer instanceof ScrollableResultsConsumer ? null : eventMonitor.beginQueryPhaseEvent();
+
 		final T result = resultsConsumer.consume(
 				jdbcValues,
 				session,
@@ -217,6 +229,30 @@ public boolean shouldReturnProxies() {
 				rowReader
 		);
 
+		if ( hydrationEvent != null ) {
+			eventMonitor.completeQueryPhaseEvent(
+					hydrationEvent,
+					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					QueryPhase.HYDRATION,
+					session
+			);
+		}
+
+		if ( phaseStats && jdbcValues instanceof JdbcValuesResultSetImpl ) {
+			final long phaseTime = System.nanoTime() - phaseStartTime;
+			final long executionTime = deferredResultSetAccess.getExecutionNanos();
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
+			statistics.queryPhaseExecuted( queryIdentifier, QueryPhase.EXECUTION, executionTime );
+			statistics.queryPhaseExecuted( queryIdentifier, QueryPhase.HYDRATION, phaseTime - executionTime );
+		}
+
+		if ( jdbcValues instanceof JdbcValuesResultSetImpl resultSetValues
+				&& !( resultsConsumer instanceof ScrollableResultsConsumer )
+				&& session.getFactory().getSessionFactoryOptions().isAdaptiveFetchSizeEnabled() ) {
+			// a scrolled result has not been read yet
+			jdbcSelect.getAdaptiveFetchSize().recordRows( resultSetValues.getRowsRead() );
+		}
+
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds =
@@ -404,17 +440,33 @@ private static CacheMode resolveCacheMode(ExecutionContext executionContext) {
 		);
 	}
 
-	static class CapturingJdbcValuesMetadata implements JdbcValuesMetadata {
-		private final ResultSetAccess resultSetAccess;
+	/**
+	 * Records the column names and types resolved from the given metadata, so
+	 * that they can be stored in the query cache along with the results.
+	 */
+	public static class CapturingJdbcValuesMetadata implements JdbcValuesMetadata {
+		private final JdbcValuesMetadata jdbcValuesMetadata;
 		private String[] columnNames;
 		private BasicType<?>[] types;
+		private CachedJdbcValuesMetadata replayedMetadata;
 
-		public CapturingJdbcValuesMetadata(ResultSetAccess resultSetAccess) {
-			this.resultSetAccess = resultSetAccess;
+		public CapturingJdbcValuesMetadata(JdbcValuesMetadata jdbcValuesMetadata) {
+			this.jdbcValuesMetadata = jdbcValuesMetadata;
+		}
+
+		/**
+		 * Use metadata captured by an earlier execution of the same query, when
+		 * the {@link JdbcValuesMapping} was resolved without accessing this
+		 * metadata.
+		 *
+		 * @since 7.0.1
+		 */
+		public void replay(CachedJdbcValuesMetadata metadata) {
+			replayedMetadata = metadata;
 		}
 
 		private void initializeArrays() {
-			final int columnCount = resultSetAccess.getColumnCount();
+			final int columnCount = jdbcValuesMetadata.getColumnCount();
 			columnNames = new String[columnCount];
 			types = new BasicType[columnCount];
 		}
@@ -434,11 +486,11 @@ public int resolveColumnPosition(String columnName) {
 			}
 			int position;
 			if ( columnNames == null ) {
-				position = resultSetAccess.resolveColumnPosition( columnName );
+				position = jdbcValuesMetadata.resolveColumnPosition( columnName );
 				columnNames[position - 1] = columnName;
 			}
 			else if ( ( position = indexOf( columnNames, columnName ) + 1 ) == 0 ) {
-				position = resultSetAccess.resolveColumnPosition( columnName );
+				position = jdbcValuesMetadata.resolveColumnPosition( columnName );
 				columnNames[position - 1] = columnName;
 			}
 			return position;
@@ -451,11 +503,11 @@ public String resolveColumnName(int position) {
 			}
 			String name;
 			if ( columnNames == null ) {
-				name = resultSetAccess.resolveColumnName( position );
+				name = jdbcValuesMetadata.resolveColumnName( position );
 				columnNames[position - 1] = name;
 			}
 			else if ( ( name = columnNames[position - 1] ) == null ) {
-				name = resultSetAccess.resolveColumnName( position );
+				name = jdbcValuesMetadata.resolveColumnName( position );
 				columnNames[position - 1] = name;
 			}
 			return name;
@@ -470,13 +522,16 @@ public <J> BasicType<J> resolveType(
 				initializeArrays();
 			}
 			final BasicType<J> basicType =
-					resultSetAccess.resolveType( position, explicitJavaType, typeConfiguration );
+					jdbcValuesMetadata.resolveType( position, explicitJavaType, typeConfiguration );
 			types[position - 1] = basicType;
 			return basicType;
 		}
 
 		public CachedJdbcValuesMetadata resolveMetadataForCache() {
-			return columnNames == null ? null : new CachedJdbcValuesMetadata( columnNames, types );
+			if ( columnNames == null ) {
+				return replayedMetadata;
+			}
+			return new CachedJdbcValuesMetadata( columnNames, types );
 		}
 	}
 
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.Arrays;
+
+/**
+ * Remembers the number of rows returned by previous executions of a
+ * {@linkplain JdbcOperationQuerySelect select operation}, so that the
+ * JDBC fetch size of subsequent executions can be sized to fetch the
+ * whole result in as few round trips as possible.
+ * <p>
+ * The row counts of the most recent executions are kept, and the fetch
+ * size is derived from a high percentile of them rather than from their
+ * mean, so that executions of the same query with different arguments
+ * returning results of very different sizes do not settle on a fetch
+ * size which is too small for the larger results.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE
+ *
+ * @since 7.0.1
+ */
+public class AdaptiveFetchSize {
+	private static final int WINDOW = 16;
+	private static final int PERCENTILE = 90;
+
+	private final long[] observedRows = new long[WINDOW];
+	private int observations;
+
+	/**
+	 * Record the number of rows read from the {@link java.sql.ResultSet}
+	 * of an execution.
+	 */
+	public synchronized void recordRows(long rows) {
+		observedRows[observations++ % WINDOW] = rows;
+		if ( observations == 2 * WINDOW ) {
+			// keep the counter bounded, without losing the position in the window
+			observations = WINDOW;
+		}
+	}
+
+	/**
+	 * The fetch size to use for the next execution, or {@code 0} if the
+	 * fetch size of the statement should be left alone, either because
+	 * there is no previous execution to base the decision on, or because
+	 * the result would not be fetched in fewer round trips.
+	 *
+	 * @param defaultFetchSize the fetch size the statement would otherwise
+	 * use, that is, the one configured via
+	 * {@value org.hibernate.cfg.JdbcSettings#STATEMENT_FETCH_SIZE}, or the
+	 * default of the driver, where {@code 0} means that the driver decides
+	 * by itself, typically by fetching the whole result at once
+	 * @param maximum the maximum adaptive fetch size
+	 */
+	public int determineFetchSize(int defaultFetchSize, int maximum) {
+		if ( defaultFetchSize <= 0 ) {
+			// never limit a driver which fetches everything
+			return 0;
+		}
+		final long rows = percentileRows();
+		if ( rows < 0 ) {
+			return 0;
+		}
+		else {
+			// one more than the expected row count, so that the driver
+			// can detect the end of the result without a further round trip
+			final int fetchSize = (int) Math.min( maximum, rows + 1 );
+			// never go below the fetch size of the statement
+			return fetchSize > defaultFetchSize ? fetchSize : 0;
+		}
+	}
+
+	private long percentileRows() {
+		final long[] window;
+		synchronized (this) {
+			if ( observations == 0 ) {
+				return -1;
+			}
+			window = Arrays.copyOf( observedRows, Math.min( observations, WINDOW ) );
+		}
+		Arrays.sort( window );
+		final int rank = ( window.length * PERCENTILE + 99 ) / 100;
+		return window[rank - 1];
+	}
+}
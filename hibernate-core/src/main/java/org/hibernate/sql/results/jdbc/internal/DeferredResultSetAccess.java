@@ -10,6 +10,7 @@
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
@@ -33,6 +34,7 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.stat.QueryPhase;
 
 import static java.util.Collections.emptyMap;
 
@@ -57,6 +59,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
+	private long executionNanos;
 
 	public DeferredResultSetAccess(
 			JdbcOperationQuerySelect jdbcSelect,
@@ -195,6 +198,15 @@ public boolean usesFollowOnLocking() {
 		return usesFollowOnLocking;
 	}
 
+	/**
+	 * The time in nanoseconds taken to prepare and execute the statement,
+	 * if {@linkplain org.hibernate.stat.spi.StatisticsImplementor#isQueryPhaseStatisticsEnabled()
+	 * query phase statistics} are enabled.
+	 */
+	public long getExecutionNanos() {
+		return executionNanos;
+	}
+
 	protected void bindParameters(PreparedStatement preparedStatement) throws SQLException {
 		setQueryOptions( preparedStatement );
 
@@ -230,10 +242,31 @@ private void setQueryOptions(PreparedStatement preparedStatement) throws SQLExce
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else {
+				setAdaptiveFetchSize( preparedStatement );
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
 		}
+		else {
+			setAdaptiveFetchSize( preparedStatement );
+		}
+	}
+
+	private void setAdaptiveFetchSize(PreparedStatement preparedStatement) throws SQLException {
+		final SessionFactoryOptions options = executionContext.getSession().getFactory().getSessionFactoryOptions();
+		if ( options.isAdaptiveFetchSizeEnabled() ) {
+			// either the configured fetch size, or the default of the driver
+			final int defaultFetchSize = preparedStatement.getFetchSize();
+			final int maximum = limit != null && limit.getMaxRows() != null
+					? Math.min( limit.getMaxRows(), options.getMaximumAdaptiveFetchSize() )
+					: options.getMaximumAdaptiveFetchSize();
+			final int fetchSize = jdbcSelect.getAdaptiveFetchSize().determineFetchSize( defaultFetchSize, maximum );
+			if ( fetchSize > 0 ) {
+				preparedStatement.setFetchSize( fetchSize );
+			}
+		}
 	}
 
 	private void executeQuery() {
@@ -241,6 +274,10 @@ private void executeQuery() {
 				getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 
 		final SharedSessionContractImplementor session = executionContext.getSession();
+		final boolean phaseStats = session.getFactory().getStatistics().isQueryPhaseStatisticsEnabled();
+		final long phaseStartNanos = phaseStats ? System.nanoTime() : 0L;
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent queryPhaseEvent = eventMonitor.beginQueryPhaseEvent();
 		try {
 			LOG.tracef( "Executing query to retrieve ResultSet : %s", finalSql );
 			// prepare the query
@@ -253,7 +290,6 @@ private void executeQuery() {
 			if ( sqlStatementLogger.getLogSlowQuery() > 0 ) {
 				executeStartNanos = System.nanoTime();
 			}
-			final EventMonitor eventMonitor = session.getEventMonitor();
 			final DiagnosticEvent jdbcPreparedStatementExecutionEvent =
 					eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 			try {
@@ -268,6 +304,16 @@ private void executeQuery() {
 
 			skipRows( resultSet );
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
+
+			if ( phaseStats ) {
+				executionNanos = System.nanoTime() - phaseStartNanos;
+			}
+			eventMonitor.completeQueryPhaseEvent(
+					queryPhaseEvent,
+					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					QueryPhase.EXECUTION,
+					session
+			);
 		}
 		catch (SQLException exception) {
 			try {
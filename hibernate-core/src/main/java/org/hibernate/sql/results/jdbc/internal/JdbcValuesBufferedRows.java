@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * An {@link AbstractJdbcValues} implementation over rows of JDBC values which
+ * were already read from the {@link java.sql.ResultSet}, allowing the rows to be
+ * hydrated by a different thread than the one reading the {@code ResultSet}.
+ * <p>
+ * The rows may only be read forward, as a {@link org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_BATCH_SIZE
+ * batch} of a list result is: {@link #processPrevious}, {@link #processScroll}, and
+ * {@link #processPosition} throw {@link UnsupportedOperationException}. Instances
+ * must therefore never back a {@link org.hibernate.ScrollableResults}.
+ *
+ * @see org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_BATCH_SIZE
+ */
+public class JdbcValuesBufferedRows extends AbstractJdbcValues {
+	private final List<Object[]> rows;
+	private final JdbcValuesMapping valuesMapping;
+	private int position = -1;
+
+	public JdbcValuesBufferedRows(List<Object[]> rows, JdbcValuesMapping valuesMapping) {
+		this.rows = rows;
+		this.valuesMapping = valuesMapping;
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		if ( position < rows.size() ) {
+			position++;
+		}
+		return position < rows.size();
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Buffered rows may only be read forward" );
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Buffered rows may only be read forward" );
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Buffered rows may only be read forward" );
+	}
+
+	@Override
+	public int getPosition() {
+		return position + 1;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0;
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		position = -1;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0;
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		position = 0;
+		return !rows.isEmpty();
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return position >= rows.size();
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		position = rows.size();
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		return position == rows.size() - 1;
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		position = rows.size() - 1;
+		return !rows.isEmpty();
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return valuesMapping;
+	}
+
+	@Override
+	public boolean usesFollowOnLocking() {
+		return false;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int valueIndex) {
+		return rows.get( position )[valueIndex];
+	}
+
+	@Override
+	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
+		// No-op
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		// No-op
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {
+	}
+
+	@Override
+	public int getResultCountEstimate() {
+		return rows.size();
+	}
+}
@@ -51,6 +51,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 	private int resultCount;
+	private int rowsRead;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -145,7 +146,18 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance( advanceNext() );
+		final boolean hasResult = advance( advanceNext() );
+		if ( hasResult ) {
+			rowsRead++;
+		}
+		return hasResult;
+	}
+
+	/**
+	 * The number of rows read by moving forward through the {@link ResultSet}.
+	 */
+	public int getRowsRead() {
+		return rowsRead;
 	}
 
 	@Override
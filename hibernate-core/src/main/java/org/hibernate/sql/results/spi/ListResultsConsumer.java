@@ -8,15 +8,25 @@
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.hibernate.HibernateException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesBufferedRows;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.spi.EntityJavaType;
@@ -163,7 +173,9 @@ public List<R> consume(
 			final boolean isEntityResultType = domainResultJavaType instanceof EntityJavaType;
 			final int initialCollectionSize = Math.min( jdbcValues.getResultCountEstimate(), INITIAL_COLLECTION_SIZE_LIMIT );
 			final Results<R> results = createResults( isEntityResultType, domainResultJavaType, initialCollectionSize );
-			final int readRows = readRows( rowProcessingState, rowReader, isEntityResultType, results );
+			final int readRows =
+					readRows( jdbcValues, jdbcValuesSourceProcessingState, rowProcessingState, rowReader,
+							isEntityResultType, results );
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
 			return transformList( rowProcessingState, results );
@@ -219,6 +231,8 @@ private Results<R> createResults(
 	}
 
 	private int readRows(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
 			boolean isEntityResultType,
@@ -232,8 +246,134 @@ else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 			return readUniqueAssert( rowProcessingState, rowReader, results );
 		}
 		else {
-			return read( rowProcessingState, rowReader, results );
+			final int batchSize = parallelHydrationBatchSize( jdbcValues, rowProcessingState, rowReader );
+			return batchSize > 0
+					? readParallel( jdbcValues, jdbcValuesSourceProcessingState, rowProcessingState, rowReader,
+							results, batchSize )
+					: read( rowProcessingState, rowReader, results );
+		}
+	}
+
+	/**
+	 * The number of rows per batch if the rows may be hydrated in parallel,
+	 * or {@code 0} if they must be hydrated by the calling thread.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_BATCH_SIZE
+	 */
+	private static int parallelHydrationBatchSize(
+			JdbcValues jdbcValues,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<?> rowReader) {
+		final SharedSessionContractImplementor session = rowProcessingState.getSession();
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final int batchSize = options.getParallelHydrationBatchSize();
+		final QueryOptions queryOptions = rowProcessingState.getQueryOptions();
+		// without initializers, hydrating a row does not touch
+		// the persistence context, nor any state shared between rows
+		return batchSize > 0
+			&& options.getParallelHydrationExecutor() != null
+			&& jdbcValues instanceof JdbcValuesResultSetImpl
+			&& rowReader.getInitializerCount() == 0
+			&& queryOptions.isResultCachingEnabled() != Boolean.TRUE
+			&& ( queryOptions.isReadOnly() == null ? session.isDefaultReadOnly() : queryOptions.isReadOnly() )
+				? batchSize
+				: 0;
+	}
+
+	private static <R> int readParallel(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			Results<R> results,
+			int batchSize) {
+		final Executor executor =
+				rowProcessingState.getSession().getFactory().getSessionFactoryOptions()
+						.getParallelHydrationExecutor();
+		final JdbcValuesMapping valuesMapping = jdbcValues.getValuesMapping();
+		final List<SqlSelection> sqlSelections = valuesMapping.getSqlSelections();
+		final int rowSize = valuesMapping.getRowSize();
+		final List<CompletableFuture<List<R>>> hydrations = new ArrayList<>();
+		List<Object[]> rows = new ArrayList<>( batchSize );
+		int readRows = 0;
+		while ( rowProcessingState.next() ) {
+			// the values are extracted, and JSON or XML values parsed, by this thread,
+			// since the ResultSet must not be accessed concurrently
+			final Object[] row = new Object[rowSize];
+			for ( int i = 0; i < sqlSelections.size(); i++ ) {
+				final int position = sqlSelections.get( i ).getValuesArrayPosition();
+				row[position] = rowProcessingState.getJdbcValue( position );
+			}
+			rows.add( row );
+			rowProcessingState.finishRowProcessing( true );
+			readRows++;
+			if ( rows.size() == batchSize ) {
+				hydrations.add( hydrateAsync( rows, valuesMapping, jdbcValuesSourceProcessingState, rowReader,
+						executor ) );
+				rows = new ArrayList<>( batchSize );
+			}
+		}
+		// the calling thread hydrates the last batch while the other batches are processed
+		final List<R> lastBatch = hydrate( rows, valuesMapping, jdbcValuesSourceProcessingState, rowReader );
+		for ( CompletableFuture<List<R>> hydration : hydrations ) {
+			for ( R result : join( hydration ) ) {
+				results.add( result );
+			}
+		}
+		for ( R result : lastBatch ) {
+			results.add( result );
+		}
+		return readRows;
+	}
+
+	private static <R> List<R> join(CompletableFuture<List<R>> hydration) {
+		try {
+			return hydration.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException cause ) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static <R> CompletableFuture<List<R>> hydrateAsync(
+			List<Object[]> rows,
+			JdbcValuesMapping valuesMapping,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowReader<R> rowReader,
+			Executor executor) {
+		try {
+			return CompletableFuture.supplyAsync(
+					() -> hydrate( rows, valuesMapping, jdbcValuesSourceProcessingState, rowReader ),
+					executor
+			);
+		}
+		catch (RejectedExecutionException e) {
+			// the executor is saturated, so the calling thread does the work
+			return CompletableFuture.completedFuture(
+					hydrate( rows, valuesMapping, jdbcValuesSourceProcessingState, rowReader )
+			);
+		}
+	}
+
+	private static <R> List<R> hydrate(
+			List<Object[]> rows,
+			JdbcValuesMapping valuesMapping,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowReader<R> rowReader) {
+		final RowProcessingStateStandardImpl rowProcessingState = new RowProcessingStateStandardImpl(
+				jdbcValuesSourceProcessingState,
+				jdbcValuesSourceProcessingState.getExecutionContext(),
+				rowReader,
+				new JdbcValuesBufferedRows( rows, valuesMapping )
+		);
+		final List<R> results = new ArrayList<>( rows.size() );
+		while ( rowProcessingState.next() ) {
+			results.add( rowReader.readRow( rowProcessingState ) );
 		}
+		return results;
 	}
 
 	private static <R> int read(
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+/**
+ * The phases of the execution of a query for which timings are
+ * collected when {@value org.hibernate.cfg.StatisticsSettings#QUERY_PHASE_STATISTICS}
+ * is enabled.
+ *
+ * @see QueryStatistics#getPhaseExecutionCount(QueryPhase)
+ *
+ * @since 7.0.1
+ */
+public enum QueryPhase {
+	/**
+	 * Parsing and semantic analysis of the HQL query string,
+	 * producing the SQM tree.
+	 */
+	PARSE,
+	/**
+	 * Conversion of the SQM tree to a SQL AST.
+	 */
+	INTERPRETATION,
+	/**
+	 * Rendering of the SQL AST to a SQL string.
+	 */
+	RENDERING,
+	/**
+	 * Execution of the JDBC statement, until the
+	 * {@link java.sql.ResultSet} is available.
+	 */
+	EXECUTION,
+	/**
+	 * Reading the {@link java.sql.ResultSet} and building the
+	 * results of the query.
+	 */
+	HYDRATION
+}
@@ -103,4 +103,53 @@ default long getPlanCompilationTotalMicroseconds() {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of times the given phase was timed for this query.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#QUERY_PHASE_STATISTICS
+	 *
+	 * @since 7.0.1
+	 */
+	default long getPhaseExecutionCount(QueryPhase phase) {
+		return 0;
+	}
+
+	/**
+	 * The overall time in nanoseconds spent in the given phase
+	 * for this query.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#QUERY_PHASE_STATISTICS
+	 *
+	 * @since 7.0.1
+	 */
+	default long getPhaseTotalNanoseconds(QueryPhase phase) {
+		return 0;
+	}
+
+	/**
+	 * The longest time in nanoseconds spent in the given phase
+	 * for this query.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#QUERY_PHASE_STATISTICS
+	 *
+	 * @since 7.0.1
+	 */
+	default long getPhaseMaxNanoseconds(QueryPhase phase) {
+		return 0;
+	}
+
+	/**
+	 * A histogram of the time spent in the given phase for this query.
+	 * The element at index {@code i} counts the timings shorter than
+	 * 2<sup>i</sup> microseconds which are not counted by the previous
+	 * element, and the last element counts all longer timings.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#QUERY_PHASE_STATISTICS
+	 *
+	 * @since 7.0.1
+	 */
+	default long[] getPhaseHistogram(QueryPhase phase) {
+		return new long[0];
+	}
 }
@@ -391,6 +391,50 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of JDBC batches that were executed.
+	 *
+	 * @since 7.0.1
+	 */
+	default long getJdbcBatchCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of rows added to JDBC batches that were executed.
+	 * Dividing this number by {@link #getJdbcBatchCount()} gives the
+	 * average size of the batches.
+	 *
+	 * @since 7.0.1
+	 */
+	default long getJdbcBatchedRowCount() {
+		return 0;
+	}
+
+	/**
+	 * The largest number of rows a JDBC batch that was executed was
+	 * allowed to hold. When {@linkplain org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE
+	 * adaptive batch sizing} is enabled, this is the largest batch size
+	 * which was chosen.
+	 *
+	 * @since 7.0.1
+	 */
+	default long getJdbcBatchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The number of times "N+1 selects" were detected for an entity
+	 * or collection role, and the role was switched to batch fetching.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 7.0.1
+	 */
+	default long getNPlusOneDetectionCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings of a {@linkplain org.hibernate.stat.QueryPhase phase} of the
+ * executions of a query, aggregated into a histogram with buckets of
+ * exponentially growing width.
+ *
+ * @see QueryStatisticsImpl
+ */
+class QueryPhaseTimings implements Serializable {
+	/**
+	 * The last bucket counts everything taking at least 2^24 microseconds,
+	 * that is, about 17 seconds.
+	 */
+	static final int BUCKET_COUNT = 26;
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanoseconds = new LongAdder();
+	private final AtomicLong maxNanoseconds = new AtomicLong();
+	private final AtomicLongArray histogram = new AtomicLongArray( BUCKET_COUNT );
+
+	void record(long nanoseconds) {
+		count.increment();
+		totalNanoseconds.add( nanoseconds );
+		for ( long old = maxNanoseconds.get();
+				nanoseconds > old && !maxNanoseconds.compareAndSet( old, nanoseconds );
+				old = maxNanoseconds.get() ) {}
+		histogram.incrementAndGet( bucket( nanoseconds ) );
+	}
+
+	static int bucket(long nanoseconds) {
+		final long microseconds = nanoseconds / 1_000;
+		// the number of bits needed to represent the value,
+		// so that bucket i holds values below 2^i
+		final int bucket = 64 - Long.numberOfLeadingZeros( microseconds );
+		return Math.min( bucket, BUCKET_COUNT - 1 );
+	}
+
+	long getCount() {
+		return count.sum();
+	}
+
+	long getTotalNanoseconds() {
+		return totalNanoseconds.sum();
+	}
+
+	long getMaxNanoseconds() {
+		return maxNanoseconds.get();
+	}
+
+	long[] getHistogram() {
+		final long[] result = new long[BUCKET_COUNT];
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			result[i] = histogram.get( i );
+		}
+		return result;
+	}
+}
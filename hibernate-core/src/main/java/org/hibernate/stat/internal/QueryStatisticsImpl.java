@@ -5,12 +5,14 @@
 package org.hibernate.stat.internal;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.QueryPhase;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -36,6 +38,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	// created on first use, since phase statistics are usually disabled
+	private final AtomicReferenceArray<QueryPhaseTimings> phaseTimings =
+			new AtomicReferenceArray<>( QueryPhase.values().length );
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -152,6 +158,30 @@ public long getPlanCompilationTotalMicroseconds() {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	@Override
+	public long getPhaseExecutionCount(QueryPhase phase) {
+		final QueryPhaseTimings timings = phaseTimings.get( phase.ordinal() );
+		return timings == null ? 0 : timings.getCount();
+	}
+
+	@Override
+	public long getPhaseTotalNanoseconds(QueryPhase phase) {
+		final QueryPhaseTimings timings = phaseTimings.get( phase.ordinal() );
+		return timings == null ? 0 : timings.getTotalNanoseconds();
+	}
+
+	@Override
+	public long getPhaseMaxNanoseconds(QueryPhase phase) {
+		final QueryPhaseTimings timings = phaseTimings.get( phase.ordinal() );
+		return timings == null ? 0 : timings.getMaxNanoseconds();
+	}
+
+	@Override
+	public long[] getPhaseHistogram(QueryPhase phase) {
+		final QueryPhaseTimings timings = phaseTimings.get( phase.ordinal() );
+		return timings == null ? new long[QueryPhaseTimings.BUCKET_COUNT] : timings.getHistogram();
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -185,6 +215,22 @@ void compiled(long microseconds) {
 		planCompilationTotalMicroseconds.addAndGet( microseconds );
 	}
 
+	/**
+	 * add the time taken by a phase of an execution of the query
+	 *
+	 * @param phase the phase
+	 * @param nanoseconds time taken
+	 */
+	void phaseExecuted(QueryPhase phase, long nanoseconds) {
+		final int index = phase.ordinal();
+		QueryPhaseTimings timings = phaseTimings.get( index );
+		if ( timings == null ) {
+			phaseTimings.compareAndSet( index, null, new QueryPhaseTimings() );
+			timings = phaseTimings.get( index );
+		}
+		timings.record( nanoseconds );
+	}
+
 	void incrementCacheHitCount() {
 		cacheHitCount.increment();
 	}
@@ -26,6 +26,7 @@
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.QueryPhase;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -52,6 +53,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final boolean queryPhaseStatisticsEnabled;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile Instant startTime;
@@ -63,6 +65,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder jdbcBatchCount = new LongAdder();
+	private final LongAdder jdbcBatchedRowCount = new LongAdder();
+	private final AtomicLong jdbcBatchMaxSize = new AtomicLong();
+	private final LongAdder nPlusOneDetectionCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -138,6 +144,7 @@ public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		queryPhaseStatisticsEnabled = sessionFactoryOptions.isQueryPhaseStatisticsEnabled();
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -171,6 +178,10 @@ public void clear() {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		jdbcBatchCount.reset();
+		jdbcBatchedRowCount.reset();
+		jdbcBatchMaxSize.set( 0L );
+		nPlusOneDetectionCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -794,6 +805,18 @@ public void queryCompiled(String hql, long microseconds) {
 		}
 	}
 
+	@Override
+	public boolean isQueryPhaseStatisticsEnabled() {
+		return isStatisticsEnabled && queryPhaseStatisticsEnabled;
+	}
+
+	@Override
+	public void queryPhaseExecuted(String query, QueryPhase phase, long nanoseconds) {
+		if ( query != null && isQueryPhaseStatisticsEnabled() ) {
+			getQueryStatistics( query ).phaseExecuted( phase, nanoseconds );
+		}
+	}
+
 	@Override
 	public void queryPlanCacheHit(String query) {
 		queryPlanCacheHitCount.increment();
@@ -864,6 +887,26 @@ public long getPrepareStatementCount() {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getJdbcBatchCount() {
+		return jdbcBatchCount.sum();
+	}
+
+	@Override
+	public long getJdbcBatchedRowCount() {
+		return jdbcBatchedRowCount.sum();
+	}
+
+	@Override
+	public long getJdbcBatchMaxSize() {
+		return jdbcBatchMaxSize.get();
+	}
+
+	@Override
+	public long getNPlusOneDetectionCount() {
+		return nPlusOneDetectionCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -894,6 +937,23 @@ public void closeStatement() {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void jdbcBatchExecuted(int batchSize) {
+		jdbcBatchCount.increment();
+		jdbcBatchedRowCount.add( batchSize );
+	}
+
+	@Override
+	public void jdbcBatchExecuted(int rowCount, int batchSize) {
+		jdbcBatchExecuted( rowCount );
+		jdbcBatchMaxSize.accumulateAndGet( batchSize, Math::max );
+	}
+
+	@Override
+	public void nPlusOneDetected(String role) {
+		nPlusOneDetectionCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -960,6 +1020,8 @@ public String toString() {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",jdbc batches executed=" + jdbcBatchCount +
+				",jdbc batched rows=" + jdbcBatchedRowCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -6,6 +6,7 @@
 
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.QueryPhase;
 import org.hibernate.stat.Statistics;
 
 import java.util.Map;
@@ -50,6 +51,41 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a JDBC batch being executed.
+	 *
+	 * @param batchSize The number of rows in the batch
+	 *
+	 * @since 7.0.1
+	 */
+	default void jdbcBatchExecuted(int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a JDBC batch being executed.
+	 *
+	 * @param rowCount The number of rows in the batch
+	 * @param batchSize The number of rows after which the batch is executed
+	 *
+	 * @since 7.0.1
+	 */
+	default void jdbcBatchExecuted(int rowCount, int batchSize) {
+		jdbcBatchExecuted( rowCount );
+	}
+
+	/**
+	 * Callback about "N+1 selects" being detected for an entity or
+	 * collection role.
+	 *
+	 * @param role The entity name or collection role
+	 *
+	 * @since 7.0.1
+	 */
+	default void nPlusOneDetected(String role) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -293,6 +329,31 @@ default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Are timings of the {@linkplain QueryPhase phases} of query executions
+	 * being collected?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#QUERY_PHASE_STATISTICS
+	 *
+	 * @since 7.0.1
+	 */
+	default boolean isQueryPhaseStatisticsEnabled() {
+		return false;
+	}
+
+	/**
+	 * Callback indicating that a phase of the execution of a query completed
+	 *
+	 * @param query The query
+	 * @param phase The phase of the query execution
+	 * @param nanoseconds time taken by the phase
+	 *
+	 * @since 7.0.1
+	 */
+	default void queryPhaseExecuted(String query, QueryPhase phase, long nanoseconds) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Register the execution of a slow SQL query.
 	 */
@@ -123,7 +123,7 @@ private void scheduleBatchLoadIfNeeded(Object id, SharedSessionContractImplement
 		//cannot batch fetch by unique key (property-ref associations)
 		if ( uniqueKeyPropertyName == null && id != null ) {
 			final EntityPersister persister = getAssociatedEntityPersister( session.getFactory() );
-			if ( session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+			if ( session.getLoadQueryInfluencers().isBatchFetchQueued( persister ) ) {
 				final EntityKey entityKey = session.generateEntityKey( id, persister );
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 				if ( !persistenceContext.containsEntity( entityKey ) ) {
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.type.descriptor.java;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.engine.jdbc.internal.ByteBufferBinaryStream;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.jdbc.AdjustableJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+/**
+ * Descriptor for {@link ByteBuffer} handling.
+ * <p>
+ * The value of a {@code ByteBuffer} is its content from its position to its limit.
+ * Buffers are never copied to take a snapshot of the state of an entity, and so they
+ * are treated as immutable: an application which changes the value of an attribute
+ * must assign a new buffer to it, rather than writing into the existing one.
+ * <p>
+ * Heap buffers wrapping a whole array are bound using the array itself. Any other
+ * buffer, including {@linkplain ByteBuffer#allocateDirect direct buffers} and
+ * {@linkplain java.nio.MappedByteBuffer memory-mapped files}, is streamed to the
+ * JDBC driver directly from the buffer, with its known length, using a
+ * {@link ByteBufferBinaryStream}.
+ *
+ * @since 7.0.1
+ */
+public class ByteBufferJavaType extends AbstractClassJavaType<ByteBuffer> {
+	public static final ByteBufferJavaType INSTANCE = new ByteBufferJavaType();
+
+	public ByteBufferJavaType() {
+		super( ByteBuffer.class, ByteBufferMutabilityPlan.INSTANCE );
+	}
+
+	/**
+	 * Is the content of the given buffer exactly its backing array, so that
+	 * the array may be used in place of the buffer without copying it?
+	 */
+	public static boolean isBackedByWholeArray(ByteBuffer buffer) {
+		return buffer.hasArray()
+			&& buffer.arrayOffset() == 0
+			&& buffer.position() == 0
+			&& buffer.limit() == buffer.array().length;
+	}
+
+	@Override
+	public boolean isInstance(Object value) {
+		return value instanceof ByteBuffer;
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+		final JdbcType descriptor = indicators.getJdbcType( indicators.resolveJdbcTypeCode( SqlTypes.VARBINARY ) );
+		return descriptor instanceof AdjustableJdbcType adjustableJdbcType
+				? adjustableJdbcType.resolveIndicatedType( indicators, this )
+				: descriptor;
+	}
+
+	@Override
+	public String toString(ByteBuffer value) {
+		return PrimitiveByteArrayJavaType.INSTANCE.toString( toBytes( value ) );
+	}
+
+	@Override
+	public ByteBuffer fromString(CharSequence string) {
+		return string == null ? null : ByteBuffer.wrap( PrimitiveByteArrayJavaType.INSTANCE.fromString( string ) );
+	}
+
+	@Override
+	public String extractLoggableRepresentation(ByteBuffer value) {
+		return value == null
+				? super.extractLoggableRepresentation( null )
+				: "ByteBuffer[" + value.remaining() + " bytes]";
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <X> X unwrap(ByteBuffer value, Class<X> type, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( ByteBuffer.class.isAssignableFrom( type ) ) {
+			return (X) value;
+		}
+		if ( byte[].class.isAssignableFrom( type ) ) {
+			return (X) toBytes( value );
+		}
+		if ( BinaryStream.class.isAssignableFrom( type )
+				|| InputStream.class.isAssignableFrom( type ) ) {
+			return (X) new ByteBufferBinaryStream( value );
+		}
+		if ( Blob.class.isAssignableFrom( type ) ) {
+			return (X) options.getLobCreator().createBlob( new ByteBufferBinaryStream( value ), value.remaining() );
+		}
+
+		throw unknownUnwrap( type );
+	}
+
+	@Override
+	public <X> ByteBuffer wrap(X value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( value instanceof ByteBuffer buffer ) {
+			return buffer;
+		}
+		if ( value instanceof byte[] bytes ) {
+			return ByteBuffer.wrap( bytes );
+		}
+		if ( value instanceof BinaryStream binaryStream ) {
+			return ByteBuffer.wrap( binaryStream.getBytes() );
+		}
+		if ( value instanceof InputStream inputStream ) {
+			return ByteBuffer.wrap( DataHelper.extractBytes( inputStream ) );
+		}
+		if ( value instanceof Blob blob ) {
+			try {
+				// read the content into an array of exactly the right size
+				final long length = blob.length();
+				if ( length > Integer.MAX_VALUE ) {
+					throw new HibernateException( "Blob is too large to be read into a ByteBuffer: " + length );
+				}
+				return ByteBuffer.wrap( blob.getBytes( 1, (int) length ) );
+			}
+			catch ( SQLException e ) {
+				throw new HibernateException( "Unable to access lob stream", e );
+			}
+		}
+
+		throw unknownWrap( value.getClass() );
+	}
+
+	private static byte[] toBytes(ByteBuffer value) {
+		if ( isBackedByWholeArray( value ) ) {
+			return value.array();
+		}
+		else {
+			final byte[] bytes = new byte[value.remaining()];
+			value.duplicate().get( bytes );
+			return bytes;
+		}
+	}
+
+	private static class ByteBufferMutabilityPlan implements MutabilityPlan<ByteBuffer> {
+		private static final ByteBufferMutabilityPlan INSTANCE = new ByteBufferMutabilityPlan();
+
+		@Override
+		public boolean isMutable() {
+			return false;
+		}
+
+		@Override
+		public ByteBuffer deepCopy(ByteBuffer value) {
+			return value;
+		}
+
+		@Override
+		public Serializable disassemble(ByteBuffer value, SharedSessionContract session) {
+			// buffers are not serializable
+			return value == null ? null : toBytes( value );
+		}
+
+		@Override
+		public ByteBuffer assemble(Serializable cached, SharedSessionContract session) {
+			return cached == null ? null : ByteBuffer.wrap( (byte[]) cached );
+		}
+	}
+}
@@ -22,6 +22,7 @@
 import org.hibernate.type.descriptor.java.BigDecimalJavaType;
 import org.hibernate.type.descriptor.java.BigIntegerJavaType;
 import org.hibernate.type.descriptor.java.BlobJavaType;
+import org.hibernate.type.descriptor.java.ByteBufferJavaType;
 import org.hibernate.type.descriptor.java.BooleanJavaType;
 import org.hibernate.type.descriptor.java.BooleanPrimitiveArrayJavaType;
 import org.hibernate.type.descriptor.java.ByteJavaType;
@@ -113,6 +114,7 @@ public static void prime(BaselineTarget target) {
 //		target.addBaselineDescriptor( ByteArrayJavaType.INSTANCE );
 //		target.addBaselineDescriptor( CharacterArrayJavaType.INSTANCE );
 		target.addBaselineDescriptor( PrimitiveByteArrayJavaType.INSTANCE );
+		target.addBaselineDescriptor( ByteBufferJavaType.INSTANCE );
 		target.addBaselineDescriptor( PrimitiveCharacterArrayJavaType.INSTANCE );
 
 		// Register special ArrayJavaType implementations for primitive types
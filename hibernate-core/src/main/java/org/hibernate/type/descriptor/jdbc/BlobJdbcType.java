@@ -4,6 +4,7 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.nio.ByteBuffer;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
@@ -17,6 +18,8 @@
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import static org.hibernate.type.descriptor.java.ByteBufferJavaType.isBackedByWholeArray;
+
 /**
  * Descriptor for {@link Types#BLOB BLOB} handling.
  *
@@ -96,6 +99,10 @@ private BlobJdbcType getDescriptor(Object value, WrapperOptions options) {
 				// performance shortcut for binding BLOB data in byte[] format
 				return PRIMITIVE_ARRAY_BINDING;
 			}
+			else if ( value instanceof ByteBuffer buffer ) {
+				// bind the backing array, or stream the buffer, without copying it
+				return isBackedByWholeArray( buffer ) ? PRIMITIVE_ARRAY_BINDING : STREAM_BINDING;
+			}
 			else if ( options.useStreamForLobBinding() ) {
 				return STREAM_BINDING;
 			}
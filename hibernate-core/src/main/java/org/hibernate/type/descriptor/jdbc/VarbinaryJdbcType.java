@@ -4,6 +4,7 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.nio.ByteBuffer;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -11,6 +12,7 @@
 import java.sql.Types;
 
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.BinaryStream;
 import org.hibernate.type.SqlTypes;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
@@ -20,6 +22,8 @@
 import org.hibernate.type.descriptor.jdbc.spi.JdbcTypeRegistry;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import static org.hibernate.type.descriptor.java.ByteBufferJavaType.isBackedByWholeArray;
+
 /**
  * Descriptor for {@link Types#VARBINARY VARBINARY} handling.
  *
@@ -95,13 +99,27 @@ public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
 
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
-				st.setBytes( index, javaType.unwrap( value, byte[].class, options ) );
+				if ( value instanceof ByteBuffer buffer && !isBackedByWholeArray( buffer ) ) {
+					// stream the content of the buffer instead of copying it to an array
+					final BinaryStream binaryStream = javaType.unwrap( value, BinaryStream.class, options );
+					st.setBinaryStream( index, binaryStream.getInputStream(), binaryStream.getLength() );
+				}
+				else {
+					st.setBytes( index, javaType.unwrap( value, byte[].class, options ) );
+				}
 			}
 
 			@Override
 			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 					throws SQLException {
-				st.setBytes( name, javaType.unwrap( value, byte[].class, options ) );
+				if ( value instanceof ByteBuffer buffer && !isBackedByWholeArray( buffer ) ) {
+					// stream the content of the buffer instead of copying it to an array
+					final BinaryStream binaryStream = javaType.unwrap( value, BinaryStream.class, options );
+					st.setBinaryStream( name, binaryStream.getInputStream(), binaryStream.getLength() );
+				}
+				else {
+					st.setBytes( name, javaType.unwrap( value, byte[].class, options ) );
+				}
 			}
 		};
 	}
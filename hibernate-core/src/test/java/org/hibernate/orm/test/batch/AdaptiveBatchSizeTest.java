@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the size of JDBC batches adapts to the size of the rows.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_SIZE, value = "true"),
+				@Setting(name = AvailableSettings.MIN_BATCH_SIZE, value = "2"),
+				@Setting(name = AvailableSettings.MAX_BATCH_SIZE, value = "50"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		}
+)
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchSizeTest.NarrowEntity.class,
+		AdaptiveBatchSizeTest.WideEntity.class
+})
+@SessionFactory
+public class AdaptiveBatchSizeTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testBuilder(SessionFactoryScope scope) {
+		final BatchBuilder batchBuilder =
+				scope.getSessionFactory().getServiceRegistry().requireService( BatchBuilder.class );
+		assertThat( batchBuilder ).isInstanceOf( AdaptiveBatchBuilder.class );
+		assertThat( ( (AdaptiveBatchBuilder) batchBuilder ).getJdbcBatchSize() ).isEqualTo( 10 );
+		assertThat( ( (AdaptiveBatchBuilder) batchBuilder ).getMinBatchSize() ).isEqualTo( 2 );
+		assertThat( ( (AdaptiveBatchBuilder) batchBuilder ).getMaxBatchSize() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void testNarrowRowsGrowBatches(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 100; i++ ) {
+				session.persist( new NarrowEntity( i, "name " + i ) );
+			}
+		} );
+
+		// batches of 10, 20, 40, and then the last 30 rows
+		assertThat( statistics.getJdbcBatchedRowCount() ).isEqualTo( 100 );
+		assertThat( statistics.getJdbcBatchCount() ).isEqualTo( 4 );
+		assertThat( statistics.getJdbcBatchMaxSize() ).isEqualTo( 50 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from NarrowEntity", Long.class ).getSingleResult()
+		).isEqualTo( 100L ) );
+	}
+
+	@Test
+	public void testWideRowsShrinkBatches(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new WideEntity( i, new byte[512 * 1024] ) );
+			}
+		} );
+
+		// a batch of 10, and then batches of 2
+		assertThat( statistics.getJdbcBatchedRowCount() ).isEqualTo( 20 );
+		assertThat( statistics.getJdbcBatchCount() ).isEqualTo( 6 );
+		assertThat( statistics.getJdbcBatchMaxSize() ).isEqualTo( 10 );
+	}
+
+	@Entity(name = "NarrowEntity")
+	public static class NarrowEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public NarrowEntity() {
+		}
+
+		public NarrowEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "WideEntity")
+	public static class WideEntity {
+		@Id
+		private Integer id;
+
+		@Lob
+		private byte[] content;
+
+		public WideEntity() {
+		}
+
+		public WideEntity(Integer id, byte[] content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that dynamic updates of the same columns are grouped and batched together.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.ORDER_UPDATES, value = "true"),
+				@Setting(name = AvailableSettings.ORDER_UPDATES_BY_SHAPE, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		}
+)
+@DomainModel(annotatedClasses = DynamicUpdateBatchingTest.Item.class)
+@SessionFactory
+public class DynamicUpdateBatchingTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testUpdatesOfSameColumnsAreBatched(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			statistics.clear();
+			for ( Item item : items ) {
+				// alternate between two different sets of dirty columns
+				if ( item.id % 2 == 0 ) {
+					item.name = "name " + item.id;
+				}
+				else {
+					item.description = "description " + item.id;
+				}
+			}
+			session.flush();
+
+			assertThat( statistics.getJdbcBatchCount() ).isEqualTo( 2 );
+			assertThat( statistics.getJdbcBatchedRowCount() ).isEqualTo( 6 );
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			for ( Item item : items ) {
+				if ( item.id % 2 == 0 ) {
+					assertThat( item.name ).isEqualTo( "name " + item.id );
+					assertThat( item.description ).isNull();
+				}
+				else {
+					assertThat( item.name ).isNull();
+					assertThat( item.description ).isEqualTo( "description " + item.id );
+				}
+			}
+		} );
+	}
+
+	@DynamicUpdate
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private String description;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+}
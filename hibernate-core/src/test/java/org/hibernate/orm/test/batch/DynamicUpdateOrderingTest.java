@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that ordered dynamic updates stay in primary key order unless
+ * {@value AvailableSettings#ORDER_UPDATES_BY_SHAPE} is enabled.
+ */
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.ORDER_UPDATES, value = "true"))
+@DomainModel(annotatedClasses = DynamicUpdateOrderingTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class DynamicUpdateOrderingTest {
+	private static final int ITEM_COUNT = 6;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ITEM_COUNT; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testUpdatesOrderedByPrimaryKey(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			// modify the items in reverse order, alternating the dirty columns
+			for ( int i = ITEM_COUNT; i >= 1; i-- ) {
+				final Item item = session.find( Item.class, i );
+				if ( i % 2 == 0 ) {
+					item.name = "name " + i;
+				}
+				else {
+					item.description = "description " + i;
+				}
+			}
+			inspector.clear();
+			session.flush();
+
+			// the updates are executed by ascending id, so that row locks
+			// are acquired in the same order by concurrent transactions
+			assertThat( inspector.getSqlQueries() ).hasSize( ITEM_COUNT );
+			for ( int i = 1; i <= ITEM_COUNT; i++ ) {
+				assertThat( inspector.getSqlQueries().get( i - 1 ) )
+						.contains( i % 2 == 0 ? "name" : "description" );
+			}
+		} );
+	}
+
+	@DynamicUpdate
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private String description;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that batched updates are executed as a single set-based statement.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.SET_BASED_UPDATES, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		}
+)
+@DomainModel(annotatedClasses = SetBasedUpdateTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+public class SetBasedUpdateTest {
+	private static final int ITEM_COUNT = 6;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ITEM_COUNT; i++ ) {
+				// some rows have no region
+				session.persist( new Item( i, i % 3 == 0 ? null : "region " + i, "name " + i, "description " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testUpdatesAreSetBased(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			statistics.clear();
+			inspector.clear();
+			for ( Item item : items ) {
+				item.name = "new name " + item.id;
+				// some rows set a column to null, and others keep its value
+				if ( item.id % 2 == 0 ) {
+					item.description = null;
+				}
+			}
+			session.flush();
+
+			assertThat( statistics.getJdbcBatchCount() ).isEqualTo( 1 );
+			assertThat( statistics.getJdbcBatchedRowCount() ).isEqualTo( ITEM_COUNT );
+			inspector.assertExecutedCount( 1 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).contains( "unnest(" );
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).hasSize( ITEM_COUNT );
+			for ( Item item : items ) {
+				assertThat( item.name ).isEqualTo( "new name " + item.id );
+				assertThat( item.description ).isEqualTo( item.id % 2 == 0 ? null : "description " + item.id );
+				assertThat( item.version ).isEqualTo( 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testNullColumnUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Item item : session.createSelectionQuery( "from Item order by id", Item.class ).list() ) {
+				item.name = null;
+				item.description = null;
+			}
+		} );
+		scope.inTransaction( session -> {
+			for ( Item item : session.createSelectionQuery( "from Item order by id", Item.class ).list() ) {
+				item.name = "name " + item.id;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Item item : session.createSelectionQuery( "from Item order by id", Item.class ).list() ) {
+				assertThat( item.name ).isEqualTo( "name " + item.id );
+				assertThat( item.description ).isNull();
+				assertThat( item.version ).isEqualTo( 2 );
+			}
+		} );
+	}
+
+	@Test
+	public void testSameRowUpdatedTwiceInBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			session.setJdbcBatchSize( 10 );
+			final Item item = session.get( Item.class, 1 );
+			final Item other = session.get( Item.class, 2 );
+			inspector.clear();
+			item.name = "first";
+			session.update( item );
+			other.name = "other";
+			session.update( other );
+			// the second update of the row expects the version set by the first
+			item.name = "second";
+			session.update( item );
+		} );
+		// the pending rows are executed before the same row is added again
+		inspector.assertExecutedCount( 2 );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			assertThat( item.name ).isEqualTo( "second" );
+			assertThat( item.version ).isEqualTo( 2 );
+			assertThat( session.find( Item.class, 2 ).name ).isEqualTo( "other" );
+		} );
+	}
+
+	@Test
+	public void testNullRestrictedColumnMatched(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Item item : session.createSelectionQuery( "from Item order by id", Item.class ).list() ) {
+				item.name = "new name " + item.id;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Item item : session.createSelectionQuery( "from Item order by id", Item.class ).list() ) {
+				// the partition key of some rows is null, and still matched
+				assertThat( item.region ).isEqualTo( item.id % 3 == 0 ? null : "region " + item.id );
+				assertThat( item.name ).isEqualTo( "new name " + item.id );
+				assertThat( item.version ).isEqualTo( 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testVersionIsChecked(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+				scope.inTransaction( other -> other.find( Item.class, 3 ).name = "concurrent update" );
+				for ( Item item : items ) {
+					item.name = "name " + item.id;
+				}
+				assertThrows( OptimisticLockException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		@Version
+		private Integer version;
+
+		@PartitionKey
+		private String region;
+
+		private String name;
+
+		private String description;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String region, String name, String description) {
+			this.id = id;
+			this.region = region;
+			this.name = name;
+			this.description = description;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that N+1 selects are detected, and replaced by batch fetching.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		}
+)
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Parent.class,
+		AdaptiveBatchFetchTest.Child.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class AdaptiveBatchFetchTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Parent parent = new Parent( i, "parent " + i );
+				session.persist( parent );
+				final Child child = new Child( i, parent );
+				parent.children.add( child );
+				session.persist( child );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testCollections(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Parent> parents =
+					session.createSelectionQuery( "from Parent order by id", Parent.class ).list();
+			for ( Parent parent : parents ) {
+				assertThat( parent.children ).hasSize( 1 );
+			}
+		} );
+
+		// the query, two single fetches, and then a batch of the remaining eight
+		inspector.assertExecutedCount( 4 );
+		assertThat( statistics.getNPlusOneDetectionCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Parent> parents =
+					session.createSelectionQuery( "from Parent order by id", Parent.class ).list();
+			for ( Parent parent : parents ) {
+				assertThat( parent.children ).hasSize( 1 );
+			}
+		} );
+
+		// the batch size has been learned
+		inspector.assertExecutedCount( 2 );
+		assertThat( statistics.getNPlusOneDetectionCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testProxies(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Child> children =
+					session.createSelectionQuery( "from Child order by id", Child.class ).list();
+			for ( Child child : children ) {
+				assertThat( Hibernate.isInitialized( child.parent ) ).isFalse();
+			}
+			for ( Child child : children ) {
+				assertThat( child.parent.getName() ).isEqualTo( "parent " + child.id );
+			}
+		} );
+
+		// the query, two single fetches, and then a batch of the remaining eight
+		inspector.assertExecutedCount( 4 );
+		assertThat( statistics.getNPlusOneDetectionCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link Hibernate#initializeAll}.
+ */
+@DomainModel(annotatedClasses = {
+		InitializeAllTest.Order.class,
+		InitializeAllTest.LineItem.class,
+		InitializeAllTest.Product.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class InitializeAllTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Product( i, "product " + i ) );
+			}
+			for ( int i = 1; i <= 10; i++ ) {
+				final Order order = new Order( i );
+				session.persist( order );
+				for ( int j = 1; j <= 3; j++ ) {
+					final LineItem lineItem =
+							new LineItem( i * 10 + j, order, session.getReference( Product.class, ( i + j ) % 5 + 1 ) );
+					order.lineItems.add( lineItem );
+					session.persist( lineItem );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testInitializePaths(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final List<Order> orders = scope.fromTransaction( session -> {
+			final List<Order> result =
+					session.createSelectionQuery( "from PurchaseOrder order by id", Order.class ).list();
+			inspector.clear();
+			Hibernate.initializeAll( session, result, "lineItems.product" );
+			// one select for the line items, and one for the products
+			inspector.assertExecutedCount( 2 );
+			return result;
+		} );
+
+		inspector.clear();
+		for ( Order order : orders ) {
+			assertThat( Hibernate.isInitialized( order.lineItems ) ).isTrue();
+			assertThat( order.lineItems ).hasSize( 3 );
+			for ( LineItem lineItem : order.lineItems ) {
+				assertThat( Hibernate.isInitialized( lineItem.product ) ).isTrue();
+				assertThat( lineItem.product.name ).startsWith( "product " );
+			}
+		}
+		inspector.assertExecutedCount( 0 );
+	}
+
+	@Test
+	public void testInitializeProxies(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Product> products = new ArrayList<>();
+			for ( int i = 1; i <= 5; i++ ) {
+				products.add( session.getReference( Product.class, i ) );
+			}
+			inspector.clear();
+			Hibernate.initializeAll( session, products );
+			inspector.assertExecutedCount( 1 );
+			for ( Product product : products ) {
+				assertThat( Hibernate.isInitialized( product ) ).isTrue();
+			}
+		} );
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "order")
+		private List<LineItem> lineItems = new ArrayList<>();
+
+		public Order() {
+		}
+
+		public Order(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "LineItem")
+	public static class LineItem {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Order order;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Product product;
+
+		public LineItem() {
+		}
+
+		public LineItem(Integer id, Order order, Product product) {
+			this.id = id;
+			this.order = order;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
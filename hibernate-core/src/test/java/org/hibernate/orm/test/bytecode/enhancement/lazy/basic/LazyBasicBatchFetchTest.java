@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.lazy.basic;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that lazy basic attributes are loaded for a batch of entities at once.
+ */
+@DomainModel(annotatedClasses = LazyBasicBatchFetchTest.Document.class)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "16")
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@BytecodeEnhanced
+public class LazyBasicBatchFetchTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Document document = new Document( i, "title " + i, "content " + i );
+				document.setSummary( "summary " + i );
+				document.setKeywords( "keywords " + i );
+				session.persist( document );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testBatchLoading(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Document> documents =
+					session.createSelectionQuery( "from Document order by id", Document.class ).list();
+			assertThat( documents ).hasSize( 10 );
+			for ( Document document : documents ) {
+				assertThat( Hibernate.isPropertyInitialized( document, "content" ) ).isFalse();
+			}
+			for ( Document document : documents ) {
+				assertThat( document.getContent() ).isEqualTo( "content " + document.getId() );
+			}
+		} );
+		// the query, and then one select for the content of every document
+		inspector.assertExecutedCount( 2 );
+	}
+
+	@Test
+	public void testModifiedAttributeIsNotOverwritten(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Document> documents =
+					session.createSelectionQuery( "from Document order by id", Document.class ).list();
+			documents.get( 1 ).setContent( "modified" );
+			assertThat( documents.get( 0 ).getContent() ).isEqualTo( "content 1" );
+			assertThat( documents.get( 1 ).getContent() ).isEqualTo( "modified" );
+			assertThat( documents.get( 2 ).getContent() ).isEqualTo( "content 3" );
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.find( Document.class, 2 ).getContent() ).isEqualTo( "modified" ) );
+	}
+
+	@Test
+	public void testPartiallyLoadedFetchGroup(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Document> documents =
+					session.createSelectionQuery( "from Document order by id", Document.class ).list();
+			// only one of the two attributes of the fetch group is loaded
+			documents.get( 1 ).setSummary( "modified" );
+			assertThat( documents.get( 0 ).getKeywords() ).isEqualTo( "keywords 1" );
+			for ( Document document : documents ) {
+				assertThat( Hibernate.isPropertyInitialized( document, "keywords" ) ).isTrue();
+				assertThat( Hibernate.isPropertyInitialized( document, "content" ) ).isFalse();
+			}
+			assertThat( documents.get( 1 ).getSummary() ).isEqualTo( "modified" );
+			assertThat( documents.get( 2 ).getSummary() ).isEqualTo( "summary 3" );
+			// the other fetch group is loaded by its own batch
+			for ( Document document : documents ) {
+				assertThat( document.getContent() ).isEqualTo( "content " + document.getId() );
+			}
+		} );
+		// the query, and then one select for each fetch group
+		inspector.assertExecutedCount( 3 );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@Basic(fetch = FetchType.LAZY)
+		private String content;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("details")
+		private String summary;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("details")
+		private String keywords;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, String content) {
+			this.id = id;
+			this.title = title;
+			this.content = content;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getContent() {
+			return content;
+		}
+
+		public void setContent(String content) {
+			this.content = content;
+		}
+
+		public String getSummary() {
+			return summary;
+		}
+
+		public void setSummary(String summary) {
+			this.summary = summary;
+		}
+
+		public String getKeywords() {
+			return keywords;
+		}
+
+		public void setKeywords(String keywords) {
+			this.keywords = keywords;
+		}
+	}
+}
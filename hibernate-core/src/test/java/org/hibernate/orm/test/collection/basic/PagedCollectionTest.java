@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link Hibernate#paged(List, int)} and {@link Hibernate#paged(Map, int)}.
+ */
+@DomainModel(annotatedClasses = { PagedCollectionTest.Ledger.class, PagedCollectionTest.LedgerEntry.class })
+@SessionFactory(useCollectingStatementInspector = true)
+public class PagedCollectionTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Ledger ledger = new Ledger( 1 );
+			for ( int i = 0; i < 25; i++ ) {
+				ledger.lines.add( "line " + i );
+				ledger.totals.put( 1000 + i, "total " + i );
+				ledger.notes.add( "note " + i );
+				final LedgerEntry entry = new LedgerEntry( i, "entry " + i );
+				ledger.entries.add( entry );
+				session.persist( entry );
+			}
+			session.persist( ledger );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testPagedList(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Ledger ledger = session.find( Ledger.class, 1 );
+			inspector.clear();
+			final List<String> lines = Hibernate.paged( ledger.lines, 10 );
+			assertThat( lines ).hasSize( 25 );
+			// the count query
+			inspector.assertExecutedCount( 1 );
+
+			assertThat( lines.get( 12 ) ).isEqualTo( "line 12" );
+			assertThat( lines.get( 19 ) ).isEqualTo( "line 19" );
+			// one window
+			inspector.assertExecutedCount( 2 );
+
+			final List<String> iterated = new ArrayList<>();
+			for ( String line : lines ) {
+				iterated.add( line );
+			}
+			assertThat( iterated ).hasSize( 25 );
+			for ( int i = 0; i < 25; i++ ) {
+				assertThat( iterated.get( i ) ).isEqualTo( "line " + i );
+			}
+			assertThat( Hibernate.isInitialized( ledger.lines ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testPagedMap(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Ledger ledger = session.find( Ledger.class, 1 );
+			inspector.clear();
+			final Map<Integer, String> totals = Hibernate.paged( ledger.totals, 10 );
+			final List<Integer> keys = new ArrayList<>();
+			totals.forEach( (key, value) -> {
+				assertThat( value ).isEqualTo( "total " + ( key - 1000 ) );
+				keys.add( key );
+			} );
+			// three pages
+			inspector.assertExecutedCount( 3 );
+			assertThat( keys ).hasSize( 25 ).isSorted();
+
+			assertThat( totals ).hasSize( 25 );
+			assertThat( totals.get( 1007 ) ).isEqualTo( "total 7" );
+			assertThat( totals.containsKey( 2000 ) ).isFalse();
+			assertThat( Hibernate.isInitialized( ledger.totals ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testPagedEntityList(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Ledger ledger = session.find( Ledger.class, 1 );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			inspector.clear();
+			final List<LedgerEntry> entries = Hibernate.paged( ledger.entries, 10 );
+			int index = 0;
+			for ( LedgerEntry entry : entries ) {
+				assertThat( entry.description ).isEqualTo( "entry " + index++ );
+				// the elements are managed by the session, and must be
+				// evicted to keep the persistence context bounded
+				assertThat( session.contains( entry ) ).isTrue();
+				session.evict( entry );
+				assertThat( persistenceContext.getNumberOfManagedEntities() ).isLessThanOrEqualTo( 1 + 10 );
+			}
+			assertThat( index ).isEqualTo( 25 );
+			// the count query, and three windows
+			inspector.assertExecutedCount( 4 );
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 1 );
+			assertThat( Hibernate.isInitialized( ledger.entries ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testBagRejected(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Ledger ledger = session.find( Ledger.class, 1 );
+			inspector.clear();
+			// a bag has no index to page by
+			assertThatThrownBy( () -> Hibernate.paged( ledger.notes, 10 ) )
+					.isInstanceOf( IllegalArgumentException.class );
+			inspector.assertExecutedCount( 0 );
+			assertThat( Hibernate.isInitialized( ledger.notes ) ).isFalse();
+		} );
+	}
+
+	@Entity(name = "Ledger")
+	public static class Ledger {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@OrderColumn
+		private List<String> lines = new ArrayList<>();
+
+		@ElementCollection
+		private Map<Integer, String> totals = new TreeMap<>();
+
+		@ElementCollection
+		private List<String> notes = new ArrayList<>();
+
+		@OneToMany
+		@OrderColumn
+		private List<LedgerEntry> entries = new ArrayList<>();
+
+		public Ledger() {
+		}
+
+		public Ledger(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "LedgerEntry")
+	public static class LedgerEntry {
+		@Id
+		private Integer id;
+
+		private String description;
+
+		public LedgerEntry() {
+		}
+
+		public LedgerEntry(Integer id, String description) {
+			this.id = id;
+			this.description = description;
+		}
+	}
+}
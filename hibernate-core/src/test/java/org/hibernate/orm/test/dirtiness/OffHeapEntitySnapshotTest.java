@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.OffHeapEntitySnapshotStore;
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the loaded state of entities is stored off-heap, and is still
+ * used to dirty check them.
+ */
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.OFF_HEAP_ENTITY_SNAPSHOTS, value = "true")
+)
+@DomainModel(annotatedClasses = {
+		OffHeapEntitySnapshotTest.Account.class,
+		OffHeapEntitySnapshotTest.Transfer.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class OffHeapEntitySnapshotTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Account account = new Account( i, "account " + i, new BigDecimal( "100.25" ) );
+				session.persist( account );
+				session.persist( new Transfer( i, account ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testDirtyChecking(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Account> accounts =
+					session.createSelectionQuery( "from Account order by id", Account.class ).list();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final OffHeapEntitySnapshotStore store =
+					( (StatefulPersistenceContext) persistenceContext ).getOffHeapEntitySnapshotStore();
+			assertThat( store.getStoredBytes() ).isPositive();
+			for ( Account account : accounts ) {
+				final EntityEntry entry = persistenceContext.getEntry( account );
+				assertThat( entry.readLoadedState() ).containsExactly(
+						new BigDecimal( "100.25" ),
+						account.externalId,
+						account.name,
+						LocalDate.of( 2020, 1, 1 ),
+						Status.OPEN
+				);
+			}
+			accounts.get( 0 ).balance = new BigDecimal( "50.00" );
+			accounts.get( 1 ).status = Status.CLOSED;
+		} );
+		// the query, and then one update for each modified account
+		inspector.assertExecutedCount( 3 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Account.class, 1 ).balance ).isEqualByComparingTo( "50.00" );
+			assertThat( session.find( Account.class, 2 ).status ).isEqualTo( Status.CLOSED );
+			assertThat( session.find( Account.class, 3 ).balance ).isEqualByComparingTo( "100.25" );
+		} );
+	}
+
+	@Test
+	public void testStateStaysOffHeapAfterFlush(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Account> accounts =
+					session.createSelectionQuery( "from Account order by id", Account.class ).list();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final OffHeapEntitySnapshotStore store =
+					( (StatefulPersistenceContext) persistenceContext ).getOffHeapEntitySnapshotStore();
+			final long storedBytes = store.getStoredBytes();
+			assertThat( storedBytes ).isPositive();
+
+			assertThat( session.isDirty() ).isFalse();
+			session.flush();
+
+			assertThat( store.getStoredBytes() ).isEqualTo( storedBytes );
+			for ( Account account : accounts ) {
+				final EntityEntry entry = persistenceContext.getEntry( account );
+				assertThat( entry.hasLoadedState() ).isTrue();
+				// each read decodes a new copy, so the state is not held on the heap
+				assertThat( entry.readLoadedState() ).isNotSameAs( entry.readLoadedState() );
+			}
+		} );
+		// just the query
+		inspector.assertExecutedCount( 1 );
+	}
+
+	@Test
+	public void testRepeatedFlushReusesSlots(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Account> accounts =
+					session.createSelectionQuery( "from Account order by id", Account.class ).list();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final OffHeapEntitySnapshotStore store =
+					( (StatefulPersistenceContext) persistenceContext ).getOffHeapEntitySnapshotStore();
+			final long storedBytes = store.getStoredBytes();
+
+			final Account account = accounts.get( 0 );
+			for ( int i = 0; i < 100; i++ ) {
+				account.balance = new BigDecimal( i );
+				session.flush();
+				assertThat( store.getStoredBytes() ).isEqualTo( storedBytes );
+			}
+			assertThat( persistenceContext.getEntry( account ).readLoadedState()[0] )
+					.isEqualTo( new BigDecimal( 99 ) );
+
+			session.evict( accounts.get( 1 ) );
+			assertThat( store.getStoredBytes() ).isLessThan( storedBytes );
+		} );
+
+		scope.inTransaction( session ->
+				assertThat( session.find( Account.class, 1 ).balance ).isEqualByComparingTo( "99" ) );
+	}
+
+	@Test
+	public void testEntityWithAssociationStaysOnHeap(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Transfer> transfers =
+					session.createSelectionQuery( "from Transfer", Transfer.class ).list();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( Transfer transfer : transfers ) {
+				final EntityEntry entry = persistenceContext.getEntry( transfer );
+				assertThat( entry.readLoadedState() ).isSameAs( entry.getLoadedState() );
+			}
+		} );
+	}
+
+	public enum Status {
+		OPEN,
+		CLOSED
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private BigDecimal balance;
+
+		private UUID externalId;
+
+		private LocalDate opened;
+
+		@Enumerated(EnumType.STRING)
+		private Status status;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String name, BigDecimal balance) {
+			this.id = id;
+			this.name = name;
+			this.balance = balance;
+			this.externalId = UUID.randomUUID();
+			this.opened = LocalDate.of( 2020, 1, 1 );
+			this.status = Status.OPEN;
+		}
+	}
+
+	@Entity(name = "Transfer")
+	public static class Transfer {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Account account;
+
+		public Transfer() {
+		}
+
+		public Transfer(Integer id, Account account) {
+			this.id = id;
+			this.account = account;
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.FetchPlanLearner;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a fetch plan is learned from the associations used after a query.
+ */
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.FETCH_PLAN_LEARNING, value = "true")
+)
+@DomainModel(annotatedClasses = {
+		FetchPlanLearningTest.Book.class,
+		FetchPlanLearningTest.Author.class,
+		FetchPlanLearningTest.Chapter.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class FetchPlanLearningTest {
+	private static final String QUERY = "from Book";
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				final Book book = new Book( i, author );
+				session.persist( book );
+				final Chapter chapter = new Chapter( i, book );
+				book.chapters.add( chapter );
+				session.persist( chapter );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		final FetchPlanLearner fetchPlanLearner = scope.getSessionFactory().getFetchPlanLearner();
+		fetchPlanLearner.clear();
+		fetchPlanLearner.setEnabled( true );
+		scope.dropData();
+	}
+
+	@Test
+	public void testLearnedFetchPlan(SessionFactoryScope scope) {
+		final FetchPlanLearner fetchPlanLearner = scope.getSessionFactory().getFetchPlanLearner();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( QUERY, Book.class ).list() ) {
+				assertThat( book.author.getName() ).isEqualTo( "author " + book.id );
+			}
+		} );
+		// the query, and then one select per author
+		inspector.assertExecutedCount( 11 );
+		assertThat( fetchPlanLearner.getLearnedFetchPlans() ).isEqualTo( Map.of( QUERY, "author" ) );
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( QUERY, Book.class ).list() ) {
+				assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+				assertThat( Hibernate.isInitialized( book.chapters ) ).isFalse();
+			}
+		} );
+		inspector.assertExecutedCount( 1 );
+	}
+
+	@Test
+	public void testLearnedCollection(SessionFactoryScope scope) {
+		final FetchPlanLearner fetchPlanLearner = scope.getSessionFactory().getFetchPlanLearner();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( QUERY, Book.class ).list() ) {
+				assertThat( book.chapters ).hasSize( 1 );
+			}
+		} );
+		assertThat( fetchPlanLearner.getLearnedFetchPlans() ).isEqualTo( Map.of( QUERY, "chapters" ) );
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( QUERY, Book.class ).list();
+			assertThat( books ).hasSize( 10 );
+			for ( Book book : books ) {
+				assertThat( Hibernate.isInitialized( book.chapters ) ).isTrue();
+			}
+		} );
+		inspector.assertExecutedCount( 1 );
+
+		// collections are not fetched by a query with a limit
+		scope.inTransaction( session -> {
+			final List<Book> books =
+					session.createSelectionQuery( QUERY, Book.class ).setMaxResults( 5 ).list();
+			assertThat( books ).hasSize( 5 );
+			for ( Book book : books ) {
+				assertThat( Hibernate.isInitialized( book.chapters ) ).isFalse();
+			}
+		} );
+	}
+
+	@Test
+	public void testOnlyListedResultsAffected(SessionFactoryScope scope) {
+		final FetchPlanLearner fetchPlanLearner = scope.getSessionFactory().getFetchPlanLearner();
+
+		// streamed results are not observed
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( QUERY, Book.class ).stream() ) {
+				books.forEach( book -> assertThat( book.author.getName() ).isEqualTo( "author " + book.id ) );
+			}
+		} );
+		assertThat( fetchPlanLearner.getLearnedFetchPlans() ).isEmpty();
+
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( QUERY, Book.class ).list() ) {
+				assertThat( book.author.getName() ).isEqualTo( "author " + book.id );
+			}
+		} );
+		assertThat( fetchPlanLearner.getLearnedFetchPlans() ).isEqualTo( Map.of( QUERY, "author" ) );
+
+		// the learned fetch plan is applied neither to streamed results, nor to locking queries
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( QUERY, Book.class ).stream() ) {
+				books.forEach( book -> assertThat( Hibernate.isInitialized( book.author ) ).isFalse() );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( QUERY, Book.class )
+					.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+					.list();
+			for ( Book book : books ) {
+				assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+			}
+		} );
+	}
+
+	@Test
+	public void testKillSwitch(SessionFactoryScope scope) {
+		final FetchPlanLearner fetchPlanLearner = scope.getSessionFactory().getFetchPlanLearner();
+
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( QUERY, Book.class ).list() ) {
+				assertThat( book.author.getName() ).isEqualTo( "author " + book.id );
+			}
+		} );
+		assertThat( fetchPlanLearner.getLearnedFetchPlans() ).isEqualTo( Map.of( QUERY, "author" ) );
+
+		fetchPlanLearner.setEnabled( false );
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( QUERY, Book.class ).list() ) {
+				assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		@OneToMany(mappedBy = "book")
+		private List<Chapter> chapters = new ArrayList<>();
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Chapter")
+	public static class Chapter {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Book book;
+
+		public Chapter() {
+		}
+
+		public Chapter(Integer id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+	}
+}
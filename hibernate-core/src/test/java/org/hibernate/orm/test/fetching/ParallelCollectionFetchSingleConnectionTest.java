@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.fetching;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a parallel collection fetch falls back to fetching on the
+ * connection of the session when the pool has no connection to spare.
+ *
+ * @see FetchSettings#PARALLEL_COLLECTION_FETCH
+ */
+@DomainModel(annotatedClasses = {
+		ParallelCollectionFetchSingleConnectionTest.Author.class,
+		ParallelCollectionFetchSingleConnectionTest.Book.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.PARALLEL_COLLECTION_FETCH, value = "true"),
+		@Setting(name = FetchSettings.PARALLEL_COLLECTION_FETCH_EXECUTOR,
+				value = "org.hibernate.orm.test.fetching.ParallelCollectionFetchSingleConnectionTest$FetchExecutor"),
+		@Setting(name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.fetching.ParallelCollectionFetchSingleConnectionTest$SingleConnectionProvider")
+})
+@SessionFactory
+public class ParallelCollectionFetchSingleConnectionTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final Author author = new Author( i );
+				author.awards.add( "award " + i );
+				session.persist( author );
+				final Book book = new Book( i, author );
+				author.books.add( book );
+				session.persist( book );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testCollectionsFetchedWithPoolOfOne(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			FetchExecutor.TASKS.set( 0 );
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).list();
+			// a task was submitted, but could not obtain a connection while
+			// the session held the only one, so the session fetched everything
+			assertThat( FetchExecutor.TASKS.get() ).isEqualTo( 1 );
+			assertThat( authors ).hasSize( 4 );
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+				assertThat( Hibernate.isInitialized( author.awards ) ).isTrue();
+				assertThat( author.books ).extracting( book -> book.id ).containsExactly( author.id );
+				assertThat( author.awards ).containsExactly( "award " + author.id );
+			}
+			session.getTransaction().commit();
+		}
+	}
+
+	/**
+	 * Runs each task on a new thread, and counts the tasks.
+	 */
+	public static class FetchExecutor implements Executor {
+		static final AtomicInteger TASKS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable task) {
+			TASKS.incrementAndGet();
+			new Thread( task ).start();
+		}
+	}
+
+	/**
+	 * A pool of a single connection, which gives up waiting for it after a while.
+	 */
+	public static class SingleConnectionProvider extends ConnectionProviderDelegate {
+		private final Semaphore available = new Semaphore( 1 );
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			try {
+				if ( !available.tryAcquire( 500, TimeUnit.MILLISECONDS ) ) {
+					throw new SQLException( "Connection is not available, request timed out" );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SQLException( e );
+			}
+			try {
+				return super.getConnection();
+			}
+			catch (SQLException | RuntimeException e) {
+				available.release();
+				throw e;
+			}
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			try {
+				super.closeConnection( connection );
+			}
+			finally {
+				available.release();
+			}
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "author", fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		private List<Book> books = new ArrayList<>();
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		private Set<String> awards = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.fetching;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the initialization of eager collections of several roles in parallel.
+ *
+ * @see FetchSettings#PARALLEL_COLLECTION_FETCH
+ */
+@DomainModel(annotatedClasses = {
+		ParallelCollectionFetchTest.Author.class,
+		ParallelCollectionFetchTest.Book.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.PARALLEL_COLLECTION_FETCH, value = "true"),
+		@Setting(name = FetchSettings.PARALLEL_COLLECTION_FETCH_EXECUTOR,
+				value = "org.hibernate.orm.test.fetching.ParallelCollectionFetchTest$FetchExecutor"),
+		@Setting(name = FetchSettings.PARALLEL_COLLECTION_FETCH_MAX_CONNECTIONS, value = "2")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class ParallelCollectionFetchTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				// the last author has no books and no awards
+				if ( i < 5 ) {
+					author.awards.add( "award " + i );
+					for ( int j = 1; j <= i; j++ ) {
+						final Book book = new Book( i * 10 + j, author );
+						author.books.add( book );
+						session.persist( book );
+					}
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testCollectionsFetchedInParallel(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			inspector.clear();
+			FetchExecutor.TASKS.set( 0 );
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).list();
+			// the selects are executed by the executor, on at most two connections
+			assertThat( FetchExecutor.TASKS.get() ).isBetween( 1, 2 );
+			assertThat( inspector.getSqlQueries() ).hasSizeGreaterThan( 1 );
+			assertCollections( authors );
+			session.getTransaction().commit();
+		}
+	}
+
+	@Test
+	public void testCollectionsFetchedSeriallyWhenNotReadOnly(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			// a session in default read-only mode may still have written to the database
+			session.setDefaultReadOnly( true );
+			inspector.clear();
+			FetchExecutor.TASKS.set( 0 );
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).list();
+			assertThat( FetchExecutor.TASKS.get() ).isZero();
+			assertThat( inspector.getSqlQueries() ).hasSizeGreaterThan( 1 );
+			assertCollections( authors );
+		} );
+	}
+
+	@Test
+	public void testFlushedChangesVisible(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 5 );
+			author.awards.add( "award 5" );
+			final Book book = new Book( 51, author );
+			author.books.add( book );
+			session.persist( book );
+			session.flush();
+			session.clear();
+
+			session.setDefaultReadOnly( true );
+			FetchExecutor.TASKS.set( 0 );
+			final Author reloaded = session.find( Author.class, 5 );
+			// the flushed rows are not visible to other connections
+			assertThat( FetchExecutor.TASKS.get() ).isZero();
+			assertThat( reloaded.awards ).containsExactly( "award 5" );
+			assertThat( reloaded.books ).extracting( b -> b.id ).containsExactly( 51 );
+		} );
+	}
+
+	private static void assertCollections(List<Author> authors) {
+		assertThat( authors ).hasSize( 5 );
+		for ( Author author : authors ) {
+			assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+			assertThat( Hibernate.isInitialized( author.awards ) ).isTrue();
+			if ( author.id < 5 ) {
+				assertThat( author.books ).hasSize( author.id );
+				assertThat( author.books ).allMatch( book -> book.author == author );
+				assertThat( author.awards ).containsExactly( "award " + author.id );
+			}
+			else {
+				assertThat( author.books ).isEmpty();
+				assertThat( author.awards ).isEmpty();
+			}
+		}
+	}
+
+	/**
+	 * Runs each task on a new thread, and counts the tasks.
+	 */
+	public static class FetchExecutor implements Executor {
+		static final AtomicInteger TASKS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable task) {
+			TASKS.incrementAndGet();
+			new Thread( task ).start();
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author", fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		private List<Book> books = new ArrayList<>();
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		private Set<String> awards = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.fetching;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.loader.ast.internal.SubselectFetchIdTable;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests subselect fetching via a temporary table of owner identifiers.
+ *
+ * @see FetchSettings#SUBSELECT_FETCH_TEMPORARY_TABLE
+ */
+@DomainModel(annotatedClasses = {
+		SubselectFetchTemporaryTableTest.Author.class,
+		SubselectFetchTemporaryTableTest.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = FetchSettings.SUBSELECT_FETCH_TEMPORARY_TABLE, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class SubselectFetchTemporaryTableTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				final Author author = new Author( i, ( i % 2 == 0 ? "even " : "odd " ) + i );
+				author.awards.add( "award " + i );
+				session.persist( author );
+				for ( int j = 1; j <= 2; j++ ) {
+					final Book book = new Book( i * 10 + j, author );
+					author.books.add( book );
+					session.persist( book );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testCollectionsFetchedUsingTemporaryTable(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author where name like :pattern order by id", Author.class )
+							.setParameter( "pattern", "even%" )
+							.list();
+			assertThat( authors ).hasSize( 3 );
+			inspector.clear();
+
+			for ( Author author : authors ) {
+				assertThat( author.books ).hasSize( 2 );
+				assertThat( author.awards ).containsExactly( "award " + author.id );
+			}
+
+			final List<String> sqlQueries = inspector.getSqlQueries();
+			// the owner query is executed again only once, to populate the temporary table
+			assertThat( sqlQueries )
+					.filteredOn( sql -> sql.contains( " like " ) )
+					.hasSize( 1 )
+					.allMatch( sql -> sql.startsWith( "insert" ) && sql.contains( SubselectFetchIdTable.ID_TABLE_PREFIX ) );
+			assertThat( sqlQueries )
+					.filteredOn( sql -> sql.startsWith( "select" ) )
+					.hasSize( 2 )
+					.allMatch( sql -> sql.contains( SubselectFetchIdTable.ID_TABLE_PREFIX ) );
+		} );
+	}
+
+	@Test
+	public void testAlternatingSubselectFetches(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Author> evenAuthors =
+					session.createSelectionQuery( "from Author where name like 'even%'", Author.class ).list();
+			final List<Author> oddAuthors =
+					session.createSelectionQuery( "from Author where name like 'odd%'", Author.class ).list();
+			inspector.clear();
+			for ( Author author : evenAuthors ) {
+				assertThat( author.books ).hasSize( 2 );
+			}
+			for ( Author author : oddAuthors ) {
+				assertThat( author.books ).hasSize( 2 );
+			}
+			for ( Author author : evenAuthors ) {
+				assertThat( author.awards ).containsExactly( "award " + author.id );
+			}
+			for ( Author author : oddAuthors ) {
+				assertThat( author.awards ).containsExactly( "award " + author.id );
+			}
+
+			final List<String> sqlQueries = inspector.getSqlQueries();
+			// the table is populated only for the first subselect fetch, and
+			// the collections of the other one use the original owner query
+			assertThat( sqlQueries )
+					.filteredOn( sql -> sql.startsWith( "insert" ) )
+					.hasSize( 1 )
+					.allMatch( sql -> sql.contains( "'even%'" ) );
+			assertThat( sqlQueries )
+					.filteredOn( sql -> sql.startsWith( "delete" ) )
+					.hasSizeLessThanOrEqualTo( 1 );
+			assertThat( sqlQueries )
+					.filteredOn( sql -> sql.startsWith( "select" ) && sql.contains( "'odd%'" ) )
+					.hasSize( 2 )
+					.noneMatch( sql -> sql.contains( SubselectFetchIdTable.ID_TABLE_PREFIX ) );
+		} );
+	}
+
+	@Test
+	public void testOutsideTransaction(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inSession( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author where name like 'odd%'", Author.class ).list();
+			inspector.clear();
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isFalse();
+				assertThat( author.books ).hasSize( 2 );
+			}
+			assertThat( inspector.getSqlQueries() )
+					.hasSize( 1 )
+					.noneMatch( sql -> sql.contains( SubselectFetchIdTable.ID_TABLE_PREFIX ) );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		@Fetch(FetchMode.SUBSELECT)
+		private List<Book> books = new ArrayList<>();
+
+		@ElementCollection
+		@Fetch(FetchMode.SUBSELECT)
+		private Set<String> awards = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that changes to a new entity are written by its pending insert.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.WRITE_BEHIND_INSERTS, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		}
+)
+@DomainModel(annotatedClasses = {
+		WriteBehindInsertsTest.Item.class,
+		WriteBehindInsertsTest.Category.class,
+		WriteBehindInsertsTest.IdentityItem.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class WriteBehindInsertsTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testChangesBeforeFlush(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final Item item = new Item( 1, "new" );
+			session.persist( item );
+			item.name = "changed";
+			item.quantity = 5;
+		} );
+
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+		inspector.assertExecutedCount( 1 );
+		inspector.assertIsInsert( 0 );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			assertThat( item.name ).isEqualTo( "changed" );
+			assertThat( item.quantity ).isEqualTo( 5 );
+			assertThat( item.version ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testChangesAcrossAutoFlushes(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> session.persist( new Category( 1 ) ) );
+		statistics.clear();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final Item item = new Item( 1, "new" );
+			session.persist( item );
+			for ( int i = 1; i <= 10; i++ ) {
+				item.quantity = i;
+				// queries an unrelated table, so the insert is not executed
+				session.createSelectionQuery( "from Category", Category.class ).list();
+			}
+		} );
+
+		// ten queries, and just one insert instead of an insert and ten updates
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+		inspector.assertExecutedCount( 11 );
+		inspector.assertIsInsert( 10 );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			assertThat( item.quantity ).isEqualTo( 10 );
+		} );
+	}
+
+	@Test
+	public void testChangesAfterInsert(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Item item = new Item( 1, "new" );
+			session.persist( item );
+			session.flush();
+			item.name = "changed";
+		} );
+
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			assertThat( item.name ).isEqualTo( "changed" );
+			assertThat( item.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testChangesAfterDelayedIdentityInsert(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final IdentityItem item = new IdentityItem( "new" );
+		scope.inSession( session -> {
+			// outside a transaction, the identity insert is delayed until the flush
+			session.persist( item );
+			assertThat( item.id ).isNull();
+			session.getTransaction().begin();
+			try {
+				session.flush();
+				assertThat( item.id ).isNotNull();
+				item.name = "changed";
+				session.flush();
+				session.getTransaction().commit();
+			}
+			catch (RuntimeException e) {
+				session.getTransaction().rollback();
+				throw e;
+			}
+		} );
+
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session ->
+				assertThat( session.find( IdentityItem.class, item.id ).name ).isEqualTo( "changed" ) );
+	}
+
+	@Test
+	public void testAssociationChangeIsNotMerged(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Category( 1 ) ) );
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Item item = new Item( 1, "new" );
+			session.persist( item );
+			item.category = session.getReference( Category.class, 1 );
+		} );
+
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			assertThat( item.category.id ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		@Version
+		private Integer version;
+
+		private String name;
+
+		private int quantity;
+
+		@ManyToOne
+		private Category category;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Integer id;
+
+		public Category() {
+		}
+
+		public Category(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "IdentityItem")
+	public static class IdentityItem {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Integer id;
+
+		private String name;
+
+		public IdentityItem() {
+		}
+
+		public IdentityItem(String name) {
+			this.name = name;
+		}
+	}
+}
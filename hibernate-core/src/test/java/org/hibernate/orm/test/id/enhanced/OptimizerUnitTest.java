@@ -4,17 +4,27 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PrefetchOptimizer;
 import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
 
 import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -302,6 +312,115 @@ public void testBasicPooledThreadLocalLoOptimizerUsage() {
 
 	}
 
+	@Test
+	public void testBasicPooledLoConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 10 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		for ( int i = 2; i <= 5; i++ ) {
+			next = (Long) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// crossing the middle of the range obtains the next range in advance
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 6, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+
+		for ( int i = 7; i <= 15; i++ ) {
+			next = (Long) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 16, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoConcurrentOptimizerUsage() throws Exception {
+		final int threads = 16;
+		final int valuesPerThread = 1_000;
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 50 );
+
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values.add( (Long) optimizer.generate( sequence ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		// no value was handed out twice
+		assertEquals( threads * valuesPerThread, values.size() );
+		// no range was skipped, but the next one might have been obtained in advance
+		assertTrue( sequence.getTimesCalled() <= threads * valuesPerThread / 50 + 1 );
+		for ( long value : values ) {
+			assertTrue( value >= 1 && value <= threads * valuesPerThread );
+		}
+	}
+
+	@Test
+	public void testBasicPrefetchOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1 );
+		final Optimizer optimizer = buildPrefetchOptimizer( 1, 8 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		// the buffer was drained quickly, so twice as many values are obtained
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 3, sequence.getCurrentValue() );
+		assertEquals( 2, ( (PrefetchOptimizer) optimizer ).getPrefetchSize() );
+
+		for ( int i = 3; i <= 7; i++ ) {
+			next = (Long) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 7, sequence.getTimesCalled() );
+		assertEquals( 4, ( (PrefetchOptimizer) optimizer ).getPrefetchSize() );
+
+		// the number of values obtained at once never exceeds the increment size
+		for ( int i = 8; i <= 24; i++ ) {
+			next = (Long) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 31, sequence.getTimesCalled() );
+		assertEquals( 8, ( (PrefetchOptimizer) optimizer ).getPrefetchSize() );
+		assertEquals( 31, optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -322,6 +441,14 @@ private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int inc
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
+	private static Optimizer buildPrefetchOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.PREFETCH, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
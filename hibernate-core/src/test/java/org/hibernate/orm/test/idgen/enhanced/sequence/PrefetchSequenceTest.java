@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.PrefetchOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the {@link PrefetchOptimizer} obtains each prefetched batch of
+ * sequence values in a single round trip.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = PrefetchSequenceTest.TestEntity.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class PrefetchSequenceTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testNextValuesInSingleRoundTrip(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final DatabaseStructure structure = generator( scope ).getDatabaseStructure();
+		scope.inTransaction( session -> {
+			final int timesAccessed = structure.getTimesAccessed();
+			inspector.clear();
+			final List<IntegralDataTypeHolder> values = structure.buildCallback( session ).getNextValues( 10 );
+			inspector.assertExecutedCount( 1 );
+			assertThat( structure.getTimesAccessed() ).isEqualTo( timesAccessed + 1 );
+
+			assertThat( values ).hasSize( 10 );
+			final long first = values.get( 0 ).makeValue().longValue();
+			for ( int i = 0; i < values.size(); i++ ) {
+				assertThat( values.get( i ).makeValue().longValue() ).isEqualTo( first + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testOneRoundTripPerPrefetch(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final SequenceStyleGenerator generator = generator( scope );
+		assertThat( generator.getOptimizer() ).isInstanceOf( PrefetchOptimizer.class );
+		final DatabaseStructure structure = generator.getDatabaseStructure();
+		final List<TestEntity> entities = new ArrayList<>();
+		scope.inTransaction( session -> {
+			final int timesAccessed = structure.getTimesAccessed();
+			inspector.clear();
+			for ( int i = 0; i < 31; i++ ) {
+				final TestEntity entity = new TestEntity();
+				session.persist( entity );
+				entities.add( entity );
+			}
+			final long roundTrips = inspector.getSqlQueries().stream()
+					.filter( sql -> sql.contains( "next value for" ) )
+					.count();
+			assertThat( roundTrips ).isEqualTo( structure.getTimesAccessed() - timesAccessed );
+			// the prefetch size grows while values are requested quickly
+			assertThat( roundTrips ).isLessThan( entities.size() );
+		} );
+		assertThat( entities ).extracting( entity -> entity.id ).doesNotHaveDuplicates();
+	}
+
+	private static SequenceStyleGenerator generator(SessionFactoryScope scope) {
+		return (SequenceStyleGenerator) scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( TestEntity.class )
+				.getIdentifierGenerator();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		@GeneratedValue(generator = "prefetch_generator")
+		@GenericGenerator(name = "prefetch_generator", type = SequenceStyleGenerator.class, parameters = {
+				@Parameter(name = "sequence_name", value = "prefetch_sequence"),
+				@Parameter(name = "increment_size", value = "50"),
+				@Parameter(name = "optimizer", value = "prefetch")
+		})
+		private Long id;
+	}
+}
@@ -83,6 +83,34 @@ public void testReferenceItself() {
 		);
 	}
 
+	@Test
+	public void testInterleavedHierarchies() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				OutputParameter outputParameter = new OutputParameter();
+				OutputParameter childOutputParameter = new OutputParameter();
+				outputParameter.children.add( childOutputParameter );
+				childOutputParameter.parent = outputParameter;
+				session.persist( outputParameter );
+
+				InputParameter inputParameter = new InputParameter();
+				InputParameter childInputParameter = new InputParameter();
+				inputParameter.children.add( childInputParameter );
+				childInputParameter.parent = inputParameter;
+				session.persist( inputParameter );
+			}
+
+			clearBatches();
+		} );
+
+		// the parents are inserted before the children, grouped by entity
+		verifyContainsBatches(
+				new Batch( "insert into Parameter (name,parent_id,TYPE,id) values (?,?," + literal( "OUTPUT" ) + ",?)", 2 ),
+				new Batch( "insert into Parameter (name,parent_id,TYPE,id) values (?,?," + literal( "INPUT" ) + ",?)", 2 )
+		);
+		verifyPreparedStatementCount( 4 );
+	}
+
 	@MappedSuperclass
 	static class AbstractEntity {
 
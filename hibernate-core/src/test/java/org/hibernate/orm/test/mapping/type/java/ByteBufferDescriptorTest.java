@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.type.java;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.type.descriptor.java.ByteBufferJavaType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class ByteBufferDescriptorTest extends AbstractDescriptorTest<ByteBuffer> {
+
+	private final ByteBuffer original = ByteBuffer.wrap( new byte[] {1, 2, 3} );
+
+	private final ByteBuffer copy = ByteBuffer.wrap( new byte[] {1, 2, 3} );
+
+	private final ByteBuffer different = ByteBuffer.wrap( new byte[] {3, 2, 1} );
+
+	public ByteBufferDescriptorTest() {
+		super( ByteBufferJavaType.INSTANCE );
+	}
+
+	@Override
+	protected Data<ByteBuffer> getTestData() {
+		return new Data<>( original, copy, different );
+	}
+
+	@Override
+	protected boolean shouldBeMutable() {
+		return false;
+	}
+
+	@Test
+	@Override
+	public void testMutabilityPlan() {
+		// buffers are never copied, but they are disassembled to a byte[]
+		assertFalse( typeDescriptor().getMutabilityPlan().isMutable() );
+		assertSame( original, typeDescriptor().getMutabilityPlan().deepCopy( original ) );
+		final Serializable cached = typeDescriptor().getMutabilityPlan().disassemble( original, null );
+		assertTrue( cached instanceof byte[] );
+		assertEquals( original, typeDescriptor().getMutabilityPlan().assemble( cached, null ) );
+	}
+
+	@Test
+	public void testUnwrapWholeArrayWithoutCopy() {
+		final byte[] bytes = new byte[] {1, 2, 3};
+		assertSame( bytes, typeDescriptor().unwrap( ByteBuffer.wrap( bytes ), byte[].class, wrapperOptions ) );
+		assertArrayEquals(
+				new byte[] {2, 3},
+				typeDescriptor().unwrap( ByteBuffer.wrap( bytes, 1, 2 ), byte[].class, wrapperOptions )
+		);
+	}
+
+	@Test
+	public void testStreamDirectBuffer() throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect( 4 ).put( new byte[] {1, 2, 3, 4} ).flip();
+		buffer.position( 1 );
+		final BinaryStream binaryStream = typeDescriptor().unwrap( buffer, BinaryStream.class, wrapperOptions );
+		assertEquals( 3, binaryStream.getLength() );
+		assertArrayEquals( new byte[] {2, 3, 4}, binaryStream.getInputStream().readAllBytes() );
+		// reading the stream does not affect the buffer
+		assertEquals( 1, buffer.position() );
+	}
+
+	@Test
+	public void testStreamingDoesNotAllocate() throws IOException {
+		assumeTrue( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean );
+		final com.sun.management.ThreadMXBean threadMXBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue( threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled() );
+
+		final int size = 16 * 1024 * 1024;
+		final ByteBuffer buffer = ByteBuffer.allocateDirect( size );
+		final byte[] chunk = new byte[8192];
+		final long threadId = Thread.currentThread().getId();
+		final long before = threadMXBean.getThreadAllocatedBytes( threadId );
+		final InputStream inputStream =
+				typeDescriptor().unwrap( buffer, BinaryStream.class, wrapperOptions ).getInputStream();
+		long read = 0;
+		for ( int count; ( count = inputStream.read( chunk ) ) > 0; ) {
+			read += count;
+		}
+		final long allocated = threadMXBean.getThreadAllocatedBytes( threadId ) - before;
+		assertEquals( size, read );
+		// the content of the buffer was never materialized on the heap
+		assertTrue( "Allocated " + allocated + " bytes", allocated < size / 16 );
+
+		final ByteBuffer heapBuffer = ByteBuffer.wrap( new byte[size] );
+		final long beforeTransfer = threadMXBean.getThreadAllocatedBytes( threadId );
+		typeDescriptor().unwrap( heapBuffer, BinaryStream.class, wrapperOptions )
+				.getInputStream().transferTo( OutputStream.nullOutputStream() );
+		final long allocatedByTransfer = threadMXBean.getThreadAllocatedBytes( threadId ) - beforeTransfer;
+		assertTrue( "Allocated " + allocatedByTransfer + " bytes", allocatedByTransfer < size / 16 );
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.type.java;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.internal.BasicAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = ByteBufferMappingTests.ByteBufferMappingTestEntity.class )
+@SessionFactory
+public class ByteBufferMappingTests {
+	@Test
+	public void basicAssertions(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister entityDescriptor =
+				sessionFactory.getMappingMetamodel().getEntityDescriptor( ByteBufferMappingTestEntity.class );
+
+		final BasicAttributeMapping dataAttribute = (BasicAttributeMapping) entityDescriptor.findAttributeMapping( "data" );
+		assertThat( dataAttribute.getJdbcMapping().getJdbcType().getJdbcTypeCode() ).isEqualTo( Types.VARBINARY );
+		assertThat( dataAttribute.getJdbcMapping().getJavaTypeDescriptor().getJavaTypeClass() ).isEqualTo( ByteBuffer.class );
+
+		final BasicAttributeMapping documentAttribute = (BasicAttributeMapping) entityDescriptor.findAttributeMapping( "document" );
+		assertThat( documentAttribute.getJdbcMapping().getJavaTypeDescriptor().getJavaTypeClass() ).isEqualTo( ByteBuffer.class );
+	}
+
+	@Test
+	public void testUsage(SessionFactoryScope scope) {
+		final byte[] bytes = new byte[] { 1, 2, 3, 4, 5 };
+		final ByteBuffer direct = ByteBuffer.allocateDirect( bytes.length ).put( bytes ).flip();
+
+		scope.inTransaction( (session) -> {
+			session.persist( new ByteBufferMappingTestEntity( 1, ByteBuffer.wrap( bytes ), ByteBuffer.wrap( bytes ) ) );
+			session.persist( new ByteBufferMappingTestEntity( 2, direct, direct.slice( 1, 3 ) ) );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final ByteBufferMappingTestEntity heap = session.find( ByteBufferMappingTestEntity.class, 1 );
+			assertThat( heap.data ).isEqualTo( ByteBuffer.wrap( bytes ) );
+			assertThat( heap.document ).isEqualTo( ByteBuffer.wrap( bytes ) );
+
+			final ByteBufferMappingTestEntity streamed = session.find( ByteBufferMappingTestEntity.class, 2 );
+			assertThat( streamed.data ).isEqualTo( ByteBuffer.wrap( bytes ) );
+			assertThat( streamed.document ).isEqualTo( ByteBuffer.wrap( bytes, 1, 3 ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Entity( name = "ByteBufferMappingTestEntity" )
+	@Table( name = "byte_buffer_map_test_entity" )
+	public static class ByteBufferMappingTestEntity {
+		@Id
+		private Integer id;
+
+		private ByteBuffer data;
+
+		@Lob
+		private ByteBuffer document;
+
+		public ByteBufferMappingTestEntity() {
+		}
+
+		public ByteBufferMappingTestEntity(Integer id, ByteBuffer data, ByteBuffer document) {
+			this.id = id;
+			this.data = data;
+			this.document = document;
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.proxy;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.ProxyConfiguration;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the generation of proxy classes at build time, using
+ * {@link ByteBuddyProxyHelper#buildProxyBytecode}.
+ */
+public class ProxyClassGenerationTest {
+
+	@Test
+	void testGenerateProxyClass() throws Exception {
+		final ByteBuddyProxyHelper proxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String proxyClassName = ByteBuddyProxyHelper.getProxyClassName( Book.class.getName() );
+		final Map<String, byte[]> bytecode = proxyHelper.buildProxyBytecode( Book.class.getName(), classLoader );
+		assertThat( bytecode ).containsKey( proxyClassName );
+
+		final Class<?> proxyClass = new ClassLoader( classLoader ) {
+			@Override
+			protected Class<?> findClass(String name) throws ClassNotFoundException {
+				final byte[] bytes = bytecode.get( name );
+				return bytes != null
+						? defineClass( name, bytes, 0, bytes.length )
+						: super.findClass( name );
+			}
+		}.loadClass( proxyClassName );
+		assertThat( proxyClass.getName() ).isEqualTo( proxyClassName );
+		assertThat( proxyClass.getSuperclass() ).isEqualTo( Book.class );
+		assertThat( HibernateProxy.class ).isAssignableFrom( proxyClass );
+		assertThat( ProxyConfiguration.class ).isAssignableFrom( proxyClass );
+		assertThat( proxyClass.getField( ProxyConfiguration.STRUCTURE_FIELD_NAME ).get( null ) ).isNotNull();
+	}
+
+	@Test
+	void testPreGeneratedProxyClassUsed() throws Exception {
+		final Map<String, byte[]> bytecode = new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxyBytecode( Publisher.class.getName(), getClass().getClassLoader() );
+		// define the classes in the class loader of the entity class, as if
+		// the enhancement plugin had written them out next to the entity class
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		for ( byte[] bytes : bytecode.values() ) {
+			lookup.defineClass( bytes );
+		}
+		final Class<?> proxyClass = Class.forName(
+				ByteBuddyProxyHelper.getProxyClassName( Publisher.class.getName() ),
+				false,
+				Publisher.class.getClassLoader()
+		);
+
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.build();
+		try ( SessionFactory sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( Publisher.class )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			sessionFactory.inTransaction( session -> session.persist( new Publisher( 1L, "Manning" ) ) );
+			sessionFactory.inTransaction( session -> {
+				final Publisher publisher = session.getReference( Publisher.class, 1L );
+				assertThat( publisher.getClass() ).isSameAs( proxyClass );
+				assertThat( Hibernate.isInitialized( publisher ) ).isFalse();
+				// calls are forwarded to the proxied object
+				assertThat( publisher.getName() ).isEqualTo( "Manning" );
+				assertThat( Hibernate.isInitialized( publisher ) ).isTrue();
+				// and the proxy is returned in place of the proxied object
+				assertThat( publisher.rename( "Apress" ) ).isSameAs( publisher );
+				assertThat( publisher.getName() ).isEqualTo( "Apress" );
+			} );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Test
+	void testStalePreGeneratedProxyClassNotUsed() throws Exception {
+		// a proxy class generated at build time for an older version of the entity class
+		final byte[] bytecode = new ByteBuddy()
+				.subclass( Magazine.class )
+				.name( ByteBuddyProxyHelper.getProxyClassName( Magazine.class.getName() ) )
+				.implement( HibernateProxy.class, ProxyConfiguration.class )
+				.defineField( ProxyConfiguration.STRUCTURE_FIELD_NAME, String.class,
+						Visibility.PUBLIC, Ownership.STATIC, FieldManifestation.FINAL )
+						.value( "stale" )
+				.make()
+				.getBytes();
+		final Class<?> staleProxyClass = MethodHandles.lookup().defineClass( bytecode );
+
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.build();
+		try ( SessionFactory sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( Magazine.class )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			sessionFactory.inTransaction( session -> session.persist( new Magazine( 1L, "Wired" ) ) );
+			sessionFactory.inTransaction( session -> {
+				final Magazine magazine = session.getReference( Magazine.class, 1L );
+				assertThat( magazine.getClass() ).isNotSameAs( staleProxyClass );
+				assertThat( Hibernate.isInitialized( magazine ) ).isFalse();
+				assertThat( magazine.getTitle() ).isEqualTo( "Wired" );
+				assertThat( Hibernate.isInitialized( magazine ) ).isTrue();
+			} );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Test
+	void testSkipNonEntityClass() {
+		final ByteBuddyProxyHelper proxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		assertThat( proxyHelper.buildProxyBytecode( NotAnEntity.class.getName(), getClass().getClassLoader() ) )
+				.isNull();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Publisher rename(String name) {
+			this.name = name;
+			return this;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	public static class Magazine {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Magazine() {
+		}
+
+		public Magazine(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	public static class NotAnEntity {
+	}
+}
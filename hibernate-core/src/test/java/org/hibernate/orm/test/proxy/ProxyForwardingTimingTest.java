@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.proxy;
+
+import java.lang.reflect.Method;
+
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.ProxyConfiguration;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the time taken by calls which an initialized proxy forwards to the
+ * proxied object with the time taken by the same calls through the reflective
+ * path of the proxy interceptor.
+ */
+@DomainModel(annotatedClasses = ProxyForwardingTimingTest.Author.class)
+@SessionFactory
+public class ProxyForwardingTimingTest {
+
+	private static final int ROUNDS = 20;
+	private static final int CALLS = 100_000;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testForwardedCallsNotSlowerThanReflection(SessionFactoryScope scope) throws Exception {
+		final Method getName = Author.class.getMethod( "getName" );
+		scope.inTransaction( session -> session.persist( new Author( 1L, "Gavin" ) ) );
+		scope.inTransaction( session -> {
+			final Author author = session.getReference( Author.class, 1L );
+			Hibernate.initialize( author );
+			final ProxyConfiguration.Interceptor interceptor = (ProxyConfiguration.Interceptor)
+					( (HibernateProxy) author ).getHibernateLazyInitializer();
+
+			long forwarded = Long.MAX_VALUE;
+			long reflective = Long.MAX_VALUE;
+			long length = 0;
+			// the best of several rounds, so that the first rounds warm up both paths
+			for ( int round = 0; round < ROUNDS; round++ ) {
+				long start = System.nanoTime();
+				for ( int i = 0; i < CALLS; i++ ) {
+					length += author.getName().length();
+				}
+				forwarded = Math.min( forwarded, System.nanoTime() - start );
+
+				start = System.nanoTime();
+				for ( int i = 0; i < CALLS; i++ ) {
+					length += intercept( interceptor, author, getName ).length();
+				}
+				reflective = Math.min( reflective, System.nanoTime() - start );
+			}
+			assertThat( length ).isEqualTo( 2L * ROUNDS * CALLS * "Gavin".length() );
+			// a generous margin, since timings are noisy on a shared machine
+			assertThat( forwarded ).isLessThanOrEqualTo( reflective * 3 / 2 );
+		} );
+	}
+
+	private static String intercept(ProxyConfiguration.Interceptor interceptor, Object proxy, Method method) {
+		try {
+			return (String) interceptor.intercept( proxy, method, new Object[0] );
+		}
+		catch (Throwable e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
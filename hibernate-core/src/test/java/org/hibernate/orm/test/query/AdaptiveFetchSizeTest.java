@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#ADAPTIVE_FETCH_SIZE}
+ */
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.Document.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_FETCH_SIZE, value = "4"),
+				@Setting(name = AvailableSettings.ADAPTIVE_FETCH_SIZE, value = "true"),
+				@Setting(name = AvailableSettings.MAX_FETCH_SIZE, value = "50")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class AdaptiveFetchSizeTest {
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) {
+		final Map<String, Object> props = scope.getSessionFactory().getProperties();
+		connectionProvider = (PreparedStatementSpyConnectionProvider) props.get( AvailableSettings.CONNECTION_PROVIDER );
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 100; i++ ) {
+				session.persist( new Document( i, i <= 10 ? "small" : "large" ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testFetchSizeAdaptsToResultSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// no previous execution: the configured fetch size is used
+			assertThat( findByCategory( session, "small" ) ).hasSize( 10 );
+			assertThat( fetchSizes() ).containsExactly( 4 );
+
+			assertThat( findByCategory( session, "small" ) ).hasSize( 10 );
+			assertThat( fetchSizes() ).containsExactly( 4, 11 );
+
+			// previous executions are taken into account
+			assertThat( findByCategory( session, "large" ) ).hasSize( 90 );
+			assertThat( fetchSizes() ).containsExactly( 4, 11 );
+			// a high percentile, not the mean, of the previous row counts is used
+			assertThat( findByCategory( session, "large" ) ).hasSize( 90 );
+			assertThat( fetchSizes() ).containsExactly( 4, 50 );
+			assertThat( findByCategory( session, "small" ) ).hasSize( 10 );
+			assertThat( fetchSizes() ).containsExactly( 4, 50 );
+		} );
+	}
+
+	@Test
+	public void testEmptyResultKeepsDefaultFetchSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				connectionProvider.clear();
+				assertThat( session.createQuery( "from Document where id < 0", Document.class ).getResultList() )
+						.isEmpty();
+			}
+			// never smaller than the fetch size the statement already has
+			assertThat( fetchSizes() ).containsExactly( 4 );
+		} );
+	}
+
+	@Test
+	public void testUnboundedDriverFetchSizeKept() {
+		final AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize();
+		adaptiveFetchSize.recordRows( 10 );
+		assertThat( adaptiveFetchSize.determineFetchSize( 0, 50 ) ).isZero();
+		assertThat( adaptiveFetchSize.determineFetchSize( 4, 50 ) ).isEqualTo( 11 );
+		assertThat( adaptiveFetchSize.determineFetchSize( 20, 50 ) ).isZero();
+	}
+
+	@Test
+	public void testMaximumFetchSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				connectionProvider.clear();
+				assertThat( session.createQuery( "from Document", Document.class ).getResultList() ).hasSize( 100 );
+			}
+			assertThat( fetchSizes() ).containsExactly( 4, 50 );
+		} );
+	}
+
+	@Test
+	public void testNativeQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				final List<?> result =
+						session.createNativeQuery( "select id from Document where id <= 20", Integer.class )
+								.getResultList();
+				assertThat( result ).hasSize( 20 );
+			}
+			assertThat( fetchSizes() ).containsExactly( 4, 21 );
+		} );
+	}
+
+	@Test
+	public void testExplicitFetchSizeWins(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				final List<Document> result =
+						session.createQuery( "from Document where id <= 30", Document.class )
+								.setFetchSize( 7 )
+								.getResultList();
+				assertThat( result ).hasSize( 30 );
+			}
+			assertThat( fetchSizes() ).containsExactly( 4, 7 );
+		} );
+	}
+
+	private List<Document> findByCategory(Session session, String category) {
+		connectionProvider.clear();
+		return session.createQuery( "from Document where category = :category", Document.class )
+				.setParameter( "category", category )
+				.getResultList();
+	}
+
+	private List<Integer> fetchSizes() {
+		final List<PreparedStatement> preparedStatements = connectionProvider.getPreparedStatements();
+		try {
+			return connectionProvider.spyContext.getCalls(
+							Statement.class.getMethod( "setFetchSize", int.class ),
+							preparedStatements.get( preparedStatements.size() - 1 )
+					)
+					.stream()
+					.map( arguments -> (Integer) arguments[0] )
+					.toList();
+		}
+		catch (NoSuchMethodException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Document")
+	@Table(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String category;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String category) {
+			this.id = id;
+			this.category = category;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getCategory() {
+			return category;
+		}
+	}
+}
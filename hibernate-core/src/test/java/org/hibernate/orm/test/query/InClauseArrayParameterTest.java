@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER}
+ */
+@DomainModel(annotatedClasses = InClauseArrayParameterTest.Person.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.IN_CLAUSE_ARRAY_PARAMETER, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseArrayParameterTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testSameSqlForAnyListSize(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			assertThat( findByIds( session, List.of( 1 ) ) ).hasSize( 1 );
+			assertThat( findByIds( session, List.of( 1, 2, 3 ) ) ).hasSize( 3 );
+			assertThat( findByIds( session, List.of( 1, 2, 3, 4, 5, 6, 7 ) ) ).hasSize( 7 );
+		} );
+
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 3 );
+		if ( MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+			assertThat( sqlQueries.get( 1 ) ).isEqualTo( sqlQueries.get( 0 ) );
+			assertThat( sqlQueries.get( 2 ) ).isEqualTo( sqlQueries.get( 0 ) );
+			assertThat( StringHelper.count( sqlQueries.get( 2 ), '?' ) ).isEqualTo( 1 );
+		}
+		else {
+			assertThat( StringHelper.count( sqlQueries.get( 2 ), '?' ) ).isEqualTo( 7 );
+		}
+	}
+
+	@Test
+	public void testLargeList(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 0; i < 1_000; i++ ) {
+			ids.add( i );
+		}
+		scope.inTransaction( session -> assertThat( findByIds( session, ids ) ).hasSize( 10 ) );
+	}
+
+	@Test
+	public void testNotIn(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Person> result = session.createQuery( "from Person p where p.id not in (:ids)", Person.class )
+					.setParameter( "ids", List.of( 1, 2, 3 ) )
+					.getResultList();
+			assertThat( result ).extracting( Person::getId ).containsExactlyInAnyOrder( 4, 5, 6, 7, 8, 9, 10 );
+		} );
+	}
+
+	@Test
+	public void testEmptyList(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat( findByIds( session, List.of() ) ).isEmpty() );
+	}
+
+	@Test
+	public void testNonIdAttribute(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Person> result = session.createQuery( "from Person p where p.name in (:names)", Person.class )
+					.setParameter( "names", List.of( "Person nr 2", "Person nr 4", "unknown" ) )
+					.getResultList();
+			assertThat( result ).extracting( Person::getId ).containsExactlyInAnyOrder( 2, 4 );
+		} );
+	}
+
+	@Test
+	public void testCriteria(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<Person> query = cb.createQuery( Person.class );
+			final Root<Person> root = query.from( Person.class );
+			@SuppressWarnings("rawtypes")
+			final ParameterExpression<List> ids = cb.parameter( List.class, "ids" );
+			query.where( root.get( "id" ).in( ids ) );
+			final List<Person> result = session.createQuery( query )
+					.setParameter( "ids", List.of( 3, 5 ) )
+					.getResultList();
+			assertThat( result ).extracting( Person::getId ).containsExactlyInAnyOrder( 3, 5 );
+		} );
+	}
+
+	private static List<Person> findByIds(Session session, List<Integer> ids) {
+		return session.createQuery( "from Person p where p.id in (:ids)", Person.class )
+				.setParameter( "ids", ids )
+				.getResultList();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
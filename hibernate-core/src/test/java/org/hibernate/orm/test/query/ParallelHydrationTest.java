@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#PARALLEL_HYDRATION_BATCH_SIZE}
+ */
+@DomainModel(annotatedClasses = ParallelHydrationTest.Measurement.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARALLEL_HYDRATION_BATCH_SIZE, value = "64"),
+		@Setting(name = AvailableSettings.PARALLEL_HYDRATION_EXECUTOR,
+				value = "org.hibernate.orm.test.query.ParallelHydrationTest$HydrationExecutor")
+})
+@SessionFactory
+public class ParallelHydrationTest {
+	private static final int ROWS = 1_000;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ROWS; i++ ) {
+				session.persist( new Measurement( i, new Reading( "sensor-" + i, i * 0.5 ) ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testReadOnlyProjection(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			HydrationExecutor.TASKS.set( 0 );
+			final List<Object[]> result =
+					session.createSelectionQuery( "select m.id, m.reading from Measurement m order by m.id", Object[].class )
+							.setReadOnly( true )
+							.getResultList();
+			// every full batch but the last is hydrated by the executor
+			assertThat( HydrationExecutor.TASKS.get() ).isEqualTo( ROWS / 64 );
+			assertThat( result ).hasSize( ROWS );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertThat( result.get( i )[0] ).isEqualTo( i );
+				assertThat( result.get( i )[1] ).isEqualTo( new Reading( "sensor-" + i, i * 0.5 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testReadOnlyInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Summary> result = session.createSelectionQuery(
+							"select new " + Summary.class.getName() + "(m.id, m.reading) from Measurement m order by m.id",
+							Summary.class
+					)
+					.setReadOnly( true )
+					.getResultList();
+			assertThat( result ).hasSize( ROWS );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertThat( result.get( i ).id() ).isEqualTo( i );
+				assertThat( result.get( i ).reading().sensor() ).isEqualTo( "sensor-" + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testDefaultReadOnlySession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final List<Integer> result =
+					session.createSelectionQuery( "select m.id from Measurement m order by m.id", Integer.class )
+							.getResultList();
+			assertThat( result ).hasSize( ROWS );
+			assertThat( result.get( ROWS - 1 ) ).isEqualTo( ROWS - 1 );
+		} );
+	}
+
+	@Test
+	public void testRejectedBatchesHydratedByCallingThread(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			HydrationExecutor.REJECT = true;
+			try {
+				final List<Integer> result =
+						session.createSelectionQuery( "select m.id from Measurement m order by m.id", Integer.class )
+								.setReadOnly( true )
+								.getResultList();
+				assertThat( result ).hasSize( ROWS );
+				for ( int i = 0; i < ROWS; i++ ) {
+					assertThat( result.get( i ) ).isEqualTo( i );
+				}
+			}
+			finally {
+				HydrationExecutor.REJECT = false;
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesNotAffected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			HydrationExecutor.TASKS.set( 0 );
+			final List<Measurement> result =
+					session.createSelectionQuery( "from Measurement m order by m.id", Measurement.class )
+							.setReadOnly( true )
+							.getResultList();
+			assertThat( HydrationExecutor.TASKS.get() ).isZero();
+			assertThat( result ).hasSize( ROWS );
+			assertThat( session.contains( result.get( 0 ) ) ).isTrue();
+			assertThat( session.isReadOnly( result.get( 0 ) ) ).isTrue();
+		} );
+	}
+
+	public static class HydrationExecutor implements Executor {
+		static final AtomicInteger TASKS = new AtomicInteger();
+		static volatile boolean REJECT;
+
+		@Override
+		public void execute(Runnable task) {
+			if ( REJECT ) {
+				throw new RejectedExecutionException();
+			}
+			TASKS.incrementAndGet();
+			new Thread( task ).start();
+		}
+	}
+
+	public record Reading(String sensor, double value) {
+	}
+
+	public record Summary(Integer id, Reading reading) {
+	}
+
+	public static class ReadingConverter implements AttributeConverter<Reading, String> {
+		@Override
+		public String convertToDatabaseColumn(Reading reading) {
+			return reading == null ? null : reading.sensor() + "=" + reading.value();
+		}
+
+		@Override
+		public Reading convertToEntityAttribute(String string) {
+			if ( string == null ) {
+				return null;
+			}
+			final int separator = string.indexOf( '=' );
+			return new Reading( string.substring( 0, separator ), Double.parseDouble( string.substring( separator + 1 ) ) );
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		@Convert(converter = ReadingConverter.class)
+		private Reading reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, Reading reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.sql;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.results.ResultSetMapping;
+import org.hibernate.query.sql.internal.CachingJdbcValuesMappingProducer;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl.CapturingJdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the reuse of the {@link JdbcValuesMapping} of native queries
+ * across executions of the same query plan.
+ */
+@DomainModel(annotatedClasses = NativeQueryMappingCachingTests.Item.class)
+@SessionFactory
+public class NativeQueryMappingCachingTests {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testMetadataAccessedOnlyOnce(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final CachingJdbcValuesMappingProducer producer = new CachingJdbcValuesMappingProducer(
+				ResultSetMapping.resolveResultSetMapping( "test", true, sessionFactory )
+		);
+
+		final CountingJdbcValuesMetadata metadata = new CountingJdbcValuesMetadata();
+		final JdbcValuesMapping first = producer.resolve( metadata, null, sessionFactory );
+		final int accessCount = metadata.accessCount;
+		assertThat( accessCount ).isPositive();
+
+		final JdbcValuesMapping second = producer.resolve( metadata, null, sessionFactory );
+		assertThat( second ).isSameAs( first );
+		assertThat( metadata.accessCount ).isEqualTo( accessCount );
+	}
+
+	@Test
+	public void testMetadataForQueryCacheReplayed(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final CachingJdbcValuesMappingProducer producer = new CachingJdbcValuesMappingProducer(
+				ResultSetMapping.resolveResultSetMapping( "test", true, sessionFactory )
+		);
+		producer.resolve( new CountingJdbcValuesMetadata(), null, sessionFactory );
+
+		// a later execution whose results are put in the query cache
+		final CountingJdbcValuesMetadata metadata = new CountingJdbcValuesMetadata();
+		final CapturingJdbcValuesMetadata capturingMetadata = new CapturingJdbcValuesMetadata( metadata );
+		producer.resolve( capturingMetadata, null, sessionFactory );
+		assertThat( metadata.accessCount ).isZero();
+
+		final CachedJdbcValuesMetadata metadataForCache = capturingMetadata.resolveMetadataForCache();
+		assertThat( metadataForCache ).isNotNull();
+		assertThat( metadataForCache.getColumnCount() ).isEqualTo( 2 );
+		assertThat( metadataForCache.resolveColumnName( 2 ) ).isEqualTo( "name" );
+		assertThat( metadataForCache.resolveColumnPosition( "id" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRepeatedExecution(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Object[]> result =
+						session.createNativeQuery( "select id, name from Item order by id", Object[].class )
+								.getResultList();
+				assertThat( result ).hasSize( 2 );
+				assertThat( ( (Number) result.get( 0 )[0] ).intValue() ).isEqualTo( 1 );
+				assertThat( result.get( 1 )[1] ).isEqualTo( "second" );
+			} );
+		}
+	}
+
+	@Test
+	public void testEntityResultNotCached(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Item> result =
+						session.createNativeQuery( "select * from Item order by id", Item.class )
+								.getResultList();
+				assertThat( result ).extracting( Item::getName ).containsExactly( "first", "second" );
+			} );
+		}
+	}
+
+	private static class CountingJdbcValuesMetadata implements JdbcValuesMetadata {
+		private int accessCount;
+
+		@Override
+		public int getColumnCount() {
+			accessCount++;
+			return 2;
+		}
+
+		@Override
+		public int resolveColumnPosition(String columnName) {
+			accessCount++;
+			return "id".equals( columnName ) ? 1 : 2;
+		}
+
+		@Override
+		public String resolveColumnName(int position) {
+			accessCount++;
+			return position == 1 ? "id" : "name";
+		}
+
+		@Override
+		public <J> BasicType<J> resolveType(
+				int position,
+				JavaType<J> explicitJavaType,
+				TypeConfiguration typeConfiguration) {
+			accessCount++;
+			//noinspection unchecked
+			return (BasicType<J>) typeConfiguration.getBasicTypeForJavaType( position == 1 ? Integer.class : String.class );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ReadOnlyMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests sessions opened with {@link org.hibernate.SessionBuilder#readOnly(boolean)}.
+ */
+@DomainModel(annotatedClasses = ReadOnlySessionModeTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class ReadOnlySessionModeTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testNoSnapshotsAndNoFlush(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			final List<Item> items = session.createSelectionQuery( "from Item", Item.class ).list();
+			assertThat( items ).hasSize( 10 );
+			for ( Item item : items ) {
+				assertThat( session.isReadOnly( item ) ).isTrue();
+				final EntityEntry entry =
+						( (SessionImplementor) session ).getPersistenceContextInternal().getEntry( item );
+				assertThat( entry.getLoadedState() ).isNull();
+				item.name = "modified";
+			}
+			session.flush();
+			session.getTransaction().commit();
+		}
+		inspector.assertExecutedCount( 1 );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "item 1" ) );
+	}
+
+	@Test
+	public void testModificationsRejected(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			final Item item = session.find( Item.class, 1 );
+			assertThatThrownBy( () -> session.persist( new Item( 11, "item 11" ) ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.merge( new Item( 2, "merged" ) ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.remove( item ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.setReadOnly( item, false ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.createMutationQuery( "delete from Item" ).executeUpdate() )
+					.isInstanceOf( IllegalStateException.class );
+			session.getTransaction().rollback();
+		}
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( 10L ) );
+	}
+
+	@Test
+	public void testModifiableLoadsRejected(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			assertThatThrownBy( () -> session.createSelectionQuery( "from Item", Item.class )
+					.setReadOnly( false ).list() )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.createSelectionQuery( "from Item", Item.class )
+					.setHint( HibernateHints.HINT_READ_ONLY, false ).list() )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.find( Item.class, 1, Map.of( HibernateHints.HINT_READ_ONLY, false ) ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.find( Item.class, 1, ReadOnlyMode.READ_WRITE ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.byMultipleIds( Item.class ).withReadOnly( false ) )
+					.isInstanceOf( IllegalStateException.class );
+
+			// nothing was loaded in modifiable mode
+			final Item item = session.find( Item.class, 1 );
+			assertThat( session.isReadOnly( item ) ).isTrue();
+			session.getTransaction().rollback();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests {@linkplain StatelessSession#deleteMultiple} binding the identifiers as an array
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionDeleteMultipleTest.Item.class,
+		StatelessSessionDeleteMultipleTest.VersionedItem.class,
+		StatelessSessionDeleteMultipleTest.Part.class,
+		StatelessSessionDeleteMultipleTest.TaggedItem.class,
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class StatelessSessionDeleteMultipleTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testDeleteMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Item> items = new ArrayList<>();
+		for ( int i = 1; i <= 10; i++ ) {
+			items.add( new Item( i, "Item nr " + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( items ) );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( items.subList( 0, 7 ) ) );
+
+		if ( MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+			statementInspector.assertExecutedCount( 1 );
+		}
+		else {
+			statementInspector.assertExecutedCount( 7 );
+		}
+
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select id from Item order by id", Integer.class ).getResultList()
+		).containsExactly( 8, 9, 10 ) );
+	}
+
+	@Test
+	public void testDeleteMultipleWithRepeatedInstance(SessionFactoryScope scope) {
+		// deleting row by row, the second deletion of the same row is stale
+		assumeTrue( MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) );
+		final Item first = new Item( 1, "first" );
+		final Item second = new Item( 2, "second" );
+		final Item third = new Item( 3, "third" );
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of( first, second, third ) ) );
+
+		scope.inStatelessTransaction( session -> session.deleteMultiple( List.of( first, second, first ) ) );
+
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select id from Item", Integer.class ).getResultList()
+		).containsExactly( 3 ) );
+	}
+
+	@Test
+	public void testDeleteMultipleOfDifferentTypes(SessionFactoryScope scope) {
+		final List<Object> entities = List.of(
+				new Item( 1, "first" ),
+				new Item( 2, "second" ),
+				new VersionedItem( 1, "first" ),
+				new VersionedItem( 2, "second" ),
+				new Item( 3, "third" )
+		);
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		scope.inStatelessTransaction( session -> session.deleteMultiple( entities ) );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Item", Item.class ).getResultList() ).isEmpty();
+			assertThat( session.createSelectionQuery( "from VersionedItem", VersionedItem.class ).getResultList() )
+					.isEmpty();
+		} );
+	}
+
+	@Test
+	public void testDeleteMultipleAfterDependentRows(SessionFactoryScope scope) {
+		final Item item = new Item( 1, "first" );
+		final TaggedItem first = new TaggedItem( 1, "first" );
+		first.tags.add( "red" );
+		first.tags.add( "green" );
+		final TaggedItem second = new TaggedItem( 2, "second" );
+		second.tags.add( "blue" );
+		final List<Object> entities = List.of(
+				new Part( 1, item ),
+				item,
+				new Item( 2, "second" ),
+				first,
+				second
+		);
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of(
+				item,
+				entities.get( 0 ),
+				entities.get( 2 ),
+				first,
+				second
+		) ) );
+
+		// the part and the collection rows must be deleted before their owners
+		scope.inStatelessTransaction( session -> session.deleteMultiple( entities ) );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Item", Item.class ).getResultList() ).isEmpty();
+			assertThat( session.createSelectionQuery( "from Part", Part.class ).getResultList() ).isEmpty();
+			assertThat( session.createSelectionQuery( "from TaggedItem", TaggedItem.class ).getResultList() )
+					.isEmpty();
+			assertThat( session.createNativeQuery( "select count(*) from TaggedItem_tags", Long.class )
+					.getSingleResult() ).isZero();
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "VersionedItem")
+	public static class VersionedItem {
+		@Id
+		private Integer id;
+
+		@Version
+		private Integer version;
+
+		private String name;
+
+		public VersionedItem() {
+		}
+
+		public VersionedItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Part")
+	public static class Part {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Item item;
+
+		public Part() {
+		}
+
+		public Part(Integer id, Item item) {
+			this.id = id;
+			this.item = item;
+		}
+	}
+
+	@Entity(name = "TaggedItem")
+	public static class TaggedItem {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public TaggedItem() {
+		}
+
+		public TaggedItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.StatelessSession;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@linkplain StatelessSession#insertMultiple} of entities with an identity column
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionBatchedIdentityInsertTest.Book.class,
+		StatelessSessionBatchedIdentityInsertTest.Author.class,
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+public class StatelessSessionBatchedIdentityInsertTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Book> books = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			books.add( new Book( "Book nr " + i ) );
+		}
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( books ) );
+
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().supportsBatchedInsertReturningGeneratedKeys() ) {
+			statementInspector.assertExecutedCount( 1 );
+		}
+		else {
+			statementInspector.assertExecutedCount( 20 );
+		}
+		assertThat( books ).extracting( Book::getId ).doesNotContainNull().doesNotHaveDuplicates();
+
+		scope.inStatelessTransaction( session -> {
+			for ( Book book : books ) {
+				assertThat( session.get( Book.class, book.getId() ).getTitle() ).isEqualTo( book.getTitle() );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleOfDifferentTypes(SessionFactoryScope scope) {
+		final List<Object> entities = List.of(
+				new Author( "First" ),
+				new Book( "First book" ),
+				new Book( "Second book" ),
+				new Author( "Second" ),
+				new Author( "Third" )
+		);
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.get( Author.class, ( (Author) entities.get( 0 ) ).getId() ).getName() )
+					.isEqualTo( "First" );
+			assertThat( session.get( Book.class, ( (Book) entities.get( 2 ) ).getId() ).getTitle() )
+					.isEqualTo( "Second book" );
+			assertThat( session.get( Author.class, ( (Author) entities.get( 4 ) ).getId() ).getName() )
+					.isEqualTo( "Third" );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(String title) {
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
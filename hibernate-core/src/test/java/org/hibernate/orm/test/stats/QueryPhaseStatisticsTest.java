@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.QueryPhase;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value StatisticsSettings#QUERY_PHASE_STATISTICS}
+ */
+@DomainModel(annotatedClasses = QueryPhaseStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = StatisticsSettings.QUERY_PHASE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class QueryPhaseStatisticsTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Employee( "Gavin" ) );
+			session.persist( new Employee( "Steve" ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testHqlQueryPhases(SessionFactoryScope scope) {
+		final String hql = "from Employee e where e.name <> 'Max'";
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session ->
+					assertThat( session.createSelectionQuery( hql, Employee.class ).getResultList() ).hasSize( 2 )
+			);
+		}
+
+		final QueryStatistics queryStatistics = scope.getSessionFactory().getStatistics().getQueryStatistics( hql );
+		assertThat( queryStatistics.getExecutionCount() ).isEqualTo( 2 );
+		// the query plan is reused by the second execution
+		assertPhase( queryStatistics, QueryPhase.PARSE, 1 );
+		assertPhase( queryStatistics, QueryPhase.INTERPRETATION, 1 );
+		assertPhase( queryStatistics, QueryPhase.RENDERING, 1 );
+		assertPhase( queryStatistics, QueryPhase.EXECUTION, 2 );
+		assertPhase( queryStatistics, QueryPhase.HYDRATION, 2 );
+	}
+
+	@Test
+	public void testCriteriaQueryPhases(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+			final CriteriaQuery<Employee> criteriaQuery = criteriaBuilder.createQuery( Employee.class );
+			criteriaQuery.from( Employee.class );
+			assertThat( session.createQuery( criteriaQuery ).getResultList() ).hasSize( 2 );
+		} );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final List<String> queries = Arrays.stream( statistics.getQueries() )
+				.filter( query -> query.startsWith( "[CRITERIA]" ) )
+				.toList();
+		assertThat( queries ).hasSize( 1 );
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( queries.get( 0 ) );
+		assertPhase( queryStatistics, QueryPhase.PARSE, 0 );
+		assertPhase( queryStatistics, QueryPhase.INTERPRETATION, 1 );
+		assertPhase( queryStatistics, QueryPhase.RENDERING, 1 );
+		assertPhase( queryStatistics, QueryPhase.EXECUTION, 1 );
+		assertPhase( queryStatistics, QueryPhase.HYDRATION, 1 );
+	}
+
+	@Test
+	public void testStatisticsDisabled(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "from Employee e where e.name = 'Gavin'";
+		statistics.setStatisticsEnabled( false );
+		try {
+			scope.inTransaction( session ->
+					assertThat( session.createSelectionQuery( hql, Employee.class ).getResultList() ).hasSize( 1 )
+			);
+		}
+		finally {
+			statistics.setStatisticsEnabled( true );
+		}
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
+		for ( QueryPhase phase : QueryPhase.values() ) {
+			assertPhase( queryStatistics, phase, 0 );
+		}
+	}
+
+	private static void assertPhase(QueryStatistics queryStatistics, QueryPhase phase, long count) {
+		assertThat( queryStatistics.getPhaseExecutionCount( phase ) ).as( phase.name() ).isEqualTo( count );
+		assertThat( Arrays.stream( queryStatistics.getPhaseHistogram( phase ) ).sum() )
+				.as( phase.name() )
+				.isEqualTo( count );
+		assertThat( queryStatistics.getPhaseTotalNanoseconds( phase ) )
+				.as( phase.name() )
+				.isGreaterThanOrEqualTo( queryStatistics.getPhaseMaxNanoseconds( phase ) );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private String name;
+
+		public Employee() {
+		}
+
+		public Employee(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
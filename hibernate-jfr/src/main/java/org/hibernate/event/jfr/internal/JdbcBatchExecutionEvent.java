@@ -26,6 +26,12 @@ public class JdbcBatchExecutionEvent extends Event implements DiagnosticEvent {
 	@Label("PreparedStatement SQL")
 	public String sql;
 
+	@Label("Row Count")
+	public int rowCount;
+
+	@Label("Batch Size")
+	public int batchSize;
+
 	@Override
 	public String toString() {
 		return NAME;
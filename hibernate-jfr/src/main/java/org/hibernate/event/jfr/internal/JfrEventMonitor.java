@@ -15,6 +15,7 @@
 import org.hibernate.internal.build.AllowNonPortable;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.QueryPhase;
 import org.hibernate.stat.internal.StatsHelper;
 
 import jdk.jfr.EventType;
@@ -50,6 +51,8 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType queryPhaseEventType = EventType.getEventType( QueryPhaseEvent.class );
+	private static final EventType nPlusOneDetectionEventType = EventType.getEventType( NPlusOneDetectionEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -241,6 +244,24 @@ public void completeJdbcBatchExecutionEvent(
 		}
 	}
 
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent monitoringEvent,
+			String statementSql,
+			int rowCount,
+			int batchSize) {
+		if ( monitoringEvent != null ) {
+			final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = (JdbcBatchExecutionEvent) monitoringEvent;
+			jdbcBatchExecutionEvent.end();
+			if ( jdbcBatchExecutionEvent.shouldCommit() ) {
+				jdbcBatchExecutionEvent.sql = statementSql;
+				jdbcBatchExecutionEvent.rowCount = rowCount;
+				jdbcBatchExecutionEvent.batchSize = batchSize;
+				jdbcBatchExecutionEvent.commit();
+			}
+		}
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		if ( cachePutEventType.isEnabled() ) {
@@ -779,6 +800,77 @@ public void completeCollectionRemoveEvent(
 		}
 	}
 
+	@Override
+	public DiagnosticEvent beginQueryPhaseEvent() {
+		if ( queryPhaseEventType.isEnabled() ) {
+			final QueryPhaseEvent event = new QueryPhaseEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void endQueryPhaseEvent(DiagnosticEvent event) {
+		if ( event != null ) {
+			final QueryPhaseEvent queryPhaseEvent = (QueryPhaseEvent) event;
+			queryPhaseEvent.end();
+			queryPhaseEvent.ended = true;
+		}
+	}
+
+	@Override
+	public void completeQueryPhaseEvent(
+			DiagnosticEvent event,
+			String query,
+			QueryPhase phase,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final QueryPhaseEvent queryPhaseEvent = (QueryPhaseEvent) event;
+			if ( !queryPhaseEvent.ended ) {
+				queryPhaseEvent.end();
+			}
+			if ( queryPhaseEvent.shouldCommit() ) {
+				queryPhaseEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryPhaseEvent.query = query;
+				queryPhaseEvent.phase = phase.name();
+				queryPhaseEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public NPlusOneDetectionEvent beginNPlusOneDetectionEvent() {
+		if ( nPlusOneDetectionEventType.isEnabled() ) {
+			final NPlusOneDetectionEvent nPlusOneDetectionEvent = new NPlusOneDetectionEvent();
+			nPlusOneDetectionEvent.begin();
+			return nPlusOneDetectionEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeNPlusOneDetectionEvent(
+			DiagnosticEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int batchSize) {
+		if ( monitoringEvent != null ) {
+			final NPlusOneDetectionEvent nPlusOneDetectionEvent = (NPlusOneDetectionEvent) monitoringEvent;
+			nPlusOneDetectionEvent.end();
+			if ( nPlusOneDetectionEvent.shouldCommit() ) {
+				nPlusOneDetectionEvent.sessionIdentifier = getSessionIdentifier( session );
+				nPlusOneDetectionEvent.role = role;
+				nPlusOneDetectionEvent.batchSize = batchSize;
+				nPlusOneDetectionEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		if ( session == null ) {
 			return null;
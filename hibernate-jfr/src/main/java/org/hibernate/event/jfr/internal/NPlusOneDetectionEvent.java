@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(NPlusOneDetectionEvent.NAME)
+@Label("N+1 Selects Detection")
+@Category("Hibernate ORM")
+@Description("N+1 selects detected for an entity or collection role, which was switched to batch fetching")
+@StackTrace
+@AllowNonPortable
+public class NPlusOneDetectionEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.NPlusOneDetectionEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Entity Name or Collection Role")
+	public String role;
+
+	@Label("Batch Size")
+	public int batchSize;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
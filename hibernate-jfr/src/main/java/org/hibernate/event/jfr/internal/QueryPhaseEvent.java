@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+@Name(QueryPhaseEvent.NAME)
+@Label("Query Phase")
+@Category("Hibernate ORM")
+@Description("Query Execution Phase")
+@StackTrace
+@AllowNonPortable
+public class QueryPhaseEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryPhaseEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Query")
+	public String query;
+
+	@Label("Phase")
+	public String phase;
+
+	// the phase ended before the query identifier was known
+	transient boolean ended;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
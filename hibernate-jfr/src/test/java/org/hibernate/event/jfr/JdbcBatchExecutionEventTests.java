@@ -65,6 +65,8 @@ public void testJdbcBatchExecutionEvent(SessionFactoryScope scope) {
 					assertThat( jdbcBatchExecutionEvent.getDuration() ).isPositive();
 					assertThat( jdbcBatchExecutionEvent.getString( "sql" ).toLowerCase( Locale.ROOT ) )
 							.contains( "insert into " );
+					assertThat( jdbcBatchExecutionEvent.getInt( "rowCount" ) ).isEqualTo( 5 );
+					assertThat( jdbcBatchExecutionEvent.getInt( "batchSize" ) ).isEqualTo( 5 );
 
 					jdbcBatchExecutionEvent = events.get( 1 );
 					assertThat( jdbcBatchExecutionEvent.getEventType().getName() )
@@ -72,6 +74,8 @@ public void testJdbcBatchExecutionEvent(SessionFactoryScope scope) {
 					assertThat( jdbcBatchExecutionEvent.getDuration() ).isPositive();
 					assertThat( jdbcBatchExecutionEvent.getString( "sql" ).toLowerCase( Locale.ROOT ) )
 							.contains( "insert into " );
+					assertThat( jdbcBatchExecutionEvent.getInt( "rowCount" ) ).isEqualTo( 3 );
+					assertThat( jdbcBatchExecutionEvent.getInt( "batchSize" ) ).isEqualTo( 5 );
 				}
 		);
 
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.NPlusOneDetectionEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		NPlusOneDetectionEventTests.Parent.class,
+		NPlusOneDetectionEventTests.Child.class
+})
+@SessionFactory
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true")
+)
+public class NPlusOneDetectionEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(NPlusOneDetectionEvent.NAME)
+	public void testNPlusOneDetectionEvent(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Parent( i ) );
+					}
+				}
+		);
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					final List<Parent> parents =
+							session.createSelectionQuery( "from Parent", Parent.class ).list();
+					for ( Parent parent : parents ) {
+						assertThat( parent.children ).isEmpty();
+					}
+					final List<RecordedEvent> events = jfrEvents.events()
+							.filter(
+									recordedEvent ->
+									{
+										String eventName = recordedEvent.getEventType().getName();
+										return eventName.equals( NPlusOneDetectionEvent.NAME );
+									}
+							).toList();
+					assertThat( events ).hasSize( 1 );
+
+					RecordedEvent nPlusOneDetectionEvent = events.get( 0 );
+					assertThat( nPlusOneDetectionEvent.getEventType().getName() )
+							.isEqualTo( NPlusOneDetectionEvent.NAME );
+					assertThat( nPlusOneDetectionEvent.getString( "role" ) )
+							.isEqualTo( Parent.class.getName() + ".children" );
+					assertThat( nPlusOneDetectionEvent.getInt( "batchSize" ) ).isEqualTo( 8 );
+					assertThat( nPlusOneDetectionEvent.getString( "sessionIdentifier" ) )
+							.isEqualTo( session.getSessionIdentifier().toString() );
+				}
+		);
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.QueryPhaseEvent;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = QueryPhaseEventTests.TestEntity.class)
+@SessionFactory
+public class QueryPhaseEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(QueryPhaseEvent.NAME)
+	public void testQueryPhaseEvents(SessionFactoryScope scope) {
+		final String hql = "select t from TestEntity t";
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					session.createSelectionQuery( hql, TestEntity.class ).getResultList();
+					final List<RecordedEvent> events = jfrEvents.events()
+							.filter( recordedEvent -> recordedEvent.getEventType().getName()
+									.equals( QueryPhaseEvent.NAME ) )
+							.toList();
+					assertThat( events )
+							.extracting( event -> event.getString( "phase" ) )
+							.containsExactly( "INTERPRETATION", "RENDERING", "EXECUTION", "HYDRATION" );
+					for ( RecordedEvent event : events ) {
+						assertThat( event.getString( "query" ) ).isEqualTo( hql );
+						assertThat( event.getString( "sessionIdentifier" ) )
+								.isEqualTo( session.getSessionIdentifier().toString() );
+					}
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(QueryPhaseEvent.NAME)
+	public void testCriteriaQueryPhaseEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					final CriteriaBuilder builder = session.getCriteriaBuilder();
+					final CriteriaQuery<TestEntity> criteria = builder.createQuery( TestEntity.class );
+					criteria.from( TestEntity.class );
+					session.createSelectionQuery( criteria ).getResultList();
+					final List<RecordedEvent> events = jfrEvents.events()
+							.filter( recordedEvent -> recordedEvent.getEventType().getName()
+									.equals( QueryPhaseEvent.NAME ) )
+							.toList();
+					assertThat( events )
+							.extracting( event -> event.getString( "phase" ) )
+							.containsExactly( "INTERPRETATION", "RENDERING", "EXECUTION", "HYDRATION" );
+					// every phase is identified by the statistics key of the query
+					final String query = events.get( 0 ).getString( "query" );
+					assertThat( query ).startsWith( "[CRITERIA] select" );
+					assertThat( events )
+							.extracting( event -> event.getString( "query" ) )
+							.containsOnly( query );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(QueryPhaseEvent.NAME)
+	public void testNoQueryPhaseEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+				}
+		);
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName()
+						.equals( QueryPhaseEvent.NAME ) )
+				.toList();
+		assertThat( events ).isEmpty();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
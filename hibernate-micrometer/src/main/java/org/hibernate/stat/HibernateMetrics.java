@@ -142,6 +142,12 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.jdbc.batches", "The number of JDBC batches that were executed",
+				Statistics::getJdbcBatchCount
+		);
+		counter(registry, "hibernate.jdbc.batched.rows", "The number of rows added to JDBC batches that were executed",
+				Statistics::getJdbcBatchedRowCount
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
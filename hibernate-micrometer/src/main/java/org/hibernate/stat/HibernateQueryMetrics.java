@@ -16,6 +16,10 @@
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
 
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -89,9 +93,15 @@ public void bindTo(MeterRegistry meterRegistry) {
 		}
 	}
 
+	// bucket i of a phase histogram counts timings shorter than 2^i microseconds
+	private static Duration upperBound(int bucket) {
+		return Duration.ofNanos( 1_000L << bucket );
+	}
+
 	class MetricsEventHandler implements PostLoadEventListener {
 
 		private final MeterRegistry meterRegistry;
+		private final Map<String, PhaseDistribution> phaseDistributions = new ConcurrentHashMap<>();
 
 		MetricsEventHandler(MeterRegistry meterRegistry) {
 			this.meterRegistry = meterRegistry;
@@ -179,6 +189,84 @@ void registerQueryMetric(Statistics statistics) {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				for ( QueryPhase phase : QueryPhase.values() ) {
+					// only collected if enabled via StatisticsSettings.QUERY_PHASE_STATISTICS
+					if ( queryStatistics.getPhaseExecutionCount( phase ) > 0 ) {
+						registerQueryPhaseMetric( query, queryStatistics, phase );
+					}
+				}
+			}
+		}
+
+		void registerQueryPhaseMetric(String query, QueryStatistics queryStatistics, QueryPhase phase) {
+			final String phaseName = phase.name().toLowerCase( Locale.ROOT );
+
+			FunctionTimer.builder(
+					"hibernate.query.phase",
+					queryStatistics,
+					statistics -> statistics.getPhaseExecutionCount( phase ),
+					statistics -> statistics.getPhaseTotalNanoseconds( phase ),
+					TimeUnit.NANOSECONDS
+			)
+					.tags( tags )
+					.tags( "query", query, "phase", phaseName )
+					.description( "Time spent in a phase of query executions" )
+					.register( meterRegistry );
+
+			TimeGauge.builder(
+					"hibernate.query.phase.max",
+					queryStatistics,
+					TimeUnit.NANOSECONDS,
+					statistics -> statistics.getPhaseMaxNanoseconds( phase )
+			)
+					.tags( tags )
+					.tags( "query", query, "phase", phaseName )
+					.description( "Maximum time spent in a phase of query executions" )
+					.register( meterRegistry );
+
+			final long[] histogram = queryStatistics.getPhaseHistogram( phase );
+			if ( histogram.length > 0 ) {
+				phaseDistributions.computeIfAbsent(
+						phaseName + ':' + query,
+						key -> new PhaseDistribution( query, phaseName, histogram.length )
+				).update( histogram );
+			}
+		}
+
+		/**
+		 * A {@link Timer} publishing the {@linkplain QueryStatistics#getPhaseHistogram
+		 * histogram} of a phase of a query, with a service level objective at the
+		 * upper bound of each bucket of the histogram. The statistics only keep
+		 * the histogram, so each timing is recorded at the upper bound of its
+		 * bucket, and the total time of the timer is approximate. The exact total
+		 * is published by {@code hibernate.query.phase}.
+		 */
+		class PhaseDistribution {
+			private final Timer timer;
+			private final long[] recorded;
+
+			PhaseDistribution(String query, String phaseName, int bucketCount) {
+				final Duration[] upperBounds = new Duration[bucketCount - 1];
+				for ( int i = 0; i < upperBounds.length; i++ ) {
+					upperBounds[i] = upperBound( i );
+				}
+				timer = Timer.builder( "hibernate.query.phase.distribution" )
+						.tags( tags )
+						.tags( "query", query, "phase", phaseName )
+						.description( "Distribution of the time spent in a phase of query executions" )
+						.serviceLevelObjectives( upperBounds )
+						.register( meterRegistry );
+				recorded = new long[bucketCount];
+			}
+
+			synchronized void update(long[] histogram) {
+				for ( int i = 0; i < histogram.length; i++ ) {
+					for ( long count = histogram[i] - recorded[i]; count > 0; count-- ) {
+						timer.record( upperBound( i ) );
+					}
+					recorded[i] = histogram[i];
+				}
 			}
 		}
 	}
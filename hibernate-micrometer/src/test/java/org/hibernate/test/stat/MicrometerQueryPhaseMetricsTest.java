@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.hibernate.stat.QueryPhase;
+import org.hibernate.stat.QueryStatistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the query phase metrics published by {@link HibernateQueryMetrics}.
+ */
+public class MicrometerQueryPhaseMetricsTest extends BaseCoreFunctionalTestCase {
+
+	private static final String QUERY = "from Account";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( StatisticsSettings.QUERY_PHASE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		HibernateQueryMetrics.monitor( registry, sessionFactory(), "something", Tags.empty() );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testQueryPhaseDistribution() {
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 1 ), "testAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		// the metrics of a query are published when an entity is loaded,
+		// so the second execution publishes the timings of the first
+		for ( int i = 0; i < 2; i++ ) {
+			session = openSession();
+			session.createSelectionQuery( QUERY, Account.class ).getResultList();
+			session.close();
+		}
+
+		final QueryStatistics statistics = sessionFactory().getStatistics().getQueryStatistics( QUERY );
+		final Timer timer = registry.get( "hibernate.query.phase.distribution" )
+				.tags( "query", QUERY, "phase", "execution" )
+				.timer();
+		Assert.assertEquals( 1, timer.count() );
+		Assert.assertTrue( statistics.getPhaseExecutionCount( QueryPhase.EXECUTION ) >= timer.count() );
+
+		// a bucket for each bucket of the histogram but the last, unbounded one
+		final CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+		Assert.assertEquals( statistics.getPhaseHistogram( QueryPhase.EXECUTION ).length - 1, buckets.length );
+		Assert.assertEquals( 1, buckets[buckets.length - 1].count(), 0 );
+
+		Assert.assertNotNull( registry.get( "hibernate.query.phase" )
+				.tags( "query", QUERY, "phase", "execution" )
+				.functionTimer() );
+
+		session = openSession();
+		session.beginTransaction();
+		session.createMutationQuery( "delete from Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+	}
+}
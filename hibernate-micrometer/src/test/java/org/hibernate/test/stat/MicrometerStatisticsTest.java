@@ -72,6 +72,8 @@ public void testMicrometerMetrics() {
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.jdbc.batches").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.jdbc.batched.rows").functionCounter());
 
 		// Second level cache disabled
 		verifyMeterNotFoundException("hibernate.second.level.cache.requests");
@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.Map;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -21,7 +22,9 @@
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
 import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
@@ -52,6 +55,11 @@ public static void enhance(
 
 		discoverTypes( classesDir, classesDir, enhancer, project );
 		doEnhancement( classesDir, classesDir, enhancer, project, classesToEnhance );
+
+		if ( enhancementDsl.getEnableProxyGeneration().get() ) {
+			final ByteBuddyProxyHelper proxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+			generateProxies( classesDir, classesDir, proxyHelper, classLoader, project, classesToEnhance );
+		}
 	}
 
 	private static void discoverTypes(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -98,6 +106,58 @@ else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
 		}
 	}
 
+	private static void generateProxies(
+			File classesDir,
+			File dir,
+			ByteBuddyProxyHelper proxyHelper,
+			ClassLoader classLoader,
+			Project project,
+			List<String> classesToEnhance) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				generateProxies( classesDir, subLocation, proxyHelper, classLoader, project, classesToEnhance );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+				if ( !( classesToEnhance.isEmpty() || classesToEnhance.contains( className ) ) ) {
+					continue;
+				}
+				generateProxy( subLocation, className, proxyHelper, classLoader, project );
+			}
+		}
+	}
+
+	private static void generateProxy(
+			File javaClassFile,
+			String className,
+			ByteBuddyProxyHelper proxyHelper,
+			ClassLoader classLoader,
+			Project project) {
+		final Map<String, byte[]> proxyBytecode;
+		try {
+			proxyBytecode = proxyHelper.buildProxyBytecode( className, classLoader );
+		}
+		catch (Exception e) {
+			throw new GradleException( "Unable to generate proxy class for class : " + className, e );
+		}
+		if ( proxyBytecode != null ) {
+			// the proxy class and its auxiliary classes are all in the package of the entity class
+			proxyBytecode.forEach( (proxyClassName, bytes) -> {
+				final File proxyClassFile = new File(
+						javaClassFile.getParentFile(),
+						proxyClassName.substring( proxyClassName.lastIndexOf( '.' ) + 1 ) + ".class"
+				);
+				try {
+					Files.write( proxyClassFile.toPath(), bytes );
+				}
+				catch (IOException e) {
+					throw new GradleException( "Error writing proxy class to file [" + proxyClassFile.getAbsolutePath() + "]", e );
+				}
+			} );
+			project.getLogger().info( "Successfully generated proxy class : " + ByteBuddyProxyHelper.getProxyClassName( className ) );
+		}
+	}
+
 	private static void discoverTypes(
 			File javaClassFile,
 			String className,
@@ -31,6 +31,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> enableProxyGeneration;
 	private final ListProperty<String> classNames;
 
 
@@ -42,6 +43,7 @@ public EnhancementSpec(HibernateOrmSpec ormDsl, Project project) {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project ).convention( false );
 		enableExtendedEnhancement = makeProperty( project ).convention( false );
+		enableProxyGeneration = makeProperty( project ).convention( false );
 		classNames = project.getObjects().listProperty(String.class).convention(new ArrayList<>());
 	}
 
@@ -57,7 +59,8 @@ public boolean hasAnythingToDo() {
 		return enableLazyInitialization.get()
 				|| enableDirtyTracking.get()
 				|| enableAssociationManagement.get()
-				|| enableExtendedEnhancement.get();
+				|| enableExtendedEnhancement.get()
+				|| enableProxyGeneration.get();
 	}
 
 	/**
@@ -88,6 +91,14 @@ public Property<Boolean> getEnableExtendedEnhancement() {
 		return enableExtendedEnhancement;
 	}
 
+	/**
+	 * Whether proxy classes for lazy entity references should be generated at build time,
+	 * instead of when the {@code SessionFactory} is created.
+	 */
+	public Property<Boolean> getEnableProxyGeneration() {
+		return enableProxyGeneration;
+	}
+
 	/**
 	 * Returns the classes on which enhancement needs to be done
 	 */
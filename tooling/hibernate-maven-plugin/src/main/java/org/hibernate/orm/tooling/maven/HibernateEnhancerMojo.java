@@ -13,6 +13,8 @@
 import org.hibernate.bytecode.enhance.spi.EnhancementException;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.internal.BytecodeProviderInitiator;
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -23,6 +25,7 @@
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Maven mojo for performing build-time enhancement of entity objects.
@@ -66,6 +69,12 @@ public class HibernateEnhancerMojo extends AbstractMojo {
 			required = true)
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(
+			defaultValue = "false",
+			readonly = true,
+			required = true)
+	private boolean enableProxyGeneration;
+
 	public void execute() {
 		getLog().debug(STARTING_EXECUTION_OF_ENHANCE_MOJO);
 		processParameters();
@@ -73,6 +82,9 @@ public void execute() {
 		createEnhancer();
 		discoverTypes();
 		performEnhancement();
+		if (enableProxyGeneration) {
+			generateProxies();
+		}
 		getLog().debug(ENDING_EXECUTION_OF_ENHANCE_MOJO);
 	}
 
@@ -215,6 +227,38 @@ private void enhanceClass(File classFile) {
 		}
 	}
 
+	private void generateProxies() {
+		getLog().debug(STARTING_PROXY_GENERATION);
+		ByteBuddyProxyHelper proxyHelper = new ByteBuddyProxyHelper(new ByteBuddyState());
+		ClassLoader classLoader = createClassLoader();
+		for (File classFile : sourceSet) {
+			generateProxy(classFile, proxyHelper, classLoader);
+		}
+		getLog().debug(ENDING_PROXY_GENERATION);
+	}
+
+	private void generateProxy(File classFile, ByteBuddyProxyHelper proxyHelper, ClassLoader classLoader) {
+		getLog().debug(TRYING_TO_GENERATE_PROXY_FOR_CLASS_FILE.formatted(classFile));
+		try {
+			String className = determineClassName(classFile);
+			Map<String, byte[]> proxyBytecode = proxyHelper.buildProxyBytecode(className, classLoader);
+			if (proxyBytecode != null) {
+				// the proxy class and its auxiliary classes are all in the package of the entity class
+				for (Map.Entry<String, byte[]> entry : proxyBytecode.entrySet()) {
+					String proxyClassName = entry.getKey();
+					File proxyClassFile = new File(
+							classFile.getParentFile(),
+							proxyClassName.substring(proxyClassName.lastIndexOf('.') + 1) + ".class");
+					Files.write(proxyClassFile.toPath(), entry.getValue());
+					getLog().info(SUCCESFULLY_GENERATED_PROXY_CLASS_FILE.formatted(proxyClassFile));
+				}
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			getLog().error(ERROR_WHILE_GENERATING_PROXY_FOR_CLASS_FILE.formatted(classFile), e);
+		}
+	}
+
 	private void writeByteCodeToFile(byte[] bytes, File file) {
 		getLog().debug(WRITING_BYTE_CODE_TO_FILE.formatted(file));
 		if (clearFile(file)) {
@@ -257,6 +301,7 @@ private boolean clearFile(File file) {
 	// info messages
 	static final String SUCCESFULLY_CLEARED_FILE = "Succesfully cleared the contents of file: %s";
 	static final String SUCCESFULLY_ENHANCED_CLASS_FILE = "Succesfully enhanced class file: %s";
+	static final String SUCCESFULLY_GENERATED_PROXY_CLASS_FILE = "Succesfully generated proxy class file: %s";
 	static final String SKIPPING_FILE = "Skipping file: %s";
 	static final String SUCCESFULLY_DISCOVERED_TYPES_FOR_CLASS_FILE = "Succesfully discovered types for classes in file: %s";
 	static final String ADDED_FILE_TO_SOURCE_SET = "Added file to source set: %s";
@@ -272,6 +317,7 @@ private boolean clearFile(File file) {
 	static final String ERROR_WRITING_BYTES_TO_FILE = "Error writing bytes to file : %s";
 	static final String ERROR_OPENING_FILE_FOR_WRITING = "Error opening file for writing : %s";
 	static final String ERROR_WHILE_ENHANCING_CLASS_FILE = "An exception occurred while trying to class file: %s";
+	static final String ERROR_WHILE_GENERATING_PROXY_FOR_CLASS_FILE = "An exception occurred while trying to generate a proxy for class file: %s";
 	static final String UNABLE_TO_DISCOVER_TYPES_FOR_CLASS_FILE = "Unable to discover types for classes in file: %s";
 	static final String UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER = "An unexpected error occurred while constructing the classloader";
 
@@ -284,6 +330,9 @@ private boolean clearFile(File file) {
 	static final String STARTING_CLASS_ENHANCEMENT = "Starting class enhancement";
 	static final String SETTING_LASTMODIFIED_FAILED_FOR_CLASS_FILE = "Setting lastModified failed for class file: %s";
 	static final String ENDING_CLASS_ENHANCEMENT = "Ending class enhancement";
+	static final String TRYING_TO_GENERATE_PROXY_FOR_CLASS_FILE = "Trying to generate a proxy for class file: %s";
+	static final String STARTING_PROXY_GENERATION = "Starting proxy generation";
+	static final String ENDING_PROXY_GENERATION = "Ending proxy generation";
 	static final String TRYING_TO_DISCOVER_TYPES_FOR_CLASS_FILE = "Trying to discover types for classes in file: %s";
 	static final String STARTING_TYPE_DISCOVERY = "Starting type discovery";
 	static final String ENDING_TYPE_DISCOVERY = "Ending type discovery";